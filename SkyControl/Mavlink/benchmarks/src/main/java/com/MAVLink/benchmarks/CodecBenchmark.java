@@ -0,0 +1,185 @@
+package com.MAVLink.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.MAVLink.Parser;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_radio;
+import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+import com.MAVLink.Messages.ardupilotmega.views.AttitudeView;
+import com.MAVLink.Messages.ardupilotmega.views.GlobalPositionIntView;
+import com.MAVLink.Messages.ardupilotmega.views.HeartbeatView;
+import com.MAVLink.Messages.ardupilotmega.views.RadioView;
+import com.MAVLink.Messages.ardupilotmega.views.VfrHudView;
+
+/**
+ * Decoding of the received packets into messages or views, and packing and
+ * encoding of messages for sending, over the messages of the mixed telemetry
+ * stream. The score is the time per message. Run with -prof gc to get the
+ * allocations per message in gc.alloc.rate.norm.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+	@Param({ "1", "2" })
+	public int version;
+
+	private MAVLinkMessage[] messages;
+	private MAVLinkPacket[] packets;
+	private final MAVLinkPacketPool pool = new MAVLinkPacketPool();
+	private final ByteBuffer out = ByteBuffer
+			.allocate(MAVLinkPacket.MAVLINK_MAX_PACKET_LEN);
+
+	private final HeartbeatView heartbeat = new HeartbeatView();
+	private final AttitudeView attitude = new AttitudeView();
+	private final GlobalPositionIntView position = new GlobalPositionIntView();
+	private final VfrHudView hud = new VfrHudView();
+	private final RadioView radio = new RadioView();
+
+	@Setup
+	public void setUp() {
+		messages = TrafficCorpus.messages();
+		// Received packets, kept instead of released to the parser pool
+		byte[] corpus = TrafficCorpus.build(version == 2,
+				TrafficCorpus.Damage.NONE, 42);
+		Parser parser = new Parser();
+		packets = new MAVLinkPacket[TrafficCorpus.FRAMES];
+		int count = 0;
+		for (int i = 0; i < corpus.length; i++) {
+			MAVLinkPacket packet = parser.mavlink_parse_char(corpus[i] & 0xFF);
+			if (packet != null) {
+				packets[count++] = packet;
+			}
+		}
+		if (count != TrafficCorpus.FRAMES) {
+			throw new IllegalStateException("Corpus decoded into " + count
+					+ " packets");
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public void unpack(Blackhole blackhole) {
+		for (int i = 0; i < packets.length; i++) {
+			blackhole.consume(packets[i].unpack());
+		}
+	}
+
+	/**
+	 * Reading the fields the application uses through the views.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public void unpackView(Blackhole blackhole) {
+		for (int i = 0; i < packets.length; i++) {
+			MAVLinkPacket packet = packets[i];
+			switch (packet.msgid) {
+			case msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT:
+				heartbeat.wrap(packet);
+				blackhole.consume(heartbeat.getCustomMode());
+				blackhole.consume(heartbeat.getBaseMode());
+				break;
+			case msg_attitude.MAVLINK_MSG_ID_ATTITUDE:
+				attitude.wrap(packet);
+				blackhole.consume(attitude.getRoll());
+				blackhole.consume(attitude.getPitch());
+				blackhole.consume(attitude.getYaw());
+				break;
+			case msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT:
+				position.wrap(packet);
+				blackhole.consume(position.getLat());
+				blackhole.consume(position.getLon());
+				blackhole.consume(position.getRelativeAlt());
+				blackhole.consume(position.getHdg());
+				break;
+			case msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD:
+				hud.wrap(packet);
+				blackhole.consume(hud.getAirspeed());
+				blackhole.consume(hud.getAlt());
+				blackhole.consume(hud.getClimb());
+				break;
+			case msg_radio.MAVLINK_MSG_ID_RADIO:
+				radio.wrap(packet);
+				blackhole.consume(radio.getRssi());
+				blackhole.consume(radio.getRemrssi());
+				break;
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public void pack(Blackhole blackhole) {
+		for (int i = 0; i < messages.length; i++) {
+			blackhole.consume(messages[i].pack());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public void packPooled(Blackhole blackhole) {
+		for (int i = 0; i < messages.length; i++) {
+			MAVLinkPacket packet = messages[i].packInto(pool.acquire());
+			blackhole.consume(packet);
+			packet.release();
+		}
+	}
+
+	/**
+	 * Packing and encoding into a new array, as done before the reusable
+	 * send buffer.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public void encodePacket(Blackhole blackhole) {
+		for (int i = 0; i < messages.length; i++) {
+			MAVLinkPacket packet = messages[i].pack();
+			packet.seq = i & 0xFF;
+			packet.isMavlink2 = version == 2;
+			blackhole.consume(packet.encodePacket());
+		}
+	}
+
+	/**
+	 * Packing into a pooled packet and encoding into the reusable send
+	 * buffer, as done by the connection.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public void encodeInto(Blackhole blackhole) {
+		for (int i = 0; i < messages.length; i++) {
+			MAVLinkPacket packet = messages[i].packInto(pool.acquire());
+			packet.seq = i & 0xFF;
+			packet.isMavlink2 = version == 2;
+			out.clear();
+			blackhole.consume(packet.encodeInto(out));
+			packet.release();
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.MAVLink.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.MAVLink.Parser;
+import com.MAVLink.Messages.MAVLinkPacket;
+
+/**
+ * Parsing of the mixed telemetry stream, byte by byte as the USB connection
+ * used to do it and in bulk from an array or a direct buffer. The score is
+ * the frames of the stream parsed per second, the auxiliary counters report
+ * the bytes and the frames decoded successfully per second. Run with -prof gc
+ * to get the allocations per frame in gc.alloc.rate.norm.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+	@Param({ "1", "2" })
+	public int version;
+
+	@Param({ "NONE", "CORRUPT", "NOISE" })
+	public TrafficCorpus.Damage damage;
+
+	private byte[] corpus;
+	private ByteBuffer directCorpus;
+	private Parser parser;
+
+	private final Parser.FrameSink sink = new Parser.FrameSink() {
+		@Override
+		public void onFrame(MAVLinkPacket packet) {
+			packet.release();
+		}
+	};
+
+	/**
+	 * Bytes and decoded frames, reported per second.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Throughput {
+		public long bytes;
+		public long frames;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bytes = 0;
+			frames = 0;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		corpus = TrafficCorpus.build(version == 2, damage, 42);
+		directCorpus = ByteBuffer.allocateDirect(corpus.length);
+		directCorpus.put(corpus).flip();
+		parser = new Parser();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public int parseChar(Throughput throughput) {
+		int received = 0;
+		for (int i = 0; i < corpus.length; i++) {
+			MAVLinkPacket packet = parser.mavlink_parse_char(corpus[i] & 0xFF);
+			if (packet != null) {
+				received++;
+				packet.release();
+			}
+		}
+		throughput.bytes += corpus.length;
+		throughput.frames += received;
+		return received;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public int parseArray(Throughput throughput) {
+		int frames = parser.parse(corpus, 0, corpus.length, sink);
+		throughput.bytes += corpus.length;
+		throughput.frames += frames;
+		return frames;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TrafficCorpus.FRAMES)
+	public int parseDirectBuffer(Throughput throughput) {
+		directCorpus.clear();
+		int frames = parser.parse(directCorpus, sink);
+		throughput.bytes += corpus.length;
+		throughput.frames += frames;
+		return frames;
+	}
+}
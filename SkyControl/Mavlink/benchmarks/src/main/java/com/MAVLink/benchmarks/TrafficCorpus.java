@@ -0,0 +1,172 @@
+package com.MAVLink.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_radio;
+import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+
+/**
+ * Recorded-like telemetry stream of an aircraft circling the field, mixed the
+ * way the autopilot streams it: ATTITUDE at 10 Hz, GLOBAL_POSITION_INT and
+ * VFR_HUD at 4 Hz, HEARTBEAT and RADIO at 1 Hz. The stream may be damaged the
+ * way a noisy radio link damages it, so the parser has to drop frames and
+ * resynchronize.
+ *
+ * Every corpus holds exactly {@link #FRAMES} frames, so the benchmarks can
+ * report the cost per frame.
+ *
+ */
+public final class TrafficCorpus {
+
+	/**
+	 * Number of the frames in every corpus.
+	 */
+	public static final int FRAMES = 1000;
+
+	/**
+	 * Damage done to the stream.
+	 */
+	public enum Damage {
+		/**
+		 * Clean stream.
+		 */
+		NONE,
+		/**
+		 * A bit flipped in 2 % of the frames, failing their checksum or
+		 * breaking their header.
+		 */
+		CORRUPT,
+		/**
+		 * Up to 16 random bytes inserted before 5 % of the frames, the parser
+		 * has to skip them to find the next frame.
+		 */
+		NOISE
+	}
+
+	/**
+	 * Ticks of the 10 Hz schedule within a second sending the position and
+	 * the HUD at 4 Hz.
+	 */
+	private static final boolean[] POSITION_TICKS = { true, false, false,
+			true, false, true, false, false, true, false };
+	private static final boolean[] HUD_TICKS = { false, true, false, false,
+			true, false, true, false, false, true };
+
+	private TrafficCorpus() {
+	}
+
+	/**
+	 * Build the frames of the stream.
+	 *
+	 * @param mavlink2
+	 *            true for MAVLink 2 frames, MAVLink 1 otherwise
+	 * @param damage
+	 *            damage done to the stream
+	 * @param seed
+	 *            seed of the damage, the same seed gives the same corpus
+	 * @return the encoded stream
+	 */
+	public static byte[] build(boolean mavlink2, Damage damage, long seed) {
+		Random random = new Random(seed);
+		MAVLinkMessage[] messages = messages();
+		ByteBuffer out = ByteBuffer.allocate(FRAMES
+				* (MAVLinkPacket.MAVLINK_MAX_PACKET_LEN + 16));
+		MAVLinkPacket packet = new MAVLinkPacket();
+		for (int i = 0; i < FRAMES; i++) {
+			messages[i].packInto(packet);
+			packet.sysid = 1;
+			packet.compid = 1;
+			packet.seq = i & 0xFF;
+			packet.isMavlink2 = mavlink2;
+
+			if (damage == Damage.NOISE && random.nextInt(100) < 5) {
+				byte[] noise = new byte[1 + random.nextInt(16)];
+				random.nextBytes(noise);
+				out.put(noise);
+			}
+			int start = out.position();
+			int length = packet.encodeInto(out);
+			if (damage == Damage.CORRUPT && random.nextInt(100) < 2) {
+				int index = start + random.nextInt(length);
+				out.put(index, (byte) (out.get(index) ^ (1 << random.nextInt(8))));
+			}
+		}
+		return Arrays.copyOf(out.array(), out.position());
+	}
+
+	/**
+	 * @return the messages of the stream in the order they are sent, with
+	 *         the values of a slow turn at constant altitude
+	 */
+	public static MAVLinkMessage[] messages() {
+		MAVLinkMessage[] messages = new MAVLinkMessage[FRAMES];
+		int count = 0;
+		for (int tick = 0; count < FRAMES; tick++) {
+			int timeMs = tick * 100;
+			double heading = tick * 0.01;
+			int second = tick % 10;
+
+			if (second == 0 && count < FRAMES) {
+				msg_heartbeat heartbeat = new msg_heartbeat();
+				heartbeat.type = 1;
+				heartbeat.autopilot = 3;
+				heartbeat.base_mode = (byte) 0x81;
+				heartbeat.custom_mode = 10;
+				heartbeat.system_status = 4;
+				heartbeat.mavlink_version = 3;
+				messages[count++] = heartbeat;
+			}
+			if (count < FRAMES) {
+				msg_attitude attitude = new msg_attitude();
+				attitude.time_boot_ms = timeMs;
+				attitude.roll = 0.35f + 0.01f * (float) Math.sin(tick);
+				attitude.pitch = 0.05f;
+				attitude.yaw = (float) (heading % (2 * Math.PI) - Math.PI);
+				attitude.rollspeed = 0.002f;
+				attitude.pitchspeed = -0.001f;
+				attitude.yawspeed = 0.1f;
+				messages[count++] = attitude;
+			}
+			if (POSITION_TICKS[second] && count < FRAMES) {
+				msg_global_position_int position = new msg_global_position_int();
+				position.time_boot_ms = timeMs;
+				position.lat = 491950000 + (int) (4000 * Math.cos(heading));
+				position.lon = 165930000 + (int) (6000 * Math.sin(heading));
+				position.alt = 350000;
+				position.relative_alt = 120000;
+				position.vx = (short) (1500 * Math.cos(heading));
+				position.vy = (short) (1500 * Math.sin(heading));
+				position.hdg = (short) (Math.toDegrees(heading % (2 * Math.PI)) * 100);
+				messages[count++] = position;
+			}
+			if (HUD_TICKS[second] && count < FRAMES) {
+				msg_vfr_hud hud = new msg_vfr_hud();
+				hud.airspeed = 16.2f;
+				hud.groundspeed = 15.1f;
+				hud.alt = 350.4f;
+				hud.climb = 0.1f;
+				hud.heading = (short) Math.toDegrees(heading % (2 * Math.PI));
+				hud.throttle = 45;
+				messages[count++] = hud;
+			}
+			if (second == 7 && count < FRAMES) {
+				msg_radio radio = new msg_radio();
+				radio.rssi = (byte) 180;
+				radio.remrssi = (byte) 172;
+				radio.txbuf = 100;
+				radio.noise = 40;
+				radio.remnoise = 38;
+				radio.rxerrors = 3;
+				messages[count++] = radio;
+			}
+		}
+		return messages;
+	}
+}
@@ -103,10 +103,31 @@ def generate_CRC(directory, xml):
  * 
  */
 public class CRC {
-	private final int[] MAVLINK_MESSAGE_CRCS = {${message_crcs_array}};
+	private static final int[] MAVLINK_MESSAGE_CRCS = {${message_crcs_array}};
+	/**
+	 * CRC extras of the MAVLink 2 messages with id above 255, each entry holds
+	 * the message id shifted left by 8 bits and the CRC extra in the low byte,
+	 * sorted by the message id. Like {@link MAVLinkSubscriptions}, the table is
+	 * replaced by a modified copy on every change, so the parser looks the
+	 * extras up without locking.
+	 */
+	private static volatile long[] EXTENDED_CRCS = new long[0];
 	private static final int CRC_INIT_VALUE = 0xffff;
+	/**
+	 * Checksum update for every value of the low byte of the checksum xored
+	 * with the new byte, so that hashing a byte takes a single lookup.
+	 */
+	private static final char[] CRC_TABLE = new char[256];
 	private int CRCvalue;	
 
+	static {
+		int tmp;
+		for (int i = 0; i < CRC_TABLE.length; i++) {
+			tmp = i ^ ((i << 4) & 0xff);
+			CRC_TABLE[i] = (char) ((tmp << 8) ^ (tmp << 3) ^ ((tmp >> 4) & 0xf));
+		}
+	}
+
 	/**
 	 * Accumulate the X.25 CRC by adding one char at a time.
 	 * 
@@ -115,16 +136,28 @@ public class CRC {
 	 * 
 	 * @param data
 	 *            new char to hash
-	 * @param crcAccum
-	 *            the already accumulated checksum
 	 **/
 	public  void update_checksum(int data) {
-		int tmp;
-		data= data & 0xff;	//cast because we want an unsigned type
-		tmp = data ^ (CRCvalue & 0xff);
-		tmp ^= (tmp << 4) & 0xff;
-		CRCvalue = ((CRCvalue >> 8) & 0xff) ^ (tmp << 8) ^ (tmp << 3)
-				^ ((tmp >> 4) & 0xf);
+		CRCvalue = (CRCvalue >>> 8) ^ CRC_TABLE[(CRCvalue ^ data) & 0xff];
+	}
+
+	/**
+	 * Accumulate the X.25 CRC over a range of bytes, e.g. the whole payload of
+	 * a packet.
+	 * 
+	 * @param buf
+	 *            buffer holding the bytes to hash
+	 * @param off
+	 *            index of the first byte to hash
+	 * @param len
+	 *            number of bytes to hash
+	 */
+	public void update(byte[] buf, int off, int len) {
+		int crc = CRCvalue;
+		for (int end = off + len; off < end; off++) {
+			crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ buf[off]) & 0xff];
+		}
+		CRCvalue = crc;
 	}
 
 	/**
@@ -135,7 +168,72 @@ public class CRC {
 	 *            The message id number
 	 */
 	public  void finish_checksum(int msgid) {
-		update_checksum(MAVLINK_MESSAGE_CRCS[msgid]);
+		if (msgid < MAVLINK_MESSAGE_CRCS.length) {
+			update_checksum(MAVLINK_MESSAGE_CRCS[msgid]);
+		} else {
+			update_checksum(getExtendedCrcExtra(msgid));
+		}
+	}
+
+	/**
+	 * Set the CRC extra of a custom message, needed to check and generate the
+	 * checksum of its packets.
+	 * 
+	 * @param msgid
+	 *            The message id number, MAVLink 2 ids above 255 included
+	 * @param crcExtra
+	 *            The CRC extra computed from the message fields
+	 */
+	public static synchronized void registerCrcExtra(int msgid, int crcExtra) {
+		if (msgid < MAVLINK_MESSAGE_CRCS.length) {
+			MAVLINK_MESSAGE_CRCS[msgid] = crcExtra;
+		} else {
+			long entry = ((long) msgid << 8) | (crcExtra & 0xFF);
+			long[] crcs = EXTENDED_CRCS;
+			int index = findExtendedCrc(crcs, msgid);
+			if (index >= 0) {
+				crcs = crcs.clone();
+				crcs[index] = entry;
+			} else {
+				index = -index - 1;
+				long[] copy = new long[crcs.length + 1];
+				System.arraycopy(crcs, 0, copy, 0, index);
+				copy[index] = entry;
+				System.arraycopy(crcs, index, copy, index + 1, crcs.length
+						- index);
+				crcs = copy;
+			}
+			EXTENDED_CRCS = crcs;
+		}
+	}
+
+	private static int getExtendedCrcExtra(int msgid) {
+		long[] crcs = EXTENDED_CRCS;
+		int index = findExtendedCrc(crcs, msgid);
+		return index >= 0 ? (int) (crcs[index] & 0xFF) : 0;
+	}
+
+	/**
+	 * Binary search of the entry of the message in the table of the extended
+	 * CRC extras.
+	 * 
+	 * @return index of the entry, or (-(insertion point) - 1) if there is none
+	 */
+	private static int findExtendedCrc(long[] crcs, int msgid) {
+		int low = 0;
+		int high = crcs.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			long id = crcs[mid] >>> 8;
+			if (id < msgid) {
+				low = mid + 1;
+			} else if (id > msgid) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
 	}
 
 	/**
@@ -172,6 +270,7 @@ def generate_message_h(directory, m):
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -184,6 +283,17 @@ public class msg_${name_lower} extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_${name} = ${id};
 	public static final int MAVLINK_MSG_LENGTH = ${wire_length};
 	private static final long serialVersionUID = MAVLINK_MSG_ID_${name};
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_${name_lower}(packet);
+		}
+	};
 	
 
 ${{ordered_fields: 	/**
@@ -197,14 +307,21 @@ ${{ordered_fields: 	/**
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_${name};
+		packPayload(packet.payload);
+		return packet;		
+	}
+
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
 ${{ordered_fields:		${packField}
 }}
-		return packet;		
 	}
 
     /**
@@ -251,155 +368,262 @@ ${{ordered_fields: ${getText} }}
     f.close()
 
 
-def generate_MAVLinkMessage(directory, xml_list):
-    f = open(os.path.join(directory, "MAVLinkPacket.java"), mode='w')
+def generate_view(directory, m):
+    '''generate read-only view decoding the fields of a message from the packet'''
+    f = open(os.path.join(directory, '%sView.java' % m.view_name), mode='w')
+    t.write(f, '''
+// MESSAGE ${name} VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_${name_lower};
+
+/**
+* View of ${name}, decodes the fields directly from the received packet.
+* ${description}
+*/
+public class ${view_name}View extends MAVLinkView {
+
+    public ${view_name}View(){
+        super(msg_${name_lower}.MAVLINK_MSG_ID_${name});
+    }
+
+    @Override
+    public ${view_name}View wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+${{ordered_fields:${viewGetter}}}
+}
+''', m)
+    f.close()
+
+
+def camel_case(name):
+    '''convert a lower case name with underscores to camel case'''
+    return ''.join(word.title() for word in name.lower().split('_'))
+
+
+def generate_MAVLinkMessageRegistry(directory, xml_list):
+    f = open(os.path.join(directory, "MAVLinkMessageRegistry.java"), mode='w')
     f.write('''package com.MAVLink.Messages;
 
-import android.util.Log;
-import java.io.Serializable;
+import java.util.Arrays;
+
 import com.MAVLink.Messages.ardupilotmega.*;
 
 /**
- * Common interface for all MAVLink Messages
- * Packet Anatomy
- * This is the anatomy of one packet. It is inspired by the CAN and SAE AS-4 standards. 
-
- * Byte Index  Content              Value       Explanation  
- * 0            Packet start sign  v1.0: 0xFE   Indicates the start of a new packet.  (v0.9: 0x55) 
- * 1            Payload length      0 - 255     Indicates length of the following payload.  
- * 2            Packet sequence     0 - 255     Each component counts up his send sequence. Allows to detect packet loss  
- * 3            System ID           1 - 255     ID of the SENDING system. Allows to differentiate different MAVs on the same network.  
- * 4            Component ID        0 - 255     ID of the SENDING component. Allows to differentiate different components of the same system, e.g. the IMU and the autopilot.  
- * 5            Message ID          0 - 255     ID of the message - the id defines what the payload means and how it should be correctly decoded.  
- * 6 to (n+6)   Payload             0 - 255     Data of the message, depends on the message id.  
- * (n+7)to(n+8) Checksum (low byte, high byte)  ITU X.25/SAE AS-4 hash, excluding packet start sign, so bytes 1..(n+6) Note: The checksum also includes MAVLINK_CRC_EXTRA (Number computed from message fields. Protects the packet from decoding a different version of the same packet but with different variables).  
-
- * The checksum is the same as used in ITU X.25 and SAE AS-4 standards (CRC-16-CCITT), documented in SAE AS5669A. Please see the MAVLink source code for a documented C-implementation of it. LINK TO CHECKSUM
- * The minimum packet length is 8 bytes for acknowledgement packets without payload
- * The maximum packet length is 263 bytes for full payload
+ * Table of the message factories indexed by the message id, used to decode
+ * received packets into messages in constant time.
+ * 
+ * The generated message classes are not loaded up front, the table only
+ * knows their names. A message class is loaded and its factory put in the
+ * table when the first packet carrying that message arrives. Custom or dialect
+ * messages are added by {@link #register(int, MAVLinkMessageFactory)}.
+ * Factories of MAVLink 2 messages with ids above 255 are kept in a table
+ * sorted by the id.
+ * 
+ * Like the CRC extras in {@link CRC}, the tables are replaced by a modified
+ * copy on every change, under the class lock, and published through volatile
+ * fields, so the parser threads look them up without locking.
+ * 
+ * The table also knows the full payload length of every generated message,
+ * needed to restore a payload truncated by MAVLink 2 when the packet is sent
+ * as MAVLink 1.
  * 
- * @author ghelle
- *
  */
-public class MAVLinkPacket implements Serializable {
-	private static final long serialVersionUID = 2095947771227815314L;
-	
-	public static final int MAVLINK_STX = 254;
-	
+public class MAVLinkMessageRegistry {
+
 	/**
-	 * Message length. NOT counting STX, LENGTH, SEQ, SYSID, COMPID, MSGID, CRC1 and CRC2
+	 * Number of the message ids kept in the table, the ids of MAVLink 1.
 	 */
-	public int len;
+	public static final int MAX_MESSAGE_ID = 256;
+
 	/**
-	 * Message sequence
+	 * Factories of the messages with extended ids, the ids sorted ascending
+	 * and the factories at the same indexes. Never modified once published.
 	 */
-	public int seq;
+	private static final class ExtendedFactories {
+		final int[] ids;
+		final MAVLinkMessageFactory[] factories;
+
+		ExtendedFactories(int[] ids, MAVLinkMessageFactory[] factories) {
+			this.ids = ids;
+			this.factories = factories;
+		}
+	}
+
 	/**
-	 * ID of the SENDING system. Allows to differentiate different MAVs on the
-	 * same network.
+	 * Names of the generated message classes, null for unused ids. Filled
+	 * once by the class initialization.
 	 */
-	public int sysid;
+	private static final String[] CLASS_NAMES = new String[MAX_MESSAGE_ID];
 	/**
-	 * ID of the SENDING component. Allows to differentiate different components
-	 * of the same system, e.g. the IMU and the autopilot.
+	 * Payload lengths of the messages, 0 for unknown ids.
 	 */
-	public int compid;
+	private static volatile int[] MESSAGE_LENGTHS = new int[MAX_MESSAGE_ID];
 	/**
-	 * ID of the message - the id defines what the payload means and how it
-	 * should be correctly decoded.
+	 * Factories of the messages already received or registered.
 	 */
-	public int msgid;
+	private static volatile MAVLinkMessageFactory[] FACTORIES = new MAVLinkMessageFactory[MAX_MESSAGE_ID];
 	/**
-	 * Data of the message, depends on the message id.
+	 * Factories of the messages with extended ids.
 	 */
-	public MAVLinkPayload payload;
+	private static volatile ExtendedFactories EXTENDED_FACTORIES = new ExtendedFactories(
+			new int[0], new MAVLinkMessageFactory[0]);
+
+	static {
+''')
+    for xml in xml_list:
+        t.write(f, '''${{message:		CLASS_NAMES[msg_${name_lower}.MAVLINK_MSG_ID_${name}] = "com.MAVLink.Messages.ardupilotmega.msg_${name_lower}";
+		MESSAGE_LENGTHS[msg_${name_lower}.MAVLINK_MSG_ID_${name}] = msg_${name_lower}.MAVLINK_MSG_LENGTH;
+}}''', xml)
+        # The template drops the newline after the last message
+        f.write('\n')
+    f.write('''	}
+
+	private MAVLinkMessageRegistry() {
+	}
+
 	/**
-	 * ITU X.25/SAE AS-4 hash, excluding packet start sign, so bytes 1..(n+6)
-	 * Note: The checksum also includes MAVLINK_CRC_EXTRA (Number computed from
-	 * message fields. Protects the packet from decoding a different version of
-	 * the same packet but with different variables).
+	 * Register the factory of a custom message, replacing the factory of a
+	 * generated message with the same id if there is one. The CRC extra of the
+	 * message has to be set by {@link CRC#registerCrcExtra(int, int)}.
+	 * 
+	 * @param msgid
+	 *            id of the message
+	 * @param factory
+	 *            factory creating the message from received packets
 	 */
-	public CRC crc;	
-	
-	public MAVLinkPacket(){
-		payload = new MAVLinkPayload();
+	public static synchronized void register(int msgid,
+			MAVLinkMessageFactory factory) {
+		if (msgid < MAX_MESSAGE_ID) {
+			MAVLinkMessageFactory[] factories = FACTORIES.clone();
+			factories[msgid] = factory;
+			FACTORIES = factories;
+			return;
+		}
+		ExtendedFactories extended = EXTENDED_FACTORIES;
+		int index = Arrays.binarySearch(extended.ids, msgid);
+		if (index >= 0) {
+			MAVLinkMessageFactory[] factories = extended.factories.clone();
+			factories[index] = factory;
+			EXTENDED_FACTORIES = new ExtendedFactories(extended.ids, factories);
+			return;
+		}
+		index = -index - 1;
+		int count = extended.ids.length;
+		int[] ids = new int[count + 1];
+		MAVLinkMessageFactory[] factories = new MAVLinkMessageFactory[count + 1];
+		System.arraycopy(extended.ids, 0, ids, 0, index);
+		System.arraycopy(extended.factories, 0, factories, 0, index);
+		ids[index] = msgid;
+		factories[index] = factory;
+		System.arraycopy(extended.ids, index, ids, index + 1, count - index);
+		System.arraycopy(extended.factories, index, factories, index + 1,
+				count - index);
+		EXTENDED_FACTORIES = new ExtendedFactories(ids, factories);
 	}
-	
+
 	/**
-	 * Check if the size of the Payload is equal to the "len" byte
+	 * Register the factory and the payload length of a custom message, so its
+	 * packets can be sent as MAVLink 1 even if received truncated.
+	 * 
+	 * @param msgid
+	 *            id of the message
+	 * @param factory
+	 *            factory creating the message from received packets
+	 * @param length
+	 *            full length of the message payload
+	 * @see #register(int, MAVLinkMessageFactory)
 	 */
-	public boolean payloadIsFilled() {
-		if (payload.size() >= MAVLinkPayload.MAX_PAYLOAD_SIZE-1) {
-			Log.d("MAV","Buffer overflow");
-			return true;
+	public static synchronized void register(int msgid,
+			MAVLinkMessageFactory factory, int length) {
+		register(msgid, factory);
+		if (msgid < MAX_MESSAGE_ID) {
+			int[] lengths = MESSAGE_LENGTHS.clone();
+			lengths[msgid] = length;
+			MESSAGE_LENGTHS = lengths;
 		}
-		return (payload.size() == len);
 	}
-	
+
 	/**
-	 * Update CRC for this packet.
+	 * Get the full payload length of a message, the length of its MAVLink 1
+	 * frames.
+	 * 
+	 * @param msgid
+	 *            id of the message
+	 * @return length of the payload, 0 for an unknown message or a message
+	 *         with extended id
 	 */
-	public void generateCRC(){
-		crc = new CRC();
-		crc.update_checksum(len);
-		crc.update_checksum(seq);
-		crc.update_checksum(sysid);
-		crc.update_checksum(compid);
-		crc.update_checksum(msgid);
-		payload.resetIndex();
-		for (int i = 0; i < payload.size(); i++) {
-			crc.update_checksum(payload.getByte());
-		}
-		crc.finish_checksum(msgid);
-    }
+	public static int getMessageLength(int msgid) {
+		return msgid < MAX_MESSAGE_ID ? MESSAGE_LENGTHS[msgid] : 0;
+	}
 
 	/**
-	 * Encode this packet for transmission. 
+	 * Get the factory of a message, loading the generated message class on
+	 * first use.
 	 * 
-	 * @return Array with bytes to be transmitted
+	 * @param msgid
+	 *            id of the message
+	 * @return factory of the message or null for an unknown message
 	 */
-	public byte[] encodePacket() {
-		byte[] buffer = new byte[6 + len + 2];
-		int i = 0;
-		buffer[i++] = (byte) MAVLINK_STX;
-		buffer[i++] = (byte) len;
-		buffer[i++] = (byte) seq;
-		buffer[i++] = (byte) sysid;
-		buffer[i++] = (byte) compid;
-		buffer[i++] = (byte) msgid;
-		for (int j = 0; j < payload.size(); j++) {
-			buffer[i++] = payload.payload.get(j);
+	public static MAVLinkMessageFactory getFactory(int msgid) {
+		if (msgid >= MAX_MESSAGE_ID) {
+			return getExtendedFactory(msgid);
+		}
+		MAVLinkMessageFactory factory = FACTORIES[msgid];
+		if (factory == null && CLASS_NAMES[msgid] != null) {
+			factory = loadFactory(msgid);
 		}
-		generateCRC();
-		buffer[i++] = (byte) (crc.getLSB());
-		buffer[i++] = (byte) (crc.getMSB());
-		return buffer;
+		return factory;
 	}
-	
+
 	/**
-	 * Unpack the data in this packet and return a MAVLink message
+	 * Decode the packet into a new message of the type given by its id.
 	 * 
-	 * @return MAVLink message decoded from this packet
+	 * @param packet
+	 *            received packet
+	 * @return decoded message or null for an unknown message
 	 */
-	public MAVLinkMessage unpack() {
-		switch (msgid) {
-''')
-    for xml in xml_list:
-        t.write(f, '''
-${{message:		case msg_${name_lower}.MAVLINK_MSG_ID_${name}:
-			return  new msg_${name_lower}(this);
-}}
-''',xml)
-    f.write('''		default:
-			Log.d("MAVLink", "UNKNOW MESSAGE - " + msgid);
+	public static MAVLinkMessage unpack(MAVLinkPacket packet) {
+		MAVLinkMessageFactory factory = getFactory(packet.msgid);
+		if (factory == null) {
 			return null;
 		}
+		return factory.create(packet);
+	}
+
+	private static MAVLinkMessageFactory getExtendedFactory(int msgid) {
+		ExtendedFactories extended = EXTENDED_FACTORIES;
+		int index = Arrays.binarySearch(extended.ids, msgid);
+		return index >= 0 ? extended.factories[index] : null;
+	}
+
+	/**
+	 * Load the generated message class and take its FACTORY.
+	 */
+	private static synchronized MAVLinkMessageFactory loadFactory(int msgid) {
+		MAVLinkMessageFactory factory = FACTORIES[msgid];
+		if (factory == null) {
+			try {
+				factory = (MAVLinkMessageFactory) Class
+						.forName(CLASS_NAMES[msgid]).getField("FACTORY")
+						.get(null);
+			} catch (Exception e) {
+				throw new IllegalStateException("Failed to load message "
+						+ CLASS_NAMES[msgid], e);
+			}
+			MAVLinkMessageFactory[] factories = FACTORIES.clone();
+			factories[msgid] = factory;
+			FACTORIES = factories;
+		}
+		return factory;
 	}
 
 }
-	
 ''')
-
     f.close()
 
 def copy_fixed_headers(directory, xml):
@@ -544,8 +768,8 @@ def generate_one(basename, xml):
                 f.unpackField = '''for (int i = 0; i < %s.length; i++) {
 			%s[i] = payload.get%s();
 		}''' % (f.name, f.name, mavfmt(f).title() )
-                f.packField = ''' for (int i = 0; i < %s.length; i++) {
-                        packet.payload.put%s(%s[i]);
+                f.packField = ''' for (int i = 0; i < this.%s.length; i++) {
+                        payload.put%s(this.%s[i]);
             }''' % (f.name, mavfmt(f).title(),f.name)
                 f.return_type = 'uint16_t'
                 f.get_arg = ', %s *%s' % (f.type, f.name)
@@ -596,7 +820,7 @@ def generate_one(basename, xml):
                 f.decode_left =  '%s' % (f.name)
                 f.decode_right = ''
                 f.unpackField = 'this.%s = payload.get%s();' % (f.name, mavfmt(f).title())
-                f.packField = 'packet.payload.put%s(%s);' % (mavfmt(f).title(),f.name)                   
+                f.packField = 'payload.put%s(this.%s);' % (mavfmt(f).title(),f.name)                   
 		
 
                 f.get_arg = ''
@@ -638,13 +862,45 @@ def generate_one(basename, xml):
     for m in xml.message:
         generate_message_h(directory, m)
 
+    # read-only views decoding the fields at their wire offsets
+    view_directory = os.path.join(directory, '''views''')
+    mavparse.mkdir_p(view_directory)
+    for m in xml.message:
+        m.view_name = camel_case(m.name)
+        for f in m.ordered_fields:
+            if f.array_length != 0:
+                f.viewGetter = '''
+    /**
+    * %s
+    */
+    public %s get%s(int index){
+        return get%s(%u + index * %u);
+    }''' % (f.description, f.type, camel_case(f.name), f.type.title(), f.wire_offset, f.type_length)
+                if f.type == 'char':
+                    f.viewGetter += '''
+    /**
+    * %s
+    */
+    public String get%s(){
+        return getString(%u, %u);
+    }''' % (f.description, camel_case(f.name), f.wire_offset, f.array_length)
+            else:
+                f.viewGetter = '''
+    /**
+    * %s
+    */
+    public %s get%s(){
+        return get%s(%u);
+    }''' % (f.description, f.type, camel_case(f.name), f.type.title(), f.wire_offset)
+        generate_view(view_directory, m)
+
 
 def generate(basename, xml_list):
     '''generate complete MAVLink Java implemenation'''
     for xml in xml_list:
         generate_one(basename, xml)
         generate_enums(basename, xml)    
-    generate_MAVLinkMessage(basename, xml_list)
+    generate_MAVLinkMessageRegistry(basename, xml_list)
     generate_CRC(basename, xml_list[0])
 
     
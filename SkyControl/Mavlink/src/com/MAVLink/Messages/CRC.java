@@ -8,9 +8,30 @@
  */
 public class CRC {
 	private static final int[] MAVLINK_MESSAGE_CRCS = {50, 124, 137, 0, 237, 217, 104, 119, 0, 0, 0, 89, 0, 0, 0, 0, 0, 0, 0, 0, 214, 159, 220, 168, 24, 23, 170, 144, 67, 115, 39, 246, 185, 104, 237, 244, 222, 212, 9, 254, 230, 28, 28, 132, 221, 232, 11, 153, 41, 39, 214, 223, 141, 33, 15, 3, 100, 24, 239, 238, 30, 240, 183, 130, 130, 118, 148, 21, 0, 243, 124, 0, 0, 0, 20, 0, 152, 143, 0, 0, 127, 106, 0, 0, 0, 0, 0, 0, 0, 231, 183, 63, 54, 0, 0, 0, 0, 0, 0, 0, 175, 102, 158, 208, 56, 93, 211, 108, 32, 185, 128, 68, 124, 124, 119, 4, 76, 128, 56, 116, 134, 237, 203, 250, 87, 203, 220, 0, 0, 0, 29, 172, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 177, 241, 15, 134, 219, 208, 188, 84, 22, 19, 21, 134, 0, 78, 68, 189, 127, 154, 21, 21, 144, 1, 234, 73, 181, 22, 83, 167, 138, 234, 240, 47, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 204, 49, 170, 44, 83, 46, 0};
+	/**
+	 * CRC extras of the MAVLink 2 messages with id above 255, each entry holds
+	 * the message id shifted left by 8 bits and the CRC extra in the low byte,
+	 * sorted by the message id. Like {@link MAVLinkSubscriptions}, the table is
+	 * replaced by a modified copy on every change, so the parser looks the
+	 * extras up without locking.
+	 */
+	private static volatile long[] EXTENDED_CRCS = new long[0];
 	private static final int CRC_INIT_VALUE = 0xffff;
+	/**
+	 * Checksum update for every value of the low byte of the checksum xored
+	 * with the new byte, so that hashing a byte takes a single lookup.
+	 */
+	private static final char[] CRC_TABLE = new char[256];
 	private int CRCvalue;	
 
+	static {
+		int tmp;
+		for (int i = 0; i < CRC_TABLE.length; i++) {
+			tmp = i ^ ((i << 4) & 0xff);
+			CRC_TABLE[i] = (char) ((tmp << 8) ^ (tmp << 3) ^ ((tmp >> 4) & 0xf));
+		}
+	}
+
 	/**
 	 * Accumulate the X.25 CRC by adding one char at a time.
 	 * 
@@ -21,12 +42,26 @@ public class CRC {
 	 *            new char to hash
 	 **/
 	public  void update_checksum(int data) {
-		int tmp;
-		data= data & 0xff;	//cast because we want an unsigned type
-		tmp = data ^ (CRCvalue & 0xff);
-		tmp ^= (tmp << 4) & 0xff;
-		CRCvalue = ((CRCvalue >> 8) & 0xff) ^ (tmp << 8) ^ (tmp << 3)
-				^ ((tmp >> 4) & 0xf);
+		CRCvalue = (CRCvalue >>> 8) ^ CRC_TABLE[(CRCvalue ^ data) & 0xff];
+	}
+
+	/**
+	 * Accumulate the X.25 CRC over a range of bytes, e.g. the whole payload of
+	 * a packet.
+	 * 
+	 * @param buf
+	 *            buffer holding the bytes to hash
+	 * @param off
+	 *            index of the first byte to hash
+	 * @param len
+	 *            number of bytes to hash
+	 */
+	public void update(byte[] buf, int off, int len) {
+		int crc = CRCvalue;
+		for (int end = off + len; off < end; off++) {
+			crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ buf[off]) & 0xff];
+		}
+		CRCvalue = crc;
 	}
 
 	/**
@@ -37,7 +72,72 @@ public class CRC {
 	 *            The message id number
 	 */
 	public  void finish_checksum(int msgid) {
-		update_checksum(MAVLINK_MESSAGE_CRCS[msgid]);
+		if (msgid < MAVLINK_MESSAGE_CRCS.length) {
+			update_checksum(MAVLINK_MESSAGE_CRCS[msgid]);
+		} else {
+			update_checksum(getExtendedCrcExtra(msgid));
+		}
+	}
+
+	/**
+	 * Set the CRC extra of a custom message, needed to check and generate the
+	 * checksum of its packets.
+	 * 
+	 * @param msgid
+	 *            The message id number, MAVLink 2 ids above 255 included
+	 * @param crcExtra
+	 *            The CRC extra computed from the message fields
+	 */
+	public static synchronized void registerCrcExtra(int msgid, int crcExtra) {
+		if (msgid < MAVLINK_MESSAGE_CRCS.length) {
+			MAVLINK_MESSAGE_CRCS[msgid] = crcExtra;
+		} else {
+			long entry = ((long) msgid << 8) | (crcExtra & 0xFF);
+			long[] crcs = EXTENDED_CRCS;
+			int index = findExtendedCrc(crcs, msgid);
+			if (index >= 0) {
+				crcs = crcs.clone();
+				crcs[index] = entry;
+			} else {
+				index = -index - 1;
+				long[] copy = new long[crcs.length + 1];
+				System.arraycopy(crcs, 0, copy, 0, index);
+				copy[index] = entry;
+				System.arraycopy(crcs, index, copy, index + 1, crcs.length
+						- index);
+				crcs = copy;
+			}
+			EXTENDED_CRCS = crcs;
+		}
+	}
+
+	private static int getExtendedCrcExtra(int msgid) {
+		long[] crcs = EXTENDED_CRCS;
+		int index = findExtendedCrc(crcs, msgid);
+		return index >= 0 ? (int) (crcs[index] & 0xFF) : 0;
+	}
+
+	/**
+	 * Binary search of the entry of the message in the table of the extended
+	 * CRC extras.
+	 * 
+	 * @return index of the entry, or (-(insertion point) - 1) if there is none
+	 */
+	private static int findExtendedCrc(long[] crcs, int msgid) {
+		int low = 0;
+		int high = crcs.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			long id = crcs[mid] >>> 8;
+			if (id < msgid) {
+				low = mid + 1;
+			} else if (id > msgid) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
 	}
 
 	/**
@@ -0,0 +1,100 @@
+package com.MAVLink.Messages;
+
+import java.util.Arrays;
+
+/**
+ * Detects the copies of a frame received over several redundant links. A
+ * frame is identified by the system id, component id, sequence number and
+ * message id, plus its checksum so a frame sent after the sequence number
+ * wrapped around is not mistaken for a copy. Frames are remembered for a
+ * sliding window of time, which needs to be shorter than the time a component
+ * takes to send 256 frames.
+ *
+ * The frames are remembered in primitive arrays indexed by the sequence
+ * number, allocated when the first frame of a component is seen, so nothing
+ * is allocated per frame. The class is not thread-safe, the links need to
+ * pass their frames through it one at a time.
+ *
+ */
+public class MAVLinkDeduplicator {
+
+	/**
+	 * Frames seen recently by one component, indexed by the sequence number.
+	 */
+	private static final class Window {
+		/**
+		 * Message id and checksum of the frame, -1 if none seen yet.
+		 */
+		final long[] frames = new long[256];
+		/**
+		 * Time the first copy of the frame was received in ms.
+		 */
+		final long[] times = new long[256];
+
+		Window() {
+			Arrays.fill(frames, -1);
+		}
+	}
+
+	/**
+	 * Windows indexed by the system id and the component id, the array of a
+	 * system is allocated when its first frame is received.
+	 */
+	private final Window[][] windows = new Window[256][];
+
+	/**
+	 * Length of the window in ms.
+	 */
+	private final long windowMillis;
+
+	/**
+	 * @param windowMillis
+	 *            time a frame is remembered for in ms
+	 */
+	public MAVLinkDeduplicator(long windowMillis) {
+		this.windowMillis = windowMillis;
+	}
+
+	/**
+	 * Check whether a copy of the frame has been received recently. The first
+	 * copy is remembered.
+	 * 
+	 * @param packet
+	 *            received packet, with the checksum computed by the parser
+	 * @param nowMillis
+	 *            current time in ms from any monotonic clock
+	 * @return -1 for the first copy of the frame, otherwise the time in ms
+	 *         since the first copy was received
+	 */
+	public long check(MAVLinkPacket packet, long nowMillis) {
+		Window[] components = windows[packet.sysid];
+		if (components == null) {
+			components = new Window[256];
+			windows[packet.sysid] = components;
+		}
+		Window window = components[packet.compid];
+		if (window == null) {
+			window = new Window();
+			components[packet.compid] = window;
+		}
+		long frame = ((long) packet.msgid << 16) | (packet.crc.getMSB() << 8)
+				| packet.crc.getLSB();
+		int seq = packet.seq & 0xFF;
+		if (window.frames[seq] == frame
+				&& nowMillis - window.times[seq] <= windowMillis) {
+			return nowMillis - window.times[seq];
+		}
+		window.frames[seq] = frame;
+		window.times[seq] = nowMillis;
+		return -1;
+	}
+
+	/**
+	 * Forget all the frames seen.
+	 */
+	public void clear() {
+		for (int i = 0; i < windows.length; i++) {
+			windows[i] = null;
+		}
+	}
+}
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 public abstract class MAVLinkMessage implements Serializable {
 	private static final long serialVersionUID = -7754622750478538539L;
@@ -23,7 +24,58 @@ public abstract class MAVLinkMessage implements Serializable {
      * should be correctly decoded.
      */
 	public int msgid;
+	/**
+	 * Packet reused by {@link #encodeInto(ByteBuffer, int)}, allocated on
+	 * first use.
+	 */
+	private transient MAVLinkPacket encoder;
+
 	public abstract MAVLinkPacket pack();
 	public abstract void unpack(MAVLinkPayload payload);
+
+	/**
+	 * Write the fields of this message to the payload.
+	 * 
+	 * @param payload
+	 *            payload with room for the whole message
+	 */
+	public abstract void packPayload(MAVLinkPayload payload);
+
+	/**
+	 * Pack the message into the given packet instead of allocating a new one,
+	 * e.g. into a packet taken from a {@link MAVLinkPacketPool}.
+	 * 
+	 * @param packet
+	 *            packet able to hold payload of any length, its previous
+	 *            content is discarded
+	 * @return the given packet
+	 */
+	public MAVLinkPacket packInto(MAVLinkPacket packet) {
+		packet.reset();
+		packet.sysid = 255;
+		packet.compid = 190;
+		packet.msgid = msgid;
+		packPayload(packet.payload);
+		packet.len = packet.payload.size();
+		return packet;
+	}
+
+	/**
+	 * Encode the message for transmission into the given buffer, starting at
+	 * its position. Repeated encoding of the same message allocates nothing.
+	 * 
+	 * @param out
+	 *            buffer with room for the whole frame
+	 * @param seq
+	 *            sequence number of the frame, maintained by the link
+	 * @return number of bytes written
+	 */
+	public int encodeInto(ByteBuffer out, int seq) {
+		if (encoder == null) {
+			encoder = new MAVLinkPacket();
+		}
+		packInto(encoder).seq = seq;
+		return encoder.encodeInto(out);
+	}
 }
 	
\ No newline at end of file
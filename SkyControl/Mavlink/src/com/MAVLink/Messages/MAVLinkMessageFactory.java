@@ -0,0 +1,19 @@
+package com.MAVLink.Messages;
+
+/**
+ * Creates the message carried by a received packet. Every generated message
+ * class provides its factory in the static FACTORY field, custom messages
+ * register theirs with {@link MAVLinkMessageRegistry#register(int, MAVLinkMessageFactory)}.
+ *
+ */
+public interface MAVLinkMessageFactory {
+
+	/**
+	 * Decode the payload of the packet into a new message.
+	 *
+	 * @param packet
+	 *            received packet
+	 * @return message decoded from the packet
+	 */
+	MAVLinkMessage create(MAVLinkPacket packet);
+}
@@ -0,0 +1,475 @@
+package com.MAVLink.Messages;
+
+import java.util.Arrays;
+
+import com.MAVLink.Messages.ardupilotmega.*;
+
+/**
+ * Table of the message factories indexed by the message id, used to decode
+ * received packets into messages in constant time.
+ * 
+ * The generated message classes are not loaded up front, the table only
+ * knows their names. A message class is loaded and its factory put in the
+ * table when the first packet carrying that message arrives. Custom or dialect
+ * messages are added by {@link #register(int, MAVLinkMessageFactory)}.
+ * Factories of MAVLink 2 messages with ids above 255 are kept in a table
+ * sorted by the id.
+ * 
+ * Like the CRC extras in {@link CRC}, the tables are replaced by a modified
+ * copy on every change, under the class lock, and published through volatile
+ * fields, so the parser threads look them up without locking.
+ * 
+ * The table also knows the full payload length of every generated message,
+ * needed to restore a payload truncated by MAVLink 2 when the packet is sent
+ * as MAVLink 1.
+ * 
+ */
+public class MAVLinkMessageRegistry {
+
+	/**
+	 * Number of the message ids kept in the table, the ids of MAVLink 1.
+	 */
+	public static final int MAX_MESSAGE_ID = 256;
+
+	/**
+	 * Factories of the messages with extended ids, the ids sorted ascending
+	 * and the factories at the same indexes. Never modified once published.
+	 */
+	private static final class ExtendedFactories {
+		final int[] ids;
+		final MAVLinkMessageFactory[] factories;
+
+		ExtendedFactories(int[] ids, MAVLinkMessageFactory[] factories) {
+			this.ids = ids;
+			this.factories = factories;
+		}
+	}
+
+	/**
+	 * Names of the generated message classes, null for unused ids. Filled
+	 * once by the class initialization.
+	 */
+	private static final String[] CLASS_NAMES = new String[MAX_MESSAGE_ID];
+	/**
+	 * Payload lengths of the messages, 0 for unknown ids.
+	 */
+	private static volatile int[] MESSAGE_LENGTHS = new int[MAX_MESSAGE_ID];
+	/**
+	 * Factories of the messages already received or registered.
+	 */
+	private static volatile MAVLinkMessageFactory[] FACTORIES = new MAVLinkMessageFactory[MAX_MESSAGE_ID];
+	/**
+	 * Factories of the messages with extended ids.
+	 */
+	private static volatile ExtendedFactories EXTENDED_FACTORIES = new ExtendedFactories(
+			new int[0], new MAVLinkMessageFactory[0]);
+
+	static {
+		CLASS_NAMES[msg_sensor_offsets.MAVLINK_MSG_ID_SENSOR_OFFSETS] = "com.MAVLink.Messages.ardupilotmega.msg_sensor_offsets";
+		MESSAGE_LENGTHS[msg_sensor_offsets.MAVLINK_MSG_ID_SENSOR_OFFSETS] = msg_sensor_offsets.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_mag_offsets.MAVLINK_MSG_ID_SET_MAG_OFFSETS] = "com.MAVLink.Messages.ardupilotmega.msg_set_mag_offsets";
+		MESSAGE_LENGTHS[msg_set_mag_offsets.MAVLINK_MSG_ID_SET_MAG_OFFSETS] = msg_set_mag_offsets.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_meminfo.MAVLINK_MSG_ID_MEMINFO] = "com.MAVLink.Messages.ardupilotmega.msg_meminfo";
+		MESSAGE_LENGTHS[msg_meminfo.MAVLINK_MSG_ID_MEMINFO] = msg_meminfo.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_ap_adc.MAVLINK_MSG_ID_AP_ADC] = "com.MAVLink.Messages.ardupilotmega.msg_ap_adc";
+		MESSAGE_LENGTHS[msg_ap_adc.MAVLINK_MSG_ID_AP_ADC] = msg_ap_adc.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_digicam_configure.MAVLINK_MSG_ID_DIGICAM_CONFIGURE] = "com.MAVLink.Messages.ardupilotmega.msg_digicam_configure";
+		MESSAGE_LENGTHS[msg_digicam_configure.MAVLINK_MSG_ID_DIGICAM_CONFIGURE] = msg_digicam_configure.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_digicam_control.MAVLINK_MSG_ID_DIGICAM_CONTROL] = "com.MAVLink.Messages.ardupilotmega.msg_digicam_control";
+		MESSAGE_LENGTHS[msg_digicam_control.MAVLINK_MSG_ID_DIGICAM_CONTROL] = msg_digicam_control.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mount_configure.MAVLINK_MSG_ID_MOUNT_CONFIGURE] = "com.MAVLink.Messages.ardupilotmega.msg_mount_configure";
+		MESSAGE_LENGTHS[msg_mount_configure.MAVLINK_MSG_ID_MOUNT_CONFIGURE] = msg_mount_configure.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mount_control.MAVLINK_MSG_ID_MOUNT_CONTROL] = "com.MAVLink.Messages.ardupilotmega.msg_mount_control";
+		MESSAGE_LENGTHS[msg_mount_control.MAVLINK_MSG_ID_MOUNT_CONTROL] = msg_mount_control.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mount_status.MAVLINK_MSG_ID_MOUNT_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_mount_status";
+		MESSAGE_LENGTHS[msg_mount_status.MAVLINK_MSG_ID_MOUNT_STATUS] = msg_mount_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_fence_point.MAVLINK_MSG_ID_FENCE_POINT] = "com.MAVLink.Messages.ardupilotmega.msg_fence_point";
+		MESSAGE_LENGTHS[msg_fence_point.MAVLINK_MSG_ID_FENCE_POINT] = msg_fence_point.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_fence_fetch_point.MAVLINK_MSG_ID_FENCE_FETCH_POINT] = "com.MAVLink.Messages.ardupilotmega.msg_fence_fetch_point";
+		MESSAGE_LENGTHS[msg_fence_fetch_point.MAVLINK_MSG_ID_FENCE_FETCH_POINT] = msg_fence_fetch_point.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_fence_status.MAVLINK_MSG_ID_FENCE_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_fence_status";
+		MESSAGE_LENGTHS[msg_fence_status.MAVLINK_MSG_ID_FENCE_STATUS] = msg_fence_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_ahrs.MAVLINK_MSG_ID_AHRS] = "com.MAVLink.Messages.ardupilotmega.msg_ahrs";
+		MESSAGE_LENGTHS[msg_ahrs.MAVLINK_MSG_ID_AHRS] = msg_ahrs.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_simstate.MAVLINK_MSG_ID_SIMSTATE] = "com.MAVLink.Messages.ardupilotmega.msg_simstate";
+		MESSAGE_LENGTHS[msg_simstate.MAVLINK_MSG_ID_SIMSTATE] = msg_simstate.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hwstatus.MAVLINK_MSG_ID_HWSTATUS] = "com.MAVLink.Messages.ardupilotmega.msg_hwstatus";
+		MESSAGE_LENGTHS[msg_hwstatus.MAVLINK_MSG_ID_HWSTATUS] = msg_hwstatus.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_radio.MAVLINK_MSG_ID_RADIO] = "com.MAVLink.Messages.ardupilotmega.msg_radio";
+		MESSAGE_LENGTHS[msg_radio.MAVLINK_MSG_ID_RADIO] = msg_radio.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_limits_status.MAVLINK_MSG_ID_LIMITS_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_limits_status";
+		MESSAGE_LENGTHS[msg_limits_status.MAVLINK_MSG_ID_LIMITS_STATUS] = msg_limits_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_wind.MAVLINK_MSG_ID_WIND] = "com.MAVLink.Messages.ardupilotmega.msg_wind";
+		MESSAGE_LENGTHS[msg_wind.MAVLINK_MSG_ID_WIND] = msg_wind.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_data16.MAVLINK_MSG_ID_DATA16] = "com.MAVLink.Messages.ardupilotmega.msg_data16";
+		MESSAGE_LENGTHS[msg_data16.MAVLINK_MSG_ID_DATA16] = msg_data16.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_data32.MAVLINK_MSG_ID_DATA32] = "com.MAVLink.Messages.ardupilotmega.msg_data32";
+		MESSAGE_LENGTHS[msg_data32.MAVLINK_MSG_ID_DATA32] = msg_data32.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_data64.MAVLINK_MSG_ID_DATA64] = "com.MAVLink.Messages.ardupilotmega.msg_data64";
+		MESSAGE_LENGTHS[msg_data64.MAVLINK_MSG_ID_DATA64] = msg_data64.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_data96.MAVLINK_MSG_ID_DATA96] = "com.MAVLink.Messages.ardupilotmega.msg_data96";
+		MESSAGE_LENGTHS[msg_data96.MAVLINK_MSG_ID_DATA96] = msg_data96.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_rangefinder.MAVLINK_MSG_ID_RANGEFINDER] = "com.MAVLink.Messages.ardupilotmega.msg_rangefinder";
+		MESSAGE_LENGTHS[msg_rangefinder.MAVLINK_MSG_ID_RANGEFINDER] = msg_rangefinder.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_airspeed_autocal.MAVLINK_MSG_ID_AIRSPEED_AUTOCAL] = "com.MAVLink.Messages.ardupilotmega.msg_airspeed_autocal";
+		MESSAGE_LENGTHS[msg_airspeed_autocal.MAVLINK_MSG_ID_AIRSPEED_AUTOCAL] = msg_airspeed_autocal.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_rally_point.MAVLINK_MSG_ID_RALLY_POINT] = "com.MAVLink.Messages.ardupilotmega.msg_rally_point";
+		MESSAGE_LENGTHS[msg_rally_point.MAVLINK_MSG_ID_RALLY_POINT] = msg_rally_point.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_rally_fetch_point.MAVLINK_MSG_ID_RALLY_FETCH_POINT] = "com.MAVLink.Messages.ardupilotmega.msg_rally_fetch_point";
+		MESSAGE_LENGTHS[msg_rally_fetch_point.MAVLINK_MSG_ID_RALLY_FETCH_POINT] = msg_rally_fetch_point.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_compassmot_status.MAVLINK_MSG_ID_COMPASSMOT_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_compassmot_status";
+		MESSAGE_LENGTHS[msg_compassmot_status.MAVLINK_MSG_ID_COMPASSMOT_STATUS] = msg_compassmot_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_ahrs2.MAVLINK_MSG_ID_AHRS2] = "com.MAVLink.Messages.ardupilotmega.msg_ahrs2";
+		MESSAGE_LENGTHS[msg_ahrs2.MAVLINK_MSG_ID_AHRS2] = msg_ahrs2.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT] = "com.MAVLink.Messages.ardupilotmega.msg_heartbeat";
+		MESSAGE_LENGTHS[msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT] = msg_heartbeat.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_sys_status";
+		MESSAGE_LENGTHS[msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS] = msg_sys_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME] = "com.MAVLink.Messages.ardupilotmega.msg_system_time";
+		MESSAGE_LENGTHS[msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME] = msg_system_time.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_ping.MAVLINK_MSG_ID_PING] = "com.MAVLink.Messages.ardupilotmega.msg_ping";
+		MESSAGE_LENGTHS[msg_ping.MAVLINK_MSG_ID_PING] = msg_ping.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL] = "com.MAVLink.Messages.ardupilotmega.msg_change_operator_control";
+		MESSAGE_LENGTHS[msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL] = msg_change_operator_control.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK] = "com.MAVLink.Messages.ardupilotmega.msg_change_operator_control_ack";
+		MESSAGE_LENGTHS[msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK] = msg_change_operator_control_ack.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY] = "com.MAVLink.Messages.ardupilotmega.msg_auth_key";
+		MESSAGE_LENGTHS[msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY] = msg_auth_key.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_mode.MAVLINK_MSG_ID_SET_MODE] = "com.MAVLink.Messages.ardupilotmega.msg_set_mode";
+		MESSAGE_LENGTHS[msg_set_mode.MAVLINK_MSG_ID_SET_MODE] = msg_set_mode.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ] = "com.MAVLink.Messages.ardupilotmega.msg_param_request_read";
+		MESSAGE_LENGTHS[msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ] = msg_param_request_read.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST] = "com.MAVLink.Messages.ardupilotmega.msg_param_request_list";
+		MESSAGE_LENGTHS[msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST] = msg_param_request_list.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE] = "com.MAVLink.Messages.ardupilotmega.msg_param_value";
+		MESSAGE_LENGTHS[msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE] = msg_param_value.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_param_set.MAVLINK_MSG_ID_PARAM_SET] = "com.MAVLink.Messages.ardupilotmega.msg_param_set";
+		MESSAGE_LENGTHS[msg_param_set.MAVLINK_MSG_ID_PARAM_SET] = msg_param_set.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT] = "com.MAVLink.Messages.ardupilotmega.msg_gps_raw_int";
+		MESSAGE_LENGTHS[msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT] = msg_gps_raw_int.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_gps_status";
+		MESSAGE_LENGTHS[msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS] = msg_gps_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU] = "com.MAVLink.Messages.ardupilotmega.msg_scaled_imu";
+		MESSAGE_LENGTHS[msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU] = msg_scaled_imu.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU] = "com.MAVLink.Messages.ardupilotmega.msg_raw_imu";
+		MESSAGE_LENGTHS[msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU] = msg_raw_imu.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE] = "com.MAVLink.Messages.ardupilotmega.msg_raw_pressure";
+		MESSAGE_LENGTHS[msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE] = msg_raw_pressure.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE] = "com.MAVLink.Messages.ardupilotmega.msg_scaled_pressure";
+		MESSAGE_LENGTHS[msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE] = msg_scaled_pressure.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_attitude.MAVLINK_MSG_ID_ATTITUDE] = "com.MAVLink.Messages.ardupilotmega.msg_attitude";
+		MESSAGE_LENGTHS[msg_attitude.MAVLINK_MSG_ID_ATTITUDE] = msg_attitude.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION] = "com.MAVLink.Messages.ardupilotmega.msg_attitude_quaternion";
+		MESSAGE_LENGTHS[msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION] = msg_attitude_quaternion.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED] = "com.MAVLink.Messages.ardupilotmega.msg_local_position_ned";
+		MESSAGE_LENGTHS[msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED] = msg_local_position_ned.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT] = "com.MAVLink.Messages.ardupilotmega.msg_global_position_int";
+		MESSAGE_LENGTHS[msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT] = msg_global_position_int.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED] = "com.MAVLink.Messages.ardupilotmega.msg_rc_channels_scaled";
+		MESSAGE_LENGTHS[msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED] = msg_rc_channels_scaled.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW] = "com.MAVLink.Messages.ardupilotmega.msg_rc_channels_raw";
+		MESSAGE_LENGTHS[msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW] = msg_rc_channels_raw.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW] = "com.MAVLink.Messages.ardupilotmega.msg_servo_output_raw";
+		MESSAGE_LENGTHS[msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW] = msg_servo_output_raw.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST] = "com.MAVLink.Messages.ardupilotmega.msg_mission_request_partial_list";
+		MESSAGE_LENGTHS[msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST] = msg_mission_request_partial_list.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST] = "com.MAVLink.Messages.ardupilotmega.msg_mission_write_partial_list";
+		MESSAGE_LENGTHS[msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST] = msg_mission_write_partial_list.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM] = "com.MAVLink.Messages.ardupilotmega.msg_mission_item";
+		MESSAGE_LENGTHS[msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM] = msg_mission_item.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST] = "com.MAVLink.Messages.ardupilotmega.msg_mission_request";
+		MESSAGE_LENGTHS[msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST] = msg_mission_request.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT] = "com.MAVLink.Messages.ardupilotmega.msg_mission_set_current";
+		MESSAGE_LENGTHS[msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT] = msg_mission_set_current.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT] = "com.MAVLink.Messages.ardupilotmega.msg_mission_current";
+		MESSAGE_LENGTHS[msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT] = msg_mission_current.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST] = "com.MAVLink.Messages.ardupilotmega.msg_mission_request_list";
+		MESSAGE_LENGTHS[msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST] = msg_mission_request_list.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT] = "com.MAVLink.Messages.ardupilotmega.msg_mission_count";
+		MESSAGE_LENGTHS[msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT] = msg_mission_count.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL] = "com.MAVLink.Messages.ardupilotmega.msg_mission_clear_all";
+		MESSAGE_LENGTHS[msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL] = msg_mission_clear_all.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED] = "com.MAVLink.Messages.ardupilotmega.msg_mission_item_reached";
+		MESSAGE_LENGTHS[msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED] = msg_mission_item_reached.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK] = "com.MAVLink.Messages.ardupilotmega.msg_mission_ack";
+		MESSAGE_LENGTHS[msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK] = msg_mission_ack.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN] = "com.MAVLink.Messages.ardupilotmega.msg_set_gps_global_origin";
+		MESSAGE_LENGTHS[msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN] = msg_set_gps_global_origin.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN] = "com.MAVLink.Messages.ardupilotmega.msg_gps_global_origin";
+		MESSAGE_LENGTHS[msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN] = msg_gps_global_origin.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_local_position_setpoint.MAVLINK_MSG_ID_SET_LOCAL_POSITION_SETPOINT] = "com.MAVLink.Messages.ardupilotmega.msg_set_local_position_setpoint";
+		MESSAGE_LENGTHS[msg_set_local_position_setpoint.MAVLINK_MSG_ID_SET_LOCAL_POSITION_SETPOINT] = msg_set_local_position_setpoint.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_local_position_setpoint.MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT] = "com.MAVLink.Messages.ardupilotmega.msg_local_position_setpoint";
+		MESSAGE_LENGTHS[msg_local_position_setpoint.MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT] = msg_local_position_setpoint.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_global_position_setpoint_int.MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT] = "com.MAVLink.Messages.ardupilotmega.msg_global_position_setpoint_int";
+		MESSAGE_LENGTHS[msg_global_position_setpoint_int.MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT] = msg_global_position_setpoint_int.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_global_position_setpoint_int.MAVLINK_MSG_ID_SET_GLOBAL_POSITION_SETPOINT_INT] = "com.MAVLink.Messages.ardupilotmega.msg_set_global_position_setpoint_int";
+		MESSAGE_LENGTHS[msg_set_global_position_setpoint_int.MAVLINK_MSG_ID_SET_GLOBAL_POSITION_SETPOINT_INT] = msg_set_global_position_setpoint_int.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA] = "com.MAVLink.Messages.ardupilotmega.msg_safety_set_allowed_area";
+		MESSAGE_LENGTHS[msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA] = msg_safety_set_allowed_area.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA] = "com.MAVLink.Messages.ardupilotmega.msg_safety_allowed_area";
+		MESSAGE_LENGTHS[msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA] = msg_safety_allowed_area.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_THRUST] = "com.MAVLink.Messages.ardupilotmega.msg_set_roll_pitch_yaw_thrust";
+		MESSAGE_LENGTHS[msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_THRUST] = msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_SPEED_THRUST] = "com.MAVLink.Messages.ardupilotmega.msg_set_roll_pitch_yaw_speed_thrust";
+		MESSAGE_LENGTHS[msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_SPEED_THRUST] = msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_THRUST_SETPOINT] = "com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_thrust_setpoint";
+		MESSAGE_LENGTHS[msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_THRUST_SETPOINT] = msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT] = "com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_speed_thrust_setpoint";
+		MESSAGE_LENGTHS[msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT] = msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_quad_motors_setpoint.MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT] = "com.MAVLink.Messages.ardupilotmega.msg_set_quad_motors_setpoint";
+		MESSAGE_LENGTHS[msg_set_quad_motors_setpoint.MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT] = msg_set_quad_motors_setpoint.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST] = "com.MAVLink.Messages.ardupilotmega.msg_set_quad_swarm_roll_pitch_yaw_thrust";
+		MESSAGE_LENGTHS[msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST] = msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT] = "com.MAVLink.Messages.ardupilotmega.msg_nav_controller_output";
+		MESSAGE_LENGTHS[msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT] = msg_nav_controller_output.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST] = "com.MAVLink.Messages.ardupilotmega.msg_set_quad_swarm_led_roll_pitch_yaw_thrust";
+		MESSAGE_LENGTHS[msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST] = msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_state_correction.MAVLINK_MSG_ID_STATE_CORRECTION] = "com.MAVLink.Messages.ardupilotmega.msg_state_correction";
+		MESSAGE_LENGTHS[msg_state_correction.MAVLINK_MSG_ID_STATE_CORRECTION] = msg_state_correction.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS] = "com.MAVLink.Messages.ardupilotmega.msg_rc_channels";
+		MESSAGE_LENGTHS[msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS] = msg_rc_channels.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM] = "com.MAVLink.Messages.ardupilotmega.msg_request_data_stream";
+		MESSAGE_LENGTHS[msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM] = msg_request_data_stream.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM] = "com.MAVLink.Messages.ardupilotmega.msg_data_stream";
+		MESSAGE_LENGTHS[msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM] = msg_data_stream.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL] = "com.MAVLink.Messages.ardupilotmega.msg_manual_control";
+		MESSAGE_LENGTHS[msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL] = msg_manual_control.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE] = "com.MAVLink.Messages.ardupilotmega.msg_rc_channels_override";
+		MESSAGE_LENGTHS[msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE] = msg_rc_channels_override.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD] = "com.MAVLink.Messages.ardupilotmega.msg_vfr_hud";
+		MESSAGE_LENGTHS[msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD] = msg_vfr_hud.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG] = "com.MAVLink.Messages.ardupilotmega.msg_command_long";
+		MESSAGE_LENGTHS[msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG] = msg_command_long.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK] = "com.MAVLink.Messages.ardupilotmega.msg_command_ack";
+		MESSAGE_LENGTHS[msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK] = msg_command_ack.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT] = "com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_rates_thrust_setpoint";
+		MESSAGE_LENGTHS[msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT] = msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT] = "com.MAVLink.Messages.ardupilotmega.msg_manual_setpoint";
+		MESSAGE_LENGTHS[msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT] = msg_manual_setpoint.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET] = "com.MAVLink.Messages.ardupilotmega.msg_local_position_ned_system_global_offset";
+		MESSAGE_LENGTHS[msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET] = msg_local_position_ned_system_global_offset.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hil_state.MAVLINK_MSG_ID_HIL_STATE] = "com.MAVLink.Messages.ardupilotmega.msg_hil_state";
+		MESSAGE_LENGTHS[msg_hil_state.MAVLINK_MSG_ID_HIL_STATE] = msg_hil_state.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS] = "com.MAVLink.Messages.ardupilotmega.msg_hil_controls";
+		MESSAGE_LENGTHS[msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS] = msg_hil_controls.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW] = "com.MAVLink.Messages.ardupilotmega.msg_hil_rc_inputs_raw";
+		MESSAGE_LENGTHS[msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW] = msg_hil_rc_inputs_raw.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW] = "com.MAVLink.Messages.ardupilotmega.msg_optical_flow";
+		MESSAGE_LENGTHS[msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW] = msg_optical_flow.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE] = "com.MAVLink.Messages.ardupilotmega.msg_global_vision_position_estimate";
+		MESSAGE_LENGTHS[msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE] = msg_global_vision_position_estimate.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE] = "com.MAVLink.Messages.ardupilotmega.msg_vision_position_estimate";
+		MESSAGE_LENGTHS[msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE] = msg_vision_position_estimate.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE] = "com.MAVLink.Messages.ardupilotmega.msg_vision_speed_estimate";
+		MESSAGE_LENGTHS[msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE] = msg_vision_speed_estimate.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE] = "com.MAVLink.Messages.ardupilotmega.msg_vicon_position_estimate";
+		MESSAGE_LENGTHS[msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE] = msg_vicon_position_estimate.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU] = "com.MAVLink.Messages.ardupilotmega.msg_highres_imu";
+		MESSAGE_LENGTHS[msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU] = msg_highres_imu.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_omnidirectional_flow.MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW] = "com.MAVLink.Messages.ardupilotmega.msg_omnidirectional_flow";
+		MESSAGE_LENGTHS[msg_omnidirectional_flow.MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW] = msg_omnidirectional_flow.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR] = "com.MAVLink.Messages.ardupilotmega.msg_hil_sensor";
+		MESSAGE_LENGTHS[msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR] = msg_hil_sensor.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_sim_state.MAVLINK_MSG_ID_SIM_STATE] = "com.MAVLink.Messages.ardupilotmega.msg_sim_state";
+		MESSAGE_LENGTHS[msg_sim_state.MAVLINK_MSG_ID_SIM_STATE] = msg_sim_state.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_radio_status";
+		MESSAGE_LENGTHS[msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS] = msg_radio_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START] = "com.MAVLink.Messages.ardupilotmega.msg_file_transfer_start";
+		MESSAGE_LENGTHS[msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START] = msg_file_transfer_start.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST] = "com.MAVLink.Messages.ardupilotmega.msg_file_transfer_dir_list";
+		MESSAGE_LENGTHS[msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST] = msg_file_transfer_dir_list.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES] = "com.MAVLink.Messages.ardupilotmega.msg_file_transfer_res";
+		MESSAGE_LENGTHS[msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES] = msg_file_transfer_res.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS] = "com.MAVLink.Messages.ardupilotmega.msg_hil_gps";
+		MESSAGE_LENGTHS[msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS] = msg_hil_gps.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW] = "com.MAVLink.Messages.ardupilotmega.msg_hil_optical_flow";
+		MESSAGE_LENGTHS[msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW] = msg_hil_optical_flow.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION] = "com.MAVLink.Messages.ardupilotmega.msg_hil_state_quaternion";
+		MESSAGE_LENGTHS[msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION] = msg_hil_state_quaternion.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2] = "com.MAVLink.Messages.ardupilotmega.msg_scaled_imu2";
+		MESSAGE_LENGTHS[msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2] = msg_scaled_imu2.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST] = "com.MAVLink.Messages.ardupilotmega.msg_log_request_list";
+		MESSAGE_LENGTHS[msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST] = msg_log_request_list.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY] = "com.MAVLink.Messages.ardupilotmega.msg_log_entry";
+		MESSAGE_LENGTHS[msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY] = msg_log_entry.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA] = "com.MAVLink.Messages.ardupilotmega.msg_log_request_data";
+		MESSAGE_LENGTHS[msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA] = msg_log_request_data.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_log_data.MAVLINK_MSG_ID_LOG_DATA] = "com.MAVLink.Messages.ardupilotmega.msg_log_data";
+		MESSAGE_LENGTHS[msg_log_data.MAVLINK_MSG_ID_LOG_DATA] = msg_log_data.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE] = "com.MAVLink.Messages.ardupilotmega.msg_log_erase";
+		MESSAGE_LENGTHS[msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE] = msg_log_erase.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END] = "com.MAVLink.Messages.ardupilotmega.msg_log_request_end";
+		MESSAGE_LENGTHS[msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END] = msg_log_request_end.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA] = "com.MAVLink.Messages.ardupilotmega.msg_gps_inject_data";
+		MESSAGE_LENGTHS[msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA] = msg_gps_inject_data.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW] = "com.MAVLink.Messages.ardupilotmega.msg_gps2_raw";
+		MESSAGE_LENGTHS[msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW] = msg_gps2_raw.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_power_status.MAVLINK_MSG_ID_POWER_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_power_status";
+		MESSAGE_LENGTHS[msg_power_status.MAVLINK_MSG_ID_POWER_STATUS] = msg_power_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL] = "com.MAVLink.Messages.ardupilotmega.msg_serial_control";
+		MESSAGE_LENGTHS[msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL] = msg_serial_control.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE] = "com.MAVLink.Messages.ardupilotmega.msg_data_transmission_handshake";
+		MESSAGE_LENGTHS[msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE] = msg_data_transmission_handshake.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA] = "com.MAVLink.Messages.ardupilotmega.msg_encapsulated_data";
+		MESSAGE_LENGTHS[msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA] = msg_encapsulated_data.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS] = "com.MAVLink.Messages.ardupilotmega.msg_battery_status";
+		MESSAGE_LENGTHS[msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS] = msg_battery_status.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_setpoint_8dof.MAVLINK_MSG_ID_SETPOINT_8DOF] = "com.MAVLink.Messages.ardupilotmega.msg_setpoint_8dof";
+		MESSAGE_LENGTHS[msg_setpoint_8dof.MAVLINK_MSG_ID_SETPOINT_8DOF] = msg_setpoint_8dof.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_setpoint_6dof.MAVLINK_MSG_ID_SETPOINT_6DOF] = "com.MAVLink.Messages.ardupilotmega.msg_setpoint_6dof";
+		MESSAGE_LENGTHS[msg_setpoint_6dof.MAVLINK_MSG_ID_SETPOINT_6DOF] = msg_setpoint_6dof.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT] = "com.MAVLink.Messages.ardupilotmega.msg_memory_vect";
+		MESSAGE_LENGTHS[msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT] = msg_memory_vect.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT] = "com.MAVLink.Messages.ardupilotmega.msg_debug_vect";
+		MESSAGE_LENGTHS[msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT] = msg_debug_vect.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT] = "com.MAVLink.Messages.ardupilotmega.msg_named_value_float";
+		MESSAGE_LENGTHS[msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT] = msg_named_value_float.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT] = "com.MAVLink.Messages.ardupilotmega.msg_named_value_int";
+		MESSAGE_LENGTHS[msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT] = msg_named_value_int.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_statustext.MAVLINK_MSG_ID_STATUSTEXT] = "com.MAVLink.Messages.ardupilotmega.msg_statustext";
+		MESSAGE_LENGTHS[msg_statustext.MAVLINK_MSG_ID_STATUSTEXT] = msg_statustext.MAVLINK_MSG_LENGTH;
+		CLASS_NAMES[msg_debug.MAVLINK_MSG_ID_DEBUG] = "com.MAVLink.Messages.ardupilotmega.msg_debug";
+		MESSAGE_LENGTHS[msg_debug.MAVLINK_MSG_ID_DEBUG] = msg_debug.MAVLINK_MSG_LENGTH;
+	}
+
+	private MAVLinkMessageRegistry() {
+	}
+
+	/**
+	 * Register the factory of a custom message, replacing the factory of a
+	 * generated message with the same id if there is one. The CRC extra of the
+	 * message has to be set by {@link CRC#registerCrcExtra(int, int)}.
+	 * 
+	 * @param msgid
+	 *            id of the message
+	 * @param factory
+	 *            factory creating the message from received packets
+	 */
+	public static synchronized void register(int msgid,
+			MAVLinkMessageFactory factory) {
+		if (msgid < MAX_MESSAGE_ID) {
+			MAVLinkMessageFactory[] factories = FACTORIES.clone();
+			factories[msgid] = factory;
+			FACTORIES = factories;
+			return;
+		}
+		ExtendedFactories extended = EXTENDED_FACTORIES;
+		int index = Arrays.binarySearch(extended.ids, msgid);
+		if (index >= 0) {
+			MAVLinkMessageFactory[] factories = extended.factories.clone();
+			factories[index] = factory;
+			EXTENDED_FACTORIES = new ExtendedFactories(extended.ids, factories);
+			return;
+		}
+		index = -index - 1;
+		int count = extended.ids.length;
+		int[] ids = new int[count + 1];
+		MAVLinkMessageFactory[] factories = new MAVLinkMessageFactory[count + 1];
+		System.arraycopy(extended.ids, 0, ids, 0, index);
+		System.arraycopy(extended.factories, 0, factories, 0, index);
+		ids[index] = msgid;
+		factories[index] = factory;
+		System.arraycopy(extended.ids, index, ids, index + 1, count - index);
+		System.arraycopy(extended.factories, index, factories, index + 1,
+				count - index);
+		EXTENDED_FACTORIES = new ExtendedFactories(ids, factories);
+	}
+
+	/**
+	 * Register the factory and the payload length of a custom message, so its
+	 * packets can be sent as MAVLink 1 even if received truncated.
+	 * 
+	 * @param msgid
+	 *            id of the message
+	 * @param factory
+	 *            factory creating the message from received packets
+	 * @param length
+	 *            full length of the message payload
+	 * @see #register(int, MAVLinkMessageFactory)
+	 */
+	public static synchronized void register(int msgid,
+			MAVLinkMessageFactory factory, int length) {
+		register(msgid, factory);
+		if (msgid < MAX_MESSAGE_ID) {
+			int[] lengths = MESSAGE_LENGTHS.clone();
+			lengths[msgid] = length;
+			MESSAGE_LENGTHS = lengths;
+		}
+	}
+
+	/**
+	 * Get the full payload length of a message, the length of its MAVLink 1
+	 * frames.
+	 * 
+	 * @param msgid
+	 *            id of the message
+	 * @return length of the payload, 0 for an unknown message or a message
+	 *         with extended id
+	 */
+	public static int getMessageLength(int msgid) {
+		return msgid < MAX_MESSAGE_ID ? MESSAGE_LENGTHS[msgid] : 0;
+	}
+
+	/**
+	 * Get the factory of a message, loading the generated message class on
+	 * first use.
+	 * 
+	 * @param msgid
+	 *            id of the message
+	 * @return factory of the message or null for an unknown message
+	 */
+	public static MAVLinkMessageFactory getFactory(int msgid) {
+		if (msgid >= MAX_MESSAGE_ID) {
+			return getExtendedFactory(msgid);
+		}
+		MAVLinkMessageFactory factory = FACTORIES[msgid];
+		if (factory == null && CLASS_NAMES[msgid] != null) {
+			factory = loadFactory(msgid);
+		}
+		return factory;
+	}
+
+	/**
+	 * Decode the packet into a new message of the type given by its id.
+	 * 
+	 * @param packet
+	 *            received packet
+	 * @return decoded message or null for an unknown message
+	 */
+	public static MAVLinkMessage unpack(MAVLinkPacket packet) {
+		MAVLinkMessageFactory factory = getFactory(packet.msgid);
+		if (factory == null) {
+			return null;
+		}
+		return factory.create(packet);
+	}
+
+	private static MAVLinkMessageFactory getExtendedFactory(int msgid) {
+		ExtendedFactories extended = EXTENDED_FACTORIES;
+		int index = Arrays.binarySearch(extended.ids, msgid);
+		return index >= 0 ? extended.factories[index] : null;
+	}
+
+	/**
+	 * Load the generated message class and take its FACTORY.
+	 */
+	private static synchronized MAVLinkMessageFactory loadFactory(int msgid) {
+		MAVLinkMessageFactory factory = FACTORIES[msgid];
+		if (factory == null) {
+			try {
+				factory = (MAVLinkMessageFactory) Class
+						.forName(CLASS_NAMES[msgid]).getField("FACTORY")
+						.get(null);
+			} catch (Exception e) {
+				throw new IllegalStateException("Failed to load message "
+						+ CLASS_NAMES[msgid], e);
+			}
+			MAVLinkMessageFactory[] factories = FACTORIES.clone();
+			factories[msgid] = factory;
+			FACTORIES = factories;
+		}
+		return factory;
+	}
+
+}
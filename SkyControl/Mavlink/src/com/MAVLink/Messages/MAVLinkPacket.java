@@ -1,8 +1,7 @@
 package com.MAVLink.Messages;
 
-import android.util.Log;
 import java.io.Serializable;
-import com.MAVLink.Messages.ardupilotmega.*;
+import java.nio.ByteBuffer;
 
 /**
  * Common interface for all MAVLink Messages
@@ -23,6 +22,10 @@ import com.MAVLink.Messages.ardupilotmega.*;
  * The minimum packet length is 8 bytes for acknowledgement packets without payload
  * The maximum packet length is 263 bytes for full payload
  * 
+ * MAVLink 2 frame starts with 0xFD, adds incompatibility and compatibility flags after the
+ * payload length, extends the message ID to 3 bytes and may be followed by a 13 byte signature.
+ * Trailing zero bytes of the payload are not transmitted.
+ * 
  * @author ghelle
  *
  */
@@ -30,6 +33,41 @@ public class MAVLinkPacket implements Serializable {
 	private static final long serialVersionUID = 2095947771227815314L;
 	
 	public static final int MAVLINK_STX = 254;
+
+	/**
+	 * Start sign of MAVLink 2 frames.
+	 */
+	public static final int MAVLINK_STX_MAVLINK2 = 253;
+
+	/**
+	 * Incompatibility flag of a MAVLink 2 frame followed by a signature.
+	 */
+	public static final int MAVLINK_IFLAG_SIGNED = 0x01;
+
+	/**
+	 * Length of the signature of MAVLink 2 frame.
+	 */
+	public static final int MAVLINK_SIGNATURE_BLOCK_LEN = 13;
+
+	/**
+	 * Number of bytes of the frame which are not payload: STX, LENGTH, SEQ,
+	 * SYSID, COMPID, MSGID, CRC1 and CRC2.
+	 */
+	public static final int MAVLINK_NUM_NON_PAYLOAD_BYTES = 8;
+
+	/**
+	 * Number of bytes of MAVLink 2 frame which are not payload, without
+	 * signature: STX, LENGTH, INCOMPAT_FLAGS, COMPAT_FLAGS, SEQ, SYSID, COMPID,
+	 * 3 bytes of MSGID, CRC1 and CRC2.
+	 */
+	public static final int MAVLINK2_NUM_NON_PAYLOAD_BYTES = 12;
+
+	/**
+	 * Length of the longest frame, a signed MAVLink 2 frame carrying the
+	 * largest payload.
+	 */
+	public static final int MAVLINK_MAX_PACKET_LEN = MAVLinkPayload.MAX_PAYLOAD_SIZE
+			+ MAVLINK2_NUM_NON_PAYLOAD_BYTES + MAVLINK_SIGNATURE_BLOCK_LEN;
 	
 	/**
 	 * Message length. NOT counting STX, LENGTH, SEQ, SYSID, COMPID, MSGID, CRC1 and CRC2
@@ -39,6 +77,18 @@ public class MAVLinkPacket implements Serializable {
 	 * Message sequence
 	 */
 	public int seq;
+	/**
+	 * Whether the packet is framed as MAVLink 2.
+	 */
+	public boolean isMavlink2;
+	/**
+	 * MAVLink 2 flags which must be understood to process the frame.
+	 */
+	public int incompatFlags;
+	/**
+	 * MAVLink 2 flags which may be ignored if not understood.
+	 */
+	public int compatFlags;
 	/**
 	 * ID of the SENDING system. Allows to differentiate different MAVs on the
 	 * same network.
@@ -51,7 +101,7 @@ public class MAVLinkPacket implements Serializable {
 	public int compid;
 	/**
 	 * ID of the message - the id defines what the payload means and how it
-	 * should be correctly decoded.
+	 * should be correctly decoded. MAVLink 2 message id has 24 bits.
 	 */
 	public int msgid;
 	/**
@@ -65,38 +115,125 @@ public class MAVLinkPacket implements Serializable {
 	 * the same packet but with different variables).
 	 */
 	public CRC crc;	
+	/**
+	 * Signature of a signed MAVLink 2 frame as received, valid while
+	 * {@link #MAVLINK_IFLAG_SIGNED} is set in {@link #incompatFlags}.
+	 */
+	public final byte[] signature = new byte[MAVLINK_SIGNATURE_BLOCK_LEN];
+	/**
+	 * Pool the packet is returned to by {@link #release()}, null when the
+	 * packet was not taken from a pool.
+	 */
+	private transient MAVLinkPacketPool pool;
+	/**
+	 * Set while the packet sits idle in its pool, guards against releasing
+	 * the same packet twice.
+	 */
+	transient boolean recycled;
 	
+	/**
+	 * Create a packet able to hold payload of any length.
+	 */
 	public MAVLinkPacket(){
-		payload = new MAVLinkPayload();
+		this(MAVLinkPayload.MAX_PAYLOAD_SIZE);
+	}
+
+	/**
+	 * Create a packet with payload storage of exactly the given length, used
+	 * when packing a message of known length.
+	 * 
+	 * @param payloadLength
+	 *            length of the payload the packet is going to carry
+	 */
+	public MAVLinkPacket(int payloadLength){
+		payload = new MAVLinkPayload(payloadLength);
+		crc = new CRC();
+	}
+
+	/**
+	 * Create a packet owned by the given pool.
+	 */
+	MAVLinkPacket(MAVLinkPacketPool pool){
+		this();
+		this.pool = pool;
 	}
 	
 	/**
 	 * Check if the size of the Payload is equal to the "len" byte
 	 */
 	public boolean payloadIsFilled() {
-		if (payload.size() >= MAVLinkPayload.MAX_PAYLOAD_SIZE-1) {
-			Log.d("MAV","Buffer overflow");
-			return true;
-		}
 		return (payload.size() >= len);
 	}
+
+	/**
+	 * Clear the header, payload and checksum so the packet can be filled
+	 * again.
+	 */
+	public void reset() {
+		len = 0;
+		seq = 0;
+		isMavlink2 = false;
+		incompatFlags = 0;
+		compatFlags = 0;
+		sysid = 0;
+		compid = 0;
+		msgid = 0;
+		payload.reset();
+		crc.start_checksum();
+	}
+
+	/**
+	 * Give the packet back to the pool it was taken from. The packet, including
+	 * its payload, must not be used after it has been released. Releasing a
+	 * packet which does not come from a pool has no effect.
+	 */
+	public void release() {
+		if (pool != null) {
+			pool.recycle(this);
+		}
+	}
 	
 	/**
 	 * Update CRC for this packet.
 	 */
 	public void generateCRC(){
-		crc = new CRC();
-		crc.update_checksum(len);
+		generateCRC(isMavlink2 ? truncatedLength() : payload.size());
+	}
+
+	/**
+	 * Update CRC for this packet carrying the given number of payload bytes.
+	 */
+	private void generateCRC(int length){
+		crc.start_checksum();
+		crc.update_checksum(length);
+		if (isMavlink2) {
+			crc.update_checksum(incompatFlags);
+			crc.update_checksum(compatFlags);
+		}
 		crc.update_checksum(seq);
 		crc.update_checksum(sysid);
 		crc.update_checksum(compid);
 		crc.update_checksum(msgid);
-		payload.resetIndex();
-		for (int i = 0; i < payload.size(); i++) {
-			crc.update_checksum(payload.getByte());
+		if (isMavlink2) {
+			crc.update_checksum(msgid >> 8);
+			crc.update_checksum(msgid >> 16);
 		}
+		crc.update(payload.payload.array(), 0, length);
 		crc.finish_checksum(msgid);
-    }
+	}
+
+	/**
+	 * Number of the payload bytes sent in MAVLink 2 frame, the trailing zeros
+	 * are cut off except for the first byte.
+	 */
+	private int truncatedLength() {
+		byte[] data = payload.payload.array();
+		int length = payload.size();
+		while (length > 1 && data[length - 1] == 0) {
+			length--;
+		}
+		return length;
+	}
 
 	/**
 	 * Encode this packet for transmission. 
@@ -104,301 +241,118 @@ public class MAVLinkPacket implements Serializable {
 	 * @return Array with bytes to be transmitted
 	 */
 	public byte[] encodePacket() {
-		byte[] buffer = new byte[6 + len + 2];
-		int i = 0;
-		buffer[i++] = (byte) MAVLINK_STX;
-		buffer[i++] = (byte) len;
-		buffer[i++] = (byte) seq;
-		buffer[i++] = (byte) sysid;
-		buffer[i++] = (byte) compid;
-		buffer[i++] = (byte) msgid;
-		for (int j = 0; j < payload.size(); j++) {
-			buffer[i++] = payload.payload.get(j);
-		}
-		generateCRC();
-		buffer[i++] = (byte) (crc.getLSB());
-		buffer[i++] = (byte) (crc.getMSB());
+		ByteBuffer frame = ByteBuffer.allocate(MAVLINK_MAX_PACKET_LEN);
+		int length = encodeInto(frame);
+		byte[] buffer = new byte[length];
+		System.arraycopy(frame.array(), 0, buffer, 0, length);
 		return buffer;
 	}
-	
+
 	/**
-	 * Unpack the data in this packet and return a MAVLink message
+	 * Encode this packet for transmission into the given buffer, starting at
+	 * its position. Nothing is allocated, so a link can encode all its packets
+	 * into one reusable buffer. The sequence number is taken from
+	 * {@link #seq}, which the link should set before encoding. MAVLink 2 frame
+	 * is written if {@link #isMavlink2} is set, without the trailing zeros of
+	 * the payload and unsigned. MAVLink 1 frame carries the whole payload, a
+	 * payload received truncated is padded back to the full length of the
+	 * message first.
 	 * 
-	 * @return MAVLink message decoded from this packet
+	 * @param out
+	 *            buffer with room for the whole frame, at most
+	 *            {@link #MAVLINK_MAX_PACKET_LEN} bytes
+	 * @return number of bytes written
 	 */
-	public MAVLinkMessage unpack() {
-		switch (msgid) {
-		case msg_sensor_offsets.MAVLINK_MSG_ID_SENSOR_OFFSETS:
-			return  new msg_sensor_offsets(this);
-		case msg_set_mag_offsets.MAVLINK_MSG_ID_SET_MAG_OFFSETS:
-			return  new msg_set_mag_offsets(this);
-		case msg_meminfo.MAVLINK_MSG_ID_MEMINFO:
-			return  new msg_meminfo(this);
-		case msg_ap_adc.MAVLINK_MSG_ID_AP_ADC:
-			return  new msg_ap_adc(this);
-		case msg_digicam_configure.MAVLINK_MSG_ID_DIGICAM_CONFIGURE:
-			return  new msg_digicam_configure(this);
-		case msg_digicam_control.MAVLINK_MSG_ID_DIGICAM_CONTROL:
-			return  new msg_digicam_control(this);
-		case msg_mount_configure.MAVLINK_MSG_ID_MOUNT_CONFIGURE:
-			return  new msg_mount_configure(this);
-		case msg_mount_control.MAVLINK_MSG_ID_MOUNT_CONTROL:
-			return  new msg_mount_control(this);
-		case msg_mount_status.MAVLINK_MSG_ID_MOUNT_STATUS:
-			return  new msg_mount_status(this);
-		case msg_fence_point.MAVLINK_MSG_ID_FENCE_POINT:
-			return  new msg_fence_point(this);
-		case msg_fence_fetch_point.MAVLINK_MSG_ID_FENCE_FETCH_POINT:
-			return  new msg_fence_fetch_point(this);
-		case msg_fence_status.MAVLINK_MSG_ID_FENCE_STATUS:
-			return  new msg_fence_status(this);
-		case msg_ahrs.MAVLINK_MSG_ID_AHRS:
-			return  new msg_ahrs(this);
-		case msg_simstate.MAVLINK_MSG_ID_SIMSTATE:
-			return  new msg_simstate(this);
-		case msg_hwstatus.MAVLINK_MSG_ID_HWSTATUS:
-			return  new msg_hwstatus(this);
-		case msg_radio.MAVLINK_MSG_ID_RADIO:
-			return  new msg_radio(this);
-		case msg_limits_status.MAVLINK_MSG_ID_LIMITS_STATUS:
-			return  new msg_limits_status(this);
-		case msg_wind.MAVLINK_MSG_ID_WIND:
-			return  new msg_wind(this);
-		case msg_data16.MAVLINK_MSG_ID_DATA16:
-			return  new msg_data16(this);
-		case msg_data32.MAVLINK_MSG_ID_DATA32:
-			return  new msg_data32(this);
-		case msg_data64.MAVLINK_MSG_ID_DATA64:
-			return  new msg_data64(this);
-		case msg_data96.MAVLINK_MSG_ID_DATA96:
-			return  new msg_data96(this);
-		case msg_rangefinder.MAVLINK_MSG_ID_RANGEFINDER:
-			return  new msg_rangefinder(this);
-		case msg_airspeed_autocal.MAVLINK_MSG_ID_AIRSPEED_AUTOCAL:
-			return  new msg_airspeed_autocal(this);
-		case msg_rally_point.MAVLINK_MSG_ID_RALLY_POINT:
-			return  new msg_rally_point(this);
-		case msg_rally_fetch_point.MAVLINK_MSG_ID_RALLY_FETCH_POINT:
-			return  new msg_rally_fetch_point(this);
-		case msg_compassmot_status.MAVLINK_MSG_ID_COMPASSMOT_STATUS:
-			return  new msg_compassmot_status(this);
-		case msg_ahrs2.MAVLINK_MSG_ID_AHRS2:
-			return  new msg_ahrs2(this);
-		case msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT:
-			return  new msg_heartbeat(this);
-		case msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS:
-			return  new msg_sys_status(this);
-		case msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME:
-			return  new msg_system_time(this);
-		case msg_ping.MAVLINK_MSG_ID_PING:
-			return  new msg_ping(this);
-		case msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL:
-			return  new msg_change_operator_control(this);
-		case msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK:
-			return  new msg_change_operator_control_ack(this);
-		case msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY:
-			return  new msg_auth_key(this);
-		case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
-			return  new msg_set_mode(this);
-		case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ:
-			return  new msg_param_request_read(this);
-		case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST:
-			return  new msg_param_request_list(this);
-		case msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE:
-			return  new msg_param_value(this);
-		case msg_param_set.MAVLINK_MSG_ID_PARAM_SET:
-			return  new msg_param_set(this);
-		case msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT:
-			return  new msg_gps_raw_int(this);
-		case msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS:
-			return  new msg_gps_status(this);
-		case msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU:
-			return  new msg_scaled_imu(this);
-		case msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU:
-			return  new msg_raw_imu(this);
-		case msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE:
-			return  new msg_raw_pressure(this);
-		case msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE:
-			return  new msg_scaled_pressure(this);
-		case msg_attitude.MAVLINK_MSG_ID_ATTITUDE:
-			return  new msg_attitude(this);
-		case msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION:
-			return  new msg_attitude_quaternion(this);
-		case msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED:
-			return  new msg_local_position_ned(this);
-		case msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT:
-			return  new msg_global_position_int(this);
-		case msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED:
-			return  new msg_rc_channels_scaled(this);
-		case msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW:
-			return  new msg_rc_channels_raw(this);
-		case msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW:
-			return  new msg_servo_output_raw(this);
-		case msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST:
-			return  new msg_mission_request_partial_list(this);
-		case msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST:
-			return  new msg_mission_write_partial_list(this);
-		case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
-			return  new msg_mission_item(this);
-		case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST:
-			return  new msg_mission_request(this);
-		case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
-			return  new msg_mission_set_current(this);
-		case msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT:
-			return  new msg_mission_current(this);
-		case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST:
-			return  new msg_mission_request_list(this);
-		case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
-			return  new msg_mission_count(this);
-		case msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL:
-			return  new msg_mission_clear_all(this);
-		case msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED:
-			return  new msg_mission_item_reached(this);
-		case msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK:
-			return  new msg_mission_ack(this);
-		case msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN:
-			return  new msg_set_gps_global_origin(this);
-		case msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN:
-			return  new msg_gps_global_origin(this);
-		case msg_set_local_position_setpoint.MAVLINK_MSG_ID_SET_LOCAL_POSITION_SETPOINT:
-			return  new msg_set_local_position_setpoint(this);
-		case msg_local_position_setpoint.MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT:
-			return  new msg_local_position_setpoint(this);
-		case msg_global_position_setpoint_int.MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT:
-			return  new msg_global_position_setpoint_int(this);
-		case msg_set_global_position_setpoint_int.MAVLINK_MSG_ID_SET_GLOBAL_POSITION_SETPOINT_INT:
-			return  new msg_set_global_position_setpoint_int(this);
-		case msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA:
-			return  new msg_safety_set_allowed_area(this);
-		case msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA:
-			return  new msg_safety_allowed_area(this);
-		case msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_THRUST:
-			return  new msg_set_roll_pitch_yaw_thrust(this);
-		case msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_SPEED_THRUST:
-			return  new msg_set_roll_pitch_yaw_speed_thrust(this);
-		case msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_THRUST_SETPOINT:
-			return  new msg_roll_pitch_yaw_thrust_setpoint(this);
-		case msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT:
-			return  new msg_roll_pitch_yaw_speed_thrust_setpoint(this);
-		case msg_set_quad_motors_setpoint.MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT:
-			return  new msg_set_quad_motors_setpoint(this);
-		case msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST:
-			return  new msg_set_quad_swarm_roll_pitch_yaw_thrust(this);
-		case msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT:
-			return  new msg_nav_controller_output(this);
-		case msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST:
-			return  new msg_set_quad_swarm_led_roll_pitch_yaw_thrust(this);
-		case msg_state_correction.MAVLINK_MSG_ID_STATE_CORRECTION:
-			return  new msg_state_correction(this);
-		case msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS:
-			return  new msg_rc_channels(this);
-		case msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM:
-			return  new msg_request_data_stream(this);
-		case msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM:
-			return  new msg_data_stream(this);
-		case msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL:
-			return  new msg_manual_control(this);
-		case msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE:
-			return  new msg_rc_channels_override(this);
-		case msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD:
-			return  new msg_vfr_hud(this);
-		case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
-			return  new msg_command_long(this);
-		case msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK:
-			return  new msg_command_ack(this);
-		case msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT:
-			return  new msg_roll_pitch_yaw_rates_thrust_setpoint(this);
-		case msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT:
-			return  new msg_manual_setpoint(this);
-		case msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET:
-			return  new msg_local_position_ned_system_global_offset(this);
-		case msg_hil_state.MAVLINK_MSG_ID_HIL_STATE:
-			return  new msg_hil_state(this);
-		case msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS:
-			return  new msg_hil_controls(this);
-		case msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW:
-			return  new msg_hil_rc_inputs_raw(this);
-		case msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW:
-			return  new msg_optical_flow(this);
-		case msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE:
-			return  new msg_global_vision_position_estimate(this);
-		case msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE:
-			return  new msg_vision_position_estimate(this);
-		case msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE:
-			return  new msg_vision_speed_estimate(this);
-		case msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE:
-			return  new msg_vicon_position_estimate(this);
-		case msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU:
-			return  new msg_highres_imu(this);
-		case msg_omnidirectional_flow.MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW:
-			return  new msg_omnidirectional_flow(this);
-		case msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR:
-			return  new msg_hil_sensor(this);
-		case msg_sim_state.MAVLINK_MSG_ID_SIM_STATE:
-			return  new msg_sim_state(this);
-		case msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS:
-			return  new msg_radio_status(this);
-		case msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START:
-			return  new msg_file_transfer_start(this);
-		case msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST:
-			return  new msg_file_transfer_dir_list(this);
-		case msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES:
-			return  new msg_file_transfer_res(this);
-		case msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS:
-			return  new msg_hil_gps(this);
-		case msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW:
-			return  new msg_hil_optical_flow(this);
-		case msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION:
-			return  new msg_hil_state_quaternion(this);
-		case msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2:
-			return  new msg_scaled_imu2(this);
-		case msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST:
-			return  new msg_log_request_list(this);
-		case msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY:
-			return  new msg_log_entry(this);
-		case msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA:
-			return  new msg_log_request_data(this);
-		case msg_log_data.MAVLINK_MSG_ID_LOG_DATA:
-			return  new msg_log_data(this);
-		case msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE:
-			return  new msg_log_erase(this);
-		case msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END:
-			return  new msg_log_request_end(this);
-		case msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA:
-			return  new msg_gps_inject_data(this);
-		case msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW:
-			return  new msg_gps2_raw(this);
-		case msg_power_status.MAVLINK_MSG_ID_POWER_STATUS:
-			return  new msg_power_status(this);
-		case msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL:
-			return  new msg_serial_control(this);
-		case msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE:
-			return  new msg_data_transmission_handshake(this);
-		case msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA:
-			return  new msg_encapsulated_data(this);
-		case msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS:
-			return  new msg_battery_status(this);
-		case msg_setpoint_8dof.MAVLINK_MSG_ID_SETPOINT_8DOF:
-			return  new msg_setpoint_8dof(this);
-		case msg_setpoint_6dof.MAVLINK_MSG_ID_SETPOINT_6DOF:
-			return  new msg_setpoint_6dof(this);
-		case msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT:
-			return  new msg_memory_vect(this);
-		case msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT:
-			return  new msg_debug_vect(this);
-		case msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT:
-			return  new msg_named_value_float(this);
-		case msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT:
-			return  new msg_named_value_int(this);
-		case msg_statustext.MAVLINK_MSG_ID_STATUSTEXT:
-			return  new msg_statustext(this);
-		case msg_debug.MAVLINK_MSG_ID_DEBUG:
-			return  new msg_debug(this);
-		default:
-			Log.d("MAVLink", "UNKNOW MESSAGE - " + msgid);
-			return null;
+	public int encodeInto(ByteBuffer out) {
+		if (isMavlink2) {
+			incompatFlags &= ~MAVLINK_IFLAG_SIGNED;
+			int length = truncatedLength();
+			out.put((byte) MAVLINK_STX_MAVLINK2);
+			out.put((byte) length);
+			out.put((byte) incompatFlags);
+			out.put((byte) compatFlags);
+			out.put((byte) seq);
+			out.put((byte) sysid);
+			out.put((byte) compid);
+			out.put((byte) msgid);
+			out.put((byte) (msgid >> 8));
+			out.put((byte) (msgid >> 16));
+			out.put(payload.payload.array(), 0, length);
+			generateCRC(length);
+			out.put((byte) (crc.getLSB()));
+			out.put((byte) (crc.getMSB()));
+			return length + MAVLINK2_NUM_NON_PAYLOAD_BYTES;
 		}
+		payload.padTo(MAVLinkMessageRegistry.getMessageLength(msgid));
+		len = payload.size();
+		out.put((byte) MAVLINK_STX);
+		out.put((byte) len);
+		out.put((byte) seq);
+		out.put((byte) sysid);
+		out.put((byte) compid);
+		out.put((byte) msgid);
+		out.put(payload.payload.array(), 0, payload.size());
+		generateCRC(payload.size());
+		out.put((byte) (crc.getLSB()));
+		out.put((byte) (crc.getMSB()));
+		return payload.size() + MAVLINK_NUM_NON_PAYLOAD_BYTES;
+	}
+
+	/**
+	 * Write the frame into the given buffer as it has been received, starting
+	 * at its position. The checksum computed by the parser is reused and the
+	 * payload and the signature are copied as they are, so a received frame is
+	 * passed on without being unpacked or encoded again. The packet itself is
+	 * left untouched.
+	 * 
+	 * @param out
+	 *            buffer with room for the whole frame, at most
+	 *            {@link #MAVLINK_MAX_PACKET_LEN} bytes
+	 * @return number of bytes written
+	 */
+	public int writeFrame(ByteBuffer out) {
+		int length = payload.size();
+		if (isMavlink2) {
+			out.put((byte) MAVLINK_STX_MAVLINK2);
+			out.put((byte) length);
+			out.put((byte) incompatFlags);
+			out.put((byte) compatFlags);
+		} else {
+			out.put((byte) MAVLINK_STX);
+			out.put((byte) length);
+		}
+		out.put((byte) seq);
+		out.put((byte) sysid);
+		out.put((byte) compid);
+		out.put((byte) msgid);
+		if (isMavlink2) {
+			out.put((byte) (msgid >> 8));
+			out.put((byte) (msgid >> 16));
+		}
+		out.put(payload.payload.array(), 0, length);
+		out.put((byte) (crc.getLSB()));
+		out.put((byte) (crc.getMSB()));
+		if (!isMavlink2) {
+			return length + MAVLINK_NUM_NON_PAYLOAD_BYTES;
+		}
+		if ((incompatFlags & MAVLINK_IFLAG_SIGNED) == 0) {
+			return length + MAVLINK2_NUM_NON_PAYLOAD_BYTES;
+		}
+		out.put(signature);
+		return length + MAVLINK2_NUM_NON_PAYLOAD_BYTES
+				+ MAVLINK_SIGNATURE_BLOCK_LEN;
+	}
+
+	/**
+	 * Unpack the data in this packet and return a MAVLink message. The message
+	 * is created by the factory registered for the message id in
+	 * {@link MAVLinkMessageRegistry}.
+	 * 
+	 * @return MAVLink message decoded from this packet, null for an unknown
+	 *         message
+	 */
+	public MAVLinkMessage unpack() {
+		return MAVLinkMessageRegistry.unpack(this);
 	}
 
 }
-	
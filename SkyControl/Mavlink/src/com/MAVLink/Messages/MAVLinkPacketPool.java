@@ -0,0 +1,78 @@
+package com.MAVLink.Messages;
+
+/**
+ * Small pool of recyclable {@link MAVLinkPacket}s. The parser takes a packet
+ * from the pool for every frame it starts to decode and the consumer of a
+ * decoded packet gives it back by calling {@link MAVLinkPacket#release()}, so
+ * parsing a steady telemetry stream allocates nothing.
+ *
+ * When the pool runs dry a new packet is allocated, when the pool is full a
+ * released packet is simply left to the garbage collector. The pool may be
+ * shared between the thread parsing the data and the threads releasing the
+ * packets.
+ *
+ */
+public class MAVLinkPacketPool {
+
+	/**
+	 * Number of packets kept in the pool when no capacity is specified.
+	 */
+	public static final int DEFAULT_CAPACITY = 8;
+
+	private final MAVLinkPacket[] free;
+	private int freeCount;
+
+	public MAVLinkPacketPool() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a pool and fill it with packets up front.
+	 *
+	 * @param capacity
+	 *            maximum number of idle packets kept in the pool
+	 */
+	public MAVLinkPacketPool(int capacity) {
+		free = new MAVLinkPacket[capacity];
+		for (freeCount = 0; freeCount < capacity; freeCount++) {
+			free[freeCount] = new MAVLinkPacket(this);
+		}
+	}
+
+	/**
+	 * Take an empty packet from the pool. The caller becomes the owner of the
+	 * packet and must {@link MAVLinkPacket#release()} it once done with it.
+	 *
+	 * @return empty packet, able to hold payload of any length
+	 */
+	public synchronized MAVLinkPacket acquire() {
+		if (freeCount == 0) {
+			return new MAVLinkPacket(this);
+		}
+		MAVLinkPacket packet = free[--freeCount];
+		free[freeCount] = null;
+		packet.recycled = false;
+		return packet;
+	}
+
+	/**
+	 * Return a packet to the pool, called by {@link MAVLinkPacket#release()}.
+	 */
+	synchronized void recycle(MAVLinkPacket packet) {
+		if (packet.recycled) {
+			return;
+		}
+		packet.reset();
+		packet.recycled = true;
+		if (freeCount < free.length) {
+			free[freeCount++] = packet;
+		}
+	}
+
+	/**
+	 * @return number of idle packets currently held by the pool
+	 */
+	public synchronized int available() {
+		return freeCount;
+	}
+}
@@ -0,0 +1,101 @@
+package com.MAVLink.Messages;
+
+/**
+ * Bounded lock-free queue of packets passed from one producer thread to one
+ * consumer thread, e.g. from the thread reading the link to the thread
+ * handling the received messages. The packets are passed by reference, the
+ * consumer becomes their owner.
+ *
+ * Only one thread may offer and only one thread may poll at a time. Each side
+ * writes just its own index, so neither side ever waits for the other.
+ *
+ */
+public class MAVLinkPacketRing {
+
+	private final MAVLinkPacket[] buffer;
+	private final int mask;
+	/**
+	 * Index of the next packet to be polled, written by the consumer only.
+	 */
+	private volatile long head;
+	/**
+	 * Index of the next packet to be offered, written by the producer only.
+	 */
+	private volatile long tail;
+	/**
+	 * Last head seen by the producer, saves reading the volatile head on
+	 * every offer.
+	 */
+	private long producerHead;
+	/**
+	 * Last tail seen by the consumer, saves reading the volatile tail on every
+	 * poll.
+	 */
+	private long consumerTail;
+
+	/**
+	 * @param capacity
+	 *            maximum number of packets in the ring, rounded up to a power
+	 *            of two
+	 */
+	public MAVLinkPacketRing(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		buffer = new MAVLinkPacket[size];
+		mask = size - 1;
+	}
+
+	/**
+	 * Append a packet, called by the producer.
+	 *
+	 * @return false if the ring is full and the packet has not been appended,
+	 *         the producer remains its owner
+	 */
+	public boolean offer(MAVLinkPacket packet) {
+		long index = tail;
+		if (index - producerHead >= buffer.length) {
+			producerHead = head;
+			if (index - producerHead >= buffer.length) {
+				return false;
+			}
+		}
+		buffer[(int) index & mask] = packet;
+		// Publishes the packet to the consumer
+		tail = index + 1;
+		return true;
+	}
+
+	/**
+	 * Remove the oldest packet, called by the consumer.
+	 *
+	 * @return the packet, null if the ring is empty
+	 */
+	public MAVLinkPacket poll() {
+		long index = head;
+		if (index >= consumerTail) {
+			consumerTail = tail;
+			if (index >= consumerTail) {
+				return null;
+			}
+		}
+		int slot = (int) index & mask;
+		MAVLinkPacket packet = buffer[slot];
+		buffer[slot] = null;
+		// Frees the slot for the producer
+		head = index + 1;
+		return packet;
+	}
+
+	/**
+	 * @return true if there is no packet to be polled
+	 */
+	public boolean isEmpty() {
+		return head == tail;
+	}
+
+	/**
+	 * @return maximum number of packets in the ring
+	 */
+	public int capacity() {
+		return buffer.length;
+	}
+}
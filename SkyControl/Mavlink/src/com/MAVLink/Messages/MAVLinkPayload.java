@@ -1,16 +1,36 @@
 package com.MAVLink.Messages;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 public class MAVLinkPayload {
 
-	public static final int MAX_PAYLOAD_SIZE = 512;
+	/**
+	 * Largest payload a MAVLink frame can carry, the length field of the frame
+	 * is a single byte.
+	 */
+	public static final int MAX_PAYLOAD_SIZE = 255;
 	
 	public ByteBuffer payload;
 	public int index;
 
+	/**
+	 * Payload able to hold any MAVLink message, used by the parser which does
+	 * not know the length of the incoming frame in advance.
+	 */
 	public MAVLinkPayload() {
-		payload = ByteBuffer.allocate(MAX_PAYLOAD_SIZE);
+		this(MAX_PAYLOAD_SIZE);
+	}
+
+	/**
+	 * Payload sized exactly for a message of known length, used when packing
+	 * a message for transmission.
+	 * 
+	 * @param capacity
+	 *            number of bytes the payload has to hold
+	 */
+	public MAVLinkPayload(int capacity) {
+		payload = ByteBuffer.allocate(capacity);
 	}
 
 	public ByteBuffer getData() {
@@ -25,10 +45,57 @@ public class MAVLinkPayload {
 		payload.put(c);
 	}
 
+	/**
+	 * Append a range of bytes to the payload in one go.
+	 * 
+	 * @param buf
+	 *            buffer holding the bytes
+	 * @param off
+	 *            index of the first byte to append
+	 * @param len
+	 *            number of bytes to append
+	 */
+	public void add(byte[] buf, int off, int len) {
+		payload.put(buf, off, len);
+	}
+
+	/**
+	 * Zero the storage behind the received bytes, so the fields cut off from
+	 * a truncated MAVLink 2 payload read as zero.
+	 */
+	public void clearTail() {
+		Arrays.fill(payload.array(), payload.position(), payload.capacity(),
+				(byte) 0);
+	}
+
+	/**
+	 * Extend the payload with zeros to the given length, restoring the fields
+	 * cut off from a truncated MAVLink 2 payload. A payload which is not
+	 * shorter is left as it is.
+	 * 
+	 * @param length
+	 *            length of the whole payload
+	 */
+	public void padTo(int length) {
+		int size = payload.position();
+		if (size < length) {
+			Arrays.fill(payload.array(), size, length, (byte) 0);
+			payload.position(length);
+		}
+	}
+
 	public void resetIndex() {
 		index = 0;
 	}
 
+	/**
+	 * Empty the payload so its storage can be reused for another frame.
+	 */
+	public void reset() {
+		payload.clear();
+		index = 0;
+	}
+
 	public byte getByte() {
 		byte result = 0;
 		result |= (payload.get(index + 0) & 0xFF);
@@ -1,72 +1,264 @@
 package com.MAVLink.Messages;
 
+import java.util.Arrays;
 
 /**
  * Storage for MAVLink Packet and Error statistics
- * 
+ *
+ * Besides the totals of the link, packets, bytes, CRC errors, lost packets,
+ * receive rate and inter-arrival jitter are counted per message id and per
+ * system id, and the inter-arrival gaps of every message are sorted into a
+ * histogram. The counters are kept in primitive arrays updated by the parser
+ * thread without any allocation. Other threads read them through
+ * {@link #snapshot(MAVLinkStatsSnapshot)}. The updates and the copy take the
+ * lock of the statistics, which is held just for a few counters at a time,
+ * so the parser hardly ever waits for it at the packet rate of a link.
+ *
+ * Lost packets are detected from the sequence numbers of every component of
+ * every system separately, as each of them numbers its packets on its own.
+ *
  * @author Helibot
- * 
+ *
  */
 public class MAVLinkStats /* implements Serializable */{
 
+	/**
+	 * Number of the message ids counted separately. Packets of messages with
+	 * higher ids are all counted in the slot {@link #OTHER_MSG_ID}.
+	 */
+	public static final int MSG_ID_COUNT = 256;
+	/**
+	 * Slot counting the packets of messages with ids of
+	 * {@link #MSG_ID_COUNT} and higher.
+	 */
+	public static final int OTHER_MSG_ID = MSG_ID_COUNT;
+	/**
+	 * Number of the system ids.
+	 */
+	public static final int SYS_ID_COUNT = 256;
+	/**
+	 * Weight of a new sample in the exponentially weighted averages of the
+	 * inter-arrival time and jitter, same as RTP uses for its jitter.
+	 */
+	static final float EWMA_WEIGHT = 1 / 16f;
+	/**
+	 * Number of the buckets of the inter-arrival gap histogram. Bucket 0
+	 * counts the gaps shorter than 1 ms, bucket i the gaps from 2^(i-1) ms up
+	 * to 2^i ms, the last bucket all the longer gaps.
+	 */
+	public static final int GAP_BUCKET_COUNT = 16;
+
 	public int receivedPacketCount;
 
 	public int crcErrorCount;
 
 	public int lostPacketCount;
 
-	private int lastPacketSeq;
+	final int[] msgPackets = new int[MSG_ID_COUNT + 1];
+	final int[] msgBytes = new int[MSG_ID_COUNT + 1];
+	final int[] msgCrcErrors = new int[MSG_ID_COUNT + 1];
+	/**
+	 * Milliseconds since {@link #startNanos} of the last packet of the
+	 * message.
+	 */
+	final int[] msgLastArrival = new int[MSG_ID_COUNT + 1];
+	/**
+	 * Averaged time between the packets of the message in seconds.
+	 */
+	final float[] msgInterval = new float[MSG_ID_COUNT + 1];
+	final float[] msgJitter = new float[MSG_ID_COUNT + 1];
+	/**
+	 * Inter-arrival gap histograms of the messages, {@link #GAP_BUCKET_COUNT}
+	 * buckets per message slot.
+	 */
+	final int[] msgGaps = new int[(MSG_ID_COUNT + 1) * GAP_BUCKET_COUNT];
+
+	final int[] sysPackets = new int[SYS_ID_COUNT];
+	final int[] sysBytes = new int[SYS_ID_COUNT];
+	final int[] sysCrcErrors = new int[SYS_ID_COUNT];
+	final int[] sysLostPackets = new int[SYS_ID_COUNT];
+	final int[] sysLastArrival = new int[SYS_ID_COUNT];
+	final float[] sysInterval = new float[SYS_ID_COUNT];
+	final float[] sysJitter = new float[SYS_ID_COUNT];
+
+	/**
+	 * Sequence number of the last packet of every component, indexed by the
+	 * system id and the component id. The array of a system is allocated when
+	 * its first packet is received, -1 marks a component not heard yet.
+	 */
+	private final int[][] lastPacketSeq = new int[SYS_ID_COUNT][];
+
+	/**
+	 * Time the arrival times are measured from.
+	 */
+	private long startNanos = System.nanoTime();
 
 	/**
 	 * Check the new received packet to see if has lost someone between this and
-	 * the last packet
-	 * 
+	 * the last packet, and count it in the statistics
+	 *
 	 * @param packet
 	 *            Packet that should be checked
 	 */
-	public void newPacket(MAVLinkPacket packet) {
-		advanceLastPacketSequence();
-		if (hasLostPackets(packet)) {
-			updateLostPacketCount(packet);
-		}
-		lastPacketSeq = packet.seq;
+	public synchronized void newPacket(MAVLinkPacket packet) {
+		int now = (int) ((System.nanoTime() - startNanos) / 1000000);
+		int msg = msgSlot(packet.msgid);
+		int sys = packet.sysid;
+		int bytes = frameLength(packet);
+
+		int lostPackets = updateLastPacketSeq(packet);
+		lostPacketCount += lostPackets;
+		sysLostPackets[sys] += lostPackets;
 		receivedPacketCount++;
+
+		msgPackets[msg]++;
+		msgBytes[msg] += bytes;
+		if (msgPackets[msg] > 1) {
+			msgGaps[msg * GAP_BUCKET_COUNT + gapBucket(now - msgLastArrival[msg])]++;
+		}
+		updateTiming(msgLastArrival, msgInterval, msgJitter, msg,
+				msgPackets[msg], now);
+		sysPackets[sys]++;
+		sysBytes[sys] += bytes;
+		updateTiming(sysLastArrival, sysInterval, sysJitter, sys,
+				sysPackets[sys], now);
 	}
 
-	private void updateLostPacketCount(MAVLinkPacket packet) {
-		int lostPackets;
-		if (packet.seq - lastPacketSeq < 0) {
-			lostPackets = (packet.seq - lastPacketSeq) + 255;
-		} else {
-			lostPackets = (packet.seq - lastPacketSeq);
+	/**
+	 * Remember the sequence number of the packet.
+	 *
+	 * @return number of the packets lost since the last packet of the same
+	 *         component
+	 */
+	private int updateLastPacketSeq(MAVLinkPacket packet) {
+		int[] components = lastPacketSeq[packet.sysid];
+		if (components == null) {
+			components = new int[256];
+			Arrays.fill(components, -1);
+			lastPacketSeq[packet.sysid] = components;
 		}
-		lostPacketCount += lostPackets;
+		int last = components[packet.compid];
+		components[packet.compid] = packet.seq;
+		if (last < 0) {
+			return 0;
+		}
+		// Sequence wraps from 255 to 0
+		return (packet.seq - last - 1) & 0xFF;
 	}
 
-	private boolean hasLostPackets(MAVLinkPacket packet) {
-		return lastPacketSeq > 0 && packet.seq != lastPacketSeq;
+	/**
+	 * Update the averaged inter-arrival time and jitter of a slot by the
+	 * packet which has just arrived.
+	 */
+	private static void updateTiming(int[] lastArrival, float[] interval,
+			float[] jitter, int slot, int packets, int now) {
+		if (packets > 1) {
+			float sample = (now - lastArrival[slot]) / 1000f;
+			if (packets == 2) {
+				interval[slot] = sample;
+			} else {
+				jitter[slot] += (Math.abs(sample - interval[slot]) - jitter[slot])
+						* EWMA_WEIGHT;
+				interval[slot] += (sample - interval[slot]) * EWMA_WEIGHT;
+			}
+		}
+		lastArrival[slot] = now;
 	}
 
-	private void advanceLastPacketSequence() {
-		// wrap from 255 to 0 if necessary
-		lastPacketSeq = (lastPacketSeq + 1) & 0xFF;
+	/**
+	 * @param gap
+	 *            time between two packets in milliseconds
+	 * @return bucket of the inter-arrival gap histogram the gap falls into
+	 */
+	public static int gapBucket(int gap) {
+		if (gap < 1) {
+			return 0;
+		}
+		return Math.min(32 - Integer.numberOfLeadingZeros(gap),
+				GAP_BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * @return number of bytes the packet occupied on the link
+	 */
+	private static int frameLength(MAVLinkPacket packet) {
+		if (!packet.isMavlink2) {
+			return packet.len + MAVLinkPacket.MAVLINK_NUM_NON_PAYLOAD_BYTES;
+		}
+		int length = packet.len + MAVLinkPacket.MAVLINK2_NUM_NON_PAYLOAD_BYTES;
+		if ((packet.incompatFlags & MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+			length += MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN;
+		}
+		return length;
+	}
+
+	/**
+	 * @return index of the counters of the message
+	 */
+	static int msgSlot(int msgid) {
+		return msgid < MSG_ID_COUNT ? msgid : OTHER_MSG_ID;
 	}
 
 	/**
 	 * Called when a CRC error happens on the parser
+	 *
+	 * @param packet
+	 *            Packet which failed the check, its header tells the message
+	 *            and the system it claims to be from
 	 */
-	public void crcError() {
+	public synchronized void crcError(MAVLinkPacket packet) {
 		crcErrorCount++;
+		msgCrcErrors[msgSlot(packet.msgid)]++;
+		sysCrcErrors[packet.sysid]++;
+	}
+
+	/**
+	 * Copy the current statistics into the given snapshot. Safe to call from
+	 * any thread, the parser waits for the copy to complete at most.
+	 *
+	 * @param snapshot
+	 *            snapshot to be filled, may be reused for repeated calls
+	 * @return the filled snapshot
+	 */
+	public synchronized MAVLinkStatsSnapshot snapshot(
+			MAVLinkStatsSnapshot snapshot) {
+		snapshot.copy(this, (int) ((System.nanoTime() - startNanos) / 1000000));
+		return snapshot;
 	}
 
 	/**
-	 * Resets statistics for this MAVLink.
+	 * @return new snapshot of the current statistics
+	 * @see #snapshot(MAVLinkStatsSnapshot)
 	 */
-	public void mavlinkResetStats() {
-		lastPacketSeq = -1;
+	public MAVLinkStatsSnapshot snapshot() {
+		return snapshot(new MAVLinkStatsSnapshot());
+	}
+
+	/**
+	 * Resets statistics for this MAVLink. Has to be called by the thread
+	 * running the parser, or while the parser is not running, as the sequence
+	 * numbers of the components are forgotten.
+	 */
+	public synchronized void mavlinkResetStats() {
 		lostPacketCount = 0;
 		crcErrorCount = 0;
 		receivedPacketCount = 0;
+		for (int i = 0; i < lastPacketSeq.length; i++) {
+			lastPacketSeq[i] = null;
+		}
+		Arrays.fill(msgPackets, 0);
+		Arrays.fill(msgBytes, 0);
+		Arrays.fill(msgCrcErrors, 0);
+		Arrays.fill(msgInterval, 0);
+		Arrays.fill(msgJitter, 0);
+		Arrays.fill(msgGaps, 0);
+		Arrays.fill(sysPackets, 0);
+		Arrays.fill(sysBytes, 0);
+		Arrays.fill(sysCrcErrors, 0);
+		Arrays.fill(sysLostPackets, 0);
+		Arrays.fill(sysInterval, 0);
+		Arrays.fill(sysJitter, 0);
+		startNanos = System.nanoTime();
 	}
 
-}
\ No newline at end of file
+}
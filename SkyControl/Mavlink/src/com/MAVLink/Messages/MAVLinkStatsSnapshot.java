@@ -0,0 +1,179 @@
+package com.MAVLink.Messages;
+
+/**
+ * Copy of the {@link MAVLinkStats} of a link at one moment, taken by
+ * {@link MAVLinkStats#snapshot(MAVLinkStatsSnapshot)}. Unlike the statistics
+ * themselves the snapshot is not touched by the parser, so it may be read at
+ * leisure by any thread. Messages are indexed by their id, ids of
+ * {@link MAVLinkStats#MSG_ID_COUNT} and higher share the slot
+ * {@link MAVLinkStats#OTHER_MSG_ID}.
+ *
+ */
+public class MAVLinkStatsSnapshot {
+
+	public int receivedPacketCount;
+	public int crcErrorCount;
+	public int lostPacketCount;
+
+	private final int[] msgPackets = new int[MAVLinkStats.MSG_ID_COUNT + 1];
+	private final int[] msgBytes = new int[MAVLinkStats.MSG_ID_COUNT + 1];
+	private final int[] msgCrcErrors = new int[MAVLinkStats.MSG_ID_COUNT + 1];
+	private final int[] msgSilence = new int[MAVLinkStats.MSG_ID_COUNT + 1];
+	private final float[] msgInterval = new float[MAVLinkStats.MSG_ID_COUNT + 1];
+	private final float[] msgJitter = new float[MAVLinkStats.MSG_ID_COUNT + 1];
+	private final int[] msgGaps = new int[(MAVLinkStats.MSG_ID_COUNT + 1)
+			* MAVLinkStats.GAP_BUCKET_COUNT];
+
+	private final int[] sysPackets = new int[MAVLinkStats.SYS_ID_COUNT];
+	private final int[] sysBytes = new int[MAVLinkStats.SYS_ID_COUNT];
+	private final int[] sysCrcErrors = new int[MAVLinkStats.SYS_ID_COUNT];
+	private final int[] sysLostPackets = new int[MAVLinkStats.SYS_ID_COUNT];
+	private final int[] sysSilence = new int[MAVLinkStats.SYS_ID_COUNT];
+	private final float[] sysInterval = new float[MAVLinkStats.SYS_ID_COUNT];
+	private final float[] sysJitter = new float[MAVLinkStats.SYS_ID_COUNT];
+
+	/**
+	 * Copy the statistics, called by {@link MAVLinkStats}.
+	 *
+	 * @param now
+	 *            time of the snapshot in the milliseconds the arrival times of
+	 *            the statistics are measured in
+	 */
+	void copy(MAVLinkStats stats, int now) {
+		receivedPacketCount = stats.receivedPacketCount;
+		crcErrorCount = stats.crcErrorCount;
+		lostPacketCount = stats.lostPacketCount;
+
+		System.arraycopy(stats.msgPackets, 0, msgPackets, 0, msgPackets.length);
+		System.arraycopy(stats.msgBytes, 0, msgBytes, 0, msgBytes.length);
+		System.arraycopy(stats.msgCrcErrors, 0, msgCrcErrors, 0, msgCrcErrors.length);
+		System.arraycopy(stats.msgInterval, 0, msgInterval, 0, msgInterval.length);
+		System.arraycopy(stats.msgJitter, 0, msgJitter, 0, msgJitter.length);
+		System.arraycopy(stats.msgGaps, 0, msgGaps, 0, msgGaps.length);
+		for (int i = 0; i < msgSilence.length; i++) {
+			msgSilence[i] = now - stats.msgLastArrival[i];
+		}
+
+		System.arraycopy(stats.sysPackets, 0, sysPackets, 0, sysPackets.length);
+		System.arraycopy(stats.sysBytes, 0, sysBytes, 0, sysBytes.length);
+		System.arraycopy(stats.sysCrcErrors, 0, sysCrcErrors, 0, sysCrcErrors.length);
+		System.arraycopy(stats.sysLostPackets, 0, sysLostPackets, 0, sysLostPackets.length);
+		System.arraycopy(stats.sysInterval, 0, sysInterval, 0, sysInterval.length);
+		System.arraycopy(stats.sysJitter, 0, sysJitter, 0, sysJitter.length);
+		for (int i = 0; i < sysSilence.length; i++) {
+			sysSilence[i] = now - stats.sysLastArrival[i];
+		}
+	}
+
+	/**
+	 * Receive rate from the averaged inter-arrival time. Once the packets stop
+	 * coming, the time since the last packet is taken instead, so the rate
+	 * decays towards zero.
+	 */
+	private static float rate(int packets, float interval, int silence) {
+		if (packets < 2) {
+			return 0;
+		}
+		float elapsed = Math.max(interval, silence / 1000f);
+		return elapsed > 0 ? 1 / elapsed : 0;
+	}
+
+	/**
+	 * @return number of the received packets of the message
+	 */
+	public int getMsgPackets(int msgid) {
+		return msgPackets[MAVLinkStats.msgSlot(msgid)];
+	}
+
+	/**
+	 * @return number of the bytes taken by the packets of the message,
+	 *         including the framing
+	 */
+	public int getMsgBytes(int msgid) {
+		return msgBytes[MAVLinkStats.msgSlot(msgid)];
+	}
+
+	/**
+	 * @return number of the frames claiming to carry the message which failed
+	 *         the checksum
+	 */
+	public int getMsgCrcErrors(int msgid) {
+		return msgCrcErrors[MAVLinkStats.msgSlot(msgid)];
+	}
+
+	/**
+	 * @return exponentially weighted receive rate of the message in packets
+	 *         per second
+	 */
+	public float getMsgRate(int msgid) {
+		int slot = MAVLinkStats.msgSlot(msgid);
+		return rate(msgPackets[slot], msgInterval[slot], msgSilence[slot]);
+	}
+
+	/**
+	 * @return exponentially weighted inter-arrival jitter of the message in
+	 *         seconds
+	 */
+	public float getMsgJitter(int msgid) {
+		return msgJitter[MAVLinkStats.msgSlot(msgid)];
+	}
+
+	/**
+	 * @param bucket
+	 *            bucket of the histogram, see
+	 *            {@link MAVLinkStats#GAP_BUCKET_COUNT}
+	 * @return number of the inter-arrival gaps of the message which fell into
+	 *         the bucket
+	 */
+	public int getMsgGaps(int msgid, int bucket) {
+		return msgGaps[MAVLinkStats.msgSlot(msgid) * MAVLinkStats.GAP_BUCKET_COUNT
+				+ bucket];
+	}
+
+	/**
+	 * @return number of the received packets of the system
+	 */
+	public int getSysPackets(int sysid) {
+		return sysPackets[sysid];
+	}
+
+	/**
+	 * @return number of the bytes taken by the packets of the system,
+	 *         including the framing
+	 */
+	public int getSysBytes(int sysid) {
+		return sysBytes[sysid];
+	}
+
+	/**
+	 * @return number of the frames claiming to come from the system which
+	 *         failed the checksum
+	 */
+	public int getSysCrcErrors(int sysid) {
+		return sysCrcErrors[sysid];
+	}
+
+	/**
+	 * @return number of the packets of the system lost according to the gaps
+	 *         in their sequence numbers
+	 */
+	public int getSysLostPackets(int sysid) {
+		return sysLostPackets[sysid];
+	}
+
+	/**
+	 * @return exponentially weighted receive rate of the system in packets per
+	 *         second
+	 */
+	public float getSysRate(int sysid) {
+		return rate(sysPackets[sysid], sysInterval[sysid], sysSilence[sysid]);
+	}
+
+	/**
+	 * @return exponentially weighted inter-arrival jitter of the system in
+	 *         seconds
+	 */
+	public float getSysJitter(int sysid) {
+		return sysJitter[sysid];
+	}
+}
@@ -0,0 +1,112 @@
+package com.MAVLink.Messages;
+
+/**
+ * Set of the message ids the consumers of a link are interested in, kept as a
+ * bitset with one bit per message id. The parser still checks and counts every
+ * frame, but hands over only the packets of the subscribed messages.
+ *
+ * The bitset is replaced by a modified copy on every change, so the parser
+ * reads it without locking while the set is changed from any thread. It grows
+ * to cover the highest subscribed MAVLink 2 message id.
+ *
+ */
+public class MAVLinkSubscriptions {
+
+	/**
+	 * Number of the message ids covered by the bitset initially, the ids of
+	 * MAVLink 1.
+	 */
+	private static final int MESSAGE_ID_COUNT = 256;
+
+	private volatile long[] bits = new long[MESSAGE_ID_COUNT / 64];
+	/**
+	 * Set when subscribed to all messages, including any not in the bitset.
+	 */
+	private volatile boolean all;
+
+	/**
+	 * Subscribe to the message with the given id.
+	 *
+	 * @param msgid
+	 *            id of the message
+	 */
+	public synchronized void subscribe(int msgid) {
+		int word = msgid >>> 6;
+		long[] copy = new long[Math.max(bits.length, word + 1)];
+		System.arraycopy(bits, 0, copy, 0, bits.length);
+		copy[word] |= 1L << msgid;
+		bits = copy;
+	}
+
+	/**
+	 * Stop the subscription of the message with the given id. Has no effect
+	 * on messages outside of the bitset while subscribed to all messages.
+	 *
+	 * @param msgid
+	 *            id of the message
+	 */
+	public synchronized void unsubscribe(int msgid) {
+		int word = msgid >>> 6;
+		if (word >= bits.length) {
+			return;
+		}
+		long[] copy = bits.clone();
+		copy[word] &= ~(1L << msgid);
+		bits = copy;
+	}
+
+	/**
+	 * Subscribe to all the messages of another set.
+	 *
+	 * @param other
+	 *            the set of messages to be added
+	 */
+	public synchronized void subscribe(MAVLinkSubscriptions other) {
+		long[] otherBits = other.bits;
+		long[] copy = new long[Math.max(bits.length, otherBits.length)];
+		System.arraycopy(bits, 0, copy, 0, bits.length);
+		for (int i = 0; i < copy.length; i++) {
+			if (other.all) {
+				copy[i] = -1L;
+			} else if (i < otherBits.length) {
+				copy[i] |= otherBits[i];
+			}
+		}
+		bits = copy;
+		all |= other.all;
+	}
+
+	/**
+	 * Subscribe to all messages, which is the initial state of the parser.
+	 */
+	public synchronized void subscribeAll() {
+		long[] copy = new long[bits.length];
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = -1L;
+		}
+		bits = copy;
+		all = true;
+	}
+
+	/**
+	 * Stop all subscriptions.
+	 */
+	public synchronized void clear() {
+		all = false;
+		bits = new long[MESSAGE_ID_COUNT / 64];
+	}
+
+	/**
+	 * @param msgid
+	 *            id of the message
+	 * @return true if the message is subscribed
+	 */
+	public boolean isSubscribed(int msgid) {
+		long[] current = bits;
+		int word = msgid >>> 6;
+		if (word >= current.length) {
+			return all;
+		}
+		return (current[word] & (1L << msgid)) != 0;
+	}
+}
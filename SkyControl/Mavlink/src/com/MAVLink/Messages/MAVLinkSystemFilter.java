@@ -0,0 +1,111 @@
+package com.MAVLink.Messages;
+
+import com.MAVLink.Messages.ardupilotmega.msg_radio;
+import com.MAVLink.Messages.ardupilotmega.msg_radio_status;
+
+/**
+ * Set of the systems, and optionally of their components, whose frames a link
+ * passes on. Frames of the other systems are checked and counted by the parser
+ * but dropped before they reach any consumer, so the traffic of the vehicles
+ * nobody watches is never decoded. All systems are accepted initially.
+ *
+ * The messages describing the link itself are accepted from any system, as
+ * the telemetry radio sends them under its own system id without ever sending
+ * a heartbeat.
+ *
+ * Like {@link MAVLinkSubscriptions}, the tables are replaced by a modified
+ * copy on every change, so the parser reads them without locking.
+ *
+ */
+public class MAVLinkSystemFilter {
+
+	/**
+	 * Number of the system and component ids.
+	 */
+	private static final int ID_COUNT = 256;
+
+	/**
+	 * Accepted components indexed by the system id, one bit per component id.
+	 * Null for a system which is not accepted.
+	 */
+	private volatile long[][] components = new long[ID_COUNT][];
+	/**
+	 * Set when all systems are accepted.
+	 */
+	private volatile boolean all = true;
+
+	/**
+	 * Accept all systems, which is the initial state.
+	 */
+	public synchronized void acceptAll() {
+		components = new long[ID_COUNT][];
+		all = true;
+	}
+
+	/**
+	 * Accept all components of the system with the given id.
+	 *
+	 * @param sysid
+	 *            id of the system
+	 */
+	public synchronized void accept(int sysid) {
+		long[][] copy = components.clone();
+		copy[sysid] = new long[] { -1L, -1L, -1L, -1L };
+		components = copy;
+		all = false;
+	}
+
+	/**
+	 * Accept the component of the system with the given id.
+	 *
+	 * @param sysid
+	 *            id of the system
+	 * @param compid
+	 *            id of the component
+	 */
+	public synchronized void accept(int sysid, int compid) {
+		long[][] copy = components.clone();
+		long[] bits = copy[sysid] != null ? copy[sysid].clone()
+				: new long[ID_COUNT / 64];
+		bits[compid >>> 6] |= 1L << compid;
+		copy[sysid] = bits;
+		components = copy;
+		all = false;
+	}
+
+	/**
+	 * Reject all systems.
+	 */
+	public synchronized void clear() {
+		components = new long[ID_COUNT][];
+		all = false;
+	}
+
+	/**
+	 * @param msgid
+	 *            id of the message
+	 * @return true if the message describes the link rather than the system
+	 *         sending it, like the status of the telemetry radio
+	 */
+	public static boolean isLinkMessage(int msgid) {
+		return msgid == msg_radio.MAVLINK_MSG_ID_RADIO
+				|| msgid == msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS;
+	}
+
+	/**
+	 * @param sysid
+	 *            id of the system
+	 * @param compid
+	 *            id of the component
+	 * @param msgid
+	 *            id of the message
+	 * @return true if the frame is to be passed on
+	 */
+	public boolean isAccepted(int sysid, int compid, int msgid) {
+		if (all || isLinkMessage(msgid)) {
+			return true;
+		}
+		long[] bits = components[sysid];
+		return bits != null && (bits[compid >>> 6] & (1L << compid)) != 0;
+	}
+}
@@ -0,0 +1,119 @@
+package com.MAVLink.Messages;
+
+/**
+ * Read-only view of a received MAVLink message. Unlike the message classes,
+ * which copy every field of the packet on unpacking, a view only wraps the
+ * payload of the packet and decodes a field when its getter is called, reading
+ * it at its fixed little endian offset.
+ *
+ * A view can be reused for any number of packets, wrapping a new packet just
+ * replaces the wrapped payload. The view is valid only as long as the wrapped
+ * packet, it must not be used after the packet is released back to its pool.
+ *
+ */
+public abstract class MAVLinkView {
+
+	/**
+	 * ID of the message this view decodes.
+	 */
+	private final int msgid;
+	/**
+	 * Payload of the wrapped packet, null until a packet is wrapped.
+	 */
+	private byte[] payload;
+	private int sysid;
+	private int compid;
+
+	protected MAVLinkView(int msgid) {
+		this.msgid = msgid;
+	}
+
+	/**
+	 * Point the view at the payload of the given packet.
+	 *
+	 * @param packet
+	 *            received packet, has to carry the message of this view
+	 * @return this view
+	 * @throws IllegalArgumentException
+	 *             if the packet carries a different message
+	 */
+	public MAVLinkView wrap(MAVLinkPacket packet) {
+		if (packet.msgid != msgid) {
+			throw new IllegalArgumentException("Packet with message id "
+					+ packet.msgid + " wrapped by a view of message id " + msgid);
+		}
+		payload = packet.payload.getData().array();
+		sysid = packet.sysid;
+		compid = packet.compid;
+		return this;
+	}
+
+	/**
+	 * @return ID of the message this view decodes
+	 */
+	public int getMsgid() {
+		return msgid;
+	}
+
+	/**
+	 * @return ID of the system which sent the wrapped packet
+	 */
+	public int getSysid() {
+		return sysid;
+	}
+
+	/**
+	 * @return ID of the component which sent the wrapped packet
+	 */
+	public int getCompid() {
+		return compid;
+	}
+
+	protected final byte getByte(int offset) {
+		return payload[offset];
+	}
+
+	protected final char getChar(int offset) {
+		return (char) (payload[offset] & 0xFF);
+	}
+
+	protected final short getShort(int offset) {
+		return (short) ((payload[offset] & 0xFF)
+				| (payload[offset + 1] & 0xFF) << 8);
+	}
+
+	protected final int getInt(int offset) {
+		return (payload[offset] & 0xFF)
+				| (payload[offset + 1] & 0xFF) << 8
+				| (payload[offset + 2] & 0xFF) << 16
+				| (payload[offset + 3] & 0xFF) << 24;
+	}
+
+	protected final long getLong(int offset) {
+		return (getInt(offset) & 0xFFFFFFFFL)
+				| (long) getInt(offset + 4) << 32;
+	}
+
+	protected final float getFloat(int offset) {
+		return Float.intBitsToFloat(getInt(offset));
+	}
+
+	protected final double getDouble(int offset) {
+		return Double.longBitsToDouble(getLong(offset));
+	}
+
+	/**
+	 * Decode a zero terminated string of at most the given length.
+	 */
+	protected final String getString(int offset, int length) {
+		int end = offset;
+		while (end < offset + length && payload[end] != 0) {
+			end++;
+		}
+		StringBuilder result = new StringBuilder(end - offset);
+		for (int i = offset; i < end; i++) {
+			result.append((char) (payload[i] & 0xFF));
+		}
+		return result.toString();
+	}
+}
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_ahrs extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_AHRS = 163;
 	public static final int MAVLINK_MSG_LENGTH = 28;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_AHRS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_ahrs(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_ahrs extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_AHRS;
-		packet.payload.putFloat(omegaIx);
-		packet.payload.putFloat(omegaIy);
-		packet.payload.putFloat(omegaIz);
-		packet.payload.putFloat(accel_weight);
-		packet.payload.putFloat(renorm_val);
-		packet.payload.putFloat(error_rp);
-		packet.payload.putFloat(error_yaw);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.omegaIx);
+		payload.putFloat(this.omegaIy);
+		payload.putFloat(this.omegaIz);
+		payload.putFloat(this.accel_weight);
+		payload.putFloat(this.renorm_val);
+		payload.putFloat(this.error_rp);
+		payload.putFloat(this.error_yaw);
+	}
+
     /**
      * Decode a ahrs message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_airspeed_autocal extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_AIRSPEED_AUTOCAL = 174;
 	public static final int MAVLINK_MSG_LENGTH = 48;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_AIRSPEED_AUTOCAL;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_airspeed_autocal(packet);
+		}
+	};
 	
 
  	/**
@@ -70,26 +82,33 @@ public class msg_airspeed_autocal extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_AIRSPEED_AUTOCAL;
-		packet.payload.putFloat(vx);
-		packet.payload.putFloat(vy);
-		packet.payload.putFloat(vz);
-		packet.payload.putFloat(diff_pressure);
-		packet.payload.putFloat(EAS2TAS);
-		packet.payload.putFloat(ratio);
-		packet.payload.putFloat(state_x);
-		packet.payload.putFloat(state_y);
-		packet.payload.putFloat(state_z);
-		packet.payload.putFloat(Pax);
-		packet.payload.putFloat(Pby);
-		packet.payload.putFloat(Pcz);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.vx);
+		payload.putFloat(this.vy);
+		payload.putFloat(this.vz);
+		payload.putFloat(this.diff_pressure);
+		payload.putFloat(this.EAS2TAS);
+		payload.putFloat(this.ratio);
+		payload.putFloat(this.state_x);
+		payload.putFloat(this.state_y);
+		payload.putFloat(this.state_z);
+		payload.putFloat(this.Pax);
+		payload.putFloat(this.Pby);
+		payload.putFloat(this.Pcz);
+	}
+
     /**
      * Decode a airspeed_autocal message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_ap_adc extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_AP_ADC = 153;
 	public static final int MAVLINK_MSG_LENGTH = 12;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_AP_ADC;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_ap_adc(packet);
+		}
+	};
 	
 
  	/**
@@ -46,20 +58,27 @@ public class msg_ap_adc extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_AP_ADC;
-		packet.payload.putShort(adc1);
-		packet.payload.putShort(adc2);
-		packet.payload.putShort(adc3);
-		packet.payload.putShort(adc4);
-		packet.payload.putShort(adc5);
-		packet.payload.putShort(adc6);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.adc1);
+		payload.putShort(this.adc2);
+		payload.putShort(this.adc3);
+		payload.putShort(this.adc4);
+		payload.putShort(this.adc5);
+		payload.putShort(this.adc6);
+	}
+
     /**
      * Decode a ap_adc message into this class fields
      *
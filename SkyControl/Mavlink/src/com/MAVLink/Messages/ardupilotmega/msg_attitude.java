@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_attitude extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_ATTITUDE = 30;
 	public static final int MAVLINK_MSG_LENGTH = 28;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_ATTITUDE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_attitude(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_attitude extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_ATTITUDE;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putFloat(roll);
-		packet.payload.putFloat(pitch);
-		packet.payload.putFloat(yaw);
-		packet.payload.putFloat(rollspeed);
-		packet.payload.putFloat(pitchspeed);
-		packet.payload.putFloat(yawspeed);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putFloat(this.roll);
+		payload.putFloat(this.pitch);
+		payload.putFloat(this.yaw);
+		payload.putFloat(this.rollspeed);
+		payload.putFloat(this.pitchspeed);
+		payload.putFloat(this.yawspeed);
+	}
+
     /**
      * Decode a attitude message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_auth_key extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_AUTH_KEY = 7;
 	public static final int MAVLINK_MSG_LENGTH = 32;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_AUTH_KEY;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_auth_key(packet);
+		}
+	};
 	
 
  	/**
@@ -26,17 +38,24 @@ public class msg_auth_key extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_AUTH_KEY;
-		 for (int i = 0; i < key.length; i++) {
-                        packet.payload.putChar(key[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		 for (int i = 0; i < this.key.length; i++) {
+                        payload.putChar(this.key[i]);
+            }
+	}
+
     /**
      * Decode a auth_key message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_battery_status extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_BATTERY_STATUS = 147;
 	public static final int MAVLINK_MSG_LENGTH = 24;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_BATTERY_STATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_battery_status(packet);
+		}
+	};
 	
 
  	/**
@@ -66,25 +78,32 @@ public class msg_battery_status extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_BATTERY_STATUS;
-		packet.payload.putInt(current_consumed);
-		packet.payload.putInt(energy_consumed);
-		packet.payload.putShort(voltage_cell_1);
-		packet.payload.putShort(voltage_cell_2);
-		packet.payload.putShort(voltage_cell_3);
-		packet.payload.putShort(voltage_cell_4);
-		packet.payload.putShort(voltage_cell_5);
-		packet.payload.putShort(voltage_cell_6);
-		packet.payload.putShort(current_battery);
-		packet.payload.putByte(accu_id);
-		packet.payload.putByte(battery_remaining);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.current_consumed);
+		payload.putInt(this.energy_consumed);
+		payload.putShort(this.voltage_cell_1);
+		payload.putShort(this.voltage_cell_2);
+		payload.putShort(this.voltage_cell_3);
+		payload.putShort(this.voltage_cell_4);
+		payload.putShort(this.voltage_cell_5);
+		payload.putShort(this.voltage_cell_6);
+		payload.putShort(this.current_battery);
+		payload.putByte(this.accu_id);
+		payload.putByte(this.battery_remaining);
+	}
+
     /**
      * Decode a battery_status message into this class fields
      *
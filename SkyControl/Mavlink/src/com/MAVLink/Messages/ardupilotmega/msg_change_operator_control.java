@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_change_operator_control extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL = 5;
 	public static final int MAVLINK_MSG_LENGTH = 28;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_change_operator_control(packet);
+		}
+	};
 	
 
  	/**
@@ -38,20 +50,27 @@ public class msg_change_operator_control extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL;
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(control_request);
-		packet.payload.putByte(version);
-		 for (int i = 0; i < passkey.length; i++) {
-                        packet.payload.putChar(passkey[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putByte(this.target_system);
+		payload.putByte(this.control_request);
+		payload.putByte(this.version);
+		 for (int i = 0; i < this.passkey.length; i++) {
+                        payload.putChar(this.passkey[i]);
+            }
+	}
+
     /**
      * Decode a change_operator_control message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_command_long extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_COMMAND_LONG = 76;
 	public static final int MAVLINK_MSG_LENGTH = 33;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_COMMAND_LONG;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_command_long(packet);
+		}
+	};
 	
 
  	/**
@@ -66,25 +78,32 @@ public class msg_command_long extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_COMMAND_LONG;
-		packet.payload.putFloat(param1);
-		packet.payload.putFloat(param2);
-		packet.payload.putFloat(param3);
-		packet.payload.putFloat(param4);
-		packet.payload.putFloat(param5);
-		packet.payload.putFloat(param6);
-		packet.payload.putFloat(param7);
-		packet.payload.putShort(command);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		packet.payload.putByte(confirmation);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.param1);
+		payload.putFloat(this.param2);
+		payload.putFloat(this.param3);
+		payload.putFloat(this.param4);
+		payload.putFloat(this.param5);
+		payload.putFloat(this.param6);
+		payload.putFloat(this.param7);
+		payload.putShort(this.command);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		payload.putByte(this.confirmation);
+	}
+
     /**
      * Decode a command_long message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_compassmot_status extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_COMPASSMOT_STATUS = 177;
 	public static final int MAVLINK_MSG_LENGTH = 20;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_COMPASSMOT_STATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_compassmot_status(packet);
+		}
+	};
 	
 
  	/**
@@ -46,20 +58,27 @@ public class msg_compassmot_status extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_COMPASSMOT_STATUS;
-		packet.payload.putFloat(current);
-		packet.payload.putFloat(CompensationX);
-		packet.payload.putFloat(CompensationY);
-		packet.payload.putFloat(CompensationZ);
-		packet.payload.putShort(throttle);
-		packet.payload.putShort(interference);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.current);
+		payload.putFloat(this.CompensationX);
+		payload.putFloat(this.CompensationY);
+		payload.putFloat(this.CompensationZ);
+		payload.putShort(this.throttle);
+		payload.putShort(this.interference);
+	}
+
     /**
      * Decode a compassmot_status message into this class fields
      *
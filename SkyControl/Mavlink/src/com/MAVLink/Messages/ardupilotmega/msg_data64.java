@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_data64 extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_DATA64 = 171;
 	public static final int MAVLINK_MSG_LENGTH = 66;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_DATA64;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_data64(packet);
+		}
+	};
 	
 
  	/**
@@ -34,19 +46,26 @@ public class msg_data64 extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_DATA64;
-		packet.payload.putByte(type);
-		packet.payload.putByte(len);
-		 for (int i = 0; i < data.length; i++) {
-                        packet.payload.putByte(data[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putByte(this.type);
+		payload.putByte(this.len);
+		 for (int i = 0; i < this.data.length; i++) {
+                        payload.putByte(this.data[i]);
+            }
+	}
+
     /**
      * Decode a data64 message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_data_stream extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_DATA_STREAM = 67;
 	public static final int MAVLINK_MSG_LENGTH = 4;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_DATA_STREAM;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_data_stream(packet);
+		}
+	};
 	
 
  	/**
@@ -34,17 +46,24 @@ public class msg_data_stream extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_DATA_STREAM;
-		packet.payload.putShort(message_rate);
-		packet.payload.putByte(stream_id);
-		packet.payload.putByte(on_off);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.message_rate);
+		payload.putByte(this.stream_id);
+		payload.putByte(this.on_off);
+	}
+
     /**
      * Decode a data_stream message into this class fields
      *
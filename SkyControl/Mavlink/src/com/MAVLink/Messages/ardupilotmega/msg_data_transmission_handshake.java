@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_data_transmission_handshake extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE = 130;
 	public static final int MAVLINK_MSG_LENGTH = 13;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_data_transmission_handshake(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_data_transmission_handshake extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE;
-		packet.payload.putInt(size);
-		packet.payload.putShort(width);
-		packet.payload.putShort(height);
-		packet.payload.putShort(packets);
-		packet.payload.putByte(type);
-		packet.payload.putByte(payload);
-		packet.payload.putByte(jpg_quality);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.size);
+		payload.putShort(this.width);
+		payload.putShort(this.height);
+		payload.putShort(this.packets);
+		payload.putByte(this.type);
+		payload.putByte(this.payload);
+		payload.putByte(this.jpg_quality);
+	}
+
     /**
      * Decode a data_transmission_handshake message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_debug_vect extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_DEBUG_VECT = 250;
 	public static final int MAVLINK_MSG_LENGTH = 30;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_DEBUG_VECT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_debug_vect(packet);
+		}
+	};
 	
 
  	/**
@@ -42,21 +54,28 @@ public class msg_debug_vect extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_DEBUG_VECT;
-		packet.payload.putLong(time_usec);
-		packet.payload.putFloat(x);
-		packet.payload.putFloat(y);
-		packet.payload.putFloat(z);
-		 for (int i = 0; i < name.length; i++) {
-                        packet.payload.putChar(name[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putFloat(this.x);
+		payload.putFloat(this.y);
+		payload.putFloat(this.z);
+		 for (int i = 0; i < this.name.length; i++) {
+                        payload.putChar(this.name[i]);
+            }
+	}
+
     /**
      * Decode a debug_vect message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_digicam_configure extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_DIGICAM_CONFIGURE = 154;
 	public static final int MAVLINK_MSG_LENGTH = 15;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_DIGICAM_CONFIGURE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_digicam_configure(packet);
+		}
+	};
 	
 
  	/**
@@ -66,25 +78,32 @@ public class msg_digicam_configure extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_DIGICAM_CONFIGURE;
-		packet.payload.putFloat(extra_value);
-		packet.payload.putShort(shutter_speed);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		packet.payload.putByte(mode);
-		packet.payload.putByte(aperture);
-		packet.payload.putByte(iso);
-		packet.payload.putByte(exposure_type);
-		packet.payload.putByte(command_id);
-		packet.payload.putByte(engine_cut_off);
-		packet.payload.putByte(extra_param);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.extra_value);
+		payload.putShort(this.shutter_speed);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		payload.putByte(this.mode);
+		payload.putByte(this.aperture);
+		payload.putByte(this.iso);
+		payload.putByte(this.exposure_type);
+		payload.putByte(this.command_id);
+		payload.putByte(this.engine_cut_off);
+		payload.putByte(this.extra_param);
+	}
+
     /**
      * Decode a digicam_configure message into this class fields
      *
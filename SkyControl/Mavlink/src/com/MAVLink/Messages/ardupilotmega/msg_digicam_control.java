@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_digicam_control extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_DIGICAM_CONTROL = 155;
 	public static final int MAVLINK_MSG_LENGTH = 13;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_DIGICAM_CONTROL;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_digicam_control(packet);
+		}
+	};
 	
 
  	/**
@@ -62,24 +74,31 @@ public class msg_digicam_control extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_DIGICAM_CONTROL;
-		packet.payload.putFloat(extra_value);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		packet.payload.putByte(session);
-		packet.payload.putByte(zoom_pos);
-		packet.payload.putByte(zoom_step);
-		packet.payload.putByte(focus_lock);
-		packet.payload.putByte(shot);
-		packet.payload.putByte(command_id);
-		packet.payload.putByte(extra_param);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.extra_value);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		payload.putByte(this.session);
+		payload.putByte(this.zoom_pos);
+		payload.putByte(this.zoom_step);
+		payload.putByte(this.focus_lock);
+		payload.putByte(this.shot);
+		payload.putByte(this.command_id);
+		payload.putByte(this.extra_param);
+	}
+
     /**
      * Decode a digicam_control message into this class fields
      *
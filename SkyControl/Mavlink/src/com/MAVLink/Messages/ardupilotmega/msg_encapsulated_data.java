@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_encapsulated_data extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_ENCAPSULATED_DATA = 131;
 	public static final int MAVLINK_MSG_LENGTH = 255;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_ENCAPSULATED_DATA;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_encapsulated_data(packet);
+		}
+	};
 	
 
  	/**
@@ -30,18 +42,25 @@ public class msg_encapsulated_data extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_ENCAPSULATED_DATA;
-		packet.payload.putShort(seqnr);
-		 for (int i = 0; i < data.length; i++) {
-                        packet.payload.putByte(data[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.seqnr);
+		 for (int i = 0; i < this.data.length; i++) {
+                        payload.putByte(this.data[i]);
+            }
+	}
+
     /**
      * Decode a encapsulated_data message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_fence_fetch_point extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_FENCE_FETCH_POINT = 161;
 	public static final int MAVLINK_MSG_LENGTH = 3;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_FENCE_FETCH_POINT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_fence_fetch_point(packet);
+		}
+	};
 	
 
  	/**
@@ -34,17 +46,24 @@ public class msg_fence_fetch_point extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_FENCE_FETCH_POINT;
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		packet.payload.putByte(idx);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		payload.putByte(this.idx);
+	}
+
     /**
      * Decode a fence_fetch_point message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -15,6 +16,17 @@ public class msg_fence_status extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_FENCE_STATUS = 162;
 	public static final int MAVLINK_MSG_LENGTH = 8;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_FENCE_STATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_fence_status(packet);
+		}
+	};
 	
 
  	/**
@@ -39,18 +51,25 @@ public class msg_fence_status extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_FENCE_STATUS;
-		packet.payload.putInt(breach_time);
-		packet.payload.putShort(breach_count);
-		packet.payload.putByte(breach_status);
-		packet.payload.putByte(breach_type);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.breach_time);
+		payload.putShort(this.breach_count);
+		payload.putByte(this.breach_status);
+		payload.putByte(this.breach_type);
+	}
+
     /**
      * Decode a fence_status message into this class fields
      *
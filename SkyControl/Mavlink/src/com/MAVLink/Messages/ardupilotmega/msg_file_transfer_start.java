@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_file_transfer_start extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_FILE_TRANSFER_START = 110;
 	public static final int MAVLINK_MSG_LENGTH = 254;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_FILE_TRANSFER_START;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_file_transfer_start(packet);
+		}
+	};
 	
 
  	/**
@@ -42,21 +54,28 @@ public class msg_file_transfer_start extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_FILE_TRANSFER_START;
-		packet.payload.putLong(transfer_uid);
-		packet.payload.putInt(file_size);
-		 for (int i = 0; i < dest_path.length; i++) {
-                        packet.payload.putChar(dest_path[i]);
-            }
-		packet.payload.putByte(direction);
-		packet.payload.putByte(flags);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.transfer_uid);
+		payload.putInt(this.file_size);
+		 for (int i = 0; i < this.dest_path.length; i++) {
+                        payload.putChar(this.dest_path[i]);
+            }
+		payload.putByte(this.direction);
+		payload.putByte(this.flags);
+	}
+
     /**
      * Decode a file_transfer_start message into this class fields
      *
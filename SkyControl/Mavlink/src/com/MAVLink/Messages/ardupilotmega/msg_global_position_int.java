@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -15,6 +16,17 @@ public class msg_global_position_int extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_GLOBAL_POSITION_INT = 33;
 	public static final int MAVLINK_MSG_LENGTH = 28;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_GLOBAL_POSITION_INT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_global_position_int(packet);
+		}
+	};
 	
 
  	/**
@@ -59,23 +71,30 @@ public class msg_global_position_int extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_GLOBAL_POSITION_INT;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putInt(lat);
-		packet.payload.putInt(lon);
-		packet.payload.putInt(alt);
-		packet.payload.putInt(relative_alt);
-		packet.payload.putShort(vx);
-		packet.payload.putShort(vy);
-		packet.payload.putShort(vz);
-		packet.payload.putShort(hdg);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putInt(this.lat);
+		payload.putInt(this.lon);
+		payload.putInt(this.alt);
+		payload.putInt(this.relative_alt);
+		payload.putShort(this.vx);
+		payload.putShort(this.vy);
+		payload.putShort(this.vz);
+		payload.putShort(this.hdg);
+	}
+
     /**
      * Decode a global_position_int message into this class fields
      *
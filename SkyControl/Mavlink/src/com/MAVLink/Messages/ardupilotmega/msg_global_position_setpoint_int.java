@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_global_position_setpoint_int extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT = 52;
 	public static final int MAVLINK_MSG_LENGTH = 15;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_global_position_setpoint_int(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_global_position_setpoint_int extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT;
-		packet.payload.putInt(latitude);
-		packet.payload.putInt(longitude);
-		packet.payload.putInt(altitude);
-		packet.payload.putShort(yaw);
-		packet.payload.putByte(coordinate_frame);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.latitude);
+		payload.putInt(this.longitude);
+		payload.putInt(this.altitude);
+		payload.putShort(this.yaw);
+		payload.putByte(this.coordinate_frame);
+	}
+
     /**
      * Decode a global_position_setpoint_int message into this class fields
      *
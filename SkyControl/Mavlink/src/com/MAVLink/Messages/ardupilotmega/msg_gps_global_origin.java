@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_gps_global_origin extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN = 49;
 	public static final int MAVLINK_MSG_LENGTH = 12;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_gps_global_origin(packet);
+		}
+	};
 	
 
  	/**
@@ -34,17 +46,24 @@ public class msg_gps_global_origin extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN;
-		packet.payload.putInt(latitude);
-		packet.payload.putInt(longitude);
-		packet.payload.putInt(altitude);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.latitude);
+		payload.putInt(this.longitude);
+		payload.putInt(this.altitude);
+	}
+
     /**
      * Decode a gps_global_origin message into this class fields
      *
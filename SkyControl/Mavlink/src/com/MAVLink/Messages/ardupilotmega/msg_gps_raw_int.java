@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -15,6 +16,17 @@ public class msg_gps_raw_int extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_GPS_RAW_INT = 24;
 	public static final int MAVLINK_MSG_LENGTH = 30;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_GPS_RAW_INT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_gps_raw_int(packet);
+		}
+	};
 	
 
  	/**
@@ -63,24 +75,31 @@ public class msg_gps_raw_int extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_GPS_RAW_INT;
-		packet.payload.putLong(time_usec);
-		packet.payload.putInt(lat);
-		packet.payload.putInt(lon);
-		packet.payload.putInt(alt);
-		packet.payload.putShort(eph);
-		packet.payload.putShort(epv);
-		packet.payload.putShort(vel);
-		packet.payload.putShort(cog);
-		packet.payload.putByte(fix_type);
-		packet.payload.putByte(satellites_visible);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putInt(this.lat);
+		payload.putInt(this.lon);
+		payload.putInt(this.alt);
+		payload.putShort(this.eph);
+		payload.putShort(this.epv);
+		payload.putShort(this.vel);
+		payload.putShort(this.cog);
+		payload.putByte(this.fix_type);
+		payload.putByte(this.satellites_visible);
+	}
+
     /**
      * Decode a gps_raw_int message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_gps_status extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_GPS_STATUS = 25;
 	public static final int MAVLINK_MSG_LENGTH = 101;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_GPS_STATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_gps_status(packet);
+		}
+	};
 	
 
  	/**
@@ -46,28 +58,35 @@ public class msg_gps_status extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_GPS_STATUS;
-		packet.payload.putByte(satellites_visible);
-		 for (int i = 0; i < satellite_prn.length; i++) {
-                        packet.payload.putByte(satellite_prn[i]);
+		packPayload(packet.payload);
+		return packet;		
+	}
+
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putByte(this.satellites_visible);
+		 for (int i = 0; i < this.satellite_prn.length; i++) {
+                        payload.putByte(this.satellite_prn[i]);
             }
-		 for (int i = 0; i < satellite_used.length; i++) {
-                        packet.payload.putByte(satellite_used[i]);
+		 for (int i = 0; i < this.satellite_used.length; i++) {
+                        payload.putByte(this.satellite_used[i]);
             }
-		 for (int i = 0; i < satellite_elevation.length; i++) {
-                        packet.payload.putByte(satellite_elevation[i]);
+		 for (int i = 0; i < this.satellite_elevation.length; i++) {
+                        payload.putByte(this.satellite_elevation[i]);
             }
-		 for (int i = 0; i < satellite_azimuth.length; i++) {
-                        packet.payload.putByte(satellite_azimuth[i]);
+		 for (int i = 0; i < this.satellite_azimuth.length; i++) {
+                        payload.putByte(this.satellite_azimuth[i]);
             }
-		 for (int i = 0; i < satellite_snr.length; i++) {
-                        packet.payload.putByte(satellite_snr[i]);
+		 for (int i = 0; i < this.satellite_snr.length; i++) {
+                        payload.putByte(this.satellite_snr[i]);
             }
-		return packet;		
 	}
 
     /**
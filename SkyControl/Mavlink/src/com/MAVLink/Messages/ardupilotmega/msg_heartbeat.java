@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_heartbeat extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_HEARTBEAT = 0;
 	public static final int MAVLINK_MSG_LENGTH = 9;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_HEARTBEAT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_heartbeat(packet);
+		}
+	};
 	
 
  	/**
@@ -46,20 +58,27 @@ public class msg_heartbeat extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_HEARTBEAT;
-		packet.payload.putInt(custom_mode);
-		packet.payload.putByte(type);
-		packet.payload.putByte(autopilot);
-		packet.payload.putByte(base_mode);
-		packet.payload.putByte(system_status);
-		packet.payload.putByte(mavlink_version);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.custom_mode);
+		payload.putByte(this.type);
+		payload.putByte(this.autopilot);
+		payload.putByte(this.base_mode);
+		payload.putByte(this.system_status);
+		payload.putByte(this.mavlink_version);
+	}
+
     /**
      * Decode a heartbeat message into this class fields
      *
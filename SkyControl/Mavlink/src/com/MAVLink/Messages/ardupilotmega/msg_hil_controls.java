@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_hil_controls extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_HIL_CONTROLS = 91;
 	public static final int MAVLINK_MSG_LENGTH = 42;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_HIL_CONTROLS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_hil_controls(packet);
+		}
+	};
 	
 
  	/**
@@ -66,25 +78,32 @@ public class msg_hil_controls extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_HIL_CONTROLS;
-		packet.payload.putLong(time_usec);
-		packet.payload.putFloat(roll_ailerons);
-		packet.payload.putFloat(pitch_elevator);
-		packet.payload.putFloat(yaw_rudder);
-		packet.payload.putFloat(throttle);
-		packet.payload.putFloat(aux1);
-		packet.payload.putFloat(aux2);
-		packet.payload.putFloat(aux3);
-		packet.payload.putFloat(aux4);
-		packet.payload.putByte(mode);
-		packet.payload.putByte(nav_mode);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putFloat(this.roll_ailerons);
+		payload.putFloat(this.pitch_elevator);
+		payload.putFloat(this.yaw_rudder);
+		payload.putFloat(this.throttle);
+		payload.putFloat(this.aux1);
+		payload.putFloat(this.aux2);
+		payload.putFloat(this.aux3);
+		payload.putFloat(this.aux4);
+		payload.putByte(this.mode);
+		payload.putByte(this.nav_mode);
+	}
+
     /**
      * Decode a hil_controls message into this class fields
      *
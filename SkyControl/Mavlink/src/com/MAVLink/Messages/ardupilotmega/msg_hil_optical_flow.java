@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_hil_optical_flow extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_HIL_OPTICAL_FLOW = 114;
 	public static final int MAVLINK_MSG_LENGTH = 26;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_HIL_OPTICAL_FLOW;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_hil_optical_flow(packet);
+		}
+	};
 	
 
  	/**
@@ -54,22 +66,29 @@ public class msg_hil_optical_flow extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_HIL_OPTICAL_FLOW;
-		packet.payload.putLong(time_usec);
-		packet.payload.putFloat(flow_comp_m_x);
-		packet.payload.putFloat(flow_comp_m_y);
-		packet.payload.putFloat(ground_distance);
-		packet.payload.putShort(flow_x);
-		packet.payload.putShort(flow_y);
-		packet.payload.putByte(sensor_id);
-		packet.payload.putByte(quality);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putFloat(this.flow_comp_m_x);
+		payload.putFloat(this.flow_comp_m_y);
+		payload.putFloat(this.ground_distance);
+		payload.putShort(this.flow_x);
+		payload.putShort(this.flow_y);
+		payload.putByte(this.sensor_id);
+		payload.putByte(this.quality);
+	}
+
     /**
      * Decode a hil_optical_flow message into this class fields
      *
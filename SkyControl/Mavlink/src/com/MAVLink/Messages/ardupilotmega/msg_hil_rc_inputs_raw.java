@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_hil_rc_inputs_raw extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW = 92;
 	public static final int MAVLINK_MSG_LENGTH = 33;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_hil_rc_inputs_raw(packet);
+		}
+	};
 	
 
  	/**
@@ -78,28 +90,35 @@ public class msg_hil_rc_inputs_raw extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW;
-		packet.payload.putLong(time_usec);
-		packet.payload.putShort(chan1_raw);
-		packet.payload.putShort(chan2_raw);
-		packet.payload.putShort(chan3_raw);
-		packet.payload.putShort(chan4_raw);
-		packet.payload.putShort(chan5_raw);
-		packet.payload.putShort(chan6_raw);
-		packet.payload.putShort(chan7_raw);
-		packet.payload.putShort(chan8_raw);
-		packet.payload.putShort(chan9_raw);
-		packet.payload.putShort(chan10_raw);
-		packet.payload.putShort(chan11_raw);
-		packet.payload.putShort(chan12_raw);
-		packet.payload.putByte(rssi);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putShort(this.chan1_raw);
+		payload.putShort(this.chan2_raw);
+		payload.putShort(this.chan3_raw);
+		payload.putShort(this.chan4_raw);
+		payload.putShort(this.chan5_raw);
+		payload.putShort(this.chan6_raw);
+		payload.putShort(this.chan7_raw);
+		payload.putShort(this.chan8_raw);
+		payload.putShort(this.chan9_raw);
+		payload.putShort(this.chan10_raw);
+		payload.putShort(this.chan11_raw);
+		payload.putShort(this.chan12_raw);
+		payload.putByte(this.rssi);
+	}
+
     /**
      * Decode a hil_rc_inputs_raw message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_hil_sensor extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_HIL_SENSOR = 107;
 	public static final int MAVLINK_MSG_LENGTH = 64;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_HIL_SENSOR;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_hil_sensor(packet);
+		}
+	};
 	
 
  	/**
@@ -82,29 +94,36 @@ public class msg_hil_sensor extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_HIL_SENSOR;
-		packet.payload.putLong(time_usec);
-		packet.payload.putFloat(xacc);
-		packet.payload.putFloat(yacc);
-		packet.payload.putFloat(zacc);
-		packet.payload.putFloat(xgyro);
-		packet.payload.putFloat(ygyro);
-		packet.payload.putFloat(zgyro);
-		packet.payload.putFloat(xmag);
-		packet.payload.putFloat(ymag);
-		packet.payload.putFloat(zmag);
-		packet.payload.putFloat(abs_pressure);
-		packet.payload.putFloat(diff_pressure);
-		packet.payload.putFloat(pressure_alt);
-		packet.payload.putFloat(temperature);
-		packet.payload.putInt(fields_updated);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putFloat(this.xacc);
+		payload.putFloat(this.yacc);
+		payload.putFloat(this.zacc);
+		payload.putFloat(this.xgyro);
+		payload.putFloat(this.ygyro);
+		payload.putFloat(this.zgyro);
+		payload.putFloat(this.xmag);
+		payload.putFloat(this.ymag);
+		payload.putFloat(this.zmag);
+		payload.putFloat(this.abs_pressure);
+		payload.putFloat(this.diff_pressure);
+		payload.putFloat(this.pressure_alt);
+		payload.putFloat(this.temperature);
+		payload.putInt(this.fields_updated);
+	}
+
     /**
      * Decode a hil_sensor message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_hil_state extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_HIL_STATE = 90;
 	public static final int MAVLINK_MSG_LENGTH = 56;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_HIL_STATE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_hil_state(packet);
+		}
+	};
 	
 
  	/**
@@ -86,30 +98,37 @@ public class msg_hil_state extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_HIL_STATE;
-		packet.payload.putLong(time_usec);
-		packet.payload.putFloat(roll);
-		packet.payload.putFloat(pitch);
-		packet.payload.putFloat(yaw);
-		packet.payload.putFloat(rollspeed);
-		packet.payload.putFloat(pitchspeed);
-		packet.payload.putFloat(yawspeed);
-		packet.payload.putInt(lat);
-		packet.payload.putInt(lon);
-		packet.payload.putInt(alt);
-		packet.payload.putShort(vx);
-		packet.payload.putShort(vy);
-		packet.payload.putShort(vz);
-		packet.payload.putShort(xacc);
-		packet.payload.putShort(yacc);
-		packet.payload.putShort(zacc);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putFloat(this.roll);
+		payload.putFloat(this.pitch);
+		payload.putFloat(this.yaw);
+		payload.putFloat(this.rollspeed);
+		payload.putFloat(this.pitchspeed);
+		payload.putFloat(this.yawspeed);
+		payload.putInt(this.lat);
+		payload.putInt(this.lon);
+		payload.putInt(this.alt);
+		payload.putShort(this.vx);
+		payload.putShort(this.vy);
+		payload.putShort(this.vz);
+		payload.putShort(this.xacc);
+		payload.putShort(this.yacc);
+		payload.putShort(this.zacc);
+	}
+
     /**
      * Decode a hil_state message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_hwstatus extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_HWSTATUS = 165;
 	public static final int MAVLINK_MSG_LENGTH = 3;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_HWSTATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_hwstatus(packet);
+		}
+	};
 	
 
  	/**
@@ -30,16 +42,23 @@ public class msg_hwstatus extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_HWSTATUS;
-		packet.payload.putShort(Vcc);
-		packet.payload.putByte(I2Cerr);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.Vcc);
+		payload.putByte(this.I2Cerr);
+	}
+
     /**
      * Decode a hwstatus message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -15,6 +16,17 @@ public class msg_limits_status extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_LIMITS_STATUS = 167;
 	public static final int MAVLINK_MSG_LENGTH = 22;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_LIMITS_STATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_limits_status(packet);
+		}
+	};
 	
 
  	/**
@@ -59,23 +71,30 @@ public class msg_limits_status extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_LIMITS_STATUS;
-		packet.payload.putInt(last_trigger);
-		packet.payload.putInt(last_action);
-		packet.payload.putInt(last_recovery);
-		packet.payload.putInt(last_clear);
-		packet.payload.putShort(breach_count);
-		packet.payload.putByte(limits_state);
-		packet.payload.putByte(mods_enabled);
-		packet.payload.putByte(mods_required);
-		packet.payload.putByte(mods_triggered);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.last_trigger);
+		payload.putInt(this.last_action);
+		payload.putInt(this.last_recovery);
+		payload.putInt(this.last_clear);
+		payload.putShort(this.breach_count);
+		payload.putByte(this.limits_state);
+		payload.putByte(this.mods_enabled);
+		payload.putByte(this.mods_required);
+		payload.putByte(this.mods_triggered);
+	}
+
     /**
      * Decode a limits_status message into this class fields
      *
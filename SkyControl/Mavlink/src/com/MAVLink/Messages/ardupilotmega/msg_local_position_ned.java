@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_local_position_ned extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_LOCAL_POSITION_NED = 32;
 	public static final int MAVLINK_MSG_LENGTH = 28;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_LOCAL_POSITION_NED;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_local_position_ned(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_local_position_ned extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_LOCAL_POSITION_NED;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putFloat(x);
-		packet.payload.putFloat(y);
-		packet.payload.putFloat(z);
-		packet.payload.putFloat(vx);
-		packet.payload.putFloat(vy);
-		packet.payload.putFloat(vz);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putFloat(this.x);
+		payload.putFloat(this.y);
+		payload.putFloat(this.z);
+		payload.putFloat(this.vx);
+		payload.putFloat(this.vy);
+		payload.putFloat(this.vz);
+	}
+
     /**
      * Decode a local_position_ned message into this class fields
      *
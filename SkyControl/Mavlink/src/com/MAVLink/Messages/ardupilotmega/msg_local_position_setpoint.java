@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_local_position_setpoint extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT = 51;
 	public static final int MAVLINK_MSG_LENGTH = 17;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_local_position_setpoint(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_local_position_setpoint extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT;
-		packet.payload.putFloat(x);
-		packet.payload.putFloat(y);
-		packet.payload.putFloat(z);
-		packet.payload.putFloat(yaw);
-		packet.payload.putByte(coordinate_frame);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.x);
+		payload.putFloat(this.y);
+		payload.putFloat(this.z);
+		payload.putFloat(this.yaw);
+		payload.putByte(this.coordinate_frame);
+	}
+
     /**
      * Decode a local_position_setpoint message into this class fields
      *
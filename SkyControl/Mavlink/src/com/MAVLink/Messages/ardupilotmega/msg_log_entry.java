@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_log_entry extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_LOG_ENTRY = 118;
 	public static final int MAVLINK_MSG_LENGTH = 14;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_LOG_ENTRY;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_log_entry(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_log_entry extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_LOG_ENTRY;
-		packet.payload.putInt(time_utc);
-		packet.payload.putInt(size);
-		packet.payload.putShort(id);
-		packet.payload.putShort(num_logs);
-		packet.payload.putShort(last_log_num);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_utc);
+		payload.putInt(this.size);
+		payload.putShort(this.id);
+		payload.putShort(this.num_logs);
+		payload.putShort(this.last_log_num);
+	}
+
     /**
      * Decode a log_entry message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_log_request_data extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_LOG_REQUEST_DATA = 119;
 	public static final int MAVLINK_MSG_LENGTH = 12;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_LOG_REQUEST_DATA;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_log_request_data(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_log_request_data extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_LOG_REQUEST_DATA;
-		packet.payload.putInt(ofs);
-		packet.payload.putInt(count);
-		packet.payload.putShort(id);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.ofs);
+		payload.putInt(this.count);
+		payload.putShort(this.id);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+	}
+
     /**
      * Decode a log_request_data message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_manual_control extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_MANUAL_CONTROL = 69;
 	public static final int MAVLINK_MSG_LENGTH = 11;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_MANUAL_CONTROL;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_manual_control(packet);
+		}
+	};
 	
 
  	/**
@@ -46,20 +58,27 @@ public class msg_manual_control extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_MANUAL_CONTROL;
-		packet.payload.putShort(x);
-		packet.payload.putShort(y);
-		packet.payload.putShort(z);
-		packet.payload.putShort(r);
-		packet.payload.putShort(buttons);
-		packet.payload.putByte(target);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.x);
+		payload.putShort(this.y);
+		payload.putShort(this.z);
+		payload.putShort(this.r);
+		payload.putShort(this.buttons);
+		payload.putByte(this.target);
+	}
+
     /**
      * Decode a manual_control message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_manual_setpoint extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_MANUAL_SETPOINT = 81;
 	public static final int MAVLINK_MSG_LENGTH = 22;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_MANUAL_SETPOINT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_manual_setpoint(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_manual_setpoint extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_MANUAL_SETPOINT;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putFloat(roll);
-		packet.payload.putFloat(pitch);
-		packet.payload.putFloat(yaw);
-		packet.payload.putFloat(thrust);
-		packet.payload.putByte(mode_switch);
-		packet.payload.putByte(manual_override_switch);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putFloat(this.roll);
+		payload.putFloat(this.pitch);
+		payload.putFloat(this.yaw);
+		payload.putFloat(this.thrust);
+		payload.putByte(this.mode_switch);
+		payload.putByte(this.manual_override_switch);
+	}
+
     /**
      * Decode a manual_setpoint message into this class fields
      *
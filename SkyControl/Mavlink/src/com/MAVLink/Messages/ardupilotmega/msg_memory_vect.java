@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_memory_vect extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_MEMORY_VECT = 249;
 	public static final int MAVLINK_MSG_LENGTH = 36;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_MEMORY_VECT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_memory_vect(packet);
+		}
+	};
 	
 
  	/**
@@ -38,20 +50,27 @@ public class msg_memory_vect extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_MEMORY_VECT;
-		packet.payload.putShort(address);
-		packet.payload.putByte(ver);
-		packet.payload.putByte(type);
-		 for (int i = 0; i < value.length; i++) {
-                        packet.payload.putByte(value[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.address);
+		payload.putByte(this.ver);
+		payload.putByte(this.type);
+		 for (int i = 0; i < this.value.length; i++) {
+                        payload.putByte(this.value[i]);
+            }
+	}
+
     /**
      * Decode a memory_vect message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -15,6 +16,17 @@ public class msg_mission_item extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_MISSION_ITEM = 39;
 	public static final int MAVLINK_MSG_LENGTH = 37;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_MISSION_ITEM;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_mission_item(packet);
+		}
+	};
 	
 
  	/**
@@ -79,28 +91,35 @@ public class msg_mission_item extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_MISSION_ITEM;
-		packet.payload.putFloat(param1);
-		packet.payload.putFloat(param2);
-		packet.payload.putFloat(param3);
-		packet.payload.putFloat(param4);
-		packet.payload.putFloat(x);
-		packet.payload.putFloat(y);
-		packet.payload.putFloat(z);
-		packet.payload.putShort(seq);
-		packet.payload.putShort(command);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		packet.payload.putByte(frame);
-		packet.payload.putByte(current);
-		packet.payload.putByte(autocontinue);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.param1);
+		payload.putFloat(this.param2);
+		payload.putFloat(this.param3);
+		payload.putFloat(this.param4);
+		payload.putFloat(this.x);
+		payload.putFloat(this.y);
+		payload.putFloat(this.z);
+		payload.putShort(this.seq);
+		payload.putShort(this.command);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		payload.putByte(this.frame);
+		payload.putByte(this.current);
+		payload.putByte(this.autocontinue);
+	}
+
     /**
      * Decode a mission_item message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_mount_control extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_MOUNT_CONTROL = 157;
 	public static final int MAVLINK_MSG_LENGTH = 15;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_MOUNT_CONTROL;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_mount_control(packet);
+		}
+	};
 	
 
  	/**
@@ -46,20 +58,27 @@ public class msg_mount_control extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_MOUNT_CONTROL;
-		packet.payload.putInt(input_a);
-		packet.payload.putInt(input_b);
-		packet.payload.putInt(input_c);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		packet.payload.putByte(save_position);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.input_a);
+		payload.putInt(this.input_b);
+		payload.putInt(this.input_c);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		payload.putByte(this.save_position);
+	}
+
     /**
      * Decode a mount_control message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_named_value_float extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_NAMED_VALUE_FLOAT = 251;
 	public static final int MAVLINK_MSG_LENGTH = 18;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_NAMED_VALUE_FLOAT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_named_value_float(packet);
+		}
+	};
 	
 
  	/**
@@ -34,19 +46,26 @@ public class msg_named_value_float extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_NAMED_VALUE_FLOAT;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putFloat(value);
-		 for (int i = 0; i < name.length; i++) {
-                        packet.payload.putChar(name[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putFloat(this.value);
+		 for (int i = 0; i < this.name.length; i++) {
+                        payload.putChar(this.name[i]);
+            }
+	}
+
     /**
      * Decode a named_value_float message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_nav_controller_output extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT = 62;
 	public static final int MAVLINK_MSG_LENGTH = 26;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_nav_controller_output(packet);
+		}
+	};
 	
 
  	/**
@@ -54,22 +66,29 @@ public class msg_nav_controller_output extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT;
-		packet.payload.putFloat(nav_roll);
-		packet.payload.putFloat(nav_pitch);
-		packet.payload.putFloat(alt_error);
-		packet.payload.putFloat(aspd_error);
-		packet.payload.putFloat(xtrack_error);
-		packet.payload.putShort(nav_bearing);
-		packet.payload.putShort(target_bearing);
-		packet.payload.putShort(wp_dist);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.nav_roll);
+		payload.putFloat(this.nav_pitch);
+		payload.putFloat(this.alt_error);
+		payload.putFloat(this.aspd_error);
+		payload.putFloat(this.xtrack_error);
+		payload.putShort(this.nav_bearing);
+		payload.putShort(this.target_bearing);
+		payload.putShort(this.wp_dist);
+	}
+
     /**
      * Decode a nav_controller_output message into this class fields
      *
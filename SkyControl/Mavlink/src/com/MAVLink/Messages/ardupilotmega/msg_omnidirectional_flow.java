@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_omnidirectional_flow extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW = 106;
 	public static final int MAVLINK_MSG_LENGTH = 54;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_omnidirectional_flow(packet);
+		}
+	};
 	
 
  	/**
@@ -46,22 +58,29 @@ public class msg_omnidirectional_flow extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW;
-		packet.payload.putLong(time_usec);
-		packet.payload.putFloat(front_distance_m);
-		 for (int i = 0; i < left.length; i++) {
-                        packet.payload.putShort(left[i]);
+		packPayload(packet.payload);
+		return packet;		
+	}
+
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putFloat(this.front_distance_m);
+		 for (int i = 0; i < this.left.length; i++) {
+                        payload.putShort(this.left[i]);
             }
-		 for (int i = 0; i < right.length; i++) {
-                        packet.payload.putShort(right[i]);
+		 for (int i = 0; i < this.right.length; i++) {
+                        payload.putShort(this.right[i]);
             }
-		packet.payload.putByte(sensor_id);
-		packet.payload.putByte(quality);
-		return packet;		
+		payload.putByte(this.sensor_id);
+		payload.putByte(this.quality);
 	}
 
     /**
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_param_request_read extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_PARAM_REQUEST_READ = 20;
 	public static final int MAVLINK_MSG_LENGTH = 20;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_PARAM_REQUEST_READ;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_param_request_read(packet);
+		}
+	};
 	
 
  	/**
@@ -38,20 +50,27 @@ public class msg_param_request_read extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_PARAM_REQUEST_READ;
-		packet.payload.putShort(param_index);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		 for (int i = 0; i < param_id.length; i++) {
-                        packet.payload.putChar(param_id[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.param_index);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		 for (int i = 0; i < this.param_id.length; i++) {
+                        payload.putChar(this.param_id[i]);
+            }
+	}
+
     /**
      * Decode a param_request_read message into this class fields
      *
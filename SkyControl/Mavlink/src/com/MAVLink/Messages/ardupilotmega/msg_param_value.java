@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_param_value extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_PARAM_VALUE = 22;
 	public static final int MAVLINK_MSG_LENGTH = 25;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_PARAM_VALUE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_param_value(packet);
+		}
+	};
 	
 
  	/**
@@ -42,21 +54,28 @@ public class msg_param_value extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_PARAM_VALUE;
-		packet.payload.putFloat(param_value);
-		packet.payload.putShort(param_count);
-		packet.payload.putShort(param_index);
-		 for (int i = 0; i < param_id.length; i++) {
-                        packet.payload.putChar(param_id[i]);
-            }
-		packet.payload.putByte(param_type);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.param_value);
+		payload.putShort(this.param_count);
+		payload.putShort(this.param_index);
+		 for (int i = 0; i < this.param_id.length; i++) {
+                        payload.putChar(this.param_id[i]);
+            }
+		payload.putByte(this.param_type);
+	}
+
     /**
      * Decode a param_value message into this class fields
      *
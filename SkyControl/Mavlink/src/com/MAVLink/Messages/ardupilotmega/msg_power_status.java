@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_power_status extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_POWER_STATUS = 125;
 	public static final int MAVLINK_MSG_LENGTH = 6;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_POWER_STATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_power_status(packet);
+		}
+	};
 	
 
  	/**
@@ -34,17 +46,24 @@ public class msg_power_status extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_POWER_STATUS;
-		packet.payload.putShort(Vcc);
-		packet.payload.putShort(Vservo);
-		packet.payload.putShort(flags);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.Vcc);
+		payload.putShort(this.Vservo);
+		payload.putShort(this.flags);
+	}
+
     /**
      * Decode a power_status message into this class fields
      *
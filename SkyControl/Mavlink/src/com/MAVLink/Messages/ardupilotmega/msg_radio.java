@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_radio extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_RADIO = 166;
 	public static final int MAVLINK_MSG_LENGTH = 9;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_RADIO;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_radio(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_radio extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_RADIO;
-		packet.payload.putShort(rxerrors);
-		packet.payload.putShort(fixed);
-		packet.payload.putByte(rssi);
-		packet.payload.putByte(remrssi);
-		packet.payload.putByte(txbuf);
-		packet.payload.putByte(noise);
-		packet.payload.putByte(remnoise);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.rxerrors);
+		payload.putShort(this.fixed);
+		payload.putByte(this.rssi);
+		payload.putByte(this.remrssi);
+		payload.putByte(this.txbuf);
+		payload.putByte(this.noise);
+		payload.putByte(this.remnoise);
+	}
+
     /**
      * Decode a radio message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_rally_point extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_RALLY_POINT = 175;
 	public static final int MAVLINK_MSG_LENGTH = 19;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_RALLY_POINT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_rally_point(packet);
+		}
+	};
 	
 
  	/**
@@ -62,24 +74,31 @@ public class msg_rally_point extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_RALLY_POINT;
-		packet.payload.putInt(lat);
-		packet.payload.putInt(lng);
-		packet.payload.putShort(alt);
-		packet.payload.putShort(break_alt);
-		packet.payload.putShort(land_dir);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
-		packet.payload.putByte(idx);
-		packet.payload.putByte(count);
-		packet.payload.putByte(flags);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.lat);
+		payload.putInt(this.lng);
+		payload.putShort(this.alt);
+		payload.putShort(this.break_alt);
+		payload.putShort(this.land_dir);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+		payload.putByte(this.idx);
+		payload.putByte(this.count);
+		payload.putByte(this.flags);
+	}
+
     /**
      * Decode a rally_point message into this class fields
      *
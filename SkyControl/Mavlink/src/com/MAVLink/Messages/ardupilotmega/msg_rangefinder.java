@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_rangefinder extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_RANGEFINDER = 173;
 	public static final int MAVLINK_MSG_LENGTH = 8;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_RANGEFINDER;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_rangefinder(packet);
+		}
+	};
 	
 
  	/**
@@ -30,16 +42,23 @@ public class msg_rangefinder extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_RANGEFINDER;
-		packet.payload.putFloat(distance);
-		packet.payload.putFloat(voltage);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.distance);
+		payload.putFloat(this.voltage);
+	}
+
     /**
      * Decode a rangefinder message into this class fields
      *
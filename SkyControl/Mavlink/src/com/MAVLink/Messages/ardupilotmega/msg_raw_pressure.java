@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_raw_pressure extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_RAW_PRESSURE = 28;
 	public static final int MAVLINK_MSG_LENGTH = 16;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_RAW_PRESSURE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_raw_pressure(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_raw_pressure extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_RAW_PRESSURE;
-		packet.payload.putLong(time_usec);
-		packet.payload.putShort(press_abs);
-		packet.payload.putShort(press_diff1);
-		packet.payload.putShort(press_diff2);
-		packet.payload.putShort(temperature);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putLong(this.time_usec);
+		payload.putShort(this.press_abs);
+		payload.putShort(this.press_diff1);
+		payload.putShort(this.press_diff2);
+		payload.putShort(this.temperature);
+	}
+
     /**
      * Decode a raw_pressure message into this class fields
      *
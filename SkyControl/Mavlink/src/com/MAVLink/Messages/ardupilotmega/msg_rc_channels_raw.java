@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_rc_channels_raw extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_RC_CHANNELS_RAW = 35;
 	public static final int MAVLINK_MSG_LENGTH = 22;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_RC_CHANNELS_RAW;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_rc_channels_raw(packet);
+		}
+	};
 	
 
  	/**
@@ -66,25 +78,32 @@ public class msg_rc_channels_raw extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_RC_CHANNELS_RAW;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putShort(chan1_raw);
-		packet.payload.putShort(chan2_raw);
-		packet.payload.putShort(chan3_raw);
-		packet.payload.putShort(chan4_raw);
-		packet.payload.putShort(chan5_raw);
-		packet.payload.putShort(chan6_raw);
-		packet.payload.putShort(chan7_raw);
-		packet.payload.putShort(chan8_raw);
-		packet.payload.putByte(port);
-		packet.payload.putByte(rssi);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putShort(this.chan1_raw);
+		payload.putShort(this.chan2_raw);
+		payload.putShort(this.chan3_raw);
+		payload.putShort(this.chan4_raw);
+		payload.putShort(this.chan5_raw);
+		payload.putShort(this.chan6_raw);
+		payload.putShort(this.chan7_raw);
+		payload.putShort(this.chan8_raw);
+		payload.putByte(this.port);
+		payload.putByte(this.rssi);
+	}
+
     /**
      * Decode a rc_channels_raw message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_rc_channels_scaled extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_RC_CHANNELS_SCALED = 34;
 	public static final int MAVLINK_MSG_LENGTH = 22;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_RC_CHANNELS_SCALED;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_rc_channels_scaled(packet);
+		}
+	};
 	
 
  	/**
@@ -66,25 +78,32 @@ public class msg_rc_channels_scaled extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_RC_CHANNELS_SCALED;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putShort(chan1_scaled);
-		packet.payload.putShort(chan2_scaled);
-		packet.payload.putShort(chan3_scaled);
-		packet.payload.putShort(chan4_scaled);
-		packet.payload.putShort(chan5_scaled);
-		packet.payload.putShort(chan6_scaled);
-		packet.payload.putShort(chan7_scaled);
-		packet.payload.putShort(chan8_scaled);
-		packet.payload.putByte(port);
-		packet.payload.putByte(rssi);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putShort(this.chan1_scaled);
+		payload.putShort(this.chan2_scaled);
+		payload.putShort(this.chan3_scaled);
+		payload.putShort(this.chan4_scaled);
+		payload.putShort(this.chan5_scaled);
+		payload.putShort(this.chan6_scaled);
+		payload.putShort(this.chan7_scaled);
+		payload.putShort(this.chan8_scaled);
+		payload.putByte(this.port);
+		payload.putByte(this.rssi);
+	}
+
     /**
      * Decode a rc_channels_scaled message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_roll_pitch_yaw_rates_thrust_setpoint extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT = 80;
 	public static final int MAVLINK_MSG_LENGTH = 20;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_roll_pitch_yaw_rates_thrust_setpoint(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_roll_pitch_yaw_rates_thrust_setpoint extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putFloat(roll_rate);
-		packet.payload.putFloat(pitch_rate);
-		packet.payload.putFloat(yaw_rate);
-		packet.payload.putFloat(thrust);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putFloat(this.roll_rate);
+		payload.putFloat(this.pitch_rate);
+		payload.putFloat(this.yaw_rate);
+		payload.putFloat(this.thrust);
+	}
+
     /**
      * Decode a roll_pitch_yaw_rates_thrust_setpoint message into this class fields
      *
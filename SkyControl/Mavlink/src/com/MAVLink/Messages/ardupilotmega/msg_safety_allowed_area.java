@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_safety_allowed_area extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA = 55;
 	public static final int MAVLINK_MSG_LENGTH = 25;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_safety_allowed_area(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_safety_allowed_area extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA;
-		packet.payload.putFloat(p1x);
-		packet.payload.putFloat(p1y);
-		packet.payload.putFloat(p1z);
-		packet.payload.putFloat(p2x);
-		packet.payload.putFloat(p2y);
-		packet.payload.putFloat(p2z);
-		packet.payload.putByte(frame);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.p1x);
+		payload.putFloat(this.p1y);
+		payload.putFloat(this.p1z);
+		payload.putFloat(this.p2x);
+		payload.putFloat(this.p2y);
+		payload.putFloat(this.p2z);
+		payload.putByte(this.frame);
+	}
+
     /**
      * Decode a safety_allowed_area message into this class fields
      *
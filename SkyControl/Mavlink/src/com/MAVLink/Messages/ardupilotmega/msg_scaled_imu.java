@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_scaled_imu extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SCALED_IMU = 26;
 	public static final int MAVLINK_MSG_LENGTH = 22;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SCALED_IMU;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_scaled_imu(packet);
+		}
+	};
 	
 
  	/**
@@ -62,24 +74,31 @@ public class msg_scaled_imu extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SCALED_IMU;
-		packet.payload.putInt(time_boot_ms);
-		packet.payload.putShort(xacc);
-		packet.payload.putShort(yacc);
-		packet.payload.putShort(zacc);
-		packet.payload.putShort(xgyro);
-		packet.payload.putShort(ygyro);
-		packet.payload.putShort(zgyro);
-		packet.payload.putShort(xmag);
-		packet.payload.putShort(ymag);
-		packet.payload.putShort(zmag);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_boot_ms);
+		payload.putShort(this.xacc);
+		payload.putShort(this.yacc);
+		payload.putShort(this.zacc);
+		payload.putShort(this.xgyro);
+		payload.putShort(this.ygyro);
+		payload.putShort(this.zgyro);
+		payload.putShort(this.xmag);
+		payload.putShort(this.ymag);
+		payload.putShort(this.zmag);
+	}
+
     /**
      * Decode a scaled_imu message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -15,6 +16,17 @@ public class msg_sensor_offsets extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SENSOR_OFFSETS = 150;
 	public static final int MAVLINK_MSG_LENGTH = 42;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SENSOR_OFFSETS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_sensor_offsets(packet);
+		}
+	};
 	
 
  	/**
@@ -71,26 +83,33 @@ public class msg_sensor_offsets extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SENSOR_OFFSETS;
-		packet.payload.putFloat(mag_declination);
-		packet.payload.putInt(raw_press);
-		packet.payload.putInt(raw_temp);
-		packet.payload.putFloat(gyro_cal_x);
-		packet.payload.putFloat(gyro_cal_y);
-		packet.payload.putFloat(gyro_cal_z);
-		packet.payload.putFloat(accel_cal_x);
-		packet.payload.putFloat(accel_cal_y);
-		packet.payload.putFloat(accel_cal_z);
-		packet.payload.putShort(mag_ofs_x);
-		packet.payload.putShort(mag_ofs_y);
-		packet.payload.putShort(mag_ofs_z);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.mag_declination);
+		payload.putInt(this.raw_press);
+		payload.putInt(this.raw_temp);
+		payload.putFloat(this.gyro_cal_x);
+		payload.putFloat(this.gyro_cal_y);
+		payload.putFloat(this.gyro_cal_z);
+		payload.putFloat(this.accel_cal_x);
+		payload.putFloat(this.accel_cal_y);
+		payload.putFloat(this.accel_cal_z);
+		payload.putShort(this.mag_ofs_x);
+		payload.putShort(this.mag_ofs_y);
+		payload.putShort(this.mag_ofs_z);
+	}
+
     /**
      * Decode a sensor_offsets message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_servo_output_raw extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SERVO_OUTPUT_RAW = 36;
 	public static final int MAVLINK_MSG_LENGTH = 21;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SERVO_OUTPUT_RAW;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_servo_output_raw(packet);
+		}
+	};
 	
 
  	/**
@@ -62,24 +74,31 @@ public class msg_servo_output_raw extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SERVO_OUTPUT_RAW;
-		packet.payload.putInt(time_usec);
-		packet.payload.putShort(servo1_raw);
-		packet.payload.putShort(servo2_raw);
-		packet.payload.putShort(servo3_raw);
-		packet.payload.putShort(servo4_raw);
-		packet.payload.putShort(servo5_raw);
-		packet.payload.putShort(servo6_raw);
-		packet.payload.putShort(servo7_raw);
-		packet.payload.putShort(servo8_raw);
-		packet.payload.putByte(port);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.time_usec);
+		payload.putShort(this.servo1_raw);
+		payload.putShort(this.servo2_raw);
+		payload.putShort(this.servo3_raw);
+		payload.putShort(this.servo4_raw);
+		payload.putShort(this.servo5_raw);
+		payload.putShort(this.servo6_raw);
+		payload.putShort(this.servo7_raw);
+		payload.putShort(this.servo8_raw);
+		payload.putByte(this.port);
+	}
+
     /**
      * Decode a servo_output_raw message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_set_mag_offsets extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SET_MAG_OFFSETS = 151;
 	public static final int MAVLINK_MSG_LENGTH = 8;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SET_MAG_OFFSETS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_set_mag_offsets(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_set_mag_offsets extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SET_MAG_OFFSETS;
-		packet.payload.putShort(mag_ofs_x);
-		packet.payload.putShort(mag_ofs_y);
-		packet.payload.putShort(mag_ofs_z);
-		packet.payload.putByte(target_system);
-		packet.payload.putByte(target_component);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.mag_ofs_x);
+		payload.putShort(this.mag_ofs_y);
+		payload.putShort(this.mag_ofs_z);
+		payload.putByte(this.target_system);
+		payload.putByte(this.target_component);
+	}
+
     /**
      * Decode a set_mag_offsets message into this class fields
      *
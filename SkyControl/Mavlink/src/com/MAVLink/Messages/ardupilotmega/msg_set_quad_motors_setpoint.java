@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_set_quad_motors_setpoint extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT = 60;
 	public static final int MAVLINK_MSG_LENGTH = 9;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_set_quad_motors_setpoint(packet);
+		}
+	};
 	
 
  	/**
@@ -42,19 +54,26 @@ public class msg_set_quad_motors_setpoint extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT;
-		packet.payload.putShort(motor_front_nw);
-		packet.payload.putShort(motor_right_ne);
-		packet.payload.putShort(motor_back_se);
-		packet.payload.putShort(motor_left_sw);
-		packet.payload.putByte(target_system);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putShort(this.motor_front_nw);
+		payload.putShort(this.motor_right_ne);
+		payload.putShort(this.motor_back_se);
+		payload.putShort(this.motor_left_sw);
+		payload.putByte(this.target_system);
+	}
+
     /**
      * Decode a set_quad_motors_setpoint message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_set_quad_swarm_roll_pitch_yaw_thrust extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST = 61;
 	public static final int MAVLINK_MSG_LENGTH = 34;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_set_quad_swarm_roll_pitch_yaw_thrust(packet);
+		}
+	};
 	
 
  	/**
@@ -46,26 +58,33 @@ public class msg_set_quad_swarm_roll_pitch_yaw_thrust extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST;
-		 for (int i = 0; i < roll.length; i++) {
-                        packet.payload.putShort(roll[i]);
+		packPayload(packet.payload);
+		return packet;		
+	}
+
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		 for (int i = 0; i < this.roll.length; i++) {
+                        payload.putShort(this.roll[i]);
             }
-		 for (int i = 0; i < pitch.length; i++) {
-                        packet.payload.putShort(pitch[i]);
+		 for (int i = 0; i < this.pitch.length; i++) {
+                        payload.putShort(this.pitch[i]);
             }
-		 for (int i = 0; i < yaw.length; i++) {
-                        packet.payload.putShort(yaw[i]);
+		 for (int i = 0; i < this.yaw.length; i++) {
+                        payload.putShort(this.yaw[i]);
             }
-		 for (int i = 0; i < thrust.length; i++) {
-                        packet.payload.putShort(thrust[i]);
+		 for (int i = 0; i < this.thrust.length; i++) {
+                        payload.putShort(this.thrust[i]);
             }
-		packet.payload.putByte(group);
-		packet.payload.putByte(mode);
-		return packet;		
+		payload.putByte(this.group);
+		payload.putByte(this.mode);
 	}
 
     /**
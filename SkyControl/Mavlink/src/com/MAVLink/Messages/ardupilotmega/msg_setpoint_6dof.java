@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_setpoint_6dof extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SETPOINT_6DOF = 149;
 	public static final int MAVLINK_MSG_LENGTH = 25;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SETPOINT_6DOF;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_setpoint_6dof(packet);
+		}
+	};
 	
 
  	/**
@@ -50,21 +62,28 @@ public class msg_setpoint_6dof extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SETPOINT_6DOF;
-		packet.payload.putFloat(trans_x);
-		packet.payload.putFloat(trans_y);
-		packet.payload.putFloat(trans_z);
-		packet.payload.putFloat(rot_x);
-		packet.payload.putFloat(rot_y);
-		packet.payload.putFloat(rot_z);
-		packet.payload.putByte(target_system);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.trans_x);
+		payload.putFloat(this.trans_y);
+		payload.putFloat(this.trans_z);
+		payload.putFloat(this.rot_x);
+		payload.putFloat(this.rot_y);
+		payload.putFloat(this.rot_z);
+		payload.putByte(this.target_system);
+	}
+
     /**
      * Decode a setpoint_6dof message into this class fields
      *
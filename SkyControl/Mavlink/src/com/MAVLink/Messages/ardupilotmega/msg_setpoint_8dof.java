@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_setpoint_8dof extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SETPOINT_8DOF = 148;
 	public static final int MAVLINK_MSG_LENGTH = 33;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SETPOINT_8DOF;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_setpoint_8dof(packet);
+		}
+	};
 	
 
  	/**
@@ -58,23 +70,30 @@ public class msg_setpoint_8dof extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SETPOINT_8DOF;
-		packet.payload.putFloat(val1);
-		packet.payload.putFloat(val2);
-		packet.payload.putFloat(val3);
-		packet.payload.putFloat(val4);
-		packet.payload.putFloat(val5);
-		packet.payload.putFloat(val6);
-		packet.payload.putFloat(val7);
-		packet.payload.putFloat(val8);
-		packet.payload.putByte(target_system);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.val1);
+		payload.putFloat(this.val2);
+		payload.putFloat(this.val3);
+		payload.putFloat(this.val4);
+		payload.putFloat(this.val5);
+		payload.putFloat(this.val6);
+		payload.putFloat(this.val7);
+		payload.putFloat(this.val8);
+		payload.putByte(this.target_system);
+	}
+
     /**
      * Decode a setpoint_8dof message into this class fields
      *
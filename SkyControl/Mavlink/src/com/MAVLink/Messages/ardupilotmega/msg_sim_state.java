@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_sim_state extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SIM_STATE = 108;
 	public static final int MAVLINK_MSG_LENGTH = 84;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SIM_STATE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_sim_state(packet);
+		}
+	};
 	
 
  	/**
@@ -106,35 +118,42 @@ public class msg_sim_state extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SIM_STATE;
-		packet.payload.putFloat(q1);
-		packet.payload.putFloat(q2);
-		packet.payload.putFloat(q3);
-		packet.payload.putFloat(q4);
-		packet.payload.putFloat(roll);
-		packet.payload.putFloat(pitch);
-		packet.payload.putFloat(yaw);
-		packet.payload.putFloat(xacc);
-		packet.payload.putFloat(yacc);
-		packet.payload.putFloat(zacc);
-		packet.payload.putFloat(xgyro);
-		packet.payload.putFloat(ygyro);
-		packet.payload.putFloat(zgyro);
-		packet.payload.putFloat(lat);
-		packet.payload.putFloat(lon);
-		packet.payload.putFloat(alt);
-		packet.payload.putFloat(std_dev_horz);
-		packet.payload.putFloat(std_dev_vert);
-		packet.payload.putFloat(vn);
-		packet.payload.putFloat(ve);
-		packet.payload.putFloat(vd);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.q1);
+		payload.putFloat(this.q2);
+		payload.putFloat(this.q3);
+		payload.putFloat(this.q4);
+		payload.putFloat(this.roll);
+		payload.putFloat(this.pitch);
+		payload.putFloat(this.yaw);
+		payload.putFloat(this.xacc);
+		payload.putFloat(this.yacc);
+		payload.putFloat(this.zacc);
+		payload.putFloat(this.xgyro);
+		payload.putFloat(this.ygyro);
+		payload.putFloat(this.zgyro);
+		payload.putFloat(this.lat);
+		payload.putFloat(this.lon);
+		payload.putFloat(this.alt);
+		payload.putFloat(this.std_dev_horz);
+		payload.putFloat(this.std_dev_vert);
+		payload.putFloat(this.vn);
+		payload.putFloat(this.ve);
+		payload.putFloat(this.vd);
+	}
+
     /**
      * Decode a sim_state message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_simstate extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SIMSTATE = 164;
 	public static final int MAVLINK_MSG_LENGTH = 44;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SIMSTATE;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_simstate(packet);
+		}
+	};
 	
 
  	/**
@@ -66,25 +78,32 @@ public class msg_simstate extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SIMSTATE;
-		packet.payload.putFloat(roll);
-		packet.payload.putFloat(pitch);
-		packet.payload.putFloat(yaw);
-		packet.payload.putFloat(xacc);
-		packet.payload.putFloat(yacc);
-		packet.payload.putFloat(zacc);
-		packet.payload.putFloat(xgyro);
-		packet.payload.putFloat(ygyro);
-		packet.payload.putFloat(zgyro);
-		packet.payload.putInt(lat);
-		packet.payload.putInt(lng);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.roll);
+		payload.putFloat(this.pitch);
+		payload.putFloat(this.yaw);
+		payload.putFloat(this.xacc);
+		payload.putFloat(this.yacc);
+		payload.putFloat(this.zacc);
+		payload.putFloat(this.xgyro);
+		payload.putFloat(this.ygyro);
+		payload.putFloat(this.zgyro);
+		payload.putInt(this.lat);
+		payload.putInt(this.lng);
+	}
+
     /**
      * Decode a simstate message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_state_correction extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_STATE_CORRECTION = 64;
 	public static final int MAVLINK_MSG_LENGTH = 36;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_STATE_CORRECTION;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_state_correction(packet);
+		}
+	};
 	
 
  	/**
@@ -58,23 +70,30 @@ public class msg_state_correction extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_STATE_CORRECTION;
-		packet.payload.putFloat(xErr);
-		packet.payload.putFloat(yErr);
-		packet.payload.putFloat(zErr);
-		packet.payload.putFloat(rollErr);
-		packet.payload.putFloat(pitchErr);
-		packet.payload.putFloat(yawErr);
-		packet.payload.putFloat(vxErr);
-		packet.payload.putFloat(vyErr);
-		packet.payload.putFloat(vzErr);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.xErr);
+		payload.putFloat(this.yErr);
+		payload.putFloat(this.zErr);
+		payload.putFloat(this.rollErr);
+		payload.putFloat(this.pitchErr);
+		payload.putFloat(this.yawErr);
+		payload.putFloat(this.vxErr);
+		payload.putFloat(this.vyErr);
+		payload.putFloat(this.vzErr);
+	}
+
     /**
      * Decode a state_correction message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_statustext extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_STATUSTEXT = 253;
 	public static final int MAVLINK_MSG_LENGTH = 51;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_STATUSTEXT;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_statustext(packet);
+		}
+	};
 	
 
  	/**
@@ -30,18 +42,25 @@ public class msg_statustext extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_STATUSTEXT;
-		packet.payload.putByte(severity);
-		 for (int i = 0; i < text.length; i++) {
-                        packet.payload.putChar(text[i]);
-            }
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putByte(this.severity);
+		 for (int i = 0; i < this.text.length; i++) {
+                        payload.putChar(this.text[i]);
+            }
+	}
+
     /**
      * Decode a statustext message into this class fields
      *
@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_sys_status extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_SYS_STATUS = 1;
 	public static final int MAVLINK_MSG_LENGTH = 31;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_SYS_STATUS;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_sys_status(packet);
+		}
+	};
 	
 
  	/**
@@ -74,27 +86,34 @@ public class msg_sys_status extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_SYS_STATUS;
-		packet.payload.putInt(onboard_control_sensors_present);
-		packet.payload.putInt(onboard_control_sensors_enabled);
-		packet.payload.putInt(onboard_control_sensors_health);
-		packet.payload.putShort(load);
-		packet.payload.putShort(voltage_battery);
-		packet.payload.putShort(current_battery);
-		packet.payload.putShort(drop_rate_comm);
-		packet.payload.putShort(errors_comm);
-		packet.payload.putShort(errors_count1);
-		packet.payload.putShort(errors_count2);
-		packet.payload.putShort(errors_count3);
-		packet.payload.putShort(errors_count4);
-		packet.payload.putByte(battery_remaining);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putInt(this.onboard_control_sensors_present);
+		payload.putInt(this.onboard_control_sensors_enabled);
+		payload.putInt(this.onboard_control_sensors_health);
+		payload.putShort(this.load);
+		payload.putShort(this.voltage_battery);
+		payload.putShort(this.current_battery);
+		payload.putShort(this.drop_rate_comm);
+		payload.putShort(this.errors_comm);
+		payload.putShort(this.errors_count1);
+		payload.putShort(this.errors_count2);
+		payload.putShort(this.errors_count3);
+		payload.putShort(this.errors_count4);
+		payload.putByte(this.battery_remaining);
+	}
+
     /**
      * Decode a sys_status message into this class fields
      *
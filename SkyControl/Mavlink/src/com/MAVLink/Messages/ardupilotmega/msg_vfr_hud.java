@@ -2,6 +2,7 @@
 package com.MAVLink.Messages.ardupilotmega;
 
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageFactory;
 import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkPayload;
 //import android.util.Log;
@@ -14,6 +15,17 @@ public class msg_vfr_hud extends MAVLinkMessage{
 	public static final int MAVLINK_MSG_ID_VFR_HUD = 74;
 	public static final int MAVLINK_MSG_LENGTH = 20;
 	private static final long serialVersionUID = MAVLINK_MSG_ID_VFR_HUD;
+
+	/**
+	 * Creates the message from received packets, see
+	 * {@link com.MAVLink.Messages.MAVLinkMessageRegistry}.
+	 */
+	public static final MAVLinkMessageFactory FACTORY = new MAVLinkMessageFactory() {
+		@Override
+		public MAVLinkMessage create(MAVLinkPacket packet) {
+			return new msg_vfr_hud(packet);
+		}
+	};
 	
 
  	/**
@@ -46,20 +58,27 @@ public class msg_vfr_hud extends MAVLinkMessage{
 	 * @return
 	 */
 	public MAVLinkPacket pack(){
-		MAVLinkPacket packet = new MAVLinkPacket();
+		MAVLinkPacket packet = new MAVLinkPacket(MAVLINK_MSG_LENGTH);
 		packet.len = MAVLINK_MSG_LENGTH;
 		packet.sysid = 255;
 		packet.compid = 190;
 		packet.msgid = MAVLINK_MSG_ID_VFR_HUD;
-		packet.payload.putFloat(airspeed);
-		packet.payload.putFloat(groundspeed);
-		packet.payload.putFloat(alt);
-		packet.payload.putFloat(climb);
-		packet.payload.putShort(heading);
-		packet.payload.putShort(throttle);
+		packPayload(packet.payload);
 		return packet;		
 	}
 
+	/**
+	 * Writes the fields of this message to the payload
+	 */
+	public void packPayload(MAVLinkPayload payload){
+		payload.putFloat(this.airspeed);
+		payload.putFloat(this.groundspeed);
+		payload.putFloat(this.alt);
+		payload.putFloat(this.climb);
+		payload.putShort(this.heading);
+		payload.putShort(this.throttle);
+	}
+
     /**
      * Decode a vfr_hud message into this class fields
      *
@@ -0,0 +1,60 @@
+// MESSAGE AHRS2 VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_ahrs2;
+
+/**
+* View of AHRS2, decodes the fields directly from the received packet.
+* Status of secondary AHRS filter if available
+*/
+public class Ahrs2View extends MAVLinkView {
+
+    public Ahrs2View(){
+        super(msg_ahrs2.MAVLINK_MSG_ID_AHRS2);
+    }
+
+    @Override
+    public Ahrs2View wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Roll angle (rad)
+    */
+    public float getRoll(){
+        return getFloat(0);
+    }
+    /**
+    * Pitch angle (rad)
+    */
+    public float getPitch(){
+        return getFloat(4);
+    }
+    /**
+    * Yaw angle (rad)
+    */
+    public float getYaw(){
+        return getFloat(8);
+    }
+    /**
+    * Altitude (MSL)
+    */
+    public float getAltitude(){
+        return getFloat(12);
+    }
+    /**
+    * Latitude in degrees * 1E7
+    */
+    public int getLat(){
+        return getInt(16);
+    }
+    /**
+    * Longitude in degrees * 1E7
+    */
+    public int getLng(){
+        return getInt(20);
+    }
+}
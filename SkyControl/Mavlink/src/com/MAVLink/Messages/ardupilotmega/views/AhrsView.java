@@ -0,0 +1,66 @@
+// MESSAGE AHRS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_ahrs;
+
+/**
+* View of AHRS, decodes the fields directly from the received packet.
+* Status of DCM attitude estimator
+*/
+public class AhrsView extends MAVLinkView {
+
+    public AhrsView(){
+        super(msg_ahrs.MAVLINK_MSG_ID_AHRS);
+    }
+
+    @Override
+    public AhrsView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * X gyro drift estimate rad/s
+    */
+    public float getOmegaix(){
+        return getFloat(0);
+    }
+    /**
+    * Y gyro drift estimate rad/s
+    */
+    public float getOmegaiy(){
+        return getFloat(4);
+    }
+    /**
+    * Z gyro drift estimate rad/s
+    */
+    public float getOmegaiz(){
+        return getFloat(8);
+    }
+    /**
+    * average accel_weight
+    */
+    public float getAccelWeight(){
+        return getFloat(12);
+    }
+    /**
+    * average renormalisation value
+    */
+    public float getRenormVal(){
+        return getFloat(16);
+    }
+    /**
+    * average error_roll_pitch value
+    */
+    public float getErrorRp(){
+        return getFloat(20);
+    }
+    /**
+    * average error_yaw value
+    */
+    public float getErrorYaw(){
+        return getFloat(24);
+    }
+}
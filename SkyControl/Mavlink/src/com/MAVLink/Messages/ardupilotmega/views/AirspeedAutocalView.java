@@ -0,0 +1,96 @@
+// MESSAGE AIRSPEED_AUTOCAL VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_airspeed_autocal;
+
+/**
+* View of AIRSPEED_AUTOCAL, decodes the fields directly from the received packet.
+* Airspeed auto-calibration
+*/
+public class AirspeedAutocalView extends MAVLinkView {
+
+    public AirspeedAutocalView(){
+        super(msg_airspeed_autocal.MAVLINK_MSG_ID_AIRSPEED_AUTOCAL);
+    }
+
+    @Override
+    public AirspeedAutocalView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * GPS velocity north m/s
+    */
+    public float getVx(){
+        return getFloat(0);
+    }
+    /**
+    * GPS velocity east m/s
+    */
+    public float getVy(){
+        return getFloat(4);
+    }
+    /**
+    * GPS velocity down m/s
+    */
+    public float getVz(){
+        return getFloat(8);
+    }
+    /**
+    * Differential pressure pascals
+    */
+    public float getDiffPressure(){
+        return getFloat(12);
+    }
+    /**
+    * Estimated to true airspeed ratio
+    */
+    public float getEas2Tas(){
+        return getFloat(16);
+    }
+    /**
+    * Airspeed ratio
+    */
+    public float getRatio(){
+        return getFloat(20);
+    }
+    /**
+    * EKF state x
+    */
+    public float getStateX(){
+        return getFloat(24);
+    }
+    /**
+    * EKF state y
+    */
+    public float getStateY(){
+        return getFloat(28);
+    }
+    /**
+    * EKF state z
+    */
+    public float getStateZ(){
+        return getFloat(32);
+    }
+    /**
+    * EKF Pax
+    */
+    public float getPax(){
+        return getFloat(36);
+    }
+    /**
+    * EKF Pby
+    */
+    public float getPby(){
+        return getFloat(40);
+    }
+    /**
+    * EKF Pcz
+    */
+    public float getPcz(){
+        return getFloat(44);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE AP_ADC VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_ap_adc;
+
+/**
+* View of AP_ADC, decodes the fields directly from the received packet.
+* raw ADC output
+*/
+public class ApAdcView extends MAVLinkView {
+
+    public ApAdcView(){
+        super(msg_ap_adc.MAVLINK_MSG_ID_AP_ADC);
+    }
+
+    @Override
+    public ApAdcView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * ADC output 1
+    */
+    public short getAdc1(){
+        return getShort(0);
+    }
+    /**
+    * ADC output 2
+    */
+    public short getAdc2(){
+        return getShort(2);
+    }
+    /**
+    * ADC output 3
+    */
+    public short getAdc3(){
+        return getShort(4);
+    }
+    /**
+    * ADC output 4
+    */
+    public short getAdc4(){
+        return getShort(6);
+    }
+    /**
+    * ADC output 5
+    */
+    public short getAdc5(){
+        return getShort(8);
+    }
+    /**
+    * ADC output 6
+    */
+    public short getAdc6(){
+        return getShort(10);
+    }
+}
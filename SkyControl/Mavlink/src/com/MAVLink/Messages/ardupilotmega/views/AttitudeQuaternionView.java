@@ -0,0 +1,72 @@
+// MESSAGE ATTITUDE_QUATERNION VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude_quaternion;
+
+/**
+* View of ATTITUDE_QUATERNION, decodes the fields directly from the received packet.
+* The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion.
+*/
+public class AttitudeQuaternionView extends MAVLinkView {
+
+    public AttitudeQuaternionView(){
+        super(msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION);
+    }
+
+    @Override
+    public AttitudeQuaternionView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Quaternion component 1
+    */
+    public float getQ1(){
+        return getFloat(4);
+    }
+    /**
+    * Quaternion component 2
+    */
+    public float getQ2(){
+        return getFloat(8);
+    }
+    /**
+    * Quaternion component 3
+    */
+    public float getQ3(){
+        return getFloat(12);
+    }
+    /**
+    * Quaternion component 4
+    */
+    public float getQ4(){
+        return getFloat(16);
+    }
+    /**
+    * Roll angular speed (rad/s)
+    */
+    public float getRollspeed(){
+        return getFloat(20);
+    }
+    /**
+    * Pitch angular speed (rad/s)
+    */
+    public float getPitchspeed(){
+        return getFloat(24);
+    }
+    /**
+    * Yaw angular speed (rad/s)
+    */
+    public float getYawspeed(){
+        return getFloat(28);
+    }
+}
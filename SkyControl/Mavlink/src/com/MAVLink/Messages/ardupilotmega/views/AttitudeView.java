@@ -0,0 +1,66 @@
+// MESSAGE ATTITUDE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+
+/**
+* View of ATTITUDE, decodes the fields directly from the received packet.
+* The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right).
+*/
+public class AttitudeView extends MAVLinkView {
+
+    public AttitudeView(){
+        super(msg_attitude.MAVLINK_MSG_ID_ATTITUDE);
+    }
+
+    @Override
+    public AttitudeView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Roll angle (rad, -pi..+pi)
+    */
+    public float getRoll(){
+        return getFloat(4);
+    }
+    /**
+    * Pitch angle (rad, -pi..+pi)
+    */
+    public float getPitch(){
+        return getFloat(8);
+    }
+    /**
+    * Yaw angle (rad, -pi..+pi)
+    */
+    public float getYaw(){
+        return getFloat(12);
+    }
+    /**
+    * Roll angular speed (rad/s)
+    */
+    public float getRollspeed(){
+        return getFloat(16);
+    }
+    /**
+    * Pitch angular speed (rad/s)
+    */
+    public float getPitchspeed(){
+        return getFloat(20);
+    }
+    /**
+    * Yaw angular speed (rad/s)
+    */
+    public float getYawspeed(){
+        return getFloat(24);
+    }
+}
@@ -0,0 +1,36 @@
+// MESSAGE AUTH_KEY VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_auth_key;
+
+/**
+* View of AUTH_KEY, decodes the fields directly from the received packet.
+* Emit an encrypted signature / key identifying this system. PLEASE NOTE: This protocol has been kept simple, so transmitting the key requires an encrypted channel for true safety.
+*/
+public class AuthKeyView extends MAVLinkView {
+
+    public AuthKeyView(){
+        super(msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY);
+    }
+
+    @Override
+    public AuthKeyView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * key
+    */
+    public char getKey(int index){
+        return getChar(0 + index * 1);
+    }
+    /**
+    * key
+    */
+    public String getKey(){
+        return getString(0, 32);
+    }
+}
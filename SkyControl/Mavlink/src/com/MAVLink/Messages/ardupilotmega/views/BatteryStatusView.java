@@ -0,0 +1,90 @@
+// MESSAGE BATTERY_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_battery_status;
+
+/**
+* View of BATTERY_STATUS, decodes the fields directly from the received packet.
+* Transmitte battery informations for a accu pack.
+*/
+public class BatteryStatusView extends MAVLinkView {
+
+    public BatteryStatusView(){
+        super(msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS);
+    }
+
+    @Override
+    public BatteryStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Consumed charge, in milliampere hours (1 = 1 mAh), -1: autopilot does not provide mAh consumption estimate
+    */
+    public int getCurrentConsumed(){
+        return getInt(0);
+    }
+    /**
+    * Consumed energy, in 100*Joules (intergrated U*I*dt)  (1 = 100 Joule), -1: autopilot does not provide energy consumption estimate
+    */
+    public int getEnergyConsumed(){
+        return getInt(4);
+    }
+    /**
+    * Battery voltage of cell 1, in millivolts (1 = 1 millivolt)
+    */
+    public short getVoltageCell1(){
+        return getShort(8);
+    }
+    /**
+    * Battery voltage of cell 2, in millivolts (1 = 1 millivolt), -1: no cell
+    */
+    public short getVoltageCell2(){
+        return getShort(10);
+    }
+    /**
+    * Battery voltage of cell 3, in millivolts (1 = 1 millivolt), -1: no cell
+    */
+    public short getVoltageCell3(){
+        return getShort(12);
+    }
+    /**
+    * Battery voltage of cell 4, in millivolts (1 = 1 millivolt), -1: no cell
+    */
+    public short getVoltageCell4(){
+        return getShort(14);
+    }
+    /**
+    * Battery voltage of cell 5, in millivolts (1 = 1 millivolt), -1: no cell
+    */
+    public short getVoltageCell5(){
+        return getShort(16);
+    }
+    /**
+    * Battery voltage of cell 6, in millivolts (1 = 1 millivolt), -1: no cell
+    */
+    public short getVoltageCell6(){
+        return getShort(18);
+    }
+    /**
+    * Battery current, in 10*milliamperes (1 = 10 milliampere), -1: autopilot does not measure the current
+    */
+    public short getCurrentBattery(){
+        return getShort(20);
+    }
+    /**
+    * Accupack ID
+    */
+    public byte getAccuId(){
+        return getByte(22);
+    }
+    /**
+    * Remaining battery energy: (0%: 0, 100%: 100), -1: autopilot does not estimate the remaining battery
+    */
+    public byte getBatteryRemaining(){
+        return getByte(23);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE CHANGE_OPERATOR_CONTROL_ACK VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_change_operator_control_ack;
+
+/**
+* View of CHANGE_OPERATOR_CONTROL_ACK, decodes the fields directly from the received packet.
+* Accept / deny control of this MAV
+*/
+public class ChangeOperatorControlAckView extends MAVLinkView {
+
+    public ChangeOperatorControlAckView(){
+        super(msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK);
+    }
+
+    @Override
+    public ChangeOperatorControlAckView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * ID of the GCS this message 
+    */
+    public byte getGcsSystemId(){
+        return getByte(0);
+    }
+    /**
+    * 0: request control of this MAV, 1: Release control of this MAV
+    */
+    public byte getControlRequest(){
+        return getByte(1);
+    }
+    /**
+    * 0: ACK, 1: NACK: Wrong passkey, 2: NACK: Unsupported passkey encryption method, 3: NACK: Already under control
+    */
+    public byte getAck(){
+        return getByte(2);
+    }
+}
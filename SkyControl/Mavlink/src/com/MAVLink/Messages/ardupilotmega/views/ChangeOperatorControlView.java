@@ -0,0 +1,54 @@
+// MESSAGE CHANGE_OPERATOR_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_change_operator_control;
+
+/**
+* View of CHANGE_OPERATOR_CONTROL, decodes the fields directly from the received packet.
+* Request to control this MAV
+*/
+public class ChangeOperatorControlView extends MAVLinkView {
+
+    public ChangeOperatorControlView(){
+        super(msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL);
+    }
+
+    @Override
+    public ChangeOperatorControlView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System the GCS requests control for
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * 0: request control of this MAV, 1: Release control of this MAV
+    */
+    public byte getControlRequest(){
+        return getByte(1);
+    }
+    /**
+    * 0: key as plaintext, 1-255: future, different hashing/encryption variants. The GCS should in general use the safest mode possible initially and then gradually move down the encryption level if it gets a NACK message indicating an encryption mismatch.
+    */
+    public byte getVersion(){
+        return getByte(2);
+    }
+    /**
+    * Password / Key, depending on version plaintext or encrypted. 25 or less characters, NULL terminated. The characters may involve A-Z, a-z, 0-9, and "!?,.-"
+    */
+    public char getPasskey(int index){
+        return getChar(3 + index * 1);
+    }
+    /**
+    * Password / Key, depending on version plaintext or encrypted. 25 or less characters, NULL terminated. The characters may involve A-Z, a-z, 0-9, and "!?,.-"
+    */
+    public String getPasskey(){
+        return getString(3, 25);
+    }
+}
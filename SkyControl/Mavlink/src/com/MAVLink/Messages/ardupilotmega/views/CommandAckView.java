@@ -0,0 +1,36 @@
+// MESSAGE COMMAND_ACK VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_command_ack;
+
+/**
+* View of COMMAND_ACK, decodes the fields directly from the received packet.
+* Report status of a command. Includes feedback wether the command was executed.
+*/
+public class CommandAckView extends MAVLinkView {
+
+    public CommandAckView(){
+        super(msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK);
+    }
+
+    @Override
+    public CommandAckView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Command ID, as defined by MAV_CMD enum.
+    */
+    public short getCommand(){
+        return getShort(0);
+    }
+    /**
+    * See MAV_RESULT enum
+    */
+    public byte getResult(){
+        return getByte(2);
+    }
+}
@@ -0,0 +1,90 @@
+// MESSAGE COMMAND_LONG VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+
+/**
+* View of COMMAND_LONG, decodes the fields directly from the received packet.
+* Send a command with up to seven parameters to the MAV
+*/
+public class CommandLongView extends MAVLinkView {
+
+    public CommandLongView(){
+        super(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG);
+    }
+
+    @Override
+    public CommandLongView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Parameter 1, as defined by MAV_CMD enum.
+    */
+    public float getParam1(){
+        return getFloat(0);
+    }
+    /**
+    * Parameter 2, as defined by MAV_CMD enum.
+    */
+    public float getParam2(){
+        return getFloat(4);
+    }
+    /**
+    * Parameter 3, as defined by MAV_CMD enum.
+    */
+    public float getParam3(){
+        return getFloat(8);
+    }
+    /**
+    * Parameter 4, as defined by MAV_CMD enum.
+    */
+    public float getParam4(){
+        return getFloat(12);
+    }
+    /**
+    * Parameter 5, as defined by MAV_CMD enum.
+    */
+    public float getParam5(){
+        return getFloat(16);
+    }
+    /**
+    * Parameter 6, as defined by MAV_CMD enum.
+    */
+    public float getParam6(){
+        return getFloat(20);
+    }
+    /**
+    * Parameter 7, as defined by MAV_CMD enum.
+    */
+    public float getParam7(){
+        return getFloat(24);
+    }
+    /**
+    * Command ID, as defined by MAV_CMD enum.
+    */
+    public short getCommand(){
+        return getShort(28);
+    }
+    /**
+    * System which should execute the command
+    */
+    public byte getTargetSystem(){
+        return getByte(30);
+    }
+    /**
+    * Component which should execute the command, 0 for all components
+    */
+    public byte getTargetComponent(){
+        return getByte(31);
+    }
+    /**
+    * 0: First transmission of this command. 1-255: Confirmation transmissions (e.g. for kill command)
+    */
+    public byte getConfirmation(){
+        return getByte(32);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE COMPASSMOT_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_compassmot_status;
+
+/**
+* View of COMPASSMOT_STATUS, decodes the fields directly from the received packet.
+* Status of compassmot calibration
+*/
+public class CompassmotStatusView extends MAVLinkView {
+
+    public CompassmotStatusView(){
+        super(msg_compassmot_status.MAVLINK_MSG_ID_COMPASSMOT_STATUS);
+    }
+
+    @Override
+    public CompassmotStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * current (amps)
+    */
+    public float getCurrent(){
+        return getFloat(0);
+    }
+    /**
+    * Motor Compensation X
+    */
+    public float getCompensationx(){
+        return getFloat(4);
+    }
+    /**
+    * Motor Compensation Y
+    */
+    public float getCompensationy(){
+        return getFloat(8);
+    }
+    /**
+    * Motor Compensation Z
+    */
+    public float getCompensationz(){
+        return getFloat(12);
+    }
+    /**
+    * throttle (percent*10)
+    */
+    public short getThrottle(){
+        return getShort(16);
+    }
+    /**
+    * interference (percent)
+    */
+    public short getInterference(){
+        return getShort(18);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE DATA16 VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data16;
+
+/**
+* View of DATA16, decodes the fields directly from the received packet.
+* Data packet, size 16
+*/
+public class Data16View extends MAVLinkView {
+
+    public Data16View(){
+        super(msg_data16.MAVLINK_MSG_ID_DATA16);
+    }
+
+    @Override
+    public Data16View wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * data type
+    */
+    public byte getType(){
+        return getByte(0);
+    }
+    /**
+    * data length
+    */
+    public byte getLen(){
+        return getByte(1);
+    }
+    /**
+    * raw data
+    */
+    public byte getData(int index){
+        return getByte(2 + index * 1);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE DATA32 VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data32;
+
+/**
+* View of DATA32, decodes the fields directly from the received packet.
+* Data packet, size 32
+*/
+public class Data32View extends MAVLinkView {
+
+    public Data32View(){
+        super(msg_data32.MAVLINK_MSG_ID_DATA32);
+    }
+
+    @Override
+    public Data32View wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * data type
+    */
+    public byte getType(){
+        return getByte(0);
+    }
+    /**
+    * data length
+    */
+    public byte getLen(){
+        return getByte(1);
+    }
+    /**
+    * raw data
+    */
+    public byte getData(int index){
+        return getByte(2 + index * 1);
+    }
+}
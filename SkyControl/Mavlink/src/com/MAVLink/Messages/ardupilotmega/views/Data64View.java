@@ -0,0 +1,42 @@
+// MESSAGE DATA64 VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data64;
+
+/**
+* View of DATA64, decodes the fields directly from the received packet.
+* Data packet, size 64
+*/
+public class Data64View extends MAVLinkView {
+
+    public Data64View(){
+        super(msg_data64.MAVLINK_MSG_ID_DATA64);
+    }
+
+    @Override
+    public Data64View wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * data type
+    */
+    public byte getType(){
+        return getByte(0);
+    }
+    /**
+    * data length
+    */
+    public byte getLen(){
+        return getByte(1);
+    }
+    /**
+    * raw data
+    */
+    public byte getData(int index){
+        return getByte(2 + index * 1);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE DATA96 VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data96;
+
+/**
+* View of DATA96, decodes the fields directly from the received packet.
+* Data packet, size 96
+*/
+public class Data96View extends MAVLinkView {
+
+    public Data96View(){
+        super(msg_data96.MAVLINK_MSG_ID_DATA96);
+    }
+
+    @Override
+    public Data96View wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * data type
+    */
+    public byte getType(){
+        return getByte(0);
+    }
+    /**
+    * data length
+    */
+    public byte getLen(){
+        return getByte(1);
+    }
+    /**
+    * raw data
+    */
+    public byte getData(int index){
+        return getByte(2 + index * 1);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE DATA_STREAM VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data_stream;
+
+/**
+* View of DATA_STREAM, decodes the fields directly from the received packet.
+* 
+*/
+public class DataStreamView extends MAVLinkView {
+
+    public DataStreamView(){
+        super(msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM);
+    }
+
+    @Override
+    public DataStreamView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * The requested interval between two messages of this type
+    */
+    public short getMessageRate(){
+        return getShort(0);
+    }
+    /**
+    * The ID of the requested data stream
+    */
+    public byte getStreamId(){
+        return getByte(2);
+    }
+    /**
+    * 1 stream is enabled, 0 stream is stopped.
+    */
+    public byte getOnOff(){
+        return getByte(3);
+    }
+}
@@ -0,0 +1,66 @@
+// MESSAGE DATA_TRANSMISSION_HANDSHAKE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_data_transmission_handshake;
+
+/**
+* View of DATA_TRANSMISSION_HANDSHAKE, decodes the fields directly from the received packet.
+* 
+*/
+public class DataTransmissionHandshakeView extends MAVLinkView {
+
+    public DataTransmissionHandshakeView(){
+        super(msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE);
+    }
+
+    @Override
+    public DataTransmissionHandshakeView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * total data size in bytes (set on ACK only)
+    */
+    public int getSize(){
+        return getInt(0);
+    }
+    /**
+    * Width of a matrix or image
+    */
+    public short getWidth(){
+        return getShort(4);
+    }
+    /**
+    * Height of a matrix or image
+    */
+    public short getHeight(){
+        return getShort(6);
+    }
+    /**
+    * number of packets beeing sent (set on ACK only)
+    */
+    public short getPackets(){
+        return getShort(8);
+    }
+    /**
+    * type of requested/acknowledged data (as defined in ENUM DATA_TYPES in mavlink/include/mavlink_types.h)
+    */
+    public byte getType(){
+        return getByte(10);
+    }
+    /**
+    * payload size per packet (normally 253 byte, see DATA field size in message ENCAPSULATED_DATA) (set on ACK only)
+    */
+    public byte getPayload(){
+        return getByte(11);
+    }
+    /**
+    * JPEG quality out of [1,100]
+    */
+    public byte getJpgQuality(){
+        return getByte(12);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE DEBUG_VECT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_debug_vect;
+
+/**
+* View of DEBUG_VECT, decodes the fields directly from the received packet.
+* 
+*/
+public class DebugVectView extends MAVLinkView {
+
+    public DebugVectView(){
+        super(msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT);
+    }
+
+    @Override
+    public DebugVectView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * x
+    */
+    public float getX(){
+        return getFloat(8);
+    }
+    /**
+    * y
+    */
+    public float getY(){
+        return getFloat(12);
+    }
+    /**
+    * z
+    */
+    public float getZ(){
+        return getFloat(16);
+    }
+    /**
+    * Name
+    */
+    public char getName(int index){
+        return getChar(20 + index * 1);
+    }
+    /**
+    * Name
+    */
+    public String getName(){
+        return getString(20, 10);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE DEBUG VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_debug;
+
+/**
+* View of DEBUG, decodes the fields directly from the received packet.
+* Send a debug value. The index is used to discriminate between values. These values show up in the plot of QGroundControl as DEBUG N.
+*/
+public class DebugView extends MAVLinkView {
+
+    public DebugView(){
+        super(msg_debug.MAVLINK_MSG_ID_DEBUG);
+    }
+
+    @Override
+    public DebugView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * DEBUG value
+    */
+    public float getValue(){
+        return getFloat(4);
+    }
+    /**
+    * index of debug variable
+    */
+    public byte getInd(){
+        return getByte(8);
+    }
+}
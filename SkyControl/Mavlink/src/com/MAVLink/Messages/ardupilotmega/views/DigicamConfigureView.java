@@ -0,0 +1,90 @@
+// MESSAGE DIGICAM_CONFIGURE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_digicam_configure;
+
+/**
+* View of DIGICAM_CONFIGURE, decodes the fields directly from the received packet.
+* Configure on-board Camera Control System.
+*/
+public class DigicamConfigureView extends MAVLinkView {
+
+    public DigicamConfigureView(){
+        super(msg_digicam_configure.MAVLINK_MSG_ID_DIGICAM_CONFIGURE);
+    }
+
+    @Override
+    public DigicamConfigureView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Correspondent value to given extra_param
+    */
+    public float getExtraValue(){
+        return getFloat(0);
+    }
+    /**
+    * Divisor number //e.g. 1000 means 1/1000 (0 means ignore)
+    */
+    public short getShutterSpeed(){
+        return getShort(4);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(6);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(7);
+    }
+    /**
+    * Mode enumeration from 1 to N //P, TV, AV, M, Etc (0 means ignore)
+    */
+    public byte getMode(){
+        return getByte(8);
+    }
+    /**
+    * F stop number x 10 //e.g. 28 means 2.8 (0 means ignore)
+    */
+    public byte getAperture(){
+        return getByte(9);
+    }
+    /**
+    * ISO enumeration from 1 to N //e.g. 80, 100, 200, Etc (0 means ignore)
+    */
+    public byte getIso(){
+        return getByte(10);
+    }
+    /**
+    * Exposure type enumeration from 1 to N (0 means ignore)
+    */
+    public byte getExposureType(){
+        return getByte(11);
+    }
+    /**
+    * Command Identity (incremental loop: 0 to 255)//A command sent multiple times will be executed or pooled just once
+    */
+    public byte getCommandId(){
+        return getByte(12);
+    }
+    /**
+    * Main engine cut-off time before camera trigger in seconds/10 (0 means no cut-off)
+    */
+    public byte getEngineCutOff(){
+        return getByte(13);
+    }
+    /**
+    * Extra parameters enumeration (0 means ignore)
+    */
+    public byte getExtraParam(){
+        return getByte(14);
+    }
+}
@@ -0,0 +1,84 @@
+// MESSAGE DIGICAM_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_digicam_control;
+
+/**
+* View of DIGICAM_CONTROL, decodes the fields directly from the received packet.
+* Control on-board Camera Control System to take shots.
+*/
+public class DigicamControlView extends MAVLinkView {
+
+    public DigicamControlView(){
+        super(msg_digicam_control.MAVLINK_MSG_ID_DIGICAM_CONTROL);
+    }
+
+    @Override
+    public DigicamControlView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Correspondent value to given extra_param
+    */
+    public float getExtraValue(){
+        return getFloat(0);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(4);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(5);
+    }
+    /**
+    * 0: stop, 1: start or keep it up //Session control e.g. show/hide lens
+    */
+    public byte getSession(){
+        return getByte(6);
+    }
+    /**
+    * 1 to N //Zoom's absolute position (0 means ignore)
+    */
+    public byte getZoomPos(){
+        return getByte(7);
+    }
+    /**
+    * -100 to 100 //Zooming step value to offset zoom from the current position
+    */
+    public byte getZoomStep(){
+        return getByte(8);
+    }
+    /**
+    * 0: unlock focus or keep unlocked, 1: lock focus or keep locked, 3: re-lock focus
+    */
+    public byte getFocusLock(){
+        return getByte(9);
+    }
+    /**
+    * 0: ignore, 1: shot or start filming
+    */
+    public byte getShot(){
+        return getByte(10);
+    }
+    /**
+    * Command Identity (incremental loop: 0 to 255)//A command sent multiple times will be executed or pooled just once
+    */
+    public byte getCommandId(){
+        return getByte(11);
+    }
+    /**
+    * Extra parameters enumeration (0 means ignore)
+    */
+    public byte getExtraParam(){
+        return getByte(12);
+    }
+}
@@ -0,0 +1,36 @@
+// MESSAGE ENCAPSULATED_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_encapsulated_data;
+
+/**
+* View of ENCAPSULATED_DATA, decodes the fields directly from the received packet.
+* 
+*/
+public class EncapsulatedDataView extends MAVLinkView {
+
+    public EncapsulatedDataView(){
+        super(msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA);
+    }
+
+    @Override
+    public EncapsulatedDataView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * sequence number (starting with 0 on every transmission)
+    */
+    public short getSeqnr(){
+        return getShort(0);
+    }
+    /**
+    * image data bytes
+    */
+    public byte getData(int index){
+        return getByte(2 + index * 1);
+    }
+}
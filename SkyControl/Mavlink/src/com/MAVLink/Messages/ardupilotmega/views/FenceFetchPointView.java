@@ -0,0 +1,42 @@
+// MESSAGE FENCE_FETCH_POINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_fence_fetch_point;
+
+/**
+* View of FENCE_FETCH_POINT, decodes the fields directly from the received packet.
+* Request a current fence point from MAV
+*/
+public class FenceFetchPointView extends MAVLinkView {
+
+    public FenceFetchPointView(){
+        super(msg_fence_fetch_point.MAVLINK_MSG_ID_FENCE_FETCH_POINT);
+    }
+
+    @Override
+    public FenceFetchPointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+    /**
+    * point index (first point is 1, 0 is for return point)
+    */
+    public byte getIdx(){
+        return getByte(2);
+    }
+}
@@ -0,0 +1,61 @@
+// MESSAGE FENCE_POINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_fence_point;
+
+/**
+* View of FENCE_POINT, decodes the fields directly from the received packet.
+* A fence point. Used to set a point when from
+	      GCS -> MAV. Also used to return a point from MAV -> GCS
+*/
+public class FencePointView extends MAVLinkView {
+
+    public FencePointView(){
+        super(msg_fence_point.MAVLINK_MSG_ID_FENCE_POINT);
+    }
+
+    @Override
+    public FencePointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Latitude of point
+    */
+    public float getLat(){
+        return getFloat(0);
+    }
+    /**
+    * Longitude of point
+    */
+    public float getLng(){
+        return getFloat(4);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(8);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(9);
+    }
+    /**
+    * point index (first point is 1, 0 is for return point)
+    */
+    public byte getIdx(){
+        return getByte(10);
+    }
+    /**
+    * total number of points (for sanity checking)
+    */
+    public byte getCount(){
+        return getByte(11);
+    }
+}
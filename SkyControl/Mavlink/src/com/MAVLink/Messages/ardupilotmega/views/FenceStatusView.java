@@ -0,0 +1,49 @@
+// MESSAGE FENCE_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_fence_status;
+
+/**
+* View of FENCE_STATUS, decodes the fields directly from the received packet.
+* Status of geo-fencing. Sent in extended
+	    status stream when fencing enabled
+*/
+public class FenceStatusView extends MAVLinkView {
+
+    public FenceStatusView(){
+        super(msg_fence_status.MAVLINK_MSG_ID_FENCE_STATUS);
+    }
+
+    @Override
+    public FenceStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * time of last breach in milliseconds since boot
+    */
+    public int getBreachTime(){
+        return getInt(0);
+    }
+    /**
+    * number of fence breaches
+    */
+    public short getBreachCount(){
+        return getShort(4);
+    }
+    /**
+    * 0 if currently inside fence, 1 if outside
+    */
+    public byte getBreachStatus(){
+        return getByte(6);
+    }
+    /**
+    * last breach type (see FENCE_BREACH_* enum)
+    */
+    public byte getBreachType(){
+        return getByte(7);
+    }
+}
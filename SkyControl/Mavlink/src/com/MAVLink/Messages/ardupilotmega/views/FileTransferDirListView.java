@@ -0,0 +1,48 @@
+// MESSAGE FILE_TRANSFER_DIR_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_file_transfer_dir_list;
+
+/**
+* View of FILE_TRANSFER_DIR_LIST, decodes the fields directly from the received packet.
+* Get directory listing
+*/
+public class FileTransferDirListView extends MAVLinkView {
+
+    public FileTransferDirListView(){
+        super(msg_file_transfer_dir_list.MAVLINK_MSG_ID_FILE_TRANSFER_DIR_LIST);
+    }
+
+    @Override
+    public FileTransferDirListView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Unique transfer ID
+    */
+    public long getTransferUid(){
+        return getLong(0);
+    }
+    /**
+    * Directory path to list
+    */
+    public char getDirPath(int index){
+        return getChar(8 + index * 1);
+    }
+    /**
+    * Directory path to list
+    */
+    public String getDirPath(){
+        return getString(8, 240);
+    }
+    /**
+    * RESERVED
+    */
+    public byte getFlags(){
+        return getByte(248);
+    }
+}
@@ -0,0 +1,36 @@
+// MESSAGE FILE_TRANSFER_RES VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_file_transfer_res;
+
+/**
+* View of FILE_TRANSFER_RES, decodes the fields directly from the received packet.
+* File transfer result
+*/
+public class FileTransferResView extends MAVLinkView {
+
+    public FileTransferResView(){
+        super(msg_file_transfer_res.MAVLINK_MSG_ID_FILE_TRANSFER_RES);
+    }
+
+    @Override
+    public FileTransferResView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Unique transfer ID
+    */
+    public long getTransferUid(){
+        return getLong(0);
+    }
+    /**
+    * 0: OK, 1: not permitted, 2: bad path / file name, 3: no space left on device
+    */
+    public byte getResult(){
+        return getByte(8);
+    }
+}
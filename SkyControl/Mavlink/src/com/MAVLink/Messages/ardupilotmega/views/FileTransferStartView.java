@@ -0,0 +1,60 @@
+// MESSAGE FILE_TRANSFER_START VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_file_transfer_start;
+
+/**
+* View of FILE_TRANSFER_START, decodes the fields directly from the received packet.
+* Begin file transfer
+*/
+public class FileTransferStartView extends MAVLinkView {
+
+    public FileTransferStartView(){
+        super(msg_file_transfer_start.MAVLINK_MSG_ID_FILE_TRANSFER_START);
+    }
+
+    @Override
+    public FileTransferStartView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Unique transfer ID
+    */
+    public long getTransferUid(){
+        return getLong(0);
+    }
+    /**
+    * File size in bytes
+    */
+    public int getFileSize(){
+        return getInt(8);
+    }
+    /**
+    * Destination path
+    */
+    public char getDestPath(int index){
+        return getChar(12 + index * 1);
+    }
+    /**
+    * Destination path
+    */
+    public String getDestPath(){
+        return getString(12, 240);
+    }
+    /**
+    * Transfer direction: 0: from requester, 1: to requester
+    */
+    public byte getDirection(){
+        return getByte(252);
+    }
+    /**
+    * RESERVED
+    */
+    public byte getFlags(){
+        return getByte(253);
+    }
+}
@@ -0,0 +1,79 @@
+// MESSAGE GLOBAL_POSITION_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+
+/**
+* View of GLOBAL_POSITION_INT, decodes the fields directly from the received packet.
+* The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It
+               is designed as scaled integer message since the resolution of float is not sufficient.
+*/
+public class GlobalPositionIntView extends MAVLinkView {
+
+    public GlobalPositionIntView(){
+        super(msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT);
+    }
+
+    @Override
+    public GlobalPositionIntView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Latitude, expressed as * 1E7
+    */
+    public int getLat(){
+        return getInt(4);
+    }
+    /**
+    * Longitude, expressed as * 1E7
+    */
+    public int getLon(){
+        return getInt(8);
+    }
+    /**
+    * Altitude in meters, expressed as * 1000 (millimeters), above MSL
+    */
+    public int getAlt(){
+        return getInt(12);
+    }
+    /**
+    * Altitude above ground in meters, expressed as * 1000 (millimeters)
+    */
+    public int getRelativeAlt(){
+        return getInt(16);
+    }
+    /**
+    * Ground X Speed (Latitude), expressed as m/s * 100
+    */
+    public short getVx(){
+        return getShort(20);
+    }
+    /**
+    * Ground Y Speed (Longitude), expressed as m/s * 100
+    */
+    public short getVy(){
+        return getShort(22);
+    }
+    /**
+    * Ground Z Speed (Altitude), expressed as m/s * 100
+    */
+    public short getVz(){
+        return getShort(24);
+    }
+    /**
+    * Compass heading in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+    */
+    public short getHdg(){
+        return getShort(26);
+    }
+}
@@ -0,0 +1,54 @@
+// MESSAGE GLOBAL_POSITION_SETPOINT_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_setpoint_int;
+
+/**
+* View of GLOBAL_POSITION_SETPOINT_INT, decodes the fields directly from the received packet.
+* Transmit the current local setpoint of the controller to other MAVs (collision avoidance) and to the GCS.
+*/
+public class GlobalPositionSetpointIntView extends MAVLinkView {
+
+    public GlobalPositionSetpointIntView(){
+        super(msg_global_position_setpoint_int.MAVLINK_MSG_ID_GLOBAL_POSITION_SETPOINT_INT);
+    }
+
+    @Override
+    public GlobalPositionSetpointIntView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public int getLatitude(){
+        return getInt(0);
+    }
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public int getLongitude(){
+        return getInt(4);
+    }
+    /**
+    * Altitude (WGS84), in meters * 1000 (positive for up)
+    */
+    public int getAltitude(){
+        return getInt(8);
+    }
+    /**
+    * Desired yaw angle in degrees * 100
+    */
+    public short getYaw(){
+        return getShort(12);
+    }
+    /**
+    * Coordinate frame - valid values are only MAV_FRAME_GLOBAL or MAV_FRAME_GLOBAL_RELATIVE_ALT
+    */
+    public byte getCoordinateFrame(){
+        return getByte(14);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE GPS_GLOBAL_ORIGIN VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_global_origin;
+
+/**
+* View of GPS_GLOBAL_ORIGIN, decodes the fields directly from the received packet.
+* Once the MAV sets a new GPS-Local correspondence, this message announces the origin (0,0,0) position
+*/
+public class GpsGlobalOriginView extends MAVLinkView {
+
+    public GpsGlobalOriginView(){
+        super(msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN);
+    }
+
+    @Override
+    public GpsGlobalOriginView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public int getLatitude(){
+        return getInt(0);
+    }
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public int getLongitude(){
+        return getInt(4);
+    }
+    /**
+    * Altitude (WGS84), in meters * 1000 (positive for up)
+    */
+    public int getAltitude(){
+        return getInt(8);
+    }
+}
@@ -0,0 +1,48 @@
+// MESSAGE GPS_INJECT_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_inject_data;
+
+/**
+* View of GPS_INJECT_DATA, decodes the fields directly from the received packet.
+* data for injecting into the onboard GPS (used for DGPS)
+*/
+public class GpsInjectDataView extends MAVLinkView {
+
+    public GpsInjectDataView(){
+        super(msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA);
+    }
+
+    @Override
+    public GpsInjectDataView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+    /**
+    * data length
+    */
+    public byte getLen(){
+        return getByte(2);
+    }
+    /**
+    * raw data (110 is enough for 12 satellites of RTCMv2)
+    */
+    public byte getData(int index){
+        return getByte(3 + index * 1);
+    }
+}
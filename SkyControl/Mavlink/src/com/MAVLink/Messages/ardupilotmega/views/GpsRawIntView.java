@@ -0,0 +1,85 @@
+// MESSAGE GPS_RAW_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_raw_int;
+
+/**
+* View of GPS_RAW_INT, decodes the fields directly from the received packet.
+* The global position, as returned by the Global Positioning System (GPS). This is
+                NOT the global position estimate of the sytem, but rather a RAW sensor value. See message GLOBAL_POSITION for the global position estimate. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*/
+public class GpsRawIntView extends MAVLinkView {
+
+    public GpsRawIntView(){
+        super(msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT);
+    }
+
+    @Override
+    public GpsRawIntView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public int getLat(){
+        return getInt(8);
+    }
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public int getLon(){
+        return getInt(12);
+    }
+    /**
+    * Altitude (WGS84), in meters * 1000 (positive for up)
+    */
+    public int getAlt(){
+        return getInt(16);
+    }
+    /**
+    * GPS HDOP horizontal dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+    */
+    public short getEph(){
+        return getShort(20);
+    }
+    /**
+    * GPS VDOP vertical dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+    */
+    public short getEpv(){
+        return getShort(22);
+    }
+    /**
+    * GPS ground speed (m/s * 100). If unknown, set to: UINT16_MAX
+    */
+    public short getVel(){
+        return getShort(24);
+    }
+    /**
+    * Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+    */
+    public short getCog(){
+        return getShort(26);
+    }
+    /**
+    * 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it is at least two, so always correctly fill in the fix.
+    */
+    public byte getFixType(){
+        return getByte(28);
+    }
+    /**
+    * Number of satellites visible. If unknown, set to 255
+    */
+    public byte getSatellitesVisible(){
+        return getByte(29);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE GPS_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_gps_status;
+
+/**
+* View of GPS_STATUS, decodes the fields directly from the received packet.
+* The positioning status, as reported by GPS. This message is intended to display status information about each satellite visible to the receiver. See message GLOBAL_POSITION for the global position estimate. This message can contain information for up to 20 satellites.
+*/
+public class GpsStatusView extends MAVLinkView {
+
+    public GpsStatusView(){
+        super(msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS);
+    }
+
+    @Override
+    public GpsStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Number of satellites visible
+    */
+    public byte getSatellitesVisible(){
+        return getByte(0);
+    }
+    /**
+    * Global satellite ID
+    */
+    public byte getSatellitePrn(int index){
+        return getByte(1 + index * 1);
+    }
+    /**
+    * 0: Satellite not used, 1: used for localization
+    */
+    public byte getSatelliteUsed(int index){
+        return getByte(21 + index * 1);
+    }
+    /**
+    * Elevation (0: right on top of receiver, 90: on the horizon) of satellite
+    */
+    public byte getSatelliteElevation(int index){
+        return getByte(41 + index * 1);
+    }
+    /**
+    * Direction of satellite, 0: 0 deg, 255: 360 deg.
+    */
+    public byte getSatelliteAzimuth(int index){
+        return getByte(61 + index * 1);
+    }
+    /**
+    * Signal to noise ratio of satellite
+    */
+    public byte getSatelliteSnr(int index){
+        return getByte(81 + index * 1);
+    }
+}
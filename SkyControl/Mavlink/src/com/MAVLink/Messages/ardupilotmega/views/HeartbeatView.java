@@ -0,0 +1,60 @@
+// MESSAGE HEARTBEAT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+
+/**
+* View of HEARTBEAT, decodes the fields directly from the received packet.
+* The heartbeat message shows that a system is present and responding. The type of the MAV and Autopilot hardware allow the receiving system to treat further messages from this system appropriate (e.g. by laying out the user interface based on the autopilot).
+*/
+public class HeartbeatView extends MAVLinkView {
+
+    public HeartbeatView(){
+        super(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT);
+    }
+
+    @Override
+    public HeartbeatView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * A bitfield for use for autopilot-specific flags.
+    */
+    public int getCustomMode(){
+        return getInt(0);
+    }
+    /**
+    * Type of the MAV (quadrotor, helicopter, etc., up to 15 types, defined in MAV_TYPE ENUM)
+    */
+    public byte getType(){
+        return getByte(4);
+    }
+    /**
+    * Autopilot type / class. defined in MAV_AUTOPILOT ENUM
+    */
+    public byte getAutopilot(){
+        return getByte(5);
+    }
+    /**
+    * System mode bitfield, see MAV_MODE_FLAGS ENUM in mavlink/include/mavlink_types.h
+    */
+    public byte getBaseMode(){
+        return getByte(6);
+    }
+    /**
+    * System status flag, see MAV_STATE ENUM
+    */
+    public byte getSystemStatus(){
+        return getByte(7);
+    }
+    /**
+    * MAVLink version, not writable by user, gets added by protocol because of magic data type: uint8_t_mavlink_version
+    */
+    public byte getMavlinkVersion(){
+        return getByte(8);
+    }
+}
@@ -0,0 +1,114 @@
+// MESSAGE HIGHRES_IMU VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_highres_imu;
+
+/**
+* View of HIGHRES_IMU, decodes the fields directly from the received packet.
+* The IMU readings in SI units in NED body frame
+*/
+public class HighresImuView extends MAVLinkView {
+
+    public HighresImuView(){
+        super(msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU);
+    }
+
+    @Override
+    public HighresImuView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * X acceleration (m/s^2)
+    */
+    public float getXacc(){
+        return getFloat(8);
+    }
+    /**
+    * Y acceleration (m/s^2)
+    */
+    public float getYacc(){
+        return getFloat(12);
+    }
+    /**
+    * Z acceleration (m/s^2)
+    */
+    public float getZacc(){
+        return getFloat(16);
+    }
+    /**
+    * Angular speed around X axis (rad / sec)
+    */
+    public float getXgyro(){
+        return getFloat(20);
+    }
+    /**
+    * Angular speed around Y axis (rad / sec)
+    */
+    public float getYgyro(){
+        return getFloat(24);
+    }
+    /**
+    * Angular speed around Z axis (rad / sec)
+    */
+    public float getZgyro(){
+        return getFloat(28);
+    }
+    /**
+    * X Magnetic field (Gauss)
+    */
+    public float getXmag(){
+        return getFloat(32);
+    }
+    /**
+    * Y Magnetic field (Gauss)
+    */
+    public float getYmag(){
+        return getFloat(36);
+    }
+    /**
+    * Z Magnetic field (Gauss)
+    */
+    public float getZmag(){
+        return getFloat(40);
+    }
+    /**
+    * Absolute pressure in millibar
+    */
+    public float getAbsPressure(){
+        return getFloat(44);
+    }
+    /**
+    * Differential pressure in millibar
+    */
+    public float getDiffPressure(){
+        return getFloat(48);
+    }
+    /**
+    * Altitude calculated from pressure
+    */
+    public float getPressureAlt(){
+        return getFloat(52);
+    }
+    /**
+    * Temperature in degrees celsius
+    */
+    public float getTemperature(){
+        return getFloat(56);
+    }
+    /**
+    * Bitmask for fields that have updated since last message, bit 0 = xacc, bit 12: temperature
+    */
+    public short getFieldsUpdated(){
+        return getShort(60);
+    }
+}
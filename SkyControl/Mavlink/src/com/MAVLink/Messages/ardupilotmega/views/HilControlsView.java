@@ -0,0 +1,90 @@
+// MESSAGE HIL_CONTROLS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_controls;
+
+/**
+* View of HIL_CONTROLS, decodes the fields directly from the received packet.
+* Sent from autopilot to simulation. Hardware in the loop control outputs
+*/
+public class HilControlsView extends MAVLinkView {
+
+    public HilControlsView(){
+        super(msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS);
+    }
+
+    @Override
+    public HilControlsView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Control output -1 .. 1
+    */
+    public float getRollAilerons(){
+        return getFloat(8);
+    }
+    /**
+    * Control output -1 .. 1
+    */
+    public float getPitchElevator(){
+        return getFloat(12);
+    }
+    /**
+    * Control output -1 .. 1
+    */
+    public float getYawRudder(){
+        return getFloat(16);
+    }
+    /**
+    * Throttle 0 .. 1
+    */
+    public float getThrottle(){
+        return getFloat(20);
+    }
+    /**
+    * Aux 1, -1 .. 1
+    */
+    public float getAux1(){
+        return getFloat(24);
+    }
+    /**
+    * Aux 2, -1 .. 1
+    */
+    public float getAux2(){
+        return getFloat(28);
+    }
+    /**
+    * Aux 3, -1 .. 1
+    */
+    public float getAux3(){
+        return getFloat(32);
+    }
+    /**
+    * Aux 4, -1 .. 1
+    */
+    public float getAux4(){
+        return getFloat(36);
+    }
+    /**
+    * System mode (MAV_MODE)
+    */
+    public byte getMode(){
+        return getByte(40);
+    }
+    /**
+    * Navigation mode (MAV_NAV_MODE)
+    */
+    public byte getNavMode(){
+        return getByte(41);
+    }
+}
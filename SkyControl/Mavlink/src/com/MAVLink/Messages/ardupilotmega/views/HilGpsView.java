@@ -0,0 +1,103 @@
+// MESSAGE HIL_GPS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_gps;
+
+/**
+* View of HIL_GPS, decodes the fields directly from the received packet.
+* The global position, as returned by the Global Positioning System (GPS). This is
+                 NOT the global position estimate of the sytem, but rather a RAW sensor value. See message GLOBAL_POSITION for the global position estimate. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*/
+public class HilGpsView extends MAVLinkView {
+
+    public HilGpsView(){
+        super(msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS);
+    }
+
+    @Override
+    public HilGpsView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public int getLat(){
+        return getInt(8);
+    }
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public int getLon(){
+        return getInt(12);
+    }
+    /**
+    * Altitude (WGS84), in meters * 1000 (positive for up)
+    */
+    public int getAlt(){
+        return getInt(16);
+    }
+    /**
+    * GPS HDOP horizontal dilution of position in cm (m*100). If unknown, set to: 65535
+    */
+    public short getEph(){
+        return getShort(20);
+    }
+    /**
+    * GPS VDOP vertical dilution of position in cm (m*100). If unknown, set to: 65535
+    */
+    public short getEpv(){
+        return getShort(22);
+    }
+    /**
+    * GPS ground speed (m/s * 100). If unknown, set to: 65535
+    */
+    public short getVel(){
+        return getShort(24);
+    }
+    /**
+    * GPS velocity in cm/s in NORTH direction in earth-fixed NED frame
+    */
+    public short getVn(){
+        return getShort(26);
+    }
+    /**
+    * GPS velocity in cm/s in EAST direction in earth-fixed NED frame
+    */
+    public short getVe(){
+        return getShort(28);
+    }
+    /**
+    * GPS velocity in cm/s in DOWN direction in earth-fixed NED frame
+    */
+    public short getVd(){
+        return getShort(30);
+    }
+    /**
+    * Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: 65535
+    */
+    public short getCog(){
+        return getShort(32);
+    }
+    /**
+    * 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it is at least two, so always correctly fill in the fix.
+    */
+    public byte getFixType(){
+        return getByte(34);
+    }
+    /**
+    * Number of satellites visible. If unknown, set to 255
+    */
+    public byte getSatellitesVisible(){
+        return getByte(35);
+    }
+}
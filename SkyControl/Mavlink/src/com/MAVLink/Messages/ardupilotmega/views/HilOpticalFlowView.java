@@ -0,0 +1,72 @@
+// MESSAGE HIL_OPTICAL_FLOW VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_optical_flow;
+
+/**
+* View of HIL_OPTICAL_FLOW, decodes the fields directly from the received packet.
+* Simulated optical flow from a flow sensor (e.g. optical mouse sensor)
+*/
+public class HilOpticalFlowView extends MAVLinkView {
+
+    public HilOpticalFlowView(){
+        super(msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW);
+    }
+
+    @Override
+    public HilOpticalFlowView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (UNIX)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Flow in meters in x-sensor direction, angular-speed compensated
+    */
+    public float getFlowCompMX(){
+        return getFloat(8);
+    }
+    /**
+    * Flow in meters in y-sensor direction, angular-speed compensated
+    */
+    public float getFlowCompMY(){
+        return getFloat(12);
+    }
+    /**
+    * Ground distance in meters. Positive value: distance known. Negative value: Unknown distance
+    */
+    public float getGroundDistance(){
+        return getFloat(16);
+    }
+    /**
+    * Flow in pixels in x-sensor direction
+    */
+    public short getFlowX(){
+        return getShort(20);
+    }
+    /**
+    * Flow in pixels in y-sensor direction
+    */
+    public short getFlowY(){
+        return getShort(22);
+    }
+    /**
+    * Sensor ID
+    */
+    public byte getSensorId(){
+        return getByte(24);
+    }
+    /**
+    * Optical flow quality / confidence. 0: bad, 255: maximum quality
+    */
+    public byte getQuality(){
+        return getByte(25);
+    }
+}
@@ -0,0 +1,108 @@
+// MESSAGE HIL_RC_INPUTS_RAW VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_rc_inputs_raw;
+
+/**
+* View of HIL_RC_INPUTS_RAW, decodes the fields directly from the received packet.
+* Sent from simulation to autopilot. The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class HilRcInputsRawView extends MAVLinkView {
+
+    public HilRcInputsRawView(){
+        super(msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW);
+    }
+
+    @Override
+    public HilRcInputsRawView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * RC channel 1 value, in microseconds
+    */
+    public short getChan1Raw(){
+        return getShort(8);
+    }
+    /**
+    * RC channel 2 value, in microseconds
+    */
+    public short getChan2Raw(){
+        return getShort(10);
+    }
+    /**
+    * RC channel 3 value, in microseconds
+    */
+    public short getChan3Raw(){
+        return getShort(12);
+    }
+    /**
+    * RC channel 4 value, in microseconds
+    */
+    public short getChan4Raw(){
+        return getShort(14);
+    }
+    /**
+    * RC channel 5 value, in microseconds
+    */
+    public short getChan5Raw(){
+        return getShort(16);
+    }
+    /**
+    * RC channel 6 value, in microseconds
+    */
+    public short getChan6Raw(){
+        return getShort(18);
+    }
+    /**
+    * RC channel 7 value, in microseconds
+    */
+    public short getChan7Raw(){
+        return getShort(20);
+    }
+    /**
+    * RC channel 8 value, in microseconds
+    */
+    public short getChan8Raw(){
+        return getShort(22);
+    }
+    /**
+    * RC channel 9 value, in microseconds
+    */
+    public short getChan9Raw(){
+        return getShort(24);
+    }
+    /**
+    * RC channel 10 value, in microseconds
+    */
+    public short getChan10Raw(){
+        return getShort(26);
+    }
+    /**
+    * RC channel 11 value, in microseconds
+    */
+    public short getChan11Raw(){
+        return getShort(28);
+    }
+    /**
+    * RC channel 12 value, in microseconds
+    */
+    public short getChan12Raw(){
+        return getShort(30);
+    }
+    /**
+    * Receive signal strength indicator, 0: 0%, 255: 100%
+    */
+    public byte getRssi(){
+        return getByte(32);
+    }
+}
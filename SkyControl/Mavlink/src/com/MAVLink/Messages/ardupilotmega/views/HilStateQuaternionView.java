@@ -0,0 +1,120 @@
+// MESSAGE HIL_STATE_QUATERNION VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_state_quaternion;
+
+/**
+* View of HIL_STATE_QUATERNION, decodes the fields directly from the received packet.
+* Sent from simulation to autopilot, avoids in contrast to HIL_STATE singularities. This packet is useful for high throughput applications such as hardware in the loop simulations.
+*/
+public class HilStateQuaternionView extends MAVLinkView {
+
+    public HilStateQuaternionView(){
+        super(msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION);
+    }
+
+    @Override
+    public HilStateQuaternionView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Vehicle attitude expressed as normalized quaternion
+    */
+    public float getAttitudeQuaternion(int index){
+        return getFloat(8 + index * 4);
+    }
+    /**
+    * Body frame roll / phi angular speed (rad/s)
+    */
+    public float getRollspeed(){
+        return getFloat(24);
+    }
+    /**
+    * Body frame pitch / theta angular speed (rad/s)
+    */
+    public float getPitchspeed(){
+        return getFloat(28);
+    }
+    /**
+    * Body frame yaw / psi angular speed (rad/s)
+    */
+    public float getYawspeed(){
+        return getFloat(32);
+    }
+    /**
+    * Latitude, expressed as * 1E7
+    */
+    public int getLat(){
+        return getInt(36);
+    }
+    /**
+    * Longitude, expressed as * 1E7
+    */
+    public int getLon(){
+        return getInt(40);
+    }
+    /**
+    * Altitude in meters, expressed as * 1000 (millimeters)
+    */
+    public int getAlt(){
+        return getInt(44);
+    }
+    /**
+    * Ground X Speed (Latitude), expressed as m/s * 100
+    */
+    public short getVx(){
+        return getShort(48);
+    }
+    /**
+    * Ground Y Speed (Longitude), expressed as m/s * 100
+    */
+    public short getVy(){
+        return getShort(50);
+    }
+    /**
+    * Ground Z Speed (Altitude), expressed as m/s * 100
+    */
+    public short getVz(){
+        return getShort(52);
+    }
+    /**
+    * Indicated airspeed, expressed as m/s * 100
+    */
+    public short getIndAirspeed(){
+        return getShort(54);
+    }
+    /**
+    * True airspeed, expressed as m/s * 100
+    */
+    public short getTrueAirspeed(){
+        return getShort(56);
+    }
+    /**
+    * X acceleration (mg)
+    */
+    public short getXacc(){
+        return getShort(58);
+    }
+    /**
+    * Y acceleration (mg)
+    */
+    public short getYacc(){
+        return getShort(60);
+    }
+    /**
+    * Z acceleration (mg)
+    */
+    public short getZacc(){
+        return getShort(62);
+    }
+}
@@ -0,0 +1,120 @@
+// MESSAGE HIL_STATE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hil_state;
+
+/**
+* View of HIL_STATE, decodes the fields directly from the received packet.
+* DEPRECATED PACKET! Suffers from missing airspeed fields and singularities due to Euler angles. Please use HIL_STATE_QUATERNION instead. Sent from simulation to autopilot. This packet is useful for high throughput applications such as hardware in the loop simulations.
+*/
+public class HilStateView extends MAVLinkView {
+
+    public HilStateView(){
+        super(msg_hil_state.MAVLINK_MSG_ID_HIL_STATE);
+    }
+
+    @Override
+    public HilStateView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Roll angle (rad)
+    */
+    public float getRoll(){
+        return getFloat(8);
+    }
+    /**
+    * Pitch angle (rad)
+    */
+    public float getPitch(){
+        return getFloat(12);
+    }
+    /**
+    * Yaw angle (rad)
+    */
+    public float getYaw(){
+        return getFloat(16);
+    }
+    /**
+    * Body frame roll / phi angular speed (rad/s)
+    */
+    public float getRollspeed(){
+        return getFloat(20);
+    }
+    /**
+    * Body frame pitch / theta angular speed (rad/s)
+    */
+    public float getPitchspeed(){
+        return getFloat(24);
+    }
+    /**
+    * Body frame yaw / psi angular speed (rad/s)
+    */
+    public float getYawspeed(){
+        return getFloat(28);
+    }
+    /**
+    * Latitude, expressed as * 1E7
+    */
+    public int getLat(){
+        return getInt(32);
+    }
+    /**
+    * Longitude, expressed as * 1E7
+    */
+    public int getLon(){
+        return getInt(36);
+    }
+    /**
+    * Altitude in meters, expressed as * 1000 (millimeters)
+    */
+    public int getAlt(){
+        return getInt(40);
+    }
+    /**
+    * Ground X Speed (Latitude), expressed as m/s * 100
+    */
+    public short getVx(){
+        return getShort(44);
+    }
+    /**
+    * Ground Y Speed (Longitude), expressed as m/s * 100
+    */
+    public short getVy(){
+        return getShort(46);
+    }
+    /**
+    * Ground Z Speed (Altitude), expressed as m/s * 100
+    */
+    public short getVz(){
+        return getShort(48);
+    }
+    /**
+    * X acceleration (mg)
+    */
+    public short getXacc(){
+        return getShort(50);
+    }
+    /**
+    * Y acceleration (mg)
+    */
+    public short getYacc(){
+        return getShort(52);
+    }
+    /**
+    * Z acceleration (mg)
+    */
+    public short getZacc(){
+        return getShort(54);
+    }
+}
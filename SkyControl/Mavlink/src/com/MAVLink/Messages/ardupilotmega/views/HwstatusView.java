@@ -0,0 +1,36 @@
+// MESSAGE HWSTATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_hwstatus;
+
+/**
+* View of HWSTATUS, decodes the fields directly from the received packet.
+* Status of key hardware
+*/
+public class HwstatusView extends MAVLinkView {
+
+    public HwstatusView(){
+        super(msg_hwstatus.MAVLINK_MSG_ID_HWSTATUS);
+    }
+
+    @Override
+    public HwstatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * board voltage (mV)
+    */
+    public short getVcc(){
+        return getShort(0);
+    }
+    /**
+    * I2C error count
+    */
+    public byte getI2Cerr(){
+        return getByte(2);
+    }
+}
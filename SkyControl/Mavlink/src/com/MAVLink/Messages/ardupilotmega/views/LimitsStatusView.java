@@ -0,0 +1,79 @@
+// MESSAGE LIMITS_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_limits_status;
+
+/**
+* View of LIMITS_STATUS, decodes the fields directly from the received packet.
+* Status of AP_Limits. Sent in extended
+	    status stream when AP_Limits is enabled
+*/
+public class LimitsStatusView extends MAVLinkView {
+
+    public LimitsStatusView(){
+        super(msg_limits_status.MAVLINK_MSG_ID_LIMITS_STATUS);
+    }
+
+    @Override
+    public LimitsStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * time of last breach in milliseconds since boot
+    */
+    public int getLastTrigger(){
+        return getInt(0);
+    }
+    /**
+    * time of last recovery action in milliseconds since boot
+    */
+    public int getLastAction(){
+        return getInt(4);
+    }
+    /**
+    * time of last successful recovery in milliseconds since boot
+    */
+    public int getLastRecovery(){
+        return getInt(8);
+    }
+    /**
+    * time of last all-clear in milliseconds since boot
+    */
+    public int getLastClear(){
+        return getInt(12);
+    }
+    /**
+    * number of fence breaches
+    */
+    public short getBreachCount(){
+        return getShort(16);
+    }
+    /**
+    * state of AP_Limits, (see enum LimitState, LIMITS_STATE)
+    */
+    public byte getLimitsState(){
+        return getByte(18);
+    }
+    /**
+    * AP_Limit_Module bitfield of enabled modules, (see enum moduleid or LIMIT_MODULE)
+    */
+    public byte getModsEnabled(){
+        return getByte(19);
+    }
+    /**
+    * AP_Limit_Module bitfield of required modules, (see enum moduleid or LIMIT_MODULE)
+    */
+    public byte getModsRequired(){
+        return getByte(20);
+    }
+    /**
+    * AP_Limit_Module bitfield of triggered modules, (see enum moduleid or LIMIT_MODULE)
+    */
+    public byte getModsTriggered(){
+        return getByte(21);
+    }
+}
@@ -0,0 +1,66 @@
+// MESSAGE LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_local_position_ned_system_global_offset;
+
+/**
+* View of LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET, decodes the fields directly from the received packet.
+* The offset in X, Y, Z and yaw between the LOCAL_POSITION_NED messages of MAV X and the global coordinate frame in NED coordinates. Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*/
+public class LocalPositionNedSystemGlobalOffsetView extends MAVLinkView {
+
+    public LocalPositionNedSystemGlobalOffsetView(){
+        super(msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET);
+    }
+
+    @Override
+    public LocalPositionNedSystemGlobalOffsetView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * X Position
+    */
+    public float getX(){
+        return getFloat(4);
+    }
+    /**
+    * Y Position
+    */
+    public float getY(){
+        return getFloat(8);
+    }
+    /**
+    * Z Position
+    */
+    public float getZ(){
+        return getFloat(12);
+    }
+    /**
+    * Roll
+    */
+    public float getRoll(){
+        return getFloat(16);
+    }
+    /**
+    * Pitch
+    */
+    public float getPitch(){
+        return getFloat(20);
+    }
+    /**
+    * Yaw
+    */
+    public float getYaw(){
+        return getFloat(24);
+    }
+}
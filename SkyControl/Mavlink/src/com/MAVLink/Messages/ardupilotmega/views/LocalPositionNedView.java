@@ -0,0 +1,66 @@
+// MESSAGE LOCAL_POSITION_NED VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_local_position_ned;
+
+/**
+* View of LOCAL_POSITION_NED, decodes the fields directly from the received packet.
+* The filtered local position (e.g. fused computer vision and accelerometers). Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*/
+public class LocalPositionNedView extends MAVLinkView {
+
+    public LocalPositionNedView(){
+        super(msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED);
+    }
+
+    @Override
+    public LocalPositionNedView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * X Position
+    */
+    public float getX(){
+        return getFloat(4);
+    }
+    /**
+    * Y Position
+    */
+    public float getY(){
+        return getFloat(8);
+    }
+    /**
+    * Z Position
+    */
+    public float getZ(){
+        return getFloat(12);
+    }
+    /**
+    * X Speed
+    */
+    public float getVx(){
+        return getFloat(16);
+    }
+    /**
+    * Y Speed
+    */
+    public float getVy(){
+        return getFloat(20);
+    }
+    /**
+    * Z Speed
+    */
+    public float getVz(){
+        return getFloat(24);
+    }
+}
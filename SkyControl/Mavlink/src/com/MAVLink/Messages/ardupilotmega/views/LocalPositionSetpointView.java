@@ -0,0 +1,54 @@
+// MESSAGE LOCAL_POSITION_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_local_position_setpoint;
+
+/**
+* View of LOCAL_POSITION_SETPOINT, decodes the fields directly from the received packet.
+* Transmit the current local setpoint of the controller to other MAVs (collision avoidance) and to the GCS.
+*/
+public class LocalPositionSetpointView extends MAVLinkView {
+
+    public LocalPositionSetpointView(){
+        super(msg_local_position_setpoint.MAVLINK_MSG_ID_LOCAL_POSITION_SETPOINT);
+    }
+
+    @Override
+    public LocalPositionSetpointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * x position
+    */
+    public float getX(){
+        return getFloat(0);
+    }
+    /**
+    * y position
+    */
+    public float getY(){
+        return getFloat(4);
+    }
+    /**
+    * z position
+    */
+    public float getZ(){
+        return getFloat(8);
+    }
+    /**
+    * Desired yaw angle
+    */
+    public float getYaw(){
+        return getFloat(12);
+    }
+    /**
+    * Coordinate frame - valid values are only MAV_FRAME_LOCAL_NED or MAV_FRAME_LOCAL_ENU
+    */
+    public byte getCoordinateFrame(){
+        return getByte(16);
+    }
+}
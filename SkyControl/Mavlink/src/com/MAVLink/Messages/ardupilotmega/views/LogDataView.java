@@ -0,0 +1,48 @@
+// MESSAGE LOG_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_data;
+
+/**
+* View of LOG_DATA, decodes the fields directly from the received packet.
+* Reply to LOG_REQUEST_DATA
+*/
+public class LogDataView extends MAVLinkView {
+
+    public LogDataView(){
+        super(msg_log_data.MAVLINK_MSG_ID_LOG_DATA);
+    }
+
+    @Override
+    public LogDataView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Offset into the log
+    */
+    public int getOfs(){
+        return getInt(0);
+    }
+    /**
+    * Log id (from LOG_ENTRY reply)
+    */
+    public short getId(){
+        return getShort(4);
+    }
+    /**
+    * Number of bytes (zero for end of log)
+    */
+    public byte getCount(){
+        return getByte(6);
+    }
+    /**
+    * log data
+    */
+    public byte getData(int index){
+        return getByte(7 + index * 1);
+    }
+}
@@ -0,0 +1,54 @@
+// MESSAGE LOG_ENTRY VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_entry;
+
+/**
+* View of LOG_ENTRY, decodes the fields directly from the received packet.
+* Reply to LOG_REQUEST_LIST
+*/
+public class LogEntryView extends MAVLinkView {
+
+    public LogEntryView(){
+        super(msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY);
+    }
+
+    @Override
+    public LogEntryView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * UTC timestamp of log in seconds since 1970, or 0 if not available
+    */
+    public int getTimeUtc(){
+        return getInt(0);
+    }
+    /**
+    * Size of the log (may be approximate) in bytes
+    */
+    public int getSize(){
+        return getInt(4);
+    }
+    /**
+    * Log id
+    */
+    public short getId(){
+        return getShort(8);
+    }
+    /**
+    * Total number of logs
+    */
+    public short getNumLogs(){
+        return getShort(10);
+    }
+    /**
+    * High log number
+    */
+    public short getLastLogNum(){
+        return getShort(12);
+    }
+}
@@ -0,0 +1,36 @@
+// MESSAGE LOG_ERASE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_erase;
+
+/**
+* View of LOG_ERASE, decodes the fields directly from the received packet.
+* Erase all logs
+*/
+public class LogEraseView extends MAVLinkView {
+
+    public LogEraseView(){
+        super(msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE);
+    }
+
+    @Override
+    public LogEraseView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+}
@@ -0,0 +1,54 @@
+// MESSAGE LOG_REQUEST_DATA VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_request_data;
+
+/**
+* View of LOG_REQUEST_DATA, decodes the fields directly from the received packet.
+* Request a chunk of a log
+*/
+public class LogRequestDataView extends MAVLinkView {
+
+    public LogRequestDataView(){
+        super(msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA);
+    }
+
+    @Override
+    public LogRequestDataView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Offset into the log
+    */
+    public int getOfs(){
+        return getInt(0);
+    }
+    /**
+    * Number of bytes
+    */
+    public int getCount(){
+        return getInt(4);
+    }
+    /**
+    * Log id (from LOG_ENTRY reply)
+    */
+    public short getId(){
+        return getShort(8);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(10);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(11);
+    }
+}
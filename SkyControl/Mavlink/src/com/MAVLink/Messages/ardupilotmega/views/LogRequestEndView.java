@@ -0,0 +1,36 @@
+// MESSAGE LOG_REQUEST_END VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_request_end;
+
+/**
+* View of LOG_REQUEST_END, decodes the fields directly from the received packet.
+* Stop log transfer and resume normal logging
+*/
+public class LogRequestEndView extends MAVLinkView {
+
+    public LogRequestEndView(){
+        super(msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END);
+    }
+
+    @Override
+    public LogRequestEndView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+}
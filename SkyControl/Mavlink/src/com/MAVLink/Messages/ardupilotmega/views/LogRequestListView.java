@@ -0,0 +1,48 @@
+// MESSAGE LOG_REQUEST_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_log_request_list;
+
+/**
+* View of LOG_REQUEST_LIST, decodes the fields directly from the received packet.
+* Request a list of available logs. On some systems calling this may stop on-board logging until LOG_REQUEST_END is called.
+*/
+public class LogRequestListView extends MAVLinkView {
+
+    public LogRequestListView(){
+        super(msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST);
+    }
+
+    @Override
+    public LogRequestListView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * First log id (0 for first available)
+    */
+    public short getStart(){
+        return getShort(0);
+    }
+    /**
+    * Last log id (0xffff for last available)
+    */
+    public short getEnd(){
+        return getShort(2);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(4);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(5);
+    }
+}
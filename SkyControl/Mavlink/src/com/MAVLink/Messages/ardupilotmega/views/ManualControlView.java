@@ -0,0 +1,60 @@
+// MESSAGE MANUAL_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_manual_control;
+
+/**
+* View of MANUAL_CONTROL, decodes the fields directly from the received packet.
+* This message provides an API for manually controlling the vehicle using standard joystick axes nomenclature, along with a joystick-like input device. Unused axes can be disabled an buttons are also transmit as boolean values of their 
+*/
+public class ManualControlView extends MAVLinkView {
+
+    public ManualControlView(){
+        super(msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL);
+    }
+
+    @Override
+    public ManualControlView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * X-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to forward(1000)-backward(-1000) movement on a joystick and the pitch of a vehicle.
+    */
+    public short getX(){
+        return getShort(0);
+    }
+    /**
+    * Y-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to left(-1000)-right(1000) movement on a joystick and the roll of a vehicle.
+    */
+    public short getY(){
+        return getShort(2);
+    }
+    /**
+    * Z-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to a separate slider movement with maximum being 1000 and minimum being -1000 on a joystick and the thrust of a vehicle.
+    */
+    public short getZ(){
+        return getShort(4);
+    }
+    /**
+    * R-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to a twisting of the joystick, with counter-clockwise being 1000 and clockwise being -1000, and the yaw of a vehicle.
+    */
+    public short getR(){
+        return getShort(6);
+    }
+    /**
+    * A bitfield corresponding to the joystick buttons' current state, 1 for pressed, 0 for released. The lowest bit corresponds to Button 1.
+    */
+    public short getButtons(){
+        return getShort(8);
+    }
+    /**
+    * The system to be controlled.
+    */
+    public byte getTarget(){
+        return getByte(10);
+    }
+}
@@ -0,0 +1,66 @@
+// MESSAGE MANUAL_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_manual_setpoint;
+
+/**
+* View of MANUAL_SETPOINT, decodes the fields directly from the received packet.
+* Setpoint in roll, pitch, yaw and thrust from the operator
+*/
+public class ManualSetpointView extends MAVLinkView {
+
+    public ManualSetpointView(){
+        super(msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT);
+    }
+
+    @Override
+    public ManualSetpointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Desired roll rate in radians per second
+    */
+    public float getRoll(){
+        return getFloat(4);
+    }
+    /**
+    * Desired pitch rate in radians per second
+    */
+    public float getPitch(){
+        return getFloat(8);
+    }
+    /**
+    * Desired yaw rate in radians per second
+    */
+    public float getYaw(){
+        return getFloat(12);
+    }
+    /**
+    * Collective thrust, normalized to 0 .. 1
+    */
+    public float getThrust(){
+        return getFloat(16);
+    }
+    /**
+    * Flight mode switch position, 0.. 255
+    */
+    public byte getModeSwitch(){
+        return getByte(20);
+    }
+    /**
+    * Override mode switch position, 0.. 255
+    */
+    public byte getManualOverrideSwitch(){
+        return getByte(21);
+    }
+}
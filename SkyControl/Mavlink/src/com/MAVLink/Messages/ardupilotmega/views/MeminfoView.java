@@ -0,0 +1,36 @@
+// MESSAGE MEMINFO VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_meminfo;
+
+/**
+* View of MEMINFO, decodes the fields directly from the received packet.
+* state of APM memory
+*/
+public class MeminfoView extends MAVLinkView {
+
+    public MeminfoView(){
+        super(msg_meminfo.MAVLINK_MSG_ID_MEMINFO);
+    }
+
+    @Override
+    public MeminfoView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * heap top
+    */
+    public short getBrkval(){
+        return getShort(0);
+    }
+    /**
+    * free memory
+    */
+    public short getFreemem(){
+        return getShort(2);
+    }
+}
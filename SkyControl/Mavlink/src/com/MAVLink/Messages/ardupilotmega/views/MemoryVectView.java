@@ -0,0 +1,48 @@
+// MESSAGE MEMORY_VECT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_memory_vect;
+
+/**
+* View of MEMORY_VECT, decodes the fields directly from the received packet.
+* Send raw controller memory. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output.
+*/
+public class MemoryVectView extends MAVLinkView {
+
+    public MemoryVectView(){
+        super(msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT);
+    }
+
+    @Override
+    public MemoryVectView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Starting address of the debug variables
+    */
+    public short getAddress(){
+        return getShort(0);
+    }
+    /**
+    * Version code of the type variable. 0=unknown, type ignored and assumed int16_t. 1=as below
+    */
+    public byte getVer(){
+        return getByte(2);
+    }
+    /**
+    * Type code of the memory variables. for ver = 1: 0=16 x int16_t, 1=16 x uint16_t, 2=16 x Q15, 3=16 x 1Q14
+    */
+    public byte getType(){
+        return getByte(3);
+    }
+    /**
+    * Memory contents at specified address
+    */
+    public byte getValue(int index){
+        return getByte(4 + index * 1);
+    }
+}
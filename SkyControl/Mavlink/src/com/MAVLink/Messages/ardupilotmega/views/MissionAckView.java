@@ -0,0 +1,42 @@
+// MESSAGE MISSION_ACK VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_ack;
+
+/**
+* View of MISSION_ACK, decodes the fields directly from the received packet.
+* Ack message during MISSION handling. The type field states if this message is a positive ack (type=0) or if an error happened (type=non-zero).
+*/
+public class MissionAckView extends MAVLinkView {
+
+    public MissionAckView(){
+        super(msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK);
+    }
+
+    @Override
+    public MissionAckView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+    /**
+    * See MAV_MISSION_RESULT enum
+    */
+    public byte getType(){
+        return getByte(2);
+    }
+}
@@ -0,0 +1,36 @@
+// MESSAGE MISSION_CLEAR_ALL VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_clear_all;
+
+/**
+* View of MISSION_CLEAR_ALL, decodes the fields directly from the received packet.
+* Delete all mission items at once.
+*/
+public class MissionClearAllView extends MAVLinkView {
+
+    public MissionClearAllView(){
+        super(msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL);
+    }
+
+    @Override
+    public MissionClearAllView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+}
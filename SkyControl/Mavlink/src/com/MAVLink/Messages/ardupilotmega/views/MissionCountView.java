@@ -0,0 +1,42 @@
+// MESSAGE MISSION_COUNT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_count;
+
+/**
+* View of MISSION_COUNT, decodes the fields directly from the received packet.
+* This message is emitted as response to MISSION_REQUEST_LIST by the MAV and to initiate a write transaction. The GCS can then request the individual mission item based on the knowledge of the total number of MISSIONs.
+*/
+public class MissionCountView extends MAVLinkView {
+
+    public MissionCountView(){
+        super(msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT);
+    }
+
+    @Override
+    public MissionCountView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Number of mission items in the sequence
+    */
+    public short getCount(){
+        return getShort(0);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(2);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(3);
+    }
+}
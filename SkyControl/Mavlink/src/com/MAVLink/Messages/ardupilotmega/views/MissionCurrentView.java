@@ -0,0 +1,30 @@
+// MESSAGE MISSION_CURRENT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_current;
+
+/**
+* View of MISSION_CURRENT, decodes the fields directly from the received packet.
+* Message that announces the sequence number of the current active mission item. The MAV will fly towards this mission item.
+*/
+public class MissionCurrentView extends MAVLinkView {
+
+    public MissionCurrentView(){
+        super(msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT);
+    }
+
+    @Override
+    public MissionCurrentView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Sequence
+    */
+    public short getSeq(){
+        return getShort(0);
+    }
+}
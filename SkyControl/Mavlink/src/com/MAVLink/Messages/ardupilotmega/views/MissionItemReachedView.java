@@ -0,0 +1,30 @@
+// MESSAGE MISSION_ITEM_REACHED VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_item_reached;
+
+/**
+* View of MISSION_ITEM_REACHED, decodes the fields directly from the received packet.
+* A certain mission item has been reached. The system will either hold this position (or circle on the orbit) or (if the autocontinue on the WP was set) continue to the next MISSION.
+*/
+public class MissionItemReachedView extends MAVLinkView {
+
+    public MissionItemReachedView(){
+        super(msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED);
+    }
+
+    @Override
+    public MissionItemReachedView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Sequence
+    */
+    public short getSeq(){
+        return getShort(0);
+    }
+}
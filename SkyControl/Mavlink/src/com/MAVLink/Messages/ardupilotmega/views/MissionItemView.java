@@ -0,0 +1,109 @@
+// MESSAGE MISSION_ITEM VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_item;
+
+/**
+* View of MISSION_ITEM, decodes the fields directly from the received packet.
+* Message encoding a mission item. This message is emitted to announce
+                the presence of a mission item and to set a mission item on the system. The mission item can be either in x, y, z meters (type: LOCAL) or x:lat, y:lon, z:altitude. Local frame is Z-down, right handed (NED), global frame is Z-up, right handed (ENU). See also http://qgroundcontrol.org/mavlink/waypoint_protocol.
+*/
+public class MissionItemView extends MAVLinkView {
+
+    public MissionItemView(){
+        super(msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM);
+    }
+
+    @Override
+    public MissionItemView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * PARAM1, see MAV_CMD enum
+    */
+    public float getParam1(){
+        return getFloat(0);
+    }
+    /**
+    * PARAM2, see MAV_CMD enum
+    */
+    public float getParam2(){
+        return getFloat(4);
+    }
+    /**
+    * PARAM3, see MAV_CMD enum
+    */
+    public float getParam3(){
+        return getFloat(8);
+    }
+    /**
+    * PARAM4, see MAV_CMD enum
+    */
+    public float getParam4(){
+        return getFloat(12);
+    }
+    /**
+    * PARAM5 / local: x position, global: latitude
+    */
+    public float getX(){
+        return getFloat(16);
+    }
+    /**
+    * PARAM6 / y position: global: longitude
+    */
+    public float getY(){
+        return getFloat(20);
+    }
+    /**
+    * PARAM7 / z position: global: altitude (relative or absolute, depending on frame.
+    */
+    public float getZ(){
+        return getFloat(24);
+    }
+    /**
+    * Sequence
+    */
+    public short getSeq(){
+        return getShort(28);
+    }
+    /**
+    * The scheduled action for the MISSION. see MAV_CMD in common.xml MAVLink specs
+    */
+    public short getCommand(){
+        return getShort(30);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(32);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(33);
+    }
+    /**
+    * The coordinate system of the MISSION. see MAV_FRAME in mavlink_types.h
+    */
+    public byte getFrame(){
+        return getByte(34);
+    }
+    /**
+    * false:0, true:1
+    */
+    public byte getCurrent(){
+        return getByte(35);
+    }
+    /**
+    * autocontinue to next wp
+    */
+    public byte getAutocontinue(){
+        return getByte(36);
+    }
+}
@@ -0,0 +1,36 @@
+// MESSAGE MISSION_REQUEST_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request_list;
+
+/**
+* View of MISSION_REQUEST_LIST, decodes the fields directly from the received packet.
+* Request the overall list of mission items from the system/component.
+*/
+public class MissionRequestListView extends MAVLinkView {
+
+    public MissionRequestListView(){
+        super(msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST);
+    }
+
+    @Override
+    public MissionRequestListView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+}
@@ -0,0 +1,48 @@
+// MESSAGE MISSION_REQUEST_PARTIAL_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request_partial_list;
+
+/**
+* View of MISSION_REQUEST_PARTIAL_LIST, decodes the fields directly from the received packet.
+* Request a partial list of mission items from the system/component. http://qgroundcontrol.org/mavlink/waypoint_protocol. If start and end index are the same, just send one waypoint.
+*/
+public class MissionRequestPartialListView extends MAVLinkView {
+
+    public MissionRequestPartialListView(){
+        super(msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST);
+    }
+
+    @Override
+    public MissionRequestPartialListView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Start index, 0 by default
+    */
+    public short getStartIndex(){
+        return getShort(0);
+    }
+    /**
+    * End index, -1 by default (-1: send list to end). Else a valid index of the list
+    */
+    public short getEndIndex(){
+        return getShort(2);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(4);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(5);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE MISSION_REQUEST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request;
+
+/**
+* View of MISSION_REQUEST, decodes the fields directly from the received packet.
+* Request the information of the mission item with the sequence number seq. The response of the system to this message should be a MISSION_ITEM message. http://qgroundcontrol.org/mavlink/waypoint_protocol
+*/
+public class MissionRequestView extends MAVLinkView {
+
+    public MissionRequestView(){
+        super(msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST);
+    }
+
+    @Override
+    public MissionRequestView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Sequence
+    */
+    public short getSeq(){
+        return getShort(0);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(2);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(3);
+    }
+}
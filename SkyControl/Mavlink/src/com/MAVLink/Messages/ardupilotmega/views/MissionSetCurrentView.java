@@ -0,0 +1,42 @@
+// MESSAGE MISSION_SET_CURRENT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_set_current;
+
+/**
+* View of MISSION_SET_CURRENT, decodes the fields directly from the received packet.
+* Set the mission item with sequence number seq as current item. This means that the MAV will continue to this mission item on the shortest path (not following the mission items in-between).
+*/
+public class MissionSetCurrentView extends MAVLinkView {
+
+    public MissionSetCurrentView(){
+        super(msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT);
+    }
+
+    @Override
+    public MissionSetCurrentView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Sequence
+    */
+    public short getSeq(){
+        return getShort(0);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(2);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(3);
+    }
+}
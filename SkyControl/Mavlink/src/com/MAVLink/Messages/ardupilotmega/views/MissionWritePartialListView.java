@@ -0,0 +1,48 @@
+// MESSAGE MISSION_WRITE_PARTIAL_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_write_partial_list;
+
+/**
+* View of MISSION_WRITE_PARTIAL_LIST, decodes the fields directly from the received packet.
+* This message is sent to the MAV to write a partial list. If start index == end index, only one item will be transmitted / updated. If the start index is NOT 0 and above the current list size, this request should be REJECTED!
+*/
+public class MissionWritePartialListView extends MAVLinkView {
+
+    public MissionWritePartialListView(){
+        super(msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST);
+    }
+
+    @Override
+    public MissionWritePartialListView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Start index, 0 by default and smaller / equal to the largest index of the current onboard list.
+    */
+    public short getStartIndex(){
+        return getShort(0);
+    }
+    /**
+    * End index, equal or greater than start index.
+    */
+    public short getEndIndex(){
+        return getShort(2);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(4);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(5);
+    }
+}
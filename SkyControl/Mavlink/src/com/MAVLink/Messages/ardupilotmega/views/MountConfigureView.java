@@ -0,0 +1,60 @@
+// MESSAGE MOUNT_CONFIGURE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mount_configure;
+
+/**
+* View of MOUNT_CONFIGURE, decodes the fields directly from the received packet.
+* Message to configure a camera mount, directional antenna, etc.
+*/
+public class MountConfigureView extends MAVLinkView {
+
+    public MountConfigureView(){
+        super(msg_mount_configure.MAVLINK_MSG_ID_MOUNT_CONFIGURE);
+    }
+
+    @Override
+    public MountConfigureView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+    /**
+    * mount operating mode (see MAV_MOUNT_MODE enum)
+    */
+    public byte getMountMode(){
+        return getByte(2);
+    }
+    /**
+    * (1 = yes, 0 = no)
+    */
+    public byte getStabRoll(){
+        return getByte(3);
+    }
+    /**
+    * (1 = yes, 0 = no)
+    */
+    public byte getStabPitch(){
+        return getByte(4);
+    }
+    /**
+    * (1 = yes, 0 = no)
+    */
+    public byte getStabYaw(){
+        return getByte(5);
+    }
+}
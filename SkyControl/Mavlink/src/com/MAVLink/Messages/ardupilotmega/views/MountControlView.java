@@ -0,0 +1,60 @@
+// MESSAGE MOUNT_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mount_control;
+
+/**
+* View of MOUNT_CONTROL, decodes the fields directly from the received packet.
+* Message to control a camera mount, directional antenna, etc.
+*/
+public class MountControlView extends MAVLinkView {
+
+    public MountControlView(){
+        super(msg_mount_control.MAVLINK_MSG_ID_MOUNT_CONTROL);
+    }
+
+    @Override
+    public MountControlView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * pitch(deg*100) or lat, depending on mount mode
+    */
+    public int getInputA(){
+        return getInt(0);
+    }
+    /**
+    * roll(deg*100) or lon depending on mount mode
+    */
+    public int getInputB(){
+        return getInt(4);
+    }
+    /**
+    * yaw(deg*100) or alt (in cm) depending on mount mode
+    */
+    public int getInputC(){
+        return getInt(8);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(12);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(13);
+    }
+    /**
+    * if "1" it will save current trimmed position on EEPROM (just valid for NEUTRAL and LANDING)
+    */
+    public byte getSavePosition(){
+        return getByte(14);
+    }
+}
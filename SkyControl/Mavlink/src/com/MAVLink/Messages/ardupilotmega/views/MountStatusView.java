@@ -0,0 +1,54 @@
+// MESSAGE MOUNT_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_mount_status;
+
+/**
+* View of MOUNT_STATUS, decodes the fields directly from the received packet.
+* Message with some status from APM to GCS about camera or antenna mount
+*/
+public class MountStatusView extends MAVLinkView {
+
+    public MountStatusView(){
+        super(msg_mount_status.MAVLINK_MSG_ID_MOUNT_STATUS);
+    }
+
+    @Override
+    public MountStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * pitch(deg*100) or lat, depending on mount mode
+    */
+    public int getPointingA(){
+        return getInt(0);
+    }
+    /**
+    * roll(deg*100) or lon depending on mount mode
+    */
+    public int getPointingB(){
+        return getInt(4);
+    }
+    /**
+    * yaw(deg*100) or alt (in cm) depending on mount mode
+    */
+    public int getPointingC(){
+        return getInt(8);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(12);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(13);
+    }
+}
@@ -0,0 +1,48 @@
+// MESSAGE NAMED_VALUE_INT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_named_value_int;
+
+/**
+* View of NAMED_VALUE_INT, decodes the fields directly from the received packet.
+* Send a key-value pair as integer. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output.
+*/
+public class NamedValueIntView extends MAVLinkView {
+
+    public NamedValueIntView(){
+        super(msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT);
+    }
+
+    @Override
+    public NamedValueIntView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Signed integer value
+    */
+    public int getValue(){
+        return getInt(4);
+    }
+    /**
+    * Name of the debug variable
+    */
+    public char getName(int index){
+        return getChar(8 + index * 1);
+    }
+    /**
+    * Name of the debug variable
+    */
+    public String getName(){
+        return getString(8, 10);
+    }
+}
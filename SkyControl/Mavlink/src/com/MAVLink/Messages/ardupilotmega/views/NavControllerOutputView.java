@@ -0,0 +1,72 @@
+// MESSAGE NAV_CONTROLLER_OUTPUT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_nav_controller_output;
+
+/**
+* View of NAV_CONTROLLER_OUTPUT, decodes the fields directly from the received packet.
+* Outputs of the APM navigation controller. The primary use of this message is to check the response and signs of the controller before actual flight and to assist with tuning controller parameters.
+*/
+public class NavControllerOutputView extends MAVLinkView {
+
+    public NavControllerOutputView(){
+        super(msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT);
+    }
+
+    @Override
+    public NavControllerOutputView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Current desired roll in degrees
+    */
+    public float getNavRoll(){
+        return getFloat(0);
+    }
+    /**
+    * Current desired pitch in degrees
+    */
+    public float getNavPitch(){
+        return getFloat(4);
+    }
+    /**
+    * Current altitude error in meters
+    */
+    public float getAltError(){
+        return getFloat(8);
+    }
+    /**
+    * Current airspeed error in meters/second
+    */
+    public float getAspdError(){
+        return getFloat(12);
+    }
+    /**
+    * Current crosstrack error on x-y plane in meters
+    */
+    public float getXtrackError(){
+        return getFloat(16);
+    }
+    /**
+    * Current desired heading in degrees
+    */
+    public short getNavBearing(){
+        return getShort(20);
+    }
+    /**
+    * Bearing to current MISSION/target in degrees
+    */
+    public short getTargetBearing(){
+        return getShort(22);
+    }
+    /**
+    * Distance to active MISSION in meters
+    */
+    public short getWpDist(){
+        return getShort(24);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE OMNIDIRECTIONAL_FLOW VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_omnidirectional_flow;
+
+/**
+* View of OMNIDIRECTIONAL_FLOW, decodes the fields directly from the received packet.
+* Optical flow from an omnidirectional flow sensor (e.g. PX4FLOW with wide angle lens)
+*/
+public class OmnidirectionalFlowView extends MAVLinkView {
+
+    public OmnidirectionalFlowView(){
+        super(msg_omnidirectional_flow.MAVLINK_MSG_ID_OMNIDIRECTIONAL_FLOW);
+    }
+
+    @Override
+    public OmnidirectionalFlowView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Front distance in meters. Positive value (including zero): distance known. Negative value: Unknown distance
+    */
+    public float getFrontDistanceM(){
+        return getFloat(8);
+    }
+    /**
+    * Flow in deci pixels (1 = 0.1 pixel) on left hemisphere
+    */
+    public short getLeft(int index){
+        return getShort(12 + index * 2);
+    }
+    /**
+    * Flow in deci pixels (1 = 0.1 pixel) on right hemisphere
+    */
+    public short getRight(int index){
+        return getShort(32 + index * 2);
+    }
+    /**
+    * Sensor ID
+    */
+    public byte getSensorId(){
+        return getByte(52);
+    }
+    /**
+    * Optical flow quality / confidence. 0: bad, 255: maximum quality
+    */
+    public byte getQuality(){
+        return getByte(53);
+    }
+}
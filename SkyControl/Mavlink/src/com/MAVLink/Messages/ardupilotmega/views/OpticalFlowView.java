@@ -0,0 +1,72 @@
+// MESSAGE OPTICAL_FLOW VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_optical_flow;
+
+/**
+* View of OPTICAL_FLOW, decodes the fields directly from the received packet.
+* Optical flow from a flow sensor (e.g. optical mouse sensor)
+*/
+public class OpticalFlowView extends MAVLinkView {
+
+    public OpticalFlowView(){
+        super(msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW);
+    }
+
+    @Override
+    public OpticalFlowView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (UNIX)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Flow in meters in x-sensor direction, angular-speed compensated
+    */
+    public float getFlowCompMX(){
+        return getFloat(8);
+    }
+    /**
+    * Flow in meters in y-sensor direction, angular-speed compensated
+    */
+    public float getFlowCompMY(){
+        return getFloat(12);
+    }
+    /**
+    * Ground distance in meters. Positive value: distance known. Negative value: Unknown distance
+    */
+    public float getGroundDistance(){
+        return getFloat(16);
+    }
+    /**
+    * Flow in pixels * 10 in x-sensor direction (dezi-pixels)
+    */
+    public short getFlowX(){
+        return getShort(20);
+    }
+    /**
+    * Flow in pixels * 10 in y-sensor direction (dezi-pixels)
+    */
+    public short getFlowY(){
+        return getShort(22);
+    }
+    /**
+    * Sensor ID
+    */
+    public byte getSensorId(){
+        return getByte(24);
+    }
+    /**
+    * Optical flow quality / confidence. 0: bad, 255: maximum quality
+    */
+    public byte getQuality(){
+        return getByte(25);
+    }
+}
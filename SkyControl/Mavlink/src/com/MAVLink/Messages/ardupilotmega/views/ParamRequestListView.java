@@ -0,0 +1,36 @@
+// MESSAGE PARAM_REQUEST_LIST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_request_list;
+
+/**
+* View of PARAM_REQUEST_LIST, decodes the fields directly from the received packet.
+* Request all parameters of this component. After his request, all parameters are emitted.
+*/
+public class ParamRequestListView extends MAVLinkView {
+
+    public ParamRequestListView(){
+        super(msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST);
+    }
+
+    @Override
+    public ParamRequestListView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+}
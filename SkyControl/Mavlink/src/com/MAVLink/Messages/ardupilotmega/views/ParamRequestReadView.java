@@ -0,0 +1,54 @@
+// MESSAGE PARAM_REQUEST_READ VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_request_read;
+
+/**
+* View of PARAM_REQUEST_READ, decodes the fields directly from the received packet.
+* Request to read the onboard parameter with the param_id string id. Onboard parameters are stored as key[const char*] -> value[float]. This allows to send a parameter to any other component (such as the GCS) without the need of previous knowledge of possible parameter names. Thus the same GCS can store different parameters for different autopilots. See also http://qgroundcontrol.org/parameter_interface for a full documentation of QGroundControl and IMU code.
+*/
+public class ParamRequestReadView extends MAVLinkView {
+
+    public ParamRequestReadView(){
+        super(msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ);
+    }
+
+    @Override
+    public ParamRequestReadView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Parameter index. Send -1 to use the param ID field as identifier (else the param id will be ignored)
+    */
+    public short getParamIndex(){
+        return getShort(0);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(2);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(3);
+    }
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    */
+    public char getParamId(int index){
+        return getChar(4 + index * 1);
+    }
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    */
+    public String getParamId(){
+        return getString(4, 16);
+    }
+}
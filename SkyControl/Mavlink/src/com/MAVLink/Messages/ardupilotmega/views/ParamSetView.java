@@ -0,0 +1,60 @@
+// MESSAGE PARAM_SET VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_set;
+
+/**
+* View of PARAM_SET, decodes the fields directly from the received packet.
+* Set a parameter value TEMPORARILY to RAM. It will be reset to default on system reboot. Send the ACTION MAV_ACTION_STORAGE_WRITE to PERMANENTLY write the RAM contents to EEPROM. IMPORTANT: The receiving component should acknowledge the new parameter value by sending a param_value message to all communication partners. This will also ensure that multiple GCS all have an up-to-date list of all parameters. If the sending GCS did not receive a PARAM_VALUE message within its timeout time, it should re-send the PARAM_SET message.
+*/
+public class ParamSetView extends MAVLinkView {
+
+    public ParamSetView(){
+        super(msg_param_set.MAVLINK_MSG_ID_PARAM_SET);
+    }
+
+    @Override
+    public ParamSetView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Onboard parameter value
+    */
+    public float getParamValue(){
+        return getFloat(0);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(4);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(5);
+    }
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    */
+    public char getParamId(int index){
+        return getChar(6 + index * 1);
+    }
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    */
+    public String getParamId(){
+        return getString(6, 16);
+    }
+    /**
+    * Onboard parameter type: see the MAV_PARAM_TYPE enum for supported data types.
+    */
+    public byte getParamType(){
+        return getByte(22);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE PARAM_VALUE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_param_value;
+
+/**
+* View of PARAM_VALUE, decodes the fields directly from the received packet.
+* Emit the value of a onboard parameter. The inclusion of param_count and param_index in the message allows the recipient to keep track of received parameters and allows him to re-request missing parameters after a loss or timeout.
+*/
+public class ParamValueView extends MAVLinkView {
+
+    public ParamValueView(){
+        super(msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE);
+    }
+
+    @Override
+    public ParamValueView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Onboard parameter value
+    */
+    public float getParamValue(){
+        return getFloat(0);
+    }
+    /**
+    * Total number of onboard parameters
+    */
+    public short getParamCount(){
+        return getShort(4);
+    }
+    /**
+    * Index of this onboard parameter
+    */
+    public short getParamIndex(){
+        return getShort(6);
+    }
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    */
+    public char getParamId(int index){
+        return getChar(8 + index * 1);
+    }
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    */
+    public String getParamId(){
+        return getString(8, 16);
+    }
+    /**
+    * Onboard parameter type: see the MAV_PARAM_TYPE enum for supported data types.
+    */
+    public byte getParamType(){
+        return getByte(24);
+    }
+}
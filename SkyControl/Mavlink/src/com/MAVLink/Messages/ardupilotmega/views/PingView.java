@@ -0,0 +1,48 @@
+// MESSAGE PING VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_ping;
+
+/**
+* View of PING, decodes the fields directly from the received packet.
+* A ping message either requesting or responding to a ping. This allows to measure the system latencies, including serial port, radio modem and UDP connections.
+*/
+public class PingView extends MAVLinkView {
+
+    public PingView(){
+        super(msg_ping.MAVLINK_MSG_ID_PING);
+    }
+
+    @Override
+    public PingView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Unix timestamp in microseconds
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * PING sequence
+    */
+    public int getSeq(){
+        return getInt(8);
+    }
+    /**
+    * 0: request ping from all receiving systems, if greater than 0: message is a ping response and number is the system id of the requesting system
+    */
+    public byte getTargetSystem(){
+        return getByte(12);
+    }
+    /**
+    * 0: request ping from all receiving components, if greater than 0: message is a ping response and number is the system id of the requesting system
+    */
+    public byte getTargetComponent(){
+        return getByte(13);
+    }
+}
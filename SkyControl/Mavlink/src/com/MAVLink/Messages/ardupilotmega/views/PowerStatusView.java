@@ -0,0 +1,42 @@
+// MESSAGE POWER_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_power_status;
+
+/**
+* View of POWER_STATUS, decodes the fields directly from the received packet.
+* Power supply status
+*/
+public class PowerStatusView extends MAVLinkView {
+
+    public PowerStatusView(){
+        super(msg_power_status.MAVLINK_MSG_ID_POWER_STATUS);
+    }
+
+    @Override
+    public PowerStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * 5V rail voltage in millivolts
+    */
+    public short getVcc(){
+        return getShort(0);
+    }
+    /**
+    * servo rail voltage in millivolts
+    */
+    public short getVservo(){
+        return getShort(2);
+    }
+    /**
+    * power supply status flags (see MAV_POWER_STATUS enum)
+    */
+    public short getFlags(){
+        return getShort(4);
+    }
+}
@@ -0,0 +1,66 @@
+// MESSAGE RADIO_STATUS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_radio_status;
+
+/**
+* View of RADIO_STATUS, decodes the fields directly from the received packet.
+* Status generated by radio
+*/
+public class RadioStatusView extends MAVLinkView {
+
+    public RadioStatusView(){
+        super(msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS);
+    }
+
+    @Override
+    public RadioStatusView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * receive errors
+    */
+    public short getRxerrors(){
+        return getShort(0);
+    }
+    /**
+    * count of error corrected packets
+    */
+    public short getFixed(){
+        return getShort(2);
+    }
+    /**
+    * local signal strength
+    */
+    public byte getRssi(){
+        return getByte(4);
+    }
+    /**
+    * remote signal strength
+    */
+    public byte getRemrssi(){
+        return getByte(5);
+    }
+    /**
+    * how full the tx buffer is as a percentage
+    */
+    public byte getTxbuf(){
+        return getByte(6);
+    }
+    /**
+    * background noise level
+    */
+    public byte getNoise(){
+        return getByte(7);
+    }
+    /**
+    * remote background noise level
+    */
+    public byte getRemnoise(){
+        return getByte(8);
+    }
+}
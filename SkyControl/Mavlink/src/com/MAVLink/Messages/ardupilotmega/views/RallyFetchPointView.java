@@ -0,0 +1,42 @@
+// MESSAGE RALLY_FETCH_POINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rally_fetch_point;
+
+/**
+* View of RALLY_FETCH_POINT, decodes the fields directly from the received packet.
+* Request a current rally point from MAV. MAV should respond with a RALLY_POINT message. MAV should not respond if the request is invalid.
+*/
+public class RallyFetchPointView extends MAVLinkView {
+
+    public RallyFetchPointView(){
+        super(msg_rally_fetch_point.MAVLINK_MSG_ID_RALLY_FETCH_POINT);
+    }
+
+    @Override
+    public RallyFetchPointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(0);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(1);
+    }
+    /**
+    * point index (first point is 0)
+    */
+    public byte getIdx(){
+        return getByte(2);
+    }
+}
@@ -0,0 +1,84 @@
+// MESSAGE RALLY_POINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rally_point;
+
+/**
+* View of RALLY_POINT, decodes the fields directly from the received packet.
+* A rally point. Used to set a point when from GCS -> MAV. Also used to return a point from MAV -> GCS
+*/
+public class RallyPointView extends MAVLinkView {
+
+    public RallyPointView(){
+        super(msg_rally_point.MAVLINK_MSG_ID_RALLY_POINT);
+    }
+
+    @Override
+    public RallyPointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Latitude of point in degrees * 1E7
+    */
+    public int getLat(){
+        return getInt(0);
+    }
+    /**
+    * Longitude of point in degrees * 1E7
+    */
+    public int getLng(){
+        return getInt(4);
+    }
+    /**
+    * Transit / loiter altitude in meters relative to home
+    */
+    public short getAlt(){
+        return getShort(8);
+    }
+    /**
+    * Break altitude in meters relative to home
+    */
+    public short getBreakAlt(){
+        return getShort(10);
+    }
+    /**
+    * Heading to aim for when landing. In centi-degrees.
+    */
+    public short getLandDir(){
+        return getShort(12);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(14);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(15);
+    }
+    /**
+    * point index (first point is 0)
+    */
+    public byte getIdx(){
+        return getByte(16);
+    }
+    /**
+    * total number of points (for sanity checking)
+    */
+    public byte getCount(){
+        return getByte(17);
+    }
+    /**
+    * See RALLY_FLAGS enum for definition of the bitmask.
+    */
+    public byte getFlags(){
+        return getByte(18);
+    }
+}
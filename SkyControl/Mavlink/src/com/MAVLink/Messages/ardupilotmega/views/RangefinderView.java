@@ -0,0 +1,36 @@
+// MESSAGE RANGEFINDER VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rangefinder;
+
+/**
+* View of RANGEFINDER, decodes the fields directly from the received packet.
+* Rangefinder reporting
+*/
+public class RangefinderView extends MAVLinkView {
+
+    public RangefinderView(){
+        super(msg_rangefinder.MAVLINK_MSG_ID_RANGEFINDER);
+    }
+
+    @Override
+    public RangefinderView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * distance in meters
+    */
+    public float getDistance(){
+        return getFloat(0);
+    }
+    /**
+    * raw voltage if available, zero otherwise
+    */
+    public float getVoltage(){
+        return getFloat(4);
+    }
+}
@@ -0,0 +1,84 @@
+// MESSAGE RAW_IMU VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_raw_imu;
+
+/**
+* View of RAW_IMU, decodes the fields directly from the received packet.
+* The RAW IMU readings for the usual 9DOF sensor setup. This message should always contain the true raw values without any scaling to allow data capture and system debugging.
+*/
+public class RawImuView extends MAVLinkView {
+
+    public RawImuView(){
+        super(msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU);
+    }
+
+    @Override
+    public RawImuView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * X acceleration (raw)
+    */
+    public short getXacc(){
+        return getShort(8);
+    }
+    /**
+    * Y acceleration (raw)
+    */
+    public short getYacc(){
+        return getShort(10);
+    }
+    /**
+    * Z acceleration (raw)
+    */
+    public short getZacc(){
+        return getShort(12);
+    }
+    /**
+    * Angular speed around X axis (raw)
+    */
+    public short getXgyro(){
+        return getShort(14);
+    }
+    /**
+    * Angular speed around Y axis (raw)
+    */
+    public short getYgyro(){
+        return getShort(16);
+    }
+    /**
+    * Angular speed around Z axis (raw)
+    */
+    public short getZgyro(){
+        return getShort(18);
+    }
+    /**
+    * X Magnetic field (raw)
+    */
+    public short getXmag(){
+        return getShort(20);
+    }
+    /**
+    * Y Magnetic field (raw)
+    */
+    public short getYmag(){
+        return getShort(22);
+    }
+    /**
+    * Z Magnetic field (raw)
+    */
+    public short getZmag(){
+        return getShort(24);
+    }
+}
@@ -0,0 +1,54 @@
+// MESSAGE RAW_PRESSURE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_raw_pressure;
+
+/**
+* View of RAW_PRESSURE, decodes the fields directly from the received packet.
+* The RAW pressure readings for the typical setup of one absolute pressure and one differential pressure sensor. The sensor values should be the raw, UNSCALED ADC values.
+*/
+public class RawPressureView extends MAVLinkView {
+
+    public RawPressureView(){
+        super(msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE);
+    }
+
+    @Override
+    public RawPressureView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public long getTimeUsec(){
+        return getLong(0);
+    }
+    /**
+    * Absolute pressure (raw)
+    */
+    public short getPressAbs(){
+        return getShort(8);
+    }
+    /**
+    * Differential pressure 1 (raw)
+    */
+    public short getPressDiff1(){
+        return getShort(10);
+    }
+    /**
+    * Differential pressure 2 (raw)
+    */
+    public short getPressDiff2(){
+        return getShort(12);
+    }
+    /**
+    * Raw Temperature measurement (raw)
+    */
+    public short getTemperature(){
+        return getShort(14);
+    }
+}
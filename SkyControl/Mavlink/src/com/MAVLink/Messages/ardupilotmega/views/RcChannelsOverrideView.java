@@ -0,0 +1,84 @@
+// MESSAGE RC_CHANNELS_OVERRIDE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_override;
+
+/**
+* View of RC_CHANNELS_OVERRIDE, decodes the fields directly from the received packet.
+* The RAW values of the RC channels sent to the MAV to override info received from the RC radio. A value of UINT16_MAX means no change to that channel. A value of 0 means control of that channel should be released back to the RC radio. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class RcChannelsOverrideView extends MAVLinkView {
+
+    public RcChannelsOverrideView(){
+        super(msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE);
+    }
+
+    @Override
+    public RcChannelsOverrideView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * RC channel 1 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan1Raw(){
+        return getShort(0);
+    }
+    /**
+    * RC channel 2 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan2Raw(){
+        return getShort(2);
+    }
+    /**
+    * RC channel 3 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan3Raw(){
+        return getShort(4);
+    }
+    /**
+    * RC channel 4 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan4Raw(){
+        return getShort(6);
+    }
+    /**
+    * RC channel 5 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan5Raw(){
+        return getShort(8);
+    }
+    /**
+    * RC channel 6 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan6Raw(){
+        return getShort(10);
+    }
+    /**
+    * RC channel 7 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan7Raw(){
+        return getShort(12);
+    }
+    /**
+    * RC channel 8 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public short getChan8Raw(){
+        return getShort(14);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(16);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(17);
+    }
+}
@@ -0,0 +1,90 @@
+// MESSAGE RC_CHANNELS_RAW VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_raw;
+
+/**
+* View of RC_CHANNELS_RAW, decodes the fields directly from the received packet.
+* The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class RcChannelsRawView extends MAVLinkView {
+
+    public RcChannelsRawView(){
+        super(msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW);
+    }
+
+    @Override
+    public RcChannelsRawView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * RC channel 1 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan1Raw(){
+        return getShort(4);
+    }
+    /**
+    * RC channel 2 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan2Raw(){
+        return getShort(6);
+    }
+    /**
+    * RC channel 3 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan3Raw(){
+        return getShort(8);
+    }
+    /**
+    * RC channel 4 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan4Raw(){
+        return getShort(10);
+    }
+    /**
+    * RC channel 5 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan5Raw(){
+        return getShort(12);
+    }
+    /**
+    * RC channel 6 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan6Raw(){
+        return getShort(14);
+    }
+    /**
+    * RC channel 7 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan7Raw(){
+        return getShort(16);
+    }
+    /**
+    * RC channel 8 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan8Raw(){
+        return getShort(18);
+    }
+    /**
+    * Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows for more than 8 servos.
+    */
+    public byte getPort(){
+        return getByte(20);
+    }
+    /**
+    * Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+    */
+    public byte getRssi(){
+        return getByte(21);
+    }
+}
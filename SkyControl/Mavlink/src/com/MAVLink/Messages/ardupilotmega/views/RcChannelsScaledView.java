@@ -0,0 +1,90 @@
+// MESSAGE RC_CHANNELS_SCALED VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_scaled;
+
+/**
+* View of RC_CHANNELS_SCALED, decodes the fields directly from the received packet.
+* The scaled values of the RC channels received. (-100%) -10000, (0%) 0, (100%) 10000. Channels that are inactive should be set to UINT16_MAX.
+*/
+public class RcChannelsScaledView extends MAVLinkView {
+
+    public RcChannelsScaledView(){
+        super(msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED);
+    }
+
+    @Override
+    public RcChannelsScaledView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * RC channel 1 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan1Scaled(){
+        return getShort(4);
+    }
+    /**
+    * RC channel 2 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan2Scaled(){
+        return getShort(6);
+    }
+    /**
+    * RC channel 3 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan3Scaled(){
+        return getShort(8);
+    }
+    /**
+    * RC channel 4 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan4Scaled(){
+        return getShort(10);
+    }
+    /**
+    * RC channel 5 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan5Scaled(){
+        return getShort(12);
+    }
+    /**
+    * RC channel 6 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan6Scaled(){
+        return getShort(14);
+    }
+    /**
+    * RC channel 7 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan7Scaled(){
+        return getShort(16);
+    }
+    /**
+    * RC channel 8 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public short getChan8Scaled(){
+        return getShort(18);
+    }
+    /**
+    * Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows for more than 8 servos.
+    */
+    public byte getPort(){
+        return getByte(20);
+    }
+    /**
+    * Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+    */
+    public byte getRssi(){
+        return getByte(21);
+    }
+}
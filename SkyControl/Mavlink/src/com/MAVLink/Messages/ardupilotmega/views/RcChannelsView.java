@@ -0,0 +1,150 @@
+// MESSAGE RC_CHANNELS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels;
+
+/**
+* View of RC_CHANNELS, decodes the fields directly from the received packet.
+* The PPM values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*/
+public class RcChannelsView extends MAVLinkView {
+
+    public RcChannelsView(){
+        super(msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS);
+    }
+
+    @Override
+    public RcChannelsView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * RC channel 1 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan1Raw(){
+        return getShort(4);
+    }
+    /**
+    * RC channel 2 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan2Raw(){
+        return getShort(6);
+    }
+    /**
+    * RC channel 3 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan3Raw(){
+        return getShort(8);
+    }
+    /**
+    * RC channel 4 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan4Raw(){
+        return getShort(10);
+    }
+    /**
+    * RC channel 5 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan5Raw(){
+        return getShort(12);
+    }
+    /**
+    * RC channel 6 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan6Raw(){
+        return getShort(14);
+    }
+    /**
+    * RC channel 7 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan7Raw(){
+        return getShort(16);
+    }
+    /**
+    * RC channel 8 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan8Raw(){
+        return getShort(18);
+    }
+    /**
+    * RC channel 9 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan9Raw(){
+        return getShort(20);
+    }
+    /**
+    * RC channel 10 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan10Raw(){
+        return getShort(22);
+    }
+    /**
+    * RC channel 11 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan11Raw(){
+        return getShort(24);
+    }
+    /**
+    * RC channel 12 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan12Raw(){
+        return getShort(26);
+    }
+    /**
+    * RC channel 13 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan13Raw(){
+        return getShort(28);
+    }
+    /**
+    * RC channel 14 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan14Raw(){
+        return getShort(30);
+    }
+    /**
+    * RC channel 15 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan15Raw(){
+        return getShort(32);
+    }
+    /**
+    * RC channel 16 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan16Raw(){
+        return getShort(34);
+    }
+    /**
+    * RC channel 17 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan17Raw(){
+        return getShort(36);
+    }
+    /**
+    * RC channel 18 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public short getChan18Raw(){
+        return getShort(38);
+    }
+    /**
+    * Total number of RC channels being received. This can be larger than 18, indicating that more channels are available but not given in this message. This value should be 0 when no RC channels are available.
+    */
+    public byte getChancount(){
+        return getByte(40);
+    }
+    /**
+    * Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+    */
+    public byte getRssi(){
+        return getByte(41);
+    }
+}
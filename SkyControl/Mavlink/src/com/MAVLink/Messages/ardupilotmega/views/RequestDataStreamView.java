@@ -0,0 +1,54 @@
+// MESSAGE REQUEST_DATA_STREAM VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_request_data_stream;
+
+/**
+* View of REQUEST_DATA_STREAM, decodes the fields directly from the received packet.
+* 
+*/
+public class RequestDataStreamView extends MAVLinkView {
+
+    public RequestDataStreamView(){
+        super(msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM);
+    }
+
+    @Override
+    public RequestDataStreamView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * The requested interval between two messages of this type
+    */
+    public short getReqMessageRate(){
+        return getShort(0);
+    }
+    /**
+    * The target requested to send the message stream.
+    */
+    public byte getTargetSystem(){
+        return getByte(2);
+    }
+    /**
+    * The target requested to send the message stream.
+    */
+    public byte getTargetComponent(){
+        return getByte(3);
+    }
+    /**
+    * The ID of the requested data stream
+    */
+    public byte getReqStreamId(){
+        return getByte(4);
+    }
+    /**
+    * 1 to start sending, 0 to stop sending.
+    */
+    public byte getStartStop(){
+        return getByte(5);
+    }
+}
@@ -0,0 +1,54 @@
+// MESSAGE ROLL_PITCH_YAW_RATES_THRUST_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_rates_thrust_setpoint;
+
+/**
+* View of ROLL_PITCH_YAW_RATES_THRUST_SETPOINT, decodes the fields directly from the received packet.
+* Setpoint in roll, pitch, yaw rates and thrust currently active on the system.
+*/
+public class RollPitchYawRatesThrustSetpointView extends MAVLinkView {
+
+    public RollPitchYawRatesThrustSetpointView(){
+        super(msg_roll_pitch_yaw_rates_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_RATES_THRUST_SETPOINT);
+    }
+
+    @Override
+    public RollPitchYawRatesThrustSetpointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Desired roll rate in radians per second
+    */
+    public float getRollRate(){
+        return getFloat(4);
+    }
+    /**
+    * Desired pitch rate in radians per second
+    */
+    public float getPitchRate(){
+        return getFloat(8);
+    }
+    /**
+    * Desired yaw rate in radians per second
+    */
+    public float getYawRate(){
+        return getFloat(12);
+    }
+    /**
+    * Collective thrust, normalized to 0 .. 1
+    */
+    public float getThrust(){
+        return getFloat(16);
+    }
+}
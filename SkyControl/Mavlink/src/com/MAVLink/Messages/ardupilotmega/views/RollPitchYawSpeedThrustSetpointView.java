@@ -0,0 +1,54 @@
+// MESSAGE ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_speed_thrust_setpoint;
+
+/**
+* View of ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT, decodes the fields directly from the received packet.
+* Setpoint in rollspeed, pitchspeed, yawspeed currently active on the system.
+*/
+public class RollPitchYawSpeedThrustSetpointView extends MAVLinkView {
+
+    public RollPitchYawSpeedThrustSetpointView(){
+        super(msg_roll_pitch_yaw_speed_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_SPEED_THRUST_SETPOINT);
+    }
+
+    @Override
+    public RollPitchYawSpeedThrustSetpointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Desired roll angular speed in rad/s
+    */
+    public float getRollSpeed(){
+        return getFloat(4);
+    }
+    /**
+    * Desired pitch angular speed in rad/s
+    */
+    public float getPitchSpeed(){
+        return getFloat(8);
+    }
+    /**
+    * Desired yaw angular speed in rad/s
+    */
+    public float getYawSpeed(){
+        return getFloat(12);
+    }
+    /**
+    * Collective thrust, normalized to 0 .. 1
+    */
+    public float getThrust(){
+        return getFloat(16);
+    }
+}
@@ -0,0 +1,54 @@
+// MESSAGE ROLL_PITCH_YAW_THRUST_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_roll_pitch_yaw_thrust_setpoint;
+
+/**
+* View of ROLL_PITCH_YAW_THRUST_SETPOINT, decodes the fields directly from the received packet.
+* Setpoint in roll, pitch, yaw currently active on the system.
+*/
+public class RollPitchYawThrustSetpointView extends MAVLinkView {
+
+    public RollPitchYawThrustSetpointView(){
+        super(msg_roll_pitch_yaw_thrust_setpoint.MAVLINK_MSG_ID_ROLL_PITCH_YAW_THRUST_SETPOINT);
+    }
+
+    @Override
+    public RollPitchYawThrustSetpointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Desired roll angle in radians
+    */
+    public float getRoll(){
+        return getFloat(4);
+    }
+    /**
+    * Desired pitch angle in radians
+    */
+    public float getPitch(){
+        return getFloat(8);
+    }
+    /**
+    * Desired yaw angle in radians
+    */
+    public float getYaw(){
+        return getFloat(12);
+    }
+    /**
+    * Collective thrust, normalized to 0 .. 1
+    */
+    public float getThrust(){
+        return getFloat(16);
+    }
+}
@@ -0,0 +1,66 @@
+// MESSAGE SAFETY_ALLOWED_AREA VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_safety_allowed_area;
+
+/**
+* View of SAFETY_ALLOWED_AREA, decodes the fields directly from the received packet.
+* Read out the safety zone the MAV currently assumes.
+*/
+public class SafetyAllowedAreaView extends MAVLinkView {
+
+    public SafetyAllowedAreaView(){
+        super(msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA);
+    }
+
+    @Override
+    public SafetyAllowedAreaView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * x position 1 / Latitude 1
+    */
+    public float getP1X(){
+        return getFloat(0);
+    }
+    /**
+    * y position 1 / Longitude 1
+    */
+    public float getP1Y(){
+        return getFloat(4);
+    }
+    /**
+    * z position 1 / Altitude 1
+    */
+    public float getP1Z(){
+        return getFloat(8);
+    }
+    /**
+    * x position 2 / Latitude 2
+    */
+    public float getP2X(){
+        return getFloat(12);
+    }
+    /**
+    * y position 2 / Longitude 2
+    */
+    public float getP2Y(){
+        return getFloat(16);
+    }
+    /**
+    * z position 2 / Altitude 2
+    */
+    public float getP2Z(){
+        return getFloat(20);
+    }
+    /**
+    * Coordinate frame, as defined by MAV_FRAME enum in mavlink_types.h. Can be either global, GPS, right-handed with Z axis up or local, right handed, Z axis down.
+    */
+    public byte getFrame(){
+        return getByte(24);
+    }
+}
@@ -0,0 +1,78 @@
+// MESSAGE SAFETY_SET_ALLOWED_AREA VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_safety_set_allowed_area;
+
+/**
+* View of SAFETY_SET_ALLOWED_AREA, decodes the fields directly from the received packet.
+* Set a safety zone (volume), which is defined by two corners of a cube. This message can be used to tell the MAV which setpoints/MISSIONs to accept and which to reject. Safety areas are often enforced by national or competition regulations.
+*/
+public class SafetySetAllowedAreaView extends MAVLinkView {
+
+    public SafetySetAllowedAreaView(){
+        super(msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA);
+    }
+
+    @Override
+    public SafetySetAllowedAreaView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * x position 1 / Latitude 1
+    */
+    public float getP1X(){
+        return getFloat(0);
+    }
+    /**
+    * y position 1 / Longitude 1
+    */
+    public float getP1Y(){
+        return getFloat(4);
+    }
+    /**
+    * z position 1 / Altitude 1
+    */
+    public float getP1Z(){
+        return getFloat(8);
+    }
+    /**
+    * x position 2 / Latitude 2
+    */
+    public float getP2X(){
+        return getFloat(12);
+    }
+    /**
+    * y position 2 / Longitude 2
+    */
+    public float getP2Y(){
+        return getFloat(16);
+    }
+    /**
+    * z position 2 / Altitude 2
+    */
+    public float getP2Z(){
+        return getFloat(20);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(24);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(25);
+    }
+    /**
+    * Coordinate frame, as defined by MAV_FRAME enum in mavlink_types.h. Can be either global, GPS, right-handed with Z axis up or local, right handed, Z axis down.
+    */
+    public byte getFrame(){
+        return getByte(26);
+    }
+}
@@ -0,0 +1,84 @@
+// MESSAGE SCALED_IMU2 VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_scaled_imu2;
+
+/**
+* View of SCALED_IMU2, decodes the fields directly from the received packet.
+* The RAW IMU readings for secondary 9DOF sensor setup. This message should contain the scaled values to the described units
+*/
+public class ScaledImu2View extends MAVLinkView {
+
+    public ScaledImu2View(){
+        super(msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2);
+    }
+
+    @Override
+    public ScaledImu2View wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * X acceleration (mg)
+    */
+    public short getXacc(){
+        return getShort(4);
+    }
+    /**
+    * Y acceleration (mg)
+    */
+    public short getYacc(){
+        return getShort(6);
+    }
+    /**
+    * Z acceleration (mg)
+    */
+    public short getZacc(){
+        return getShort(8);
+    }
+    /**
+    * Angular speed around X axis (millirad /sec)
+    */
+    public short getXgyro(){
+        return getShort(10);
+    }
+    /**
+    * Angular speed around Y axis (millirad /sec)
+    */
+    public short getYgyro(){
+        return getShort(12);
+    }
+    /**
+    * Angular speed around Z axis (millirad /sec)
+    */
+    public short getZgyro(){
+        return getShort(14);
+    }
+    /**
+    * X Magnetic field (milli tesla)
+    */
+    public short getXmag(){
+        return getShort(16);
+    }
+    /**
+    * Y Magnetic field (milli tesla)
+    */
+    public short getYmag(){
+        return getShort(18);
+    }
+    /**
+    * Z Magnetic field (milli tesla)
+    */
+    public short getZmag(){
+        return getShort(20);
+    }
+}
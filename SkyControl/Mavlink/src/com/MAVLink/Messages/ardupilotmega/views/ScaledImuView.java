@@ -0,0 +1,84 @@
+// MESSAGE SCALED_IMU VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_scaled_imu;
+
+/**
+* View of SCALED_IMU, decodes the fields directly from the received packet.
+* The RAW IMU readings for the usual 9DOF sensor setup. This message should contain the scaled values to the described units
+*/
+public class ScaledImuView extends MAVLinkView {
+
+    public ScaledImuView(){
+        super(msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU);
+    }
+
+    @Override
+    public ScaledImuView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * X acceleration (mg)
+    */
+    public short getXacc(){
+        return getShort(4);
+    }
+    /**
+    * Y acceleration (mg)
+    */
+    public short getYacc(){
+        return getShort(6);
+    }
+    /**
+    * Z acceleration (mg)
+    */
+    public short getZacc(){
+        return getShort(8);
+    }
+    /**
+    * Angular speed around X axis (millirad /sec)
+    */
+    public short getXgyro(){
+        return getShort(10);
+    }
+    /**
+    * Angular speed around Y axis (millirad /sec)
+    */
+    public short getYgyro(){
+        return getShort(12);
+    }
+    /**
+    * Angular speed around Z axis (millirad /sec)
+    */
+    public short getZgyro(){
+        return getShort(14);
+    }
+    /**
+    * X Magnetic field (milli tesla)
+    */
+    public short getXmag(){
+        return getShort(16);
+    }
+    /**
+    * Y Magnetic field (milli tesla)
+    */
+    public short getYmag(){
+        return getShort(18);
+    }
+    /**
+    * Z Magnetic field (milli tesla)
+    */
+    public short getZmag(){
+        return getShort(20);
+    }
+}
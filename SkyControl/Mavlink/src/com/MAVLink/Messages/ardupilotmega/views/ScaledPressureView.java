@@ -0,0 +1,48 @@
+// MESSAGE SCALED_PRESSURE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_scaled_pressure;
+
+/**
+* View of SCALED_PRESSURE, decodes the fields directly from the received packet.
+* The pressure readings for the typical setup of one absolute and differential pressure sensor. The units are as specified in each field.
+*/
+public class ScaledPressureView extends MAVLinkView {
+
+    public ScaledPressureView(){
+        super(msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE);
+    }
+
+    @Override
+    public ScaledPressureView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public int getTimeBootMs(){
+        return getInt(0);
+    }
+    /**
+    * Absolute pressure (hectopascal)
+    */
+    public float getPressAbs(){
+        return getFloat(4);
+    }
+    /**
+    * Differential pressure 1 (hectopascal)
+    */
+    public float getPressDiff(){
+        return getFloat(8);
+    }
+    /**
+    * Temperature measurement (0.01 degrees celsius)
+    */
+    public short getTemperature(){
+        return getShort(12);
+    }
+}
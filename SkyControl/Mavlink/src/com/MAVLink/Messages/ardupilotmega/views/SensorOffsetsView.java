@@ -0,0 +1,97 @@
+// MESSAGE SENSOR_OFFSETS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_sensor_offsets;
+
+/**
+* View of SENSOR_OFFSETS, decodes the fields directly from the received packet.
+* Offsets and calibrations values for hardware
+        sensors. This makes it easier to debug the calibration process.
+*/
+public class SensorOffsetsView extends MAVLinkView {
+
+    public SensorOffsetsView(){
+        super(msg_sensor_offsets.MAVLINK_MSG_ID_SENSOR_OFFSETS);
+    }
+
+    @Override
+    public SensorOffsetsView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * magnetic declination (radians)
+    */
+    public float getMagDeclination(){
+        return getFloat(0);
+    }
+    /**
+    * raw pressure from barometer
+    */
+    public int getRawPress(){
+        return getInt(4);
+    }
+    /**
+    * raw temperature from barometer
+    */
+    public int getRawTemp(){
+        return getInt(8);
+    }
+    /**
+    * gyro X calibration
+    */
+    public float getGyroCalX(){
+        return getFloat(12);
+    }
+    /**
+    * gyro Y calibration
+    */
+    public float getGyroCalY(){
+        return getFloat(16);
+    }
+    /**
+    * gyro Z calibration
+    */
+    public float getGyroCalZ(){
+        return getFloat(20);
+    }
+    /**
+    * accel X calibration
+    */
+    public float getAccelCalX(){
+        return getFloat(24);
+    }
+    /**
+    * accel Y calibration
+    */
+    public float getAccelCalY(){
+        return getFloat(28);
+    }
+    /**
+    * accel Z calibration
+    */
+    public float getAccelCalZ(){
+        return getFloat(32);
+    }
+    /**
+    * magnetometer X offset
+    */
+    public short getMagOfsX(){
+        return getShort(36);
+    }
+    /**
+    * magnetometer Y offset
+    */
+    public short getMagOfsY(){
+        return getShort(38);
+    }
+    /**
+    * magnetometer Z offset
+    */
+    public short getMagOfsZ(){
+        return getShort(40);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE SERIAL_CONTROL VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_serial_control;
+
+/**
+* View of SERIAL_CONTROL, decodes the fields directly from the received packet.
+* Control a serial port. This can be used for raw access to an onboard serial peripheral such as a GPS or telemetry radio. It is designed to make it possible to update the devices firmware via MAVLink messages or change the devices settings. A message with zero bytes can be used to change just the baudrate.
+*/
+public class SerialControlView extends MAVLinkView {
+
+    public SerialControlView(){
+        super(msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL);
+    }
+
+    @Override
+    public SerialControlView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Baudrate of transfer. Zero means no change.
+    */
+    public int getBaudrate(){
+        return getInt(0);
+    }
+    /**
+    * Timeout for reply data in milliseconds
+    */
+    public short getTimeout(){
+        return getShort(4);
+    }
+    /**
+    * See SERIAL_CONTROL_DEV enum
+    */
+    public byte getDevice(){
+        return getByte(6);
+    }
+    /**
+    * See SERIAL_CONTROL_FLAG enum
+    */
+    public byte getFlags(){
+        return getByte(7);
+    }
+    /**
+    * how many bytes in this transfer
+    */
+    public byte getCount(){
+        return getByte(8);
+    }
+    /**
+    * serial data
+    */
+    public byte getData(int index){
+        return getByte(9 + index * 1);
+    }
+}
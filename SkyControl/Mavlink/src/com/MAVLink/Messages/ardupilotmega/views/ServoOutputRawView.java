@@ -0,0 +1,84 @@
+// MESSAGE SERVO_OUTPUT_RAW VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_servo_output_raw;
+
+/**
+* View of SERVO_OUTPUT_RAW, decodes the fields directly from the received packet.
+* The RAW values of the servo outputs (for RC input from the remote, use the RC_CHANNELS messages). The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%.
+*/
+public class ServoOutputRawView extends MAVLinkView {
+
+    public ServoOutputRawView(){
+        super(msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW);
+    }
+
+    @Override
+    public ServoOutputRawView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds since system boot)
+    */
+    public int getTimeUsec(){
+        return getInt(0);
+    }
+    /**
+    * Servo output 1 value, in microseconds
+    */
+    public short getServo1Raw(){
+        return getShort(4);
+    }
+    /**
+    * Servo output 2 value, in microseconds
+    */
+    public short getServo2Raw(){
+        return getShort(6);
+    }
+    /**
+    * Servo output 3 value, in microseconds
+    */
+    public short getServo3Raw(){
+        return getShort(8);
+    }
+    /**
+    * Servo output 4 value, in microseconds
+    */
+    public short getServo4Raw(){
+        return getShort(10);
+    }
+    /**
+    * Servo output 5 value, in microseconds
+    */
+    public short getServo5Raw(){
+        return getShort(12);
+    }
+    /**
+    * Servo output 6 value, in microseconds
+    */
+    public short getServo6Raw(){
+        return getShort(14);
+    }
+    /**
+    * Servo output 7 value, in microseconds
+    */
+    public short getServo7Raw(){
+        return getShort(16);
+    }
+    /**
+    * Servo output 8 value, in microseconds
+    */
+    public short getServo8Raw(){
+        return getShort(18);
+    }
+    /**
+    * Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows to encode more than 8 servos.
+    */
+    public byte getPort(){
+        return getByte(20);
+    }
+}
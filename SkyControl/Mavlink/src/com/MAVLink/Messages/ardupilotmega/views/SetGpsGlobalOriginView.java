@@ -0,0 +1,48 @@
+// MESSAGE SET_GPS_GLOBAL_ORIGIN VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_gps_global_origin;
+
+/**
+* View of SET_GPS_GLOBAL_ORIGIN, decodes the fields directly from the received packet.
+* As local waypoints exist, the global MISSION reference allows to transform between the local coordinate frame and the global (GPS) coordinate frame. This can be necessary when e.g. in- and outdoor settings are connected and the MAV should move from in- to outdoor.
+*/
+public class SetGpsGlobalOriginView extends MAVLinkView {
+
+    public SetGpsGlobalOriginView(){
+        super(msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN);
+    }
+
+    @Override
+    public SetGpsGlobalOriginView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public int getLatitude(){
+        return getInt(0);
+    }
+    /**
+    * Longitude (WGS84, in degrees * 1E7
+    */
+    public int getLongitude(){
+        return getInt(4);
+    }
+    /**
+    * Altitude (WGS84), in meters * 1000 (positive for up)
+    */
+    public int getAltitude(){
+        return getInt(8);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(12);
+    }
+}
@@ -0,0 +1,66 @@
+// MESSAGE SET_LOCAL_POSITION_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_local_position_setpoint;
+
+/**
+* View of SET_LOCAL_POSITION_SETPOINT, decodes the fields directly from the received packet.
+* Set the setpoint for a local position controller. This is the position in local coordinates the MAV should fly to. This message is sent by the path/MISSION planner to the onboard position controller. As some MAVs have a degree of freedom in yaw (e.g. all helicopters/quadrotors), the desired yaw angle is part of the message.
+*/
+public class SetLocalPositionSetpointView extends MAVLinkView {
+
+    public SetLocalPositionSetpointView(){
+        super(msg_set_local_position_setpoint.MAVLINK_MSG_ID_SET_LOCAL_POSITION_SETPOINT);
+    }
+
+    @Override
+    public SetLocalPositionSetpointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * x position
+    */
+    public float getX(){
+        return getFloat(0);
+    }
+    /**
+    * y position
+    */
+    public float getY(){
+        return getFloat(4);
+    }
+    /**
+    * z position
+    */
+    public float getZ(){
+        return getFloat(8);
+    }
+    /**
+    * Desired yaw angle
+    */
+    public float getYaw(){
+        return getFloat(12);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(16);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(17);
+    }
+    /**
+    * Coordinate frame - valid values are only MAV_FRAME_LOCAL_NED or MAV_FRAME_LOCAL_ENU
+    */
+    public byte getCoordinateFrame(){
+        return getByte(18);
+    }
+}
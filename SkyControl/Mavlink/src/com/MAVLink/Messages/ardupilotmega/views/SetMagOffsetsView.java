@@ -0,0 +1,54 @@
+// MESSAGE SET_MAG_OFFSETS VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_mag_offsets;
+
+/**
+* View of SET_MAG_OFFSETS, decodes the fields directly from the received packet.
+* set the magnetometer offsets
+*/
+public class SetMagOffsetsView extends MAVLinkView {
+
+    public SetMagOffsetsView(){
+        super(msg_set_mag_offsets.MAVLINK_MSG_ID_SET_MAG_OFFSETS);
+    }
+
+    @Override
+    public SetMagOffsetsView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * magnetometer X offset
+    */
+    public short getMagOfsX(){
+        return getShort(0);
+    }
+    /**
+    * magnetometer Y offset
+    */
+    public short getMagOfsY(){
+        return getShort(2);
+    }
+    /**
+    * magnetometer Z offset
+    */
+    public short getMagOfsZ(){
+        return getShort(4);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(6);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(7);
+    }
+}
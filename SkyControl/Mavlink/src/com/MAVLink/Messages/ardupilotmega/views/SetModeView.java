@@ -0,0 +1,42 @@
+// MESSAGE SET_MODE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_mode;
+
+/**
+* View of SET_MODE, decodes the fields directly from the received packet.
+* Set the system mode, as defined by enum MAV_MODE. There is no target component id as the mode is by definition for the overall aircraft, not only for one component.
+*/
+public class SetModeView extends MAVLinkView {
+
+    public SetModeView(){
+        super(msg_set_mode.MAVLINK_MSG_ID_SET_MODE);
+    }
+
+    @Override
+    public SetModeView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * The new autopilot-specific mode. This field can be ignored by an autopilot.
+    */
+    public int getCustomMode(){
+        return getInt(0);
+    }
+    /**
+    * The system setting the mode
+    */
+    public byte getTargetSystem(){
+        return getByte(4);
+    }
+    /**
+    * The new base mode
+    */
+    public byte getBaseMode(){
+        return getByte(5);
+    }
+}
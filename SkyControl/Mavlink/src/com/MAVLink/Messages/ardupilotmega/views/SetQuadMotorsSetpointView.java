@@ -0,0 +1,54 @@
+// MESSAGE SET_QUAD_MOTORS_SETPOINT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_quad_motors_setpoint;
+
+/**
+* View of SET_QUAD_MOTORS_SETPOINT, decodes the fields directly from the received packet.
+* Setpoint in the four motor speeds
+*/
+public class SetQuadMotorsSetpointView extends MAVLinkView {
+
+    public SetQuadMotorsSetpointView(){
+        super(msg_set_quad_motors_setpoint.MAVLINK_MSG_ID_SET_QUAD_MOTORS_SETPOINT);
+    }
+
+    @Override
+    public SetQuadMotorsSetpointView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Front motor in + configuration, front left motor in x configuration
+    */
+    public short getMotorFrontNw(){
+        return getShort(0);
+    }
+    /**
+    * Right motor in + configuration, front right motor in x configuration
+    */
+    public short getMotorRightNe(){
+        return getShort(2);
+    }
+    /**
+    * Back motor in + configuration, back right motor in x configuration
+    */
+    public short getMotorBackSe(){
+        return getShort(4);
+    }
+    /**
+    * Left motor in + configuration, back left motor in x configuration
+    */
+    public short getMotorLeftSw(){
+        return getShort(6);
+    }
+    /**
+    * System ID of the system that should set these motor commands
+    */
+    public byte getTargetSystem(){
+        return getByte(8);
+    }
+}
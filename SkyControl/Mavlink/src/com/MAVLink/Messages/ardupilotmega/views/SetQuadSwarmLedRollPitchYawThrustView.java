@@ -0,0 +1,78 @@
+// MESSAGE SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_quad_swarm_led_roll_pitch_yaw_thrust;
+
+/**
+* View of SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST, decodes the fields directly from the received packet.
+* Setpoint for up to four quadrotors in a group / wing
+*/
+public class SetQuadSwarmLedRollPitchYawThrustView extends MAVLinkView {
+
+    public SetQuadSwarmLedRollPitchYawThrustView(){
+        super(msg_set_quad_swarm_led_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_LED_ROLL_PITCH_YAW_THRUST);
+    }
+
+    @Override
+    public SetQuadSwarmLedRollPitchYawThrustView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Desired roll angle in radians +-PI (+-INT16_MAX)
+    */
+    public short getRoll(int index){
+        return getShort(0 + index * 2);
+    }
+    /**
+    * Desired pitch angle in radians +-PI (+-INT16_MAX)
+    */
+    public short getPitch(int index){
+        return getShort(8 + index * 2);
+    }
+    /**
+    * Desired yaw angle in radians, scaled to int16 +-PI (+-INT16_MAX)
+    */
+    public short getYaw(int index){
+        return getShort(16 + index * 2);
+    }
+    /**
+    * Collective thrust, scaled to uint16 (0..UINT16_MAX)
+    */
+    public short getThrust(int index){
+        return getShort(24 + index * 2);
+    }
+    /**
+    * ID of the quadrotor group (0 - 255, up to 256 groups supported)
+    */
+    public byte getGroup(){
+        return getByte(32);
+    }
+    /**
+    * ID of the flight mode (0 - 255, up to 256 modes supported)
+    */
+    public byte getMode(){
+        return getByte(33);
+    }
+    /**
+    * RGB red channel (0-255)
+    */
+    public byte getLedRed(int index){
+        return getByte(34 + index * 1);
+    }
+    /**
+    * RGB green channel (0-255)
+    */
+    public byte getLedBlue(int index){
+        return getByte(38 + index * 1);
+    }
+    /**
+    * RGB blue channel (0-255)
+    */
+    public byte getLedGreen(int index){
+        return getByte(42 + index * 1);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_quad_swarm_roll_pitch_yaw_thrust;
+
+/**
+* View of SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST, decodes the fields directly from the received packet.
+* Setpoint for up to four quadrotors in a group / wing
+*/
+public class SetQuadSwarmRollPitchYawThrustView extends MAVLinkView {
+
+    public SetQuadSwarmRollPitchYawThrustView(){
+        super(msg_set_quad_swarm_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_QUAD_SWARM_ROLL_PITCH_YAW_THRUST);
+    }
+
+    @Override
+    public SetQuadSwarmRollPitchYawThrustView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Desired roll angle in radians +-PI (+-INT16_MAX)
+    */
+    public short getRoll(int index){
+        return getShort(0 + index * 2);
+    }
+    /**
+    * Desired pitch angle in radians +-PI (+-INT16_MAX)
+    */
+    public short getPitch(int index){
+        return getShort(8 + index * 2);
+    }
+    /**
+    * Desired yaw angle in radians, scaled to int16 +-PI (+-INT16_MAX)
+    */
+    public short getYaw(int index){
+        return getShort(16 + index * 2);
+    }
+    /**
+    * Collective thrust, scaled to uint16 (0..UINT16_MAX)
+    */
+    public short getThrust(int index){
+        return getShort(24 + index * 2);
+    }
+    /**
+    * ID of the quadrotor group (0 - 255, up to 256 groups supported)
+    */
+    public byte getGroup(){
+        return getByte(32);
+    }
+    /**
+    * ID of the flight mode (0 - 255, up to 256 modes supported)
+    */
+    public byte getMode(){
+        return getByte(33);
+    }
+}
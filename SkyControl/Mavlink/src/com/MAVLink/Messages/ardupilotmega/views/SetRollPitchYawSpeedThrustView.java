@@ -0,0 +1,60 @@
+// MESSAGE SET_ROLL_PITCH_YAW_SPEED_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_roll_pitch_yaw_speed_thrust;
+
+/**
+* View of SET_ROLL_PITCH_YAW_SPEED_THRUST, decodes the fields directly from the received packet.
+* Set roll, pitch and yaw.
+*/
+public class SetRollPitchYawSpeedThrustView extends MAVLinkView {
+
+    public SetRollPitchYawSpeedThrustView(){
+        super(msg_set_roll_pitch_yaw_speed_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_SPEED_THRUST);
+    }
+
+    @Override
+    public SetRollPitchYawSpeedThrustView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Desired roll angular speed in rad/s
+    */
+    public float getRollSpeed(){
+        return getFloat(0);
+    }
+    /**
+    * Desired pitch angular speed in rad/s
+    */
+    public float getPitchSpeed(){
+        return getFloat(4);
+    }
+    /**
+    * Desired yaw angular speed in rad/s
+    */
+    public float getYawSpeed(){
+        return getFloat(8);
+    }
+    /**
+    * Collective thrust, normalized to 0 .. 1
+    */
+    public float getThrust(){
+        return getFloat(12);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(16);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(17);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE SET_ROLL_PITCH_YAW_THRUST VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_set_roll_pitch_yaw_thrust;
+
+/**
+* View of SET_ROLL_PITCH_YAW_THRUST, decodes the fields directly from the received packet.
+* Set roll, pitch and yaw.
+*/
+public class SetRollPitchYawThrustView extends MAVLinkView {
+
+    public SetRollPitchYawThrustView(){
+        super(msg_set_roll_pitch_yaw_thrust.MAVLINK_MSG_ID_SET_ROLL_PITCH_YAW_THRUST);
+    }
+
+    @Override
+    public SetRollPitchYawThrustView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Desired roll angle in radians
+    */
+    public float getRoll(){
+        return getFloat(0);
+    }
+    /**
+    * Desired pitch angle in radians
+    */
+    public float getPitch(){
+        return getFloat(4);
+    }
+    /**
+    * Desired yaw angle in radians
+    */
+    public float getYaw(){
+        return getFloat(8);
+    }
+    /**
+    * Collective thrust, normalized to 0 .. 1
+    */
+    public float getThrust(){
+        return getFloat(12);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(16);
+    }
+    /**
+    * Component ID
+    */
+    public byte getTargetComponent(){
+        return getByte(17);
+    }
+}
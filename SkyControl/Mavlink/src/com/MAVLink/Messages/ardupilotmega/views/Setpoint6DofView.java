@@ -0,0 +1,66 @@
+// MESSAGE SETPOINT_6DOF VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_setpoint_6dof;
+
+/**
+* View of SETPOINT_6DOF, decodes the fields directly from the received packet.
+* Set the 6 DOF setpoint for a attitude and position controller.
+*/
+public class Setpoint6DofView extends MAVLinkView {
+
+    public Setpoint6DofView(){
+        super(msg_setpoint_6dof.MAVLINK_MSG_ID_SETPOINT_6DOF);
+    }
+
+    @Override
+    public Setpoint6DofView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Translational Component in x
+    */
+    public float getTransX(){
+        return getFloat(0);
+    }
+    /**
+    * Translational Component in y
+    */
+    public float getTransY(){
+        return getFloat(4);
+    }
+    /**
+    * Translational Component in z
+    */
+    public float getTransZ(){
+        return getFloat(8);
+    }
+    /**
+    * Rotational Component in x
+    */
+    public float getRotX(){
+        return getFloat(12);
+    }
+    /**
+    * Rotational Component in y
+    */
+    public float getRotY(){
+        return getFloat(16);
+    }
+    /**
+    * Rotational Component in z
+    */
+    public float getRotZ(){
+        return getFloat(20);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(24);
+    }
+}
@@ -0,0 +1,78 @@
+// MESSAGE SETPOINT_8DOF VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_setpoint_8dof;
+
+/**
+* View of SETPOINT_8DOF, decodes the fields directly from the received packet.
+* Set the 8 DOF setpoint for a controller.
+*/
+public class Setpoint8DofView extends MAVLinkView {
+
+    public Setpoint8DofView(){
+        super(msg_setpoint_8dof.MAVLINK_MSG_ID_SETPOINT_8DOF);
+    }
+
+    @Override
+    public Setpoint8DofView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Value 1
+    */
+    public float getVal1(){
+        return getFloat(0);
+    }
+    /**
+    * Value 2
+    */
+    public float getVal2(){
+        return getFloat(4);
+    }
+    /**
+    * Value 3
+    */
+    public float getVal3(){
+        return getFloat(8);
+    }
+    /**
+    * Value 4
+    */
+    public float getVal4(){
+        return getFloat(12);
+    }
+    /**
+    * Value 5
+    */
+    public float getVal5(){
+        return getFloat(16);
+    }
+    /**
+    * Value 6
+    */
+    public float getVal6(){
+        return getFloat(20);
+    }
+    /**
+    * Value 7
+    */
+    public float getVal7(){
+        return getFloat(24);
+    }
+    /**
+    * Value 8
+    */
+    public float getVal8(){
+        return getFloat(28);
+    }
+    /**
+    * System ID
+    */
+    public byte getTargetSystem(){
+        return getByte(32);
+    }
+}
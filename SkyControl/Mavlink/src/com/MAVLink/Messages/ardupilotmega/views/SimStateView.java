@@ -0,0 +1,150 @@
+// MESSAGE SIM_STATE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_sim_state;
+
+/**
+* View of SIM_STATE, decodes the fields directly from the received packet.
+* Status of simulation environment, if used
+*/
+public class SimStateView extends MAVLinkView {
+
+    public SimStateView(){
+        super(msg_sim_state.MAVLINK_MSG_ID_SIM_STATE);
+    }
+
+    @Override
+    public SimStateView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * True attitude quaternion component 1
+    */
+    public float getQ1(){
+        return getFloat(0);
+    }
+    /**
+    * True attitude quaternion component 2
+    */
+    public float getQ2(){
+        return getFloat(4);
+    }
+    /**
+    * True attitude quaternion component 3
+    */
+    public float getQ3(){
+        return getFloat(8);
+    }
+    /**
+    * True attitude quaternion component 4
+    */
+    public float getQ4(){
+        return getFloat(12);
+    }
+    /**
+    * Attitude roll expressed as Euler angles, not recommended except for human-readable outputs
+    */
+    public float getRoll(){
+        return getFloat(16);
+    }
+    /**
+    * Attitude pitch expressed as Euler angles, not recommended except for human-readable outputs
+    */
+    public float getPitch(){
+        return getFloat(20);
+    }
+    /**
+    * Attitude yaw expressed as Euler angles, not recommended except for human-readable outputs
+    */
+    public float getYaw(){
+        return getFloat(24);
+    }
+    /**
+    * X acceleration m/s/s
+    */
+    public float getXacc(){
+        return getFloat(28);
+    }
+    /**
+    * Y acceleration m/s/s
+    */
+    public float getYacc(){
+        return getFloat(32);
+    }
+    /**
+    * Z acceleration m/s/s
+    */
+    public float getZacc(){
+        return getFloat(36);
+    }
+    /**
+    * Angular speed around X axis rad/s
+    */
+    public float getXgyro(){
+        return getFloat(40);
+    }
+    /**
+    * Angular speed around Y axis rad/s
+    */
+    public float getYgyro(){
+        return getFloat(44);
+    }
+    /**
+    * Angular speed around Z axis rad/s
+    */
+    public float getZgyro(){
+        return getFloat(48);
+    }
+    /**
+    * Latitude in degrees
+    */
+    public float getLat(){
+        return getFloat(52);
+    }
+    /**
+    * Longitude in degrees
+    */
+    public float getLon(){
+        return getFloat(56);
+    }
+    /**
+    * Altitude in meters
+    */
+    public float getAlt(){
+        return getFloat(60);
+    }
+    /**
+    * Horizontal position standard deviation
+    */
+    public float getStdDevHorz(){
+        return getFloat(64);
+    }
+    /**
+    * Vertical position standard deviation
+    */
+    public float getStdDevVert(){
+        return getFloat(68);
+    }
+    /**
+    * True velocity in m/s in NORTH direction in earth-fixed NED frame
+    */
+    public float getVn(){
+        return getFloat(72);
+    }
+    /**
+    * True velocity in m/s in EAST direction in earth-fixed NED frame
+    */
+    public float getVe(){
+        return getFloat(76);
+    }
+    /**
+    * True velocity in m/s in DOWN direction in earth-fixed NED frame
+    */
+    public float getVd(){
+        return getFloat(80);
+    }
+}
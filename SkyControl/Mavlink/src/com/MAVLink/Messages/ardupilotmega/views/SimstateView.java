@@ -0,0 +1,90 @@
+// MESSAGE SIMSTATE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_simstate;
+
+/**
+* View of SIMSTATE, decodes the fields directly from the received packet.
+* Status of simulation environment, if used
+*/
+public class SimstateView extends MAVLinkView {
+
+    public SimstateView(){
+        super(msg_simstate.MAVLINK_MSG_ID_SIMSTATE);
+    }
+
+    @Override
+    public SimstateView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Roll angle (rad)
+    */
+    public float getRoll(){
+        return getFloat(0);
+    }
+    /**
+    * Pitch angle (rad)
+    */
+    public float getPitch(){
+        return getFloat(4);
+    }
+    /**
+    * Yaw angle (rad)
+    */
+    public float getYaw(){
+        return getFloat(8);
+    }
+    /**
+    * X acceleration m/s/s
+    */
+    public float getXacc(){
+        return getFloat(12);
+    }
+    /**
+    * Y acceleration m/s/s
+    */
+    public float getYacc(){
+        return getFloat(16);
+    }
+    /**
+    * Z acceleration m/s/s
+    */
+    public float getZacc(){
+        return getFloat(20);
+    }
+    /**
+    * Angular speed around X axis rad/s
+    */
+    public float getXgyro(){
+        return getFloat(24);
+    }
+    /**
+    * Angular speed around Y axis rad/s
+    */
+    public float getYgyro(){
+        return getFloat(28);
+    }
+    /**
+    * Angular speed around Z axis rad/s
+    */
+    public float getZgyro(){
+        return getFloat(32);
+    }
+    /**
+    * Latitude in degrees * 1E7
+    */
+    public int getLat(){
+        return getInt(36);
+    }
+    /**
+    * Longitude in degrees * 1E7
+    */
+    public int getLng(){
+        return getInt(40);
+    }
+}
@@ -0,0 +1,78 @@
+// MESSAGE STATE_CORRECTION VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_state_correction;
+
+/**
+* View of STATE_CORRECTION, decodes the fields directly from the received packet.
+* Corrects the systems state by adding an error correction term to the position and velocity, and by rotating the attitude by a correction angle.
+*/
+public class StateCorrectionView extends MAVLinkView {
+
+    public StateCorrectionView(){
+        super(msg_state_correction.MAVLINK_MSG_ID_STATE_CORRECTION);
+    }
+
+    @Override
+    public StateCorrectionView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * x position error
+    */
+    public float getXerr(){
+        return getFloat(0);
+    }
+    /**
+    * y position error
+    */
+    public float getYerr(){
+        return getFloat(4);
+    }
+    /**
+    * z position error
+    */
+    public float getZerr(){
+        return getFloat(8);
+    }
+    /**
+    * roll error (radians)
+    */
+    public float getRollerr(){
+        return getFloat(12);
+    }
+    /**
+    * pitch error (radians)
+    */
+    public float getPitcherr(){
+        return getFloat(16);
+    }
+    /**
+    * yaw error (radians)
+    */
+    public float getYawerr(){
+        return getFloat(20);
+    }
+    /**
+    * x velocity
+    */
+    public float getVxerr(){
+        return getFloat(24);
+    }
+    /**
+    * y velocity
+    */
+    public float getVyerr(){
+        return getFloat(28);
+    }
+    /**
+    * z velocity
+    */
+    public float getVzerr(){
+        return getFloat(32);
+    }
+}
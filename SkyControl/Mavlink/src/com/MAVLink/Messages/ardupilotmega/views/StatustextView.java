@@ -0,0 +1,42 @@
+// MESSAGE STATUSTEXT VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_statustext;
+
+/**
+* View of STATUSTEXT, decodes the fields directly from the received packet.
+* Status text message. These messages are printed in yellow in the COMM console of QGroundControl. WARNING: They consume quite some bandwidth, so use only for important status and error messages. If implemented wisely, these messages are buffered on the MCU and sent only at a limited rate (e.g. 10 Hz).
+*/
+public class StatustextView extends MAVLinkView {
+
+    public StatustextView(){
+        super(msg_statustext.MAVLINK_MSG_ID_STATUSTEXT);
+    }
+
+    @Override
+    public StatustextView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Severity of status. Relies on the definitions within RFC-5424. See enum MAV_SEVERITY.
+    */
+    public byte getSeverity(){
+        return getByte(0);
+    }
+    /**
+    * Status text message, without null termination character
+    */
+    public char getText(int index){
+        return getChar(1 + index * 1);
+    }
+    /**
+    * Status text message, without null termination character
+    */
+    public String getText(){
+        return getString(1, 50);
+    }
+}
@@ -0,0 +1,36 @@
+// MESSAGE SYSTEM_TIME VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_system_time;
+
+/**
+* View of SYSTEM_TIME, decodes the fields directly from the received packet.
+* The system time is the time of the master clock, typically the computer clock of the main onboard computer.
+*/
+public class SystemTimeView extends MAVLinkView {
+
+    public SystemTimeView(){
+        super(msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME);
+    }
+
+    @Override
+    public SystemTimeView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp of the master clock in microseconds since UNIX epoch.
+    */
+    public long getTimeUnixUsec(){
+        return getLong(0);
+    }
+    /**
+    * Timestamp of the component clock since boot time in milliseconds.
+    */
+    public int getTimeBootMs(){
+        return getInt(8);
+    }
+}
@@ -0,0 +1,60 @@
+// MESSAGE VFR_HUD VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+
+/**
+* View of VFR_HUD, decodes the fields directly from the received packet.
+* Metrics typically displayed on a HUD for fixed wing aircraft
+*/
+public class VfrHudView extends MAVLinkView {
+
+    public VfrHudView(){
+        super(msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD);
+    }
+
+    @Override
+    public VfrHudView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Current airspeed in m/s
+    */
+    public float getAirspeed(){
+        return getFloat(0);
+    }
+    /**
+    * Current ground speed in m/s
+    */
+    public float getGroundspeed(){
+        return getFloat(4);
+    }
+    /**
+    * Current altitude (MSL), in meters
+    */
+    public float getAlt(){
+        return getFloat(8);
+    }
+    /**
+    * Current climb rate in meters/second
+    */
+    public float getClimb(){
+        return getFloat(12);
+    }
+    /**
+    * Current heading in degrees, in compass units (0..360, 0=north)
+    */
+    public short getHeading(){
+        return getShort(16);
+    }
+    /**
+    * Current throttle setting in integer percent, 0 to 100
+    */
+    public short getThrottle(){
+        return getShort(18);
+    }
+}
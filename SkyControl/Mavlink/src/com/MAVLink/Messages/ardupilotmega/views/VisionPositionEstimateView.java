@@ -0,0 +1,66 @@
+// MESSAGE VISION_POSITION_ESTIMATE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_vision_position_estimate;
+
+/**
+* View of VISION_POSITION_ESTIMATE, decodes the fields directly from the received packet.
+* 
+*/
+public class VisionPositionEstimateView extends MAVLinkView {
+
+    public VisionPositionEstimateView(){
+        super(msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE);
+    }
+
+    @Override
+    public VisionPositionEstimateView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public long getUsec(){
+        return getLong(0);
+    }
+    /**
+    * Global X position
+    */
+    public float getX(){
+        return getFloat(8);
+    }
+    /**
+    * Global Y position
+    */
+    public float getY(){
+        return getFloat(12);
+    }
+    /**
+    * Global Z position
+    */
+    public float getZ(){
+        return getFloat(16);
+    }
+    /**
+    * Roll angle in rad
+    */
+    public float getRoll(){
+        return getFloat(20);
+    }
+    /**
+    * Pitch angle in rad
+    */
+    public float getPitch(){
+        return getFloat(24);
+    }
+    /**
+    * Yaw angle in rad
+    */
+    public float getYaw(){
+        return getFloat(28);
+    }
+}
@@ -0,0 +1,48 @@
+// MESSAGE VISION_SPEED_ESTIMATE VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_vision_speed_estimate;
+
+/**
+* View of VISION_SPEED_ESTIMATE, decodes the fields directly from the received packet.
+* 
+*/
+public class VisionSpeedEstimateView extends MAVLinkView {
+
+    public VisionSpeedEstimateView(){
+        super(msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE);
+    }
+
+    @Override
+    public VisionSpeedEstimateView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public long getUsec(){
+        return getLong(0);
+    }
+    /**
+    * Global X speed
+    */
+    public float getX(){
+        return getFloat(8);
+    }
+    /**
+    * Global Y speed
+    */
+    public float getY(){
+        return getFloat(12);
+    }
+    /**
+    * Global Z speed
+    */
+    public float getZ(){
+        return getFloat(16);
+    }
+}
@@ -0,0 +1,42 @@
+// MESSAGE WIND VIEW
+package com.MAVLink.Messages.ardupilotmega.views;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkView;
+import com.MAVLink.Messages.ardupilotmega.msg_wind;
+
+/**
+* View of WIND, decodes the fields directly from the received packet.
+* Wind estimation
+*/
+public class WindView extends MAVLinkView {
+
+    public WindView(){
+        super(msg_wind.MAVLINK_MSG_ID_WIND);
+    }
+
+    @Override
+    public WindView wrap(MAVLinkPacket packet){
+        super.wrap(packet);
+        return this;
+    }
+
+    /**
+    * wind direction that wind is coming from (degrees)
+    */
+    public float getDirection(){
+        return getFloat(0);
+    }
+    /**
+    * wind speed in ground plane (m/s)
+    */
+    public float getSpeed(){
+        return getFloat(4);
+    }
+    /**
+    * vertical wind speed (m/s)
+    */
+    public float getSpeedZ(){
+        return getFloat(8);
+    }
+}
@@ -1,32 +1,225 @@
 package com.MAVLink;
 
+import java.nio.ByteBuffer;
+
 import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
 import com.MAVLink.Messages.MAVLinkStats;
+import com.MAVLink.Messages.MAVLinkSubscriptions;
+import com.MAVLink.Messages.MAVLinkSystemFilter;
 
 public class Parser {
 
+	/**
+	 * Receiver of the frames decoded by {@link Parser#parse(byte[], int, int, FrameSink)}.
+	 */
+	public interface FrameSink {
+		/**
+		 * Called for every complete frame of a subscribed message with a valid
+		 * checksum. The sink becomes the owner of the packet and has to call
+		 * {@link MAVLinkPacket#release()} once the packet is not needed
+		 * anymore.
+		 * 
+		 * @param packet
+		 *            decoded packet
+		 */
+		void onFrame(MAVLinkPacket packet);
+	}
+
+	/**
+	 * Size of the scratch array used to parse buffers not backed by an array.
+	 */
+	private static final int SCRATCH_SIZE = 512;
+
 	/**
 	 * States from the parsing state machine
 	 */
 	enum MAV_states {
-		MAVLINK_PARSE_STATE_UNINIT, MAVLINK_PARSE_STATE_IDLE, MAVLINK_PARSE_STATE_GOT_STX, MAVLINK_PARSE_STATE_GOT_LENGTH, MAVLINK_PARSE_STATE_GOT_SEQ, MAVLINK_PARSE_STATE_GOT_SYSID, MAVLINK_PARSE_STATE_GOT_COMPID, MAVLINK_PARSE_STATE_GOT_MSGID, MAVLINK_PARSE_STATE_GOT_CRC1, MAVLINK_PARSE_STATE_GOT_PAYLOAD
+		MAVLINK_PARSE_STATE_UNINIT, MAVLINK_PARSE_STATE_IDLE, MAVLINK_PARSE_STATE_GOT_STX, MAVLINK_PARSE_STATE_GOT_LENGTH, MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS, MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS, MAVLINK_PARSE_STATE_GOT_SEQ, MAVLINK_PARSE_STATE_GOT_SYSID, MAVLINK_PARSE_STATE_GOT_COMPID, MAVLINK_PARSE_STATE_GOT_MSGID1, MAVLINK_PARSE_STATE_GOT_MSGID2, MAVLINK_PARSE_STATE_GOT_MSGID, MAVLINK_PARSE_STATE_GOT_CRC1, MAVLINK_PARSE_STATE_GOT_PAYLOAD, MAVLINK_PARSE_STATE_SIGNATURE
 	}
 
 	MAV_states state = MAV_states.MAVLINK_PARSE_STATE_UNINIT;
 
-	static boolean msg_received;
+	/**
+	 * Set once the current frame is complete, kept per parser so several
+	 * links may be parsed concurrently.
+	 */
+	private boolean msg_received;
 
 	public MAVLinkStats stats = new MAVLinkStats();
+	/**
+	 * Messages handed over to the caller, all messages unless changed. Frames
+	 * of the other messages are checked and counted in the statistics only.
+	 */
+	public final MAVLinkSubscriptions subscriptions;
+	/**
+	 * Systems whose frames are handed over to the caller, all systems unless
+	 * changed. Frames of the other systems are checked and counted in the
+	 * statistics only.
+	 */
+	public final MAVLinkSystemFilter systems;
+	/**
+	 * Packet being filled by the parser, null until the next start sign is
+	 * received.
+	 */
 	private MAVLinkPacket m;
+	/**
+	 * Pool the packets are taken from.
+	 */
+	private final MAVLinkPacketPool pool;
+	/**
+	 * Copy of the direct buffer contents, allocated on first use.
+	 */
+	private byte[] scratch;
+	/**
+	 * Number of the signature bytes of the current frame received so far.
+	 */
+	private int signatureCount;
+	/**
+	 * Set once a valid MAVLink 2 frame has been received, telling the link that
+	 * the other side understands MAVLink 2.
+	 */
+	private volatile boolean mavlink2Received;
+
+	public Parser() {
+		this(new MAVLinkPacketPool());
+	}
+
+	/**
+	 * Create a parser taking its packets from the given pool.
+	 * 
+	 * @param pool
+	 *            pool of the recyclable packets
+	 */
+	public Parser(MAVLinkPacketPool pool) {
+		this(pool, new MAVLinkSubscriptions());
+		subscriptions.subscribeAll();
+	}
+
+	/**
+	 * Create a parser of one of several links, which share the set of the
+	 * subscribed messages. Each parser keeps its own state, pool and
+	 * statistics, so the links may be parsed concurrently.
+	 * 
+	 * @param pool
+	 *            pool of the recyclable packets
+	 * @param subscriptions
+	 *            messages to be handed over to the caller
+	 */
+	public Parser(MAVLinkPacketPool pool, MAVLinkSubscriptions subscriptions) {
+		this(pool, subscriptions, new MAVLinkSystemFilter());
+	}
+
+	/**
+	 * Create a parser of one of several links, which share the set of the
+	 * subscribed messages and the set of the accepted systems.
+	 * 
+	 * @param pool
+	 *            pool of the recyclable packets
+	 * @param subscriptions
+	 *            messages to be handed over to the caller
+	 * @param systems
+	 *            systems whose messages are to be handed over to the caller
+	 */
+	public Parser(MAVLinkPacketPool pool, MAVLinkSubscriptions subscriptions,
+			MAVLinkSystemFilter systems) {
+		this.pool = pool;
+		this.subscriptions = subscriptions;
+		this.systems = systems;
+	}
+
+	/**
+	 * Start a new frame if the byte is the start sign of either MAVLink 1 or
+	 * MAVLink 2 frame. The packet is prepared empty, a packet left over by a
+	 * frame which failed the checksum is reused.
+	 * 
+	 * @return true if a frame has been started
+	 */
+	private boolean startPacket(int c) {
+		if (c != MAVLinkPacket.MAVLINK_STX
+				&& c != MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
+			return false;
+		}
+		if (m == null) {
+			m = pool.acquire();
+		} else {
+			m.reset();
+		}
+		m.isMavlink2 = (c == MAVLinkPacket.MAVLINK_STX_MAVLINK2);
+		state = MAV_states.MAVLINK_PARSE_STATE_GOT_STX;
+		return true;
+	}
+
+	/**
+	 * Continue with the payload once the header is complete.
+	 */
+	private void startPayload() {
+		if (m.len == 0) {
+			m.crc.finish_checksum(m.msgid);
+			state = MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD;
+		} else {
+			state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID;
+		}
+	}
+
+	/**
+	 * Drop the current frame after a checksum failure. The failed byte may be
+	 * the start of the next frame.
+	 */
+	private void crcError(int c) {
+		stats.crcError(m);
+		state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+		startPacket(c);
+	}
+
+	/**
+	 * Count the complete frame and decide whether to hand it over.
+	 * 
+	 * @return true if the packet is to be passed to the caller
+	 */
+	private boolean frameReceived() {
+		state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+		stats.newPacket(m);
+		if (m.isMavlink2) {
+			mavlink2Received = true;
+		}
+		// Nobody is interested in unsubscribed messages or in the systems
+		// filtered out, keep the packet for the next frame
+		if (!systems.isAccepted(m.sysid, m.compid, m.msgid)
+				|| !subscriptions.isSubscribed(m.msgid)) {
+			return false;
+		}
+		if (m.isMavlink2) {
+			// Trailing zeros of the payload may have been truncated
+			m.payload.clearTail();
+		}
+		return true;
+	}
+
+	/**
+	 * @return true once a valid MAVLink 2 frame has been received, so the link
+	 *         may switch its outgoing packets to MAVLink 2
+	 */
+	public boolean isMavlink2Received() {
+		return mavlink2Received;
+	}
 
 	/**
 	 * This is a convenience function which handles the complete MAVLink
-	 * parsing. the function will parse one byte at a time and return the
+	 * parsing of both MAVLink 1 and MAVLink 2 frames. the function will parse one byte at a time and return the
 	 * complete packet once it could be successfully decoded. Checksum and other
-	 * failures will be silently ignored.
+	 * failures will be silently ignored. The checksum is updated as the bytes
+	 * arrive, so the frame is not read again once complete. Frames of messages
+	 * not in {@link #subscriptions} are counted but not returned.
+	 * 
+	 * The returned packet comes from the parser's {@link MAVLinkPacketPool}.
+	 * The caller becomes its owner and has to call
+	 * {@link MAVLinkPacket#release()} once the packet is not needed anymore,
+	 * otherwise the parser has to allocate a new packet for the next frames.
 	 * 
 	 * @param c
 	 *            The char to parse
+	 * @return decoded packet or null if no complete packet was received yet
 	 */
 	public MAVLinkPacket mavlink_parse_char(int c) {
 		msg_received = false;
@@ -34,65 +227,90 @@ public class Parser {
 		switch (state) {
 		case MAVLINK_PARSE_STATE_UNINIT:
 		case MAVLINK_PARSE_STATE_IDLE:
-
-			if (c == MAVLinkPacket.MAVLINK_STX) {
-				state = MAV_states.MAVLINK_PARSE_STATE_GOT_STX;
-				m = new MAVLinkPacket();
-			}
+			startPacket(c);
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_STX:
-			if (msg_received) {
-				msg_received = false;
-				state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+			m.len = c;
+			m.crc.update_checksum(c);
+			state = MAV_states.MAVLINK_PARSE_STATE_GOT_LENGTH;
+			break;
+
+		case MAVLINK_PARSE_STATE_GOT_LENGTH:
+			m.crc.update_checksum(c);
+			if (m.isMavlink2) {
+				m.incompatFlags = c;
+				if ((c & ~MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+					// Frame uses a feature we don't understand, drop it
+					state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+				} else {
+					state = MAV_states.MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS;
+				}
 			} else {
-				m.len = c;
-				state = MAV_states.MAVLINK_PARSE_STATE_GOT_LENGTH;
+				m.seq = c;
+				state = MAV_states.MAVLINK_PARSE_STATE_GOT_SEQ;
 			}
 			break;
 
-		case MAVLINK_PARSE_STATE_GOT_LENGTH:
+		case MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS:
+			m.compatFlags = c;
+			m.crc.update_checksum(c);
+			state = MAV_states.MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS;
+			break;
+
+		case MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS:
 			m.seq = c;
+			m.crc.update_checksum(c);
 			state = MAV_states.MAVLINK_PARSE_STATE_GOT_SEQ;
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_SEQ:
 			m.sysid = c;
+			m.crc.update_checksum(c);
 			state = MAV_states.MAVLINK_PARSE_STATE_GOT_SYSID;
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_SYSID:
 			m.compid = c;
+			m.crc.update_checksum(c);
 			state = MAV_states.MAVLINK_PARSE_STATE_GOT_COMPID;
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_COMPID:
 			m.msgid = c;
-			if (m.len == 0) {
-				state = MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD;
+			m.crc.update_checksum(c);
+			if (m.isMavlink2) {
+				state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID1;
 			} else {
-				state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID;
+				startPayload();
 			}
 			break;
 
+		case MAVLINK_PARSE_STATE_GOT_MSGID1:
+			m.msgid |= c << 8;
+			m.crc.update_checksum(c);
+			state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID2;
+			break;
+
+		case MAVLINK_PARSE_STATE_GOT_MSGID2:
+			m.msgid |= c << 16;
+			m.crc.update_checksum(c);
+			startPayload();
+			break;
+
 		case MAVLINK_PARSE_STATE_GOT_MSGID:
 			m.payload.add((byte) c);
+			m.crc.update_checksum(c);
 			if (m.payloadIsFilled()) {
+				m.crc.finish_checksum(m.msgid);
 				state = MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD;
 			}
 			break;
 
 		case MAVLINK_PARSE_STATE_GOT_PAYLOAD:
-			m.generateCRC();
 			// Check first checksum byte
 			if (c != m.crc.getLSB()) {
-				msg_received = false;
-				state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
-				if (c == MAVLinkPacket.MAVLINK_STX) {
-					state = MAV_states.MAVLINK_PARSE_STATE_GOT_STX;
-					m.crc.start_checksum();
-				}
-				stats.crcError();
+				crcError(c);
 			} else {
 				state = MAV_states.MAVLINK_PARSE_STATE_GOT_CRC1;
 			}
@@ -101,29 +319,123 @@ public class Parser {
 		case MAVLINK_PARSE_STATE_GOT_CRC1:
 			// Check second checksum byte
 			if (c != m.crc.getMSB()) {
-				msg_received = false;
-				state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
-				if (c == MAVLinkPacket.MAVLINK_STX) {
-					state = MAV_states.MAVLINK_PARSE_STATE_GOT_STX;
-					m.crc.start_checksum();
-				}
-				stats.crcError();
+				crcError(c);
+			} else if ((m.incompatFlags & MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+				// Signature follows, it is not checked as the link is not
+				// signed but kept so the frame can be forwarded as received
+				signatureCount = 0;
+				state = MAV_states.MAVLINK_PARSE_STATE_SIGNATURE;
 			} else { // Successfully received the message
-				stats.newPacket(m);
-				msg_received = true;
-				state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+				msg_received = frameReceived();
 			}
+			break;
 
+		case MAVLINK_PARSE_STATE_SIGNATURE:
+			m.signature[signatureCount] = (byte) c;
+			if (++signatureCount == MAVLinkPacket.MAVLINK_SIGNATURE_BLOCK_LEN) {
+				msg_received = frameReceived();
+			}
 			break;
 
 		}
 		if (msg_received) {
-			return m;		
+			// Hand the packet over to the caller, the next frame gets a new one
+			MAVLinkPacket packet = m;
+			m = null;
+			return packet;
 		}else {
 			return null;
 		}
 	}
 
-	
-	
+	/**
+	 * Parse a whole block of received bytes and pass every complete frame to
+	 * the sink. Equivalent to feeding the bytes one by one to
+	 * {@link #mavlink_parse_char(int)}, but the bytes between frames are
+	 * skipped in a tight loop looking for the start sign and the payload is
+	 * copied to the packet in bulk. A frame split between two blocks is
+	 * completed by the next call.
+	 * 
+	 * @param buf
+	 *            buffer holding the received bytes
+	 * @param off
+	 *            index of the first byte to parse
+	 * @param len
+	 *            number of bytes to parse
+	 * @param sink
+	 *            receiver of the decoded packets
+	 * @return number of frames passed to the sink
+	 */
+	public int parse(byte[] buf, int off, int len, FrameSink sink) {
+		int frames = 0;
+		int i = off;
+		int end = off + len;
+		while (i < end) {
+			switch (state) {
+			case MAVLINK_PARSE_STATE_UNINIT:
+			case MAVLINK_PARSE_STATE_IDLE:
+				// Skip the garbage between frames
+				while (i < end && (buf[i] & 0xff) != MAVLinkPacket.MAVLINK_STX
+						&& (buf[i] & 0xff) != MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
+					i++;
+				}
+				if (i == end) {
+					return frames;
+				}
+				break;
+
+			case MAVLINK_PARSE_STATE_GOT_MSGID:
+				int count = Math.min(m.len - m.payload.size(), end - i);
+				m.payload.add(buf, i, count);
+				m.crc.update(buf, i, count);
+				i += count;
+				if (m.payloadIsFilled()) {
+					m.crc.finish_checksum(m.msgid);
+					state = MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD;
+				}
+				continue;
+
+			default:
+				break;
+			}
+			MAVLinkPacket packet = mavlink_parse_char(buf[i++] & 0xff);
+			if (packet != null) {
+				frames++;
+				sink.onFrame(packet);
+			}
+		}
+		return frames;
+	}
+
+	/**
+	 * Parse the remaining bytes of the buffer and pass every complete frame to
+	 * the sink, see {@link #parse(byte[], int, int, FrameSink)}. The position
+	 * of the buffer is moved to its limit.
+	 * 
+	 * @param buf
+	 *            buffer holding the received bytes between its position and
+	 *            limit
+	 * @param sink
+	 *            receiver of the decoded packets
+	 * @return number of frames passed to the sink
+	 */
+	public int parse(ByteBuffer buf, FrameSink sink) {
+		int frames = 0;
+		if (buf.hasArray()) {
+			frames = parse(buf.array(), buf.arrayOffset() + buf.position(),
+					buf.remaining(), sink);
+			buf.position(buf.limit());
+			return frames;
+		}
+		if (scratch == null) {
+			scratch = new byte[SCRATCH_SIZE];
+		}
+		while (buf.hasRemaining()) {
+			int count = Math.min(buf.remaining(), scratch.length);
+			buf.get(scratch, 0, count);
+			frames += parse(scratch, 0, count, sink);
+		}
+		return frames;
+	}
+
 }
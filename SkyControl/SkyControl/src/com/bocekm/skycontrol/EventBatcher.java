@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+/**
+ * The {@link EventBatcher} passes events fired on a background thread to the UI thread. Events are
+ * represented by bits of an int (1 << ordinal of the event enum item), a set bit is a dirty flag
+ * saying that the latest value behind the event changed. All the events fired during one display
+ * frame are delivered together in one batch at the start of the next frame, so each event is
+ * delivered at most once per frame however many times it has been fired meanwhile. The UI work is
+ * thus bounded by the display refresh rate instead of the telemetry stream rate.
+ *
+ * Frames are signaled by {@link Choreographer} on API 16 and newer, older devices fall back to a
+ * {@link Handler} posting at the boundary of the next 16 ms frame.
+ */
+public class EventBatcher {
+
+    /** Frame interval used when {@link Choreographer} is not available, in ms. */
+    private static final long FRAME_INTERVAL_MS = 16;
+
+    /**
+     * The listener receiving the batches of events on the UI thread.
+     */
+    public interface BatchListener {
+
+        /**
+         * Implement this method to process the events fired since the previous batch.
+         *
+         * @param events bits of the fired events
+         */
+        public void onEventBatch(int events);
+    }
+
+    /** Bits of the events fired and not delivered yet. */
+    private final AtomicInteger mPendingEvents = new AtomicInteger();
+
+    /** Handler of the UI thread. */
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /** The listener of the batches. */
+    private final BatchListener mListener;
+
+    /** Vsync callback, null when {@link Choreographer} is not available. */
+    private final FrameDispatcher mFrameDispatcher;
+
+    /** Delivers the pending events to the listener. */
+    private final Runnable mDispatchTask = new Runnable() {
+        @Override
+        public void run() {
+            int events = mPendingEvents.getAndSet(0);
+            if (events != 0)
+                mListener.onEventBatch(events);
+        }
+    };
+
+    /**
+     * Instantiates a new {@link EventBatcher} object. Needs to be called on the UI thread.
+     *
+     * @param listener the listener receiving the batches on the UI thread
+     */
+    public EventBatcher(BatchListener listener) {
+        mListener = listener;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN)
+            mFrameDispatcher = new FrameDispatcher(mDispatchTask);
+        else
+            mFrameDispatcher = null;
+    }
+
+    /**
+     * Add the event to the pending batch. May be called from any thread.
+     *
+     * @param event bit of the fired event
+     * @param supersededEvents bits of the pending events made obsolete by this event, e.g. the
+     *        opposite state change, which are dropped from the batch
+     */
+    public void add(int event, int supersededEvents) {
+        int pending;
+        do {
+            pending = mPendingEvents.get();
+        } while (!mPendingEvents.compareAndSet(pending, (pending & ~supersededEvents) | event));
+        // The next frame is requested by whoever adds the first event of the batch
+        if (pending == 0)
+            scheduleDispatch();
+    }
+
+    /**
+     * Request delivery of the pending batch on the next frame.
+     */
+    private void scheduleDispatch() {
+        if (mFrameDispatcher != null) {
+            mFrameDispatcher.postFrame();
+        } else {
+            long now = SystemClock.uptimeMillis();
+            mHandler.postAtTime(mDispatchTask, now + FRAME_INTERVAL_MS - now % FRAME_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * Check whether the caller runs on the UI thread.
+     *
+     * @return true if called from the UI thread
+     */
+    public static boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    /**
+     * Runs the task on the next vsync signaled by {@link Choreographer}. Kept in a class of its own
+     * so it's not loaded on devices older than API 16.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static class FrameDispatcher implements
+            Choreographer.FrameCallback {
+
+        /** Choreographer of the UI thread. */
+        private final Choreographer mChoreographer = Choreographer.getInstance();
+
+        /** The task to be run on vsync. */
+        private final Runnable mTask;
+
+        /**
+         * Instantiates a new {@link FrameDispatcher}. Needs to be called on the UI thread as
+         * {@link Choreographer} is per thread.
+         *
+         * @param task the task to be run on vsync
+         */
+        FrameDispatcher(Runnable task) {
+            mTask = task;
+        }
+
+        /**
+         * Request the task to be run on the next frame. May be called from any thread.
+         */
+        void postFrame() {
+            mChoreographer.postFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mTask.run();
+        }
+    }
+}
@@ -33,6 +33,7 @@ import android.support.v4.app.FragmentActivity;
 import android.support.v4.app.FragmentManager;
 import android.support.v4.app.FragmentTransaction;
 import android.util.Log;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.View.OnClickListener;
@@ -50,6 +51,10 @@ import com.bocekm.skycontrol.cas.Obstacle;
 import com.bocekm.skycontrol.connection.Connection;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionEvent;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionListener;
+import com.bocekm.skycontrol.fleet.Fleet;
+import com.bocekm.skycontrol.fleet.FleetEvents.FleetEvent;
+import com.bocekm.skycontrol.fleet.FleetEvents.FleetListener;
+import com.bocekm.skycontrol.fleet.FleetVehicle;
 import com.bocekm.skycontrol.mission.Mission;
 import com.bocekm.skycontrol.mission.MissionEvents.MissionEvent;
 import com.bocekm.skycontrol.mission.MissionEvents.MissionListener;
@@ -91,7 +96,8 @@ public class LocationFragment extends Fragment implements
         MissionListener,
         ConnectionListener,
         MapViewListener,
-        CollisionListener {
+        CollisionListener,
+        FleetListener {
 
     /** The {@link ListeningMapView} containing the map. Calls onMapTouch method. */
     private ListeningMapView mMapView;
@@ -103,6 +109,10 @@ public class LocationFragment extends Fragment implements
     private Marker mVehicleLostMarker;
     /** Vehicle map marker. */
     private Marker mVehicleMarker;
+    /** Map markers of the other vehicles of the {@link Fleet}, indexed by the system id. */
+    private SparseArray<Marker> mFleetMarkers = new SparseArray<Marker>();
+    /** Opacity of the markers of the other vehicles, to tell them from the active one. */
+    private static final float FLEET_MARKER_ALPHA = 0.6f;
     /** Device map marker resource. */
     private int mDeviceMarkerResource = NO_RESOURCE_SET;
     /** Device map marker. */
@@ -288,6 +298,7 @@ public class LocationFragment extends Fragment implements
         Connection.get().getEvents().addConnectionListener(this);
         Mission.get().getEvents().addMissionListener(this);
         CollisionAvoidance.get().getEvents().addCollisionListener(this);
+        Fleet.get().getEvents().addFleetListener(this);
 
         return rootView;
     }
@@ -379,6 +390,7 @@ public class LocationFragment extends Fragment implements
         Mission.get().getEvents().removeMissionListener(this);
         Vehicle.get().getEvents().removeVehicleListener(this);
         CollisionAvoidance.get().getEvents().addCollisionListener(this);
+        Fleet.get().getEvents().removeFleetListener(this);
 
         super.onDestroyView();
     }
@@ -420,6 +432,7 @@ public class LocationFragment extends Fragment implements
             mMapView.onDestroy();
 
         mVehicleMarker = removeMapObject(mVehicleMarker);
+        removeFleetFromMap();
         super.onDestroy();
     }
 
@@ -1061,6 +1074,65 @@ public class LocationFragment extends Fragment implements
         }
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * com.bocekm.skycontrol.fleet.FleetEvents.FleetListener#onFleetEvent(com.bocekm.skycontrol.fleet
+     * .FleetEvents.FleetEvent)
+     */
+    @Override
+    public void onFleetEvent(FleetEvent event) {
+        switch (event) {
+            case FLEET_CLEARED:
+                removeFleetFromMap();
+                break;
+            case FLEET_UPDATED:
+                renderFleetOnMap();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Renders the other vehicles of the {@link Fleet} from their latest snapshots. Markers of the
+     * vehicles no longer in the fleet are removed.
+     */
+    private void renderFleetOnMap() {
+        SparseArray<Marker> markers = new SparseArray<Marker>();
+        for (FleetVehicle.Snapshot vehicle : Fleet.get().getSnapshots()) {
+            if (vehicle.getPosition() == null)
+                continue;
+            Marker marker = mFleetMarkers.get(vehicle.getSysId());
+            if (marker == null) {
+                marker =
+                        mMap.addMarker(new MarkerOptions().position(vehicle.getPosition())
+                                .anchor(0.5f, 0.5f).flat(true)
+                                .title("System " + vehicle.getSysId()));
+                marker.setIcon(BitmapDescriptorFactory.fromResource(R.drawable.vehicle));
+                marker.setAlpha(FLEET_MARKER_ALPHA);
+            } else {
+                mFleetMarkers.remove(vehicle.getSysId());
+                marker.setPosition(vehicle.getPosition());
+            }
+            marker.setRotation(vehicle.getHeading());
+            markers.put(vehicle.getSysId(), marker);
+        }
+        // What's left are the markers of the vehicles gone from the fleet
+        removeFleetFromMap();
+        mFleetMarkers = markers;
+    }
+
+    /**
+     * Removes the markers of the other vehicles of the {@link Fleet} from the map.
+     */
+    private void removeFleetFromMap() {
+        for (int i = 0; i < mFleetMarkers.size(); i++)
+            mFleetMarkers.valueAt(i).remove();
+        mFleetMarkers.clear();
+    }
+
     /**
      * Handles new Android device location.
      * 
@@ -74,6 +74,35 @@ public class PreferencesFragment extends PreferenceFragment implements
     /** Make the default waypoint altitude above ground instead of AMSL. */
     public static final String DEFAULT_ALT_ABOVE_GND_PREF_KEY =
             "com.bocekm.skycontrol.default_alt_above_ground_pref";
+    /** Interface the vehicle is connected through, one of the CONNECTION_TYPE_* values. */
+    public static final String CONNECTION_TYPE_PREF_KEY =
+            "com.bocekm.skycontrol.connection_type_pref";
+    /** Redundant link to the vehicle, one of the CONNECTION_TYPE_* values. */
+    public static final String SECONDARY_CONNECTION_TYPE_PREF_KEY =
+            "com.bocekm.skycontrol.secondary_connection_type_pref";
+    /** Host name or address of the TCP server the vehicle is connected to. */
+    public static final String NETWORK_HOST_PREF_KEY = "com.bocekm.skycontrol.network_host_pref";
+    /** Local UDP port to listen on or port of the TCP server. */
+    public static final String NETWORK_PORT_PREF_KEY = "com.bocekm.skycontrol.network_port_pref";
+    /** System ids of the vehicles to be listened to, separated by commas, empty for any. */
+    public static final String VEHICLE_SYSIDS_PREF_KEY = "com.bocekm.skycontrol.vehicle_sysids_pref";
+    /** Ground stations the vehicle stream is forwarded to over UDP, separated by semicolons. */
+    public static final String FORWARD_ENDPOINTS_PREF_KEY =
+            "com.bocekm.skycontrol.forward_endpoints_pref";
+
+    // Consult any change to these constants with arrays.xml resource file
+    /** No connection, used for the secondary link only. */
+    public static final String CONNECTION_TYPE_NONE = "None";
+    /** Telemetry connected via USB. */
+    public static final String CONNECTION_TYPE_USB = "USB";
+    /** MavLink datagrams received on a local UDP port. */
+    public static final String CONNECTION_TYPE_UDP = "UDP";
+    /** MavLink stream of a TCP server. */
+    public static final String CONNECTION_TYPE_TCP = "TCP";
+    /** Default host of the TCP server, the simulator running on the same device. */
+    public static final String DEFAULT_NETWORK_HOST = "127.0.0.1";
+    /** Default network port, the one MavLink GCSs listen on for UDP. */
+    public static final int DEFAULT_NETWORK_PORT = 14550;
 
     /** Array of preferences which need update of their summary on startup. */
     private static final List<String> sPrefsWithSummary = new ArrayList<String>();
@@ -106,6 +135,12 @@ public class PreferencesFragment extends PreferenceFragment implements
         sPrefsWithSummary.add(FAKE_ALTITUDE_PREF_KEY);
         sPrefsWithSummary.add(FAKE_GNDSPEED_PREF_KEY);
         sPrefsWithSummary.add(DATA_STREAM_RATE_PREF_KEY);
+        sPrefsWithSummary.add(CONNECTION_TYPE_PREF_KEY);
+        sPrefsWithSummary.add(SECONDARY_CONNECTION_TYPE_PREF_KEY);
+        sPrefsWithSummary.add(NETWORK_HOST_PREF_KEY);
+        sPrefsWithSummary.add(NETWORK_PORT_PREF_KEY);
+        sPrefsWithSummary.add(FORWARD_ENDPOINTS_PREF_KEY);
+        sPrefsWithSummary.add(VEHICLE_SYSIDS_PREF_KEY);
         for (String key : sPrefsWithSummary)
             updateSummary(userPref, key);
     }
@@ -175,6 +210,25 @@ public class PreferencesFragment extends PreferenceFragment implements
         }
     }
 
+    /**
+     * Returns the network port set by the user.
+     * 
+     * @param userPref user preferences
+     * @return the port, {@link PreferencesFragment#DEFAULT_NETWORK_PORT} if the set one is not valid
+     */
+    public static int getNetworkPort(SharedPreferences userPref) {
+        try {
+            int port =
+                    Integer.parseInt(userPref.getString(NETWORK_PORT_PREF_KEY,
+                            String.valueOf(DEFAULT_NETWORK_PORT)).trim());
+            if (port > 0 && port <= 0xFFFF)
+                return port;
+        } catch (NumberFormatException e) {
+            Log.e(SkyControlConst.ERROR_TAG, "Invalid network port: " + e.getMessage());
+        }
+        return DEFAULT_NETWORK_PORT;
+    }
+
     /**
      * Enables or disables keeping the device's screen on while the app is running.
      * 
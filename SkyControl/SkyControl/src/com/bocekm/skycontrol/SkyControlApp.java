@@ -18,6 +18,8 @@ import android.content.Context;
 
 import com.bocekm.skycontrol.cas.CollisionAvoidance;
 import com.bocekm.skycontrol.connection.Connection;
+import com.bocekm.skycontrol.fleet.Fleet;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 import com.bocekm.skycontrol.mission.Mission;
 import com.bocekm.skycontrol.vehicle.Vehicle;
 
@@ -49,10 +51,12 @@ public class SkyControlApp extends Application {
         // Singletons shall be initialized in application context because when the app is destroyed
         // let's say because of low memory and user wants to access it back again then just the last
         // activity on the stack is recreated after this application class onCreate is called.
+        TelemetryThread.init();
         Connection.init(sAppContext);
         Vehicle.init();
         CollisionAvoidance.init();
         Mission.init();
+        Fleet.init();
     }
 
     public static Context getAppContext() {
@@ -16,6 +16,8 @@ package com.bocekm.skycontrol;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.res.Resources;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.v4.app.Fragment;
 import android.util.Log;
 import android.util.TypedValue;
@@ -34,6 +36,9 @@ public class SkyControlUtils {
     /** Reference to showed Toast message to avoid piling up the Toasts */
     private static Toast sToast;
 
+    /** Handler of the UI thread, the toasts and logs coming from other threads are posted to it. */
+    private static final Handler sUiHandler = new Handler(Looper.getMainLooper());
+
     /**
      * Truncate angle to <min, max> scale and multiply it by constant if needed.
      * 
@@ -66,13 +71,22 @@ public class SkyControlUtils {
     /**
      * Toasts text. Avoids piling up of the toast messages - if there is any previous toast message
      * visible it is canceled. Logs the message also so user can read it when didn't catch the
-     * toast.
+     * toast. May be called from any thread, the toast is shown from the UI thread.
      * 
      * @param text the text to be toasted
      * @param duration duration of the toast, use {@link Toast#LENGTH_LONG} or
      *        {@link Toast#LENGTH_SHORT}
      */
-    public static void toast(String text, int duration) {
+    public static void toast(final String text, final int duration) {
+        if (!EventBatcher.isMainThread()) {
+            sUiHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    toast(text, duration);
+                }
+            });
+            return;
+        }
         // Cancel previous Toast which is still showing to avoid piling up the Toasts
         if (sToast != null)
             sToast.cancel();
@@ -85,21 +99,32 @@ public class SkyControlUtils {
         sToast.show();
 
         // Log the toast message in case user didn't catch the toast
-        if (text.charAt(text.length() - 1) != '\n')
-            text += "\n";
-        log(text, true);
+        String textToLog = text;
+        if (textToLog.charAt(textToLog.length() - 1) != '\n')
+            textToLog += "\n";
+        log(textToLog, true);
     }
 
     /**
      * Logs text to log file and to {@link LogFragment} log tab window. It may happen that
      * {@link LogFragment} is not instantiated yet. In that case the string is saved to
      * {@link SharedPreferences} and it will be written to {@link LogFragment#mLogTextView} and log
-     * file once the Fragment gets instantiated.
+     * file once the Fragment gets instantiated. May be called from any thread, the text is logged
+     * from the UI thread.
      * 
      * @param text text to be logged
      * @param toWindow indicate whether to log the text to log tab window
      */
-    public static void log(String text, boolean toWindow) {
+    public static void log(final String text, final boolean toWindow) {
+        if (!EventBatcher.isMainThread()) {
+            sUiHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    log(text, toWindow);
+                }
+            });
+            return;
+        }
         MainActivity activity = SkyControlApp.getMainActivity();
         if (activity == null) {
             Log.e(SkyControlConst.ERROR_TAG, "\"" + text + "\" couldn't be logged");
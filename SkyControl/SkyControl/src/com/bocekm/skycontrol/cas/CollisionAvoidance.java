@@ -18,6 +18,7 @@ import java.util.List;
 
 import android.content.SharedPreferences;
 import android.content.SharedPreferences.OnSharedPreferenceChangeListener;
+import android.os.SystemClock;
 import android.preference.PreferenceManager;
 
 import com.bocekm.skycontrol.PreferencesFragment;
@@ -28,10 +29,12 @@ import com.bocekm.skycontrol.cas.CollisionEvents.CollisionEvent;
 import com.bocekm.skycontrol.connection.Connection;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionEvent;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionListener;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 import com.bocekm.skycontrol.mission.Mission;
 import com.bocekm.skycontrol.vehicle.Vehicle;
 import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
 import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleListener;
+import com.bocekm.skycontrol.vehicle.VehicleSnapshot;
 import com.google.android.gms.maps.model.LatLng;
 import com.vividsolutions.jts.geom.Coordinate;
 import com.vividsolutions.jts.geom.GeometryFactory;
@@ -47,6 +50,13 @@ import com.vividsolutions.jts.geom.PrecisionModel;
  * {@link CollisionAvoidance#onCreate()} needs to be called. The caller (Activity) must not forget
  * to call also {@link CollisionAvoidance#onDestroy()} on it's own destruction to release listeners
  * and opened files.
+ *
+ * The check for collision runs on the {@link TelemetryThread} on every position update, reading
+ * the {@link VehicleSnapshot} published once the batch of messages carrying the update has been
+ * applied, so the position, altitude, speeds and heading come from one coherent state. The state
+ * is extrapolated to the present by the {@link VehiclePredictor}. Between the position updates it
+ * gets checked again as the prediction advances. The obstacle data are loaded and destroyed on the
+ * UI thread. The data are therefore replaced as a whole and never modified in place.
  */
 public class CollisionAvoidance implements
         VehicleListener,
@@ -57,17 +67,32 @@ public class CollisionAvoidance implements
     private static CollisionAvoidance sCollisionAvoidance;
     private static CollisionEvents sCollisionEvents;
 
-    private TiffParser mElevationModel = null;
-    private List<Obstacle> mObstacles = null;
-    private boolean mCasEnabled = true;
+    private volatile TiffParser mElevationModel = null;
+    private volatile List<Obstacle> mObstacles = null;
+    private volatile boolean mCasEnabled = true;
 
     /**
      * This constant defines in how many seconds the vehicle achieves position which is to be
      * checked for an obstacle.
      */
-    private int mDistanceToCheckpointInS = 0;
-    private LatLng mCheckpointPosition = null;
-    private boolean mDangerOfCollision = false;
+    private volatile int mDistanceToCheckpointInS = 0;
+    private volatile LatLng mCheckpointPosition = null;
+    private volatile boolean mDangerOfCollision = false;
+
+    /**
+     * Shortest interval of the checks between the position updates in ms, the extrapolated state
+     * is checked again at most this often.
+     */
+    private static final long RECHECK_INTERVAL = 200;
+
+    /** Receive time of the position last checked for collision, in ms. */
+    private long mCheckedPositionTime = 0;
+
+    /** Time of the last check for collision, in ms. */
+    private long mCheckTime = 0;
+
+    /** Extrapolates the received state of the vehicle, used on the telemetry thread. */
+    private final VehiclePredictor mPredictor;
 
     /** Specifying the WGS-84 datum (EPSG:4326 Coordinate Reference System) */
     private static final GeometryFactory sGeometryFactory = new GeometryFactory(
@@ -78,7 +103,9 @@ public class CollisionAvoidance implements
      */
     private CollisionAvoidance() {
         sCollisionEvents = new CollisionEvents();
-        Vehicle.get().getEvents().addVehicleListener(this);
+        mPredictor = new VehiclePredictor(Vehicle.get().getHistory());
+        // Every position update is checked, right on the telemetry thread
+        Vehicle.get().getEvents().addTelemetryListener(this);
         Connection.get().getEvents().addConnectionListener(this);
     }
 
@@ -137,38 +164,44 @@ public class CollisionAvoidance implements
         Obstacles obstacles = XmlParser.parseObstaclesFromXml();
         mObstacles = obstacles.getObstacleList();
 
-        mElevationModel = new TiffParser();
+        // Publish the elevation model once it's parsed
+        TiffParser elevationModel = new TiffParser();
         try {
-            mElevationModel.parseGeoTiff(SkyControlConst.ELEVATION_FILE_ASSET);
+            elevationModel.parseGeoTiff(SkyControlConst.ELEVATION_FILE_ASSET);
         } catch (IOException e) {
             e.printStackTrace();
         }
+        mElevationModel = elevationModel;
     }
 
     /**
      * Destroy loaded obstacle data, closes handle to the opened GeoTIFF file.
      */
     private void destroyObstacles() {
-        if (mElevationModel != null) {
-            mElevationModel.closeTiff();
-            mElevationModel = null;
-        }
-
-        if (mObstacles != null) {
-            mObstacles.clear();
-            mObstacles = null;
-        }
+        TiffParser elevationModel = mElevationModel;
+        mElevationModel = null;
+        if (elevationModel != null)
+            // A collision check still using the model gets no elevation
+            elevationModel.closeTiff();
+
+        // The list may be still iterated by a collision check, so it's not cleared
+        mObstacles = null;
     }
 
     /**
-     * Checks whether any obstacle is present in front of the vehicle.
+     * Checks whether any obstacle is present in front of the vehicle. Called on the
+     * {@link TelemetryThread}.
+     * 
+     * @param snapshot state of the vehicle with a valid position
+     * @param now the current time in ms
      */
-    private void checkForCollision() {
-        float currentAltitude = Vehicle.get().getAltitude().getAltitude();
-        LatLng currentPosition = Vehicle.get().getPosition().getPosition();
-        float currentVertSpeed = Vehicle.get().getSpeed().getVerticalSpeed();
-        float currentGroundspeed = Vehicle.get().getSpeed().getGroundspeed();
-        float currentHeading = Vehicle.get().getAttitude().getYawInDegrees();
+    private void checkForCollision(VehicleSnapshot snapshot, long now) {
+        mPredictor.predict(snapshot, now);
+        float currentAltitude = mPredictor.getAltitude();
+        LatLng currentPosition = mPredictor.getPosition();
+        float currentVertSpeed = mPredictor.getVerticalSpeed();
+        float currentGroundspeed = mPredictor.getGroundspeed();
+        float currentHeading = mPredictor.getCourse();
 
         float predictedCheckpointAltitude =
                 currentAltitude + currentVertSpeed * mDistanceToCheckpointInS;
@@ -181,8 +214,11 @@ public class CollisionAvoidance implements
                         distanceOfCheckpoint);
         sCollisionEvents.onCollisionEvent(CollisionEvent.CHECKPOINT_POSITION_UPDATED);
 
+        // The line starts at the received position, so the obstacles on the extrapolated part of
+        // the path get checked too
         boolean dangerOfCollision =
-                checkForCollision(currentPosition, mCheckpointPosition, predictedCheckpointAltitude);
+                checkForCollision(snapshot.getPosition(), mCheckpointPosition,
+                        predictedCheckpointAltitude);
 
         if (dangerOfCollision && !mDangerOfCollision) {
             // Send notification to listeners in case danger of collision has been detected
@@ -353,13 +389,18 @@ public class CollisionAvoidance implements
     @Override
     public void onVehicleEvent(VehicleEvent event) {
         switch (event) {
-            case POSITION:
+            case SNAPSHOT:
                 // Checks on new vehicle location update whether it doesn't head to
                 // obstacle/terrain.
-                // TODO: On vehicle location update the rest of the vehicle values may be outdated
-                // (altitude/yaw/speed). Consider the impact on the collision prediction.
-                if (mCasEnabled)
-                    checkForCollision();
+                VehicleSnapshot snapshot = Vehicle.get().getSnapshot();
+                long now = SystemClock.elapsedRealtime();
+                if (snapshot.getPositionTime() == mCheckedPositionTime
+                        && now - mCheckTime < RECHECK_INTERVAL)
+                    break;
+                mCheckedPositionTime = snapshot.getPositionTime();
+                mCheckTime = now;
+                if (mCasEnabled && snapshot.getPosition() != null)
+                    checkForCollision(snapshot, now);
                 break;
             default:
                 break;
@@ -400,6 +441,15 @@ public class CollisionAvoidance implements
         return sCollisionEvents;
     }
 
+    /**
+     * Returns the time in which the vehicle reaches the position checked for an obstacle.
+     * 
+     * @return the time in s
+     */
+    public int getDistanceToCheckpointInS() {
+        return mDistanceToCheckpointInS;
+    }
+
     public LatLng getCheckpointPosition() {
         return mCheckpointPosition;
     }
@@ -13,10 +13,19 @@
  */
 package com.bocekm.skycontrol.cas;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-public class CollisionEvents {
+import com.bocekm.skycontrol.EventBatcher;
+import com.bocekm.skycontrol.EventBatcher.BatchListener;
+
+/**
+ * Registers listeners to the collision events and handles sending notification to the registered
+ * listeners. The collision check runs on the telemetry thread, the events fired there are delivered
+ * to the listeners on the UI thread in batches.
+ */
+public class CollisionEvents implements
+        BatchListener {
     
     public enum CollisionEvent {
         DANGER_OF_COLLISION,
@@ -36,8 +45,15 @@ public class CollisionEvents {
         public void onCollisionEvent(CollisionEvent event);
     }
 
+    /** All the {@link CollisionEvent}s, indexed by ordinal. */
+    private static final CollisionEvent[] EVENTS = CollisionEvent.values();
+
     /** Registered listeners to the {@link CollisionEvent}s. */
-    private List<CollisionListener> collisionListeners = new ArrayList<CollisionListener>();
+    private List<CollisionListener> collisionListeners =
+            new CopyOnWriteArrayList<CollisionListener>();
+
+    /** Passes the events fired on the background thread to the UI thread. */
+    private final EventBatcher mBatcher = new EventBatcher(this);
 
     /**
      * Adds listener to the {@link CollisionEvent}s.
@@ -61,16 +77,60 @@ public class CollisionEvents {
     }
 
     /**
-     * Calling this method means dispatching an event to all the registered listeners.
+     * Calling this method means dispatching an event to all the registered listeners. May be called
+     * from any thread, the listeners are notified on the UI thread.
      * 
      * @param event the event to be dispatched
      */
     public void onCollisionEvent(CollisionEvent event) {
-        if (collisionListeners.size() > 0) {
-            // Loop through all registered listeners
-            for (CollisionListener listener : collisionListeners) {
-                listener.onCollisionEvent(event);
-            }
+        if (EventBatcher.isMainThread()) {
+            dispatchEvent(event);
+            return;
+        }
+        // Opposite events cancel each other out, just the latest one is delivered
+        CollisionEvent opposite = null;
+        switch (event) {
+            case DANGER_OF_COLLISION:
+                opposite = CollisionEvent.CLEAR_OF_COLLISION;
+                break;
+            case CLEAR_OF_COLLISION:
+                opposite = CollisionEvent.DANGER_OF_COLLISION;
+                break;
+            case OBSTACLES_LOADED:
+                opposite = CollisionEvent.OBSTACLES_DESTROYED;
+                break;
+            case OBSTACLES_DESTROYED:
+                opposite = CollisionEvent.OBSTACLES_LOADED;
+                break;
+            default:
+                break;
+        }
+        mBatcher.add(1 << event.ordinal(), opposite != null ? 1 << opposite.ordinal() : 0);
+    }
+
+    /*
+     * (non-Javadoc) Dispatches the batch of events fired on the background thread, on the UI
+     * thread.
+     * 
+     * @see com.bocekm.skycontrol.EventBatcher.BatchListener#onEventBatch(int)
+     */
+    @Override
+    public void onEventBatch(int events) {
+        for (CollisionEvent event : EVENTS) {
+            if ((events & (1 << event.ordinal())) != 0)
+                dispatchEvent(event);
+        }
+    }
+
+    /**
+     * Dispatch the event to the registered listeners.
+     * 
+     * @param event the event to be dispatched
+     */
+    private void dispatchEvent(CollisionEvent event) {
+        // Loop through all registered listeners
+        for (CollisionListener listener : collisionListeners) {
+            listener.onCollisionEvent(event);
         }
     }
 }
@@ -229,14 +229,17 @@ public class TiffParser {
     }
 
     /**
-     * Shall be closed on destroy of the instantiator.
+     * Shall be closed on destroy of the instantiator. Elevation is not available after that.
      */
-    public void closeTiff() {
+    public synchronized void closeTiff() {
+        if (mTiffFile == null)
+            return;
         try {
             mTiffFile.close();
         } catch (IOException e) {
             e.printStackTrace();
         }
+        mTiffFile = null;
     }
 
     private void parseScaleAndOrigin(ArrayList<Double> scale, ArrayList<Double> origin) {
@@ -262,13 +265,14 @@ public class TiffParser {
     }
 
     /**
-     * Gets elevation of the specific global position from the terrain elevation model.
+     * Gets elevation of the specific global position from the terrain elevation model. Synchronized
+     * as the model is read both by the collision avoidance on the telemetry thread and by the UI.
      *
      * @param position the position
      * @return the elevation when position is within elevation model or -1 otherwise
      */
-    public int getElevation(LatLng position) {
-        if (!isPositionWithin(position))
+    public synchronized int getElevation(LatLng position) {
+        if (mTiffFile == null || !isPositionWithin(position))
             return -1;
         // Choose in which strip the elevation lies (image height .. latitude)
         double latDiffScaled = (position.latitude - mMinPos.latitude) / mScaleLat;
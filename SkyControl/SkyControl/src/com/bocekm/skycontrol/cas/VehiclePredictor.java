@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.cas;
+
+import com.bocekm.skycontrol.SkyControlUtils;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
+import com.bocekm.skycontrol.vehicle.TelemetrySeries;
+import com.bocekm.skycontrol.vehicle.Vehicle;
+import com.bocekm.skycontrol.vehicle.VehicleHistory;
+import com.bocekm.skycontrol.vehicle.VehicleHistory.Channel;
+import com.bocekm.skycontrol.vehicle.VehicleSnapshot;
+import com.google.android.gms.maps.model.LatLng;
+
+/**
+ * The {@link VehiclePredictor} extrapolates the last received state of the vehicle to the present
+ * by dead reckoning. The position may be hundreds of milliseconds old by the time it's checked for
+ * collision, depending on the stream rate and the losses of the radio link, the vehicle keeps
+ * flying meanwhile. Each group of values of the {@link VehicleSnapshot} is moved forward from its
+ * own receive time by the speeds, the turn rate and the course over ground derived from the
+ * {@link VehicleHistory}, to the current time plus the latency of the telemetry pipeline.
+ * 
+ * Used on the {@link TelemetryThread} only, the prediction is kept in the predictor till the next
+ * one.
+ */
+public class VehiclePredictor {
+
+    /**
+     * Time from the measurement on the vehicle to the receipt of the message, in ms. Covers the
+     * stream scheduling of the autopilot, the radio link and the latency timer of the USB chip.
+     */
+    private static final long TELEMETRY_LATENCY = 100;
+
+    /**
+     * Longest time a value is extrapolated over, in ms. A value not received for longer is stale,
+     * extrapolating it further would predict the vehicle where it's likely not.
+     */
+    private static final long MAX_EXTRAPOLATION = 2000;
+
+    /** Span of the history the turn rate and course over ground are derived from, in ms. */
+    private static final long TREND_SPAN = 1000;
+
+    /** Shortest span the trend is derived from, samples closer to each other are too noisy. */
+    private static final long MIN_TREND_SPAN = 200;
+
+    /** Highest turn rate considered in rad/s, any higher one is taken for noise. */
+    private static final double MAX_TURN_RATE = Math.PI / 2;
+
+    /** Shortest distance in meters flown over the trend span to take the course over ground. */
+    private static final double MIN_COURSE_DISTANCE = 2;
+
+    /** History of the vehicle telemetry. */
+    private final VehicleHistory mHistory;
+
+    /** Receives the time of a sample read from the history. */
+    private final long[] mSampleTime = new long[1];
+
+    /** Receives the value of a sample read from the history. */
+    private final double[] mSampleValue = new double[1];
+
+    // The latest prediction
+
+    private long mTime;
+    private LatLng mPosition;
+    private float mAltitude;
+    private float mCourse;
+    private float mGroundspeed;
+    private float mVerticalSpeed;
+
+    /**
+     * Instantiates a new {@link VehiclePredictor} object.
+     * 
+     * @param history history of the vehicle telemetry
+     */
+    public VehiclePredictor(VehicleHistory history) {
+        mHistory = history;
+    }
+
+    /**
+     * Predicts the state of the vehicle at the time given plus the latency of the telemetry
+     * pipeline. The vehicle is expected to keep its speeds and turn rate meanwhile.
+     * 
+     * @param snapshot the last received state of the vehicle, with a valid position
+     * @param now the current time in ms
+     */
+    public void predict(VehicleSnapshot snapshot, long now) {
+        mTime = now + TELEMETRY_LATENCY;
+        mGroundspeed = snapshot.getGroundspeed();
+        mVerticalSpeed = snapshot.getVerticalSpeed();
+
+        double turnRate = getTurnRate();
+        double positionAge = getExtrapolation(snapshot.getPositionTime()) / 1000.0;
+        // Turn in radians the vehicle makes since the position was measured
+        double turn = turnRate * positionAge;
+        double course = getCourse(snapshot, turnRate);
+
+        // The vehicle flies along an arc, the chord of which points halfway through the turn
+        double distance = mGroundspeed * positionAge;
+        if (Math.abs(turn) > 1E-3)
+            distance *= Math.sin(turn / 2) / (turn / 2);
+        mPosition =
+                SkyControlUtils.getDestination(snapshot.getPosition(),
+                        course + SkyControlUtils.radToDeg(turn / 2), distance);
+        mCourse = (float) normalizeDegrees(course + SkyControlUtils.radToDeg(turn));
+
+        mAltitude =
+                snapshot.getAltitude() + mVerticalSpeed * getExtrapolation(snapshot.getSpeedTime())
+                        / 1000f;
+    }
+
+    /**
+     * Returns the time of the prediction, including the latency of the telemetry pipeline.
+     * 
+     * @return time in ms
+     */
+    public long getTime() {
+        return mTime;
+    }
+
+    public LatLng getPosition() {
+        return mPosition;
+    }
+
+    /**
+     * Returns the predicted AMSL altitude.
+     * 
+     * @return altitude in meters
+     */
+    public float getAltitude() {
+        return mAltitude;
+    }
+
+    /**
+     * Returns the predicted course.
+     * 
+     * @return the course in degrees, range <0, 360)
+     */
+    public float getCourse() {
+        return mCourse;
+    }
+
+    public float getGroundspeed() {
+        return mGroundspeed;
+    }
+
+    public float getVerticalSpeed() {
+        return mVerticalSpeed;
+    }
+
+    /**
+     * Returns the time in ms the value received at the time given is to be extrapolated over.
+     * 
+     * @param receiveTime receive time of the value in ms, 0 if never received
+     * @return the time in ms, 0 if the value has never been received
+     */
+    private long getExtrapolation(long receiveTime) {
+        if (receiveTime == 0)
+            return 0;
+        return Math.max(0, Math.min(MAX_EXTRAPOLATION, mTime - receiveTime));
+    }
+
+    /**
+     * Derives the turn rate from the yaw history.
+     * 
+     * @return the turn rate in rad/s, positive clockwise, 0 if the history is too short
+     */
+    private double getTurnRate() {
+        TelemetrySeries yaw = mHistory.getSeries(Channel.YAW);
+        long latestTime = yaw.getLatestTime();
+        if (latestTime < 0 || !readTrendStart(yaw, latestTime))
+            return 0;
+        double turn = normalizeRadians(yaw.getLatestValue() - mSampleValue[0]);
+        double turnRate = turn * 1000 / (latestTime - mSampleTime[0]);
+        return Math.max(-MAX_TURN_RATE, Math.min(MAX_TURN_RATE, turnRate));
+    }
+
+    /**
+     * Determines the course of the vehicle at the receive time of the position. The course over
+     * ground flown over the trend span is taken if the vehicle moved far enough, as the heading of
+     * the vehicle differs from it in wind. It's the course in the middle of the span, so it's
+     * turned by the turn rate over the other half. Otherwise the heading of the vehicle is taken.
+     * 
+     * @param snapshot the last received state of the vehicle
+     * @param turnRate the turn rate in rad/s
+     * @return the course in degrees
+     */
+    private double getCourse(VehicleSnapshot snapshot, double turnRate) {
+        // The history keeps the received positions, not the fake one
+        if (Vehicle.get().getPosition().isFakeGpsEnabled())
+            return snapshot.getYawInDegrees();
+        TelemetrySeries latitude = mHistory.getSeries(Channel.LATITUDE);
+        TelemetrySeries longitude = mHistory.getSeries(Channel.LONGITUDE);
+        long latestTime = latitude.getLatestTime();
+        if (latestTime < 0 || !readTrendStart(latitude, latestTime))
+            return snapshot.getYawInDegrees();
+        long startTime = mSampleTime[0];
+        double startLatitude = mSampleValue[0];
+        // Both coordinates are added at once, the samples have the same times
+        if (!readTrendStart(longitude, latestTime) || mSampleTime[0] != startTime)
+            return snapshot.getYawInDegrees();
+        double startLongitude = mSampleValue[0];
+
+        double endLatitude = latitude.getLatestValue();
+        double endLongitude = longitude.getLatestValue();
+        if (SkyControlUtils.getDistance(startLatitude, startLongitude, endLatitude, endLongitude)
+                < MIN_COURSE_DISTANCE)
+            return snapshot.getYawInDegrees();
+        double courseOverGround =
+                SkyControlUtils.getAzimuth(startLatitude, startLongitude, endLatitude,
+                        endLongitude);
+        return courseOverGround
+                + SkyControlUtils.radToDeg(turnRate * (latestTime - startTime) / 2000.0);
+    }
+
+    /**
+     * Reads the oldest raw sample of the series within the trend span before the time given into
+     * {@link #mSampleTime} and {@link #mSampleValue}.
+     * 
+     * @param series the series to be read
+     * @param endTime end of the trend span in ms
+     * @return true if there's such sample
+     */
+    private boolean readTrendStart(TelemetrySeries series, long endTime) {
+        return series.read(0, endTime - TREND_SPAN, endTime - MIN_TREND_SPAN, mSampleTime, null,
+                null, mSampleValue) > 0;
+    }
+
+    /**
+     * Normalizes the angle to the range <-PI, PI>.
+     * 
+     * @param angle the angle in radians
+     * @return the normalized angle
+     */
+    private static double normalizeRadians(double angle) {
+        return Math.atan2(Math.sin(angle), Math.cos(angle));
+    }
+
+    /**
+     * Normalizes the angle to the range <0, 360).
+     * 
+     * @param angle the angle in degrees
+     * @return the normalized angle
+     */
+    private static double normalizeDegrees(double angle) {
+        angle %= 360;
+        return angle < 0 ? angle + 360 : angle;
+    }
+}
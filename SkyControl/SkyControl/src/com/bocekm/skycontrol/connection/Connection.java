@@ -17,7 +17,9 @@ import android.app.Application;
 import android.content.Context;
 
 import com.bocekm.skycontrol.mavlink.MavLinkClient;
+import com.bocekm.skycontrol.mavlink.MavLinkConnection;
 import com.bocekm.skycontrol.mavlink.MavLinkMsgHandler;
+import com.bocekm.skycontrol.mavlink.MavLinkSystems;
 
 /**
  * {@link Connection} class is a singleton pattern class which lives from the start of the application
@@ -31,6 +33,9 @@ public class Connection {
     /** Handler of the MavLink messages transmitted by the vehicle. */
     private MavLinkMsgHandler mMavLinkMsgHandler;
 
+    /** Systems heard on the link, demultiplexing the received messages. */
+    private MavLinkSystems mMavLinkSystems;
+
     /** {@link MavLinkClient} being used to send MavLink messages to the vehicle. */
     private MavLinkClient mMavLinkClient;
 
@@ -51,6 +56,8 @@ public class Connection {
     private Connection(Context appContext) {
         mConnectionEvents = new ConnectionEvents();
         mMavLinkMsgHandler = new MavLinkMsgHandler();
+        mMavLinkMsgHandler.subscribeMessages(MavLinkConnection.getSubscriptions());
+        mMavLinkSystems = new MavLinkSystems();
         mMavLinkClient = new MavLinkClient(appContext);
         mTelemetrySignal = new TelemetrySignal(mConnectionEvents);
     }
@@ -92,6 +99,10 @@ public class Connection {
         return mMavLinkMsgHandler;
     }
     
+    public MavLinkSystems getMavLinkSystems() {
+        return mMavLinkSystems;
+    }
+
     public ConnectionEvents getEvents() {
         return mConnectionEvents;
     }
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.connection;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.List;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.MAVLink.Parser;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Messages.MAVLinkSubscriptions;
+import com.bocekm.skycontrol.SkyControlConst;
+import com.bocekm.skycontrol.mavlink.MavLinkPacketQueue;
+import com.bocekm.skycontrol.mavlink.MavLinkSendScheduler;
+
+/**
+ * {@link MavLinkRouter} mirrors the vehicle stream to other ground stations over UDP, e.g. to a
+ * laptop GCS. The frames received from the vehicle are forwarded without being decoded, the
+ * validated frame is just copied into a reusable direct buffer and sent to every endpoint whose
+ * message filter and rate limit let it through, so forwarding allocates nothing. The commands the
+ * endpoints send back are parsed on the router thread and queued to be sent to the vehicle.
+ */
+public class MavLinkRouter extends Thread {
+
+    /** Size of the receive buffer, enough for the largest UDP datagram. */
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /** Time to wait for the incoming data in milliseconds. */
+    private static final int READ_TIMEOUT = 200;
+
+    /**
+     * Ground station the frames are forwarded to.
+     */
+    public static class Endpoint {
+
+        /** Host name or address of the ground station. */
+        private final String mHost;
+
+        /** UDP port of the ground station. */
+        private final int mPort;
+
+        /** Messages forwarded to the ground station. */
+        private final MAVLinkSubscriptions mMessages;
+
+        /** Data rate limit in bytes per second, 0 for no limit. */
+        private final int mRate;
+
+        /** Resolved address, null until the router thread resolves it. */
+        private InetSocketAddress mAddress;
+
+        /** Bytes which may be forwarded now. */
+        private float mTokens;
+
+        /** Time the tokens were last refilled at, in ms. */
+        private long mRefillTime;
+
+        /**
+         * Instantiates a new {@link Endpoint} object.
+         * 
+         * @param host host name or address of the ground station
+         * @param port UDP port of the ground station
+         * @param messages messages forwarded to the ground station
+         * @param rate data rate limit in bytes per second, 0 for no limit
+         */
+        public Endpoint(String host, int port, MAVLinkSubscriptions messages, int rate) {
+            mHost = host;
+            mPort = port;
+            mMessages = messages;
+            mRate = rate;
+            mTokens = rate;
+        }
+
+        /**
+         * Parses the endpoint written as "host:port", optionally followed by " rate=bytes/s" and
+         * " msgs=id,id,...".
+         * 
+         * @param spec the endpoint specification
+         * @return the endpoint, null if the specification is not valid
+         */
+        public static Endpoint parse(String spec) {
+            String[] parts = spec.trim().split("\\s+");
+            int colon = parts[0].lastIndexOf(':');
+            if (colon <= 0)
+                return null;
+            try {
+                int port = Integer.parseInt(parts[0].substring(colon + 1));
+                int rate = 0;
+                MAVLinkSubscriptions messages = new MAVLinkSubscriptions();
+                messages.subscribeAll();
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].startsWith("rate=")) {
+                        rate = Integer.parseInt(parts[i].substring(5));
+                    } else if (parts[i].startsWith("msgs=")) {
+                        messages.clear();
+                        for (String msgid : parts[i].substring(5).split(","))
+                            messages.subscribe(Integer.parseInt(msgid));
+                    } else {
+                        return null;
+                    }
+                }
+                if (port <= 0 || port > 0xFFFF || rate < 0)
+                    return null;
+                return new Endpoint(parts[0].substring(0, colon), port, messages, rate);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Take the tokens for the frame, if the rate limit lets it through.
+         * 
+         * @param length length of the frame in bytes
+         * @param now current time in ms
+         * @return true if the frame may be forwarded
+         */
+        private boolean takeTokens(int length, long now) {
+            if (mRate == 0)
+                return true;
+            mTokens = Math.min(mRate, mTokens + mRate * (now - mRefillTime) / 1000f);
+            mRefillTime = now;
+            if (mTokens < length)
+                return false;
+            mTokens -= length;
+            return true;
+        }
+    }
+
+    /** The ground stations. */
+    private final Endpoint[] mEndpoints;
+
+    /** Messages forwarded to any of the endpoints. */
+    private final MAVLinkSubscriptions mForwardedMessages = new MAVLinkSubscriptions();
+
+    /** Queue the commands from the endpoints are injected into. */
+    private final MavLinkSendScheduler mSendQueue;
+
+    /** Buffer the forwarded frame is copied into. */
+    private final ByteBuffer mFrameBuffer = ByteBuffer
+            .allocateDirect(MAVLinkPacket.MAVLINK_MAX_PACKET_LEN);
+
+    /** Heap buffer the datagrams from the endpoints are received into, parsed in place. */
+    private final ByteBuffer mReadBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    /** Parser of the commands from the endpoints, its packets are released by the send queue. */
+    private final Parser mParser = new Parser(new MAVLinkPacketPool(
+            MavLinkPacketQueue.DEFAULT_CAPACITY));
+
+    /** Queues the commands from the endpoints. */
+    private final Parser.FrameSink mCommandSink = new Parser.FrameSink() {
+        @Override
+        public void onFrame(MAVLinkPacket packet) {
+            mSendQueue.offer(packet);
+        }
+    };
+
+    /** The channel, null until it's opened by the router thread. */
+    private volatile DatagramChannel mChannel;
+
+    /** Selector waiting for the datagrams from the endpoints. */
+    private volatile Selector mSelector;
+
+    /** Indication whether the router is running. */
+    private volatile boolean mRunning = true;
+
+    /**
+     * Instantiates a new {@link MavLinkRouter} object.
+     * 
+     * @param endpoints the ground stations to forward the frames to
+     * @param sendQueue queue the commands from the ground stations are injected into
+     */
+    public MavLinkRouter(List<Endpoint> endpoints, MavLinkSendScheduler sendQueue) {
+        super("MavLinkRouter");
+        mEndpoints = endpoints.toArray(new Endpoint[endpoints.size()]);
+        mSendQueue = sendQueue;
+        for (Endpoint endpoint : mEndpoints)
+            mForwardedMessages.subscribe(endpoint.mMessages);
+    }
+
+    /**
+     * Parses the list of endpoints separated by semicolons or new lines, see
+     * {@link Endpoint#parse(String)}. Invalid endpoints are skipped.
+     * 
+     * @param specs the endpoint specifications
+     * @return the valid endpoints
+     */
+    public static List<Endpoint> parseEndpoints(String specs) {
+        List<Endpoint> endpoints = new ArrayList<Endpoint>();
+        for (String spec : specs.split("[;\\n]")) {
+            if (spec.trim().isEmpty())
+                continue;
+            Endpoint endpoint = Endpoint.parse(spec);
+            if (endpoint != null)
+                endpoints.add(endpoint);
+            else
+                Log.e(SkyControlConst.ERROR_TAG, "Invalid MavLink forwarding endpoint: " + spec);
+        }
+        return endpoints;
+    }
+
+    /**
+     * Returns the messages forwarded to any of the endpoints, which need to be passed on by the
+     * parsers of the connections to the vehicle.
+     * 
+     * @return the forwarded messages
+     */
+    public MAVLinkSubscriptions getForwardedMessages() {
+        return mForwardedMessages;
+    }
+
+    /**
+     * Forward the frame received from the vehicle to the endpoints interested in it. Called on the
+     * threads of the connections to the vehicle, which take turns as they share the frame buffer
+     * and the rate limits. Frames not fitting into the rate limit or the socket send buffer are
+     * dropped.
+     * 
+     * @param packet the received packet, it's left untouched
+     */
+    public void forward(MAVLinkPacket packet) {
+        DatagramChannel channel = mChannel;
+        if (channel == null)
+            return;
+        long now = SystemClock.elapsedRealtime();
+        int length = -1;
+        synchronized (mFrameBuffer) {
+            for (Endpoint endpoint : mEndpoints) {
+                if (endpoint.mAddress == null || !endpoint.mMessages.isSubscribed(packet.msgid))
+                    continue;
+                if (length < 0) {
+                    // Copy the frame only once it's wanted by an endpoint
+                    mFrameBuffer.clear();
+                    length = packet.writeFrame(mFrameBuffer);
+                }
+                if (!endpoint.takeTokens(length, now))
+                    continue;
+                mFrameBuffer.position(0);
+                mFrameBuffer.limit(length);
+                try {
+                    channel.send(mFrameBuffer, endpoint.mAddress);
+                } catch (IOException e) {
+                    Log.e(SkyControlConst.ERROR_TAG, "MavLink forwarding error: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /*
+     * (non-Javadoc) Resolve the endpoints, open the channel and receive the commands from the
+     * endpoints until the router is closed.
+     * 
+     * @see java.lang.Thread#run()
+     */
+    @Override
+    public void run() {
+        try {
+            for (Endpoint endpoint : mEndpoints) {
+                InetSocketAddress address = new InetSocketAddress(endpoint.mHost, endpoint.mPort);
+                if (address.isUnresolved())
+                    Log.e(SkyControlConst.ERROR_TAG, "Unknown host " + endpoint.mHost);
+                else
+                    endpoint.mAddress = address;
+            }
+            DatagramChannel channel = DatagramChannel.open();
+            // Publishes the resolved addresses to the forwarding thread
+            mChannel = channel;
+            channel.configureBlocking(false);
+            mSelector = Selector.open();
+            channel.register(mSelector, SelectionKey.OP_READ);
+            while (mRunning) {
+                if (mSelector.select(READ_TIMEOUT) == 0)
+                    continue;
+                mSelector.selectedKeys().clear();
+                receiveCommands(channel);
+            }
+        } catch (IOException e) {
+            Log.e(SkyControlConst.ERROR_TAG, "MavLink router error: " + e.getMessage(), e);
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Receive the datagrams from the endpoints and queue the commands in them.
+     * 
+     * @param channel the channel of the router
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void receiveCommands(DatagramChannel channel) throws IOException {
+        while (mRunning) {
+            mReadBuffer.clear();
+            SocketAddress sender = channel.receive(mReadBuffer);
+            if (sender == null)
+                return;
+            if (!isEndpoint(sender))
+                continue;
+            mReadBuffer.flip();
+            mParser.parse(mReadBuffer, mCommandSink);
+        }
+    }
+
+    /**
+     * Check whether the datagram comes from one of the endpoints.
+     * 
+     * @param sender address of the sender
+     * @return true if the sender is an endpoint
+     */
+    private boolean isEndpoint(SocketAddress sender) {
+        for (Endpoint endpoint : mEndpoints) {
+            if (sender.equals(endpoint.mAddress))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Close the channel and the selector.
+     */
+    private void closeChannel() {
+        DatagramChannel channel = mChannel;
+        mChannel = null;
+        try {
+            if (mSelector != null)
+                mSelector.close();
+            if (channel != null)
+                channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Stop the router, the router thread closes the channel.
+     */
+    public void close() {
+        mRunning = false;
+        Selector selector = mSelector;
+        if (selector != null)
+            selector.wakeup();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.connection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+
+import android.content.Context;
+import android.os.SystemClock;
+
+import com.bocekm.skycontrol.mavlink.MavLinkConnection;
+
+/**
+ * {@link NetworkConnection} is the base of the MavLink connections over IP network, e.g. to the
+ * vehicle simulator (SITL) or to a telemetry bridge. The channel is non-blocking and waited for by
+ * a {@link Selector}, so the connection thread can be woken up right away when the connection is
+ * being closed. The data are received into one large heap buffer, which the MavLink parser reads
+ * in place through its backing array, so a burst of packets is drained without copying it first.
+ */
+public abstract class NetworkConnection extends MavLinkConnection {
+
+    /** Size of the receive buffer, enough for the largest UDP datagram. */
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /** Time to wait for the incoming data in milliseconds. */
+    private static final int READ_TIMEOUT = 200;
+
+    /** Time to wait for the socket send buffer to get free space in milliseconds. */
+    private static final int WRITE_TIMEOUT = 500;
+
+    /** Buffer the incoming data are received into. */
+    private final ByteBuffer mReadBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    /** The channel of the connection, null while not opened. */
+    private volatile SelectableChannel mChannel;
+
+    /** Selector waiting for the incoming data on the connection thread. */
+    private volatile Selector mReadSelector;
+
+    /** The last array passed to {@link #sendBuffer(byte[], int)}. */
+    private byte[] mSendArray;
+
+    /** Buffer wrapping {@link NetworkConnection#mSendArray}, reused while the array is the same. */
+    private ByteBuffer mSendBuffer;
+
+    /**
+     * Instantiates new {@link NetworkConnection} class object.
+     * 
+     * @param parentContext the parent context, implementing the MavLinkConnectionListener
+     */
+    public NetworkConnection(Context parentContext) {
+        super(parentContext);
+    }
+
+    /**
+     * Open the channel of the connection and switch it to the non-blocking mode.
+     * 
+     * @return the opened channel
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    protected abstract SelectableChannel openChannel() throws IOException;
+
+    /**
+     * Read the data available on the channel into the buffer without blocking.
+     * 
+     * @param buffer buffer to be read into, from its position
+     * @return number of bytes read, 0 if no data are available, -1 if the peer closed the
+     *         connection
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    protected abstract int read(ByteBuffer buffer) throws IOException;
+
+    /**
+     * Write the data to the channel without blocking.
+     * 
+     * @param buffer buffer with the data between its position and limit
+     * @return number of bytes written, 0 if the channel can't take the data now
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    protected abstract int write(ByteBuffer buffer) throws IOException;
+
+    /*
+     * (non-Javadoc) Open the channel and register it for reading.
+     * 
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#openConnection()
+     */
+    @Override
+    protected void openConnection() throws IOException {
+        mChannel = openChannel();
+        mReadSelector = Selector.open();
+        mChannel.register(mReadSelector, SelectionKey.OP_READ);
+    }
+
+    /*
+     * (non-Javadoc) Wait up to READ_TIMEOUT ms for the channel to be readable, then read and parse
+     * all the data available.
+     * 
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#readData()
+     */
+    @Override
+    protected void readData() throws IOException {
+        if (mReadSelector.select(READ_TIMEOUT) == 0)
+            return;
+        mReadSelector.selectedKeys().clear();
+        while (mServiceConnected) {
+            mReadBuffer.clear();
+            int bytesRead = read(mReadBuffer);
+            if (bytesRead < 0)
+                throw new IOException("Connection closed by the peer");
+            if (bytesRead == 0)
+                return;
+            mReadBuffer.flip();
+            parseReadData(mReadBuffer);
+        }
+    }
+
+    /*
+     * (non-Javadoc) Write the data to the channel, waiting up to WRITE_TIMEOUT ms for the channel
+     * whenever its send buffer is full.
+     * 
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#sendBuffer(byte[], int)
+     */
+    @Override
+    protected void sendBuffer(byte[] buffer, int length) throws IOException {
+        SelectableChannel channel = mChannel;
+        if (channel == null || !mServiceConnected)
+            return;
+        if (buffer != mSendArray) {
+            mSendArray = buffer;
+            mSendBuffer = ByteBuffer.wrap(buffer);
+        }
+        mSendBuffer.clear();
+        mSendBuffer.limit(length);
+        write(mSendBuffer);
+        if (mSendBuffer.hasRemaining())
+            waitAndWrite(channel);
+    }
+
+    /**
+     * Write the rest of the send buffer once the channel gets writable. The socket send buffer is
+     * rarely full, so the selector is opened for this time only.
+     * 
+     * @param channel the channel of the connection
+     * @throws IOException Signals that an I/O exception has occurred or the write timed out.
+     */
+    private void waitAndWrite(SelectableChannel channel) throws IOException {
+        long deadline = SystemClock.uptimeMillis() + WRITE_TIMEOUT;
+        Selector writeSelector = Selector.open();
+        try {
+            channel.register(writeSelector, SelectionKey.OP_WRITE);
+            while (mSendBuffer.hasRemaining()) {
+                long timeout = deadline - SystemClock.uptimeMillis();
+                if (timeout <= 0)
+                    throw new IOException("Network write timed out");
+                writeSelector.select(timeout);
+                writeSelector.selectedKeys().clear();
+                write(mSendBuffer);
+            }
+        } finally {
+            writeSelector.close();
+        }
+    }
+
+    /*
+     * (non-Javadoc) Wake up the connection thread waiting for data, so it closes the connection
+     * right away.
+     * 
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#onCloseConnection()
+     */
+    @Override
+    public void onCloseConnection() {
+        super.onCloseConnection();
+        Selector selector = mReadSelector;
+        if (selector != null)
+            selector.wakeup();
+    }
+
+    /*
+     * (non-Javadoc) Close the selectors and the channel.
+     * 
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#closeConnection()
+     */
+    @Override
+    protected void closeConnection() throws IOException {
+        SelectableChannel channel = mChannel;
+        mChannel = null;
+        if (mReadSelector != null) {
+            mReadSelector.close();
+            mReadSelector = null;
+        }
+        if (channel != null)
+            channel.close();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.connection;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.bocekm.skycontrol.SkyControlConst;
+
+/**
+ * {@link TcpConnection} connects to a MavLink TCP server, e.g. the vehicle simulator (SITL
+ * listens on port 5760) or a telemetry bridge.
+ */
+public class TcpConnection extends NetworkConnection {
+
+    /** Time to wait for the connection to be established in milliseconds. */
+    private static final int CONNECT_TIMEOUT = 5000;
+
+    /** Host name or address of the server. */
+    private final String mHost;
+
+    /** Port of the server. */
+    private final int mPort;
+
+    /** The channel connected to the server. */
+    private SocketChannel mSocketChannel;
+
+    /**
+     * Instantiates new {@link TcpConnection} class object.
+     * 
+     * @param parentContext the parent context, implementing the MavLinkConnectionListener
+     * @param host host name or address of the server
+     * @param port port of the server
+     */
+    public TcpConnection(Context parentContext, String host, int port) {
+        super(parentContext);
+        mHost = host;
+        mPort = port;
+    }
+
+    /*
+     * (non-Javadoc) Connect to the server, the connection is established in the blocking mode
+     * with a timeout, then the channel is switched to the non-blocking one.
+     * 
+     * @see com.bocekm.skycontrol.connection.NetworkConnection#openChannel()
+     */
+    @Override
+    protected SelectableChannel openChannel() throws IOException {
+        Log.d(SkyControlConst.DEBUG_TAG, "Connecting to TCP " + mHost + ":" + mPort);
+        InetSocketAddress address = new InetSocketAddress(mHost, mPort);
+        if (address.isUnresolved())
+            throw new UnknownHostException(mHost);
+        mSocketChannel = SocketChannel.open();
+        try {
+            mSocketChannel.socket().connect(address, CONNECT_TIMEOUT);
+            // MavLink packets are small and latency sensitive, don't let them wait for each other
+            mSocketChannel.socket().setTcpNoDelay(true);
+            mSocketChannel.configureBlocking(false);
+        } catch (IOException e) {
+            mSocketChannel.close();
+            throw e;
+        }
+        return mSocketChannel;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.bocekm.skycontrol.connection.NetworkConnection#read(java.nio.ByteBuffer)
+     */
+    @Override
+    protected int read(ByteBuffer buffer) throws IOException {
+        return mSocketChannel.read(buffer);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.bocekm.skycontrol.connection.NetworkConnection#write(java.nio.ByteBuffer)
+     */
+    @Override
+    protected int write(ByteBuffer buffer) throws IOException {
+        return mSocketChannel.write(buffer);
+    }
+}
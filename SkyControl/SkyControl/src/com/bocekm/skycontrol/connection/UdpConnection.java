@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.connection;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.bocekm.skycontrol.SkyControlConst;
+
+/**
+ * {@link UdpConnection} receives the MavLink datagrams on a local UDP port, the way the vehicle
+ * simulators and telemetry bridges stream them to a GCS (port 14550 by default). The packets are
+ * sent back to whoever sent the last datagram, nothing is sent until the first one arrives.
+ */
+public class UdpConnection extends NetworkConnection {
+
+    /** Local port to receive the datagrams on. */
+    private final int mPort;
+
+    /** The channel bound to the local port. */
+    private DatagramChannel mDatagramChannel;
+
+    /** Address of the last sender, the packets are sent to. */
+    private volatile SocketAddress mPeer;
+
+    /**
+     * Instantiates new {@link UdpConnection} class object.
+     * 
+     * @param parentContext the parent context, implementing the MavLinkConnectionListener
+     * @param port local port to receive the datagrams on
+     */
+    public UdpConnection(Context parentContext, int port) {
+        super(parentContext);
+        mPort = port;
+    }
+
+    /*
+     * (non-Javadoc) Bind the datagram channel to the local port.
+     * 
+     * @see com.bocekm.skycontrol.connection.NetworkConnection#openChannel()
+     */
+    @Override
+    protected SelectableChannel openChannel() throws IOException {
+        Log.d(SkyControlConst.DEBUG_TAG, "Listening on UDP port " + mPort);
+        mDatagramChannel = DatagramChannel.open();
+        try {
+            mDatagramChannel.socket().bind(new InetSocketAddress(mPort));
+            mDatagramChannel.configureBlocking(false);
+        } catch (IOException e) {
+            mDatagramChannel.close();
+            throw e;
+        }
+        return mDatagramChannel;
+    }
+
+    /*
+     * (non-Javadoc) Receive one datagram and remember its sender.
+     * 
+     * @see com.bocekm.skycontrol.connection.NetworkConnection#read(java.nio.ByteBuffer)
+     */
+    @Override
+    protected int read(ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        SocketAddress sender = mDatagramChannel.receive(buffer);
+        if (sender == null)
+            return 0;
+        mPeer = sender;
+        return buffer.position() - start;
+    }
+
+    /*
+     * (non-Javadoc) Send the data in one datagram to the last sender. The data are dropped while
+     * nobody has sent anything.
+     * 
+     * @see com.bocekm.skycontrol.connection.NetworkConnection#write(java.nio.ByteBuffer)
+     */
+    @Override
+    protected int write(ByteBuffer buffer) throws IOException {
+        SocketAddress peer = mPeer;
+        if (peer == null) {
+            int length = buffer.remaining();
+            buffer.position(buffer.limit());
+            return length;
+        }
+        return mDatagramChannel.send(buffer, peer);
+    }
+}
@@ -17,6 +17,7 @@ import java.io.IOException;
 
 import android.content.Context;
 import android.hardware.usb.UsbManager;
+import android.os.SystemClock;
 import android.util.Log;
 
 import com.bocekm.skycontrol.SkyControlConst;
@@ -39,11 +40,55 @@ public class UsbConnection extends MavLinkConnection {
     /** Timeout for writing data using USB driver in milliseconds. */
     private static final int USB_WRITE_TIMEOUT = 500;
 
-    /** Timeout for reading data using USB driver in milliseconds. */
+    /** Timeout for reading data using USB driver in milliseconds, the upper bound while active. */
     private static final int USB_READ_TIMEOUT = 200;
 
+    /** Lower bound of the read timeout while the telemetry streams, in ms. */
+    private static final int USB_MIN_READ_TIMEOUT = 50;
+
+    /** Read timeout while the link is idle, in ms. */
+    private static final int USB_IDLE_READ_TIMEOUT = 500;
+
+    /** Number of data intervals the read waits for data before it times out while active. */
+    private static final int READ_TIMEOUT_INTERVALS = 4;
+
+    /** Weight of a new sample in the moving average of the data interval. */
+    private static final float DATA_INTERVAL_WEIGHT = 0.125f;
+
+    /** Time without any data after which the link is considered idle, in ms. */
+    private static final long LINK_IDLE_TIMEOUT = 1000;
+
+    /** Chip latency timer while the telemetry streams, in ms. */
+    private static final int ACTIVE_LATENCY_TIMER = 2;
+
+    /** Chip latency timer while the link is idle, the default of the chips, in ms. */
+    private static final int IDLE_LATENCY_TIMER = 16;
+
+    /**
+     * Size of one read from the USB device. Spans many USB packets and MavLink frames, the transfer
+     * ends early once the device has no more data, so a large read costs no latency.
+     */
+    private static final int USB_READ_SIZE_BYTES = 4096;
+
+    /** The data read from the USB device. */
+    private byte[] mReadData = new byte[USB_READ_SIZE_BYTES];
+
     /** USB Driver. */
-    private UsbSerialDriver mUsbDriver = null;
+    private volatile UsbSerialDriver mUsbDriver = null;
+
+    // Adaptive timing, accessed on the connection thread only
+
+    /** Current read timeout in ms. */
+    private int mReadTimeout;
+
+    /** Moving average of the interval between reads returning data, in ms. */
+    private float mDataInterval;
+
+    /** Time of the last read returning data in ms, 0 if none yet. */
+    private long mLastDataTime;
+
+    /** Whether the telemetry streams and the chip latency timer is short. */
+    private boolean mLinkActive;
 
     /** {@link Context} of the parent. */
     private Context mParent;
@@ -83,6 +128,11 @@ public class UsbConnection extends MavLinkConnection {
                 // Set connection speed, parity and other parameters
                 mUsbDriver.setParameters(BAUD_RATE, UsbSerialDriver.DATABITS_8,
                         UsbSerialDriver.STOPBITS_1, UsbSerialDriver.PARITY_NONE);
+                // The chip may keep the latency timer of the previous connection
+                mReadTimeout = USB_READ_TIMEOUT;
+                mDataInterval = USB_READ_TIMEOUT;
+                mLastDataTime = 0;
+                setLinkActive(mUsbDriver, false);
             } catch (IOException e) {
                 Log.e(SkyControlConst.ERROR_TAG, "Error setting up device: " + e.getMessage(), e);
                 mUsbDriver.close(); // throws IOException
@@ -94,33 +144,97 @@ public class UsbConnection extends MavLinkConnection {
 
     /*
      * (non-Javadoc) Read data from driver. This call will return up to mReadData.length bytes. If
-     * no data is received it will timeout after USB_READ_TIMEOUT ms.
+     * no data is received it will timeout after mReadTimeout ms.
      * 
-     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#readDataBlock()
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#readData()
      */
     @Override
-    protected int readDataBlock() throws IOException {
-        return mUsbDriver.read(mReadData, USB_READ_TIMEOUT);
+    protected void readData() throws IOException {
+        UsbSerialDriver usbDriver = mUsbDriver;
+        if (usbDriver == null)
+            throw new IOException("USB device not opened");
+        int length = usbDriver.read(mReadData, mReadTimeout);
+        parseReadData(mReadData, length);
+        adaptTiming(usbDriver, length > 0);
+    }
+
+    /**
+     * Adapt the chip latency timer and the read timeout to the observed data rate. While the
+     * telemetry streams, the chip passes on every frame within {@link #ACTIVE_LATENCY_TIMER} and
+     * the read times out after a few missed frames, so the link going idle is noticed soon. Once
+     * idle, the chip and the reads fall back to long timeouts, costing no CPU time.
+     * 
+     * @param usbDriver the driver of the device
+     * @param dataRead whether the last read returned any data
+     */
+    private void adaptTiming(UsbSerialDriver usbDriver, boolean dataRead) {
+        long now = SystemClock.elapsedRealtime();
+        if (dataRead) {
+            if (mLastDataTime > 0) {
+                long interval = Math.min(now - mLastDataTime, USB_IDLE_READ_TIMEOUT);
+                mDataInterval += (interval - mDataInterval) * DATA_INTERVAL_WEIGHT;
+            }
+            mLastDataTime = now;
+            if (!mLinkActive)
+                setLinkActive(usbDriver, true);
+        } else if (mLinkActive && now - mLastDataTime > LINK_IDLE_TIMEOUT) {
+            setLinkActive(usbDriver, false);
+        }
+        if (mLinkActive) {
+            mReadTimeout =
+                    Math.max(USB_MIN_READ_TIMEOUT, Math.min(USB_READ_TIMEOUT,
+                            (int) (mDataInterval * READ_TIMEOUT_INTERVALS)));
+        } else {
+            mReadTimeout = USB_IDLE_READ_TIMEOUT;
+        }
+    }
+
+    /**
+     * Switch the chip latency timer between the active and idle value. Drivers of the chips
+     * without the timer ignore it.
+     * 
+     * @param usbDriver the driver of the device
+     * @param active whether the telemetry streams
+     */
+    private void setLinkActive(UsbSerialDriver usbDriver, boolean active) {
+        mLinkActive = active;
+        try {
+            usbDriver.setLatencyTimer(active ? ACTIVE_LATENCY_TIMER : IDLE_LATENCY_TIMER);
+        } catch (IOException e) {
+            Log.e(SkyControlConst.ERROR_TAG, "USB latency timer error: " + e.getMessage(), e);
+        }
     }
 
     /*
      * (non-Javadoc) Send data to the attached USB device.
      * 
-     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#sendBuffer(byte[])
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#sendBuffer(byte[], int)
      */
     @Override
-    protected void sendBuffer(byte[] buffer) {
-        // Write data to driver. This call writes buffer.length bytes
+    protected void sendBuffer(byte[] buffer, int length) {
+        // Write data to driver. This call writes length bytes
         // if data can't be sent, then it will timeout in USB_WRITE_TIMEOUT ms.
         if (mUsbDriver != null) {
             try {
-                mUsbDriver.write(buffer, USB_WRITE_TIMEOUT);
+                mUsbDriver.write(buffer, length, USB_WRITE_TIMEOUT);
             } catch (IOException e) {
                 Log.e(SkyControlConst.ERROR_TAG, "USB write error: " + e.getMessage(), e);
             }
         }
     }
 
+    /*
+     * (non-Javadoc) Frames are coalesced up to the packet size of the USB endpoint, so they're
+     * written in as few USB packets as possible.
+     * 
+     * @see com.bocekm.skycontrol.mavlink.MavLinkConnection#getMaxTransferSize()
+     */
+    @Override
+    protected int getMaxTransferSize() {
+        UsbSerialDriver usbDriver = mUsbDriver;
+        return usbDriver != null ? usbDriver.getMaxWritePacketSize() : 0;
+    }
+
     /*
      * (non-Javadoc) Close connection to the USB device.
      * 
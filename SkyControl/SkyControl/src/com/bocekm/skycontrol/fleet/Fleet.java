@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.fleet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import android.os.Process;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.bocekm.skycontrol.SkyControlApp;
+import com.bocekm.skycontrol.fleet.FleetEvents.FleetEvent;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
+import com.bocekm.skycontrol.vehicle.Vehicle;
+
+/**
+ * {@link Fleet} class is a singleton pattern class which lives from the start of the application
+ * till the end. Keeps a {@link FleetVehicle} context for every vehicle heard on the link except the
+ * active system, which feeds the {@link Vehicle}, its mission and the collision avoidance as
+ * before. The vehicles are processed in parallel on a pool of at most {@link #MAX_THREADS} threads,
+ * each vehicle has at most one task queued at a time, so the work queue is bounded by the number of
+ * vehicles.
+ * 
+ * Packets are passed in on the {@link TelemetryThread}, the vehicles may be read from any thread.
+ * The singleton needs to be initialized on the UI thread from {@link SkyControlApp}.
+ */
+public class Fleet {
+
+    /** This {@link Fleet} class instance. */
+    private static Fleet sFleet;
+
+    /** Maximum number of threads processing the vehicles. */
+    private static final int MAX_THREADS = 4;
+
+    /** Time after which an idle processing thread exits, in s. */
+    private static final long THREAD_KEEP_ALIVE = 30;
+
+    /** Number of packets of one vehicle waiting to be processed before dropping new ones. */
+    private static final int VEHICLE_QUEUE_CAPACITY = 64;
+
+    /** Class handling the changes happening to the fleet. */
+    private final FleetEvents mFleetEvents;
+
+    /** Executor processing the packets of the vehicles. */
+    private final ThreadPoolExecutor mExecutor;
+
+    /** Vehicles indexed by the system id, accessed on the {@link TelemetryThread} only. */
+    private final FleetVehicle[] mVehicles = new FleetVehicle[256];
+
+    /** Vehicles in the order they were heard, for the readers on other threads. */
+    private final List<FleetVehicle> mVehicleList = new CopyOnWriteArrayList<FleetVehicle>();
+
+    /**
+     * Constructor of {@link Fleet} class (private because it's a singleton).
+     */
+    private Fleet() {
+        mFleetEvents = new FleetEvents();
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS);
+        mExecutor =
+                new ThreadPoolExecutor(threads, threads, THREAD_KEEP_ALIVE, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                            private final AtomicInteger mCount = new AtomicInteger();
+
+                            @Override
+                            public Thread newThread(final Runnable r) {
+                                return new Thread(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        // Below the telemetry thread, which feeds the UI
+                                        Process.setThreadPriority(
+                                                Process.THREAD_PRIORITY_BACKGROUND);
+                                        r.run();
+                                    }
+                                }, "FleetThread-" + mCount.incrementAndGet());
+                            }
+                        });
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Instantiates new {@link Fleet} object only if it wasn't instantiated before, because it's
+     * singleton so just one instance exists per running app.
+     * 
+     * @return instance of the {@link Fleet} singleton
+     */
+    public static Fleet init() {
+        if (sFleet == null)
+            sFleet = new Fleet();
+        return sFleet;
+    }
+
+    /**
+     * Returns the only instance of {@link Fleet} singleton.
+     * 
+     * @return reference to {@link Fleet} singleton instance
+     */
+    public static Fleet get() {
+        return sFleet;
+    }
+
+    /**
+     * Pass the packet of a vehicle other than the active system to its context. Called on the
+     * {@link TelemetryThread}, the fleet becomes the owner of the packet.
+     * 
+     * @param packet the received packet
+     */
+    public void onPacket(MAVLinkPacket packet) {
+        FleetVehicle vehicle = mVehicles[packet.sysid];
+        if (vehicle == null) {
+            vehicle = new FleetVehicle(packet.sysid, this, mExecutor, VEHICLE_QUEUE_CAPACITY);
+            mVehicles[packet.sysid] = vehicle;
+            mVehicleList.add(vehicle);
+        }
+        vehicle.offer(packet);
+    }
+
+    /**
+     * Forget the vehicle, e.g. once it has become the active system. Called on the
+     * {@link TelemetryThread}.
+     * 
+     * @param sysId system id of the vehicle
+     */
+    public void remove(int sysId) {
+        FleetVehicle vehicle = mVehicles[sysId & 0xFF];
+        if (vehicle == null)
+            return;
+        mVehicles[sysId & 0xFF] = null;
+        mVehicleList.remove(vehicle);
+        mFleetEvents.onFleetEvent(FleetEvent.FLEET_UPDATED);
+    }
+
+    /**
+     * Forget all the vehicles. Called on the {@link TelemetryThread}. Packets still queued by the
+     * forgotten vehicles are processed and released by their tasks.
+     */
+    public void clear() {
+        for (int i = 0; i < mVehicles.length; i++)
+            mVehicles[i] = null;
+        mVehicleList.clear();
+        mFleetEvents.onFleetEvent(FleetEvent.FLEET_CLEARED);
+    }
+
+    /**
+     * Returns the latest states of all the vehicles of the fleet. May be called from any thread.
+     * 
+     * @return the snapshots of the vehicles
+     */
+    public List<FleetVehicle.Snapshot> getSnapshots() {
+        List<FleetVehicle.Snapshot> snapshots = new ArrayList<FleetVehicle.Snapshot>();
+        for (FleetVehicle vehicle : mVehicleList)
+            snapshots.add(vehicle.getSnapshot());
+        return snapshots;
+    }
+
+    public List<FleetVehicle> getVehicles() {
+        return mVehicleList;
+    }
+
+    public FleetEvents getEvents() {
+        return mFleetEvents;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.fleet;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.bocekm.skycontrol.EventBatcher;
+import com.bocekm.skycontrol.EventBatcher.BatchListener;
+
+/**
+ * Registers listeners to the fleet events and handles sending notification to the registered
+ * listeners. The vehicles of the fleet are processed on the worker threads, the events fired there
+ * are delivered to the listeners on the UI thread in batches.
+ */
+public class FleetEvents implements
+        BatchListener {
+
+    public enum FleetEvent {
+        /** All the vehicles of the fleet have been forgotten. */
+        FLEET_CLEARED,
+        /** Snapshot of at least one vehicle of the fleet has changed. */
+        FLEET_UPDATED
+    }
+
+    public interface FleetListener {
+
+        /**
+         * Implement this method to capture any {@link FleetEvent}.
+         * 
+         * @param event one of the {@link FleetEvent} enum items
+         */
+        public void onFleetEvent(FleetEvent event);
+    }
+
+    /** All the {@link FleetEvent}s, indexed by ordinal. */
+    private static final FleetEvent[] EVENTS = FleetEvent.values();
+
+    /** Registered listeners to the {@link FleetEvent}s. */
+    private List<FleetListener> fleetListeners = new CopyOnWriteArrayList<FleetListener>();
+
+    /** Passes the events fired on the worker threads to the UI thread. */
+    private final EventBatcher mBatcher = new EventBatcher(this);
+
+    /**
+     * Adds listener to the {@link FleetEvent}s.
+     * 
+     * @param listener object implementing the {@link FleetListener}
+     */
+    public void addFleetListener(FleetListener listener) {
+        if (listener != null && !fleetListeners.contains(listener))
+            fleetListeners.add(listener);
+    }
+
+    /**
+     * Removes the registered listener.
+     * 
+     * @param listener object implementing the {@link FleetListener} to be removed from the list of
+     *        listeners
+     */
+    public void removeFleetListener(FleetListener listener) {
+        if (listener != null && fleetListeners.contains(listener))
+            fleetListeners.remove(listener);
+    }
+
+    /**
+     * Calling this method means dispatching an event to all the registered listeners. May be called
+     * from any thread, the listeners are notified on the UI thread.
+     * 
+     * @param event the event to be dispatched
+     */
+    public void onFleetEvent(FleetEvent event) {
+        if (EventBatcher.isMainThread()) {
+            dispatchEvent(event);
+            return;
+        }
+        // Clearing the fleet makes any pending update obsolete
+        int superseded =
+                event == FleetEvent.FLEET_CLEARED ? 1 << FleetEvent.FLEET_UPDATED.ordinal() : 0;
+        mBatcher.add(1 << event.ordinal(), superseded);
+    }
+
+    /*
+     * (non-Javadoc) Dispatches the batch of events fired on the worker threads, on the UI thread.
+     * 
+     * @see com.bocekm.skycontrol.EventBatcher.BatchListener#onEventBatch(int)
+     */
+    @Override
+    public void onEventBatch(int events) {
+        for (FleetEvent event : EVENTS) {
+            if ((events & (1 << event.ordinal())) != 0)
+                dispatchEvent(event);
+        }
+    }
+
+    /**
+     * Dispatch the event to the registered listeners.
+     * 
+     * @param event the event to be dispatched
+     */
+    private void dispatchEvent(FleetEvent event) {
+        // Loop through all registered listeners
+        for (FleetListener listener : fleetListeners) {
+            listener.onFleetEvent(event);
+        }
+    }
+}
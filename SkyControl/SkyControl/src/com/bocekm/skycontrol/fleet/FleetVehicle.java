@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.fleet;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import android.os.SystemClock;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketRing;
+import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.bocekm.skycontrol.SkyControlUtils;
+import com.bocekm.skycontrol.cas.CollisionAvoidance;
+import com.bocekm.skycontrol.fleet.FleetEvents.FleetEvent;
+import com.google.android.gms.maps.model.LatLng;
+
+/**
+ * The {@link FleetVehicle} is the context of one vehicle of the {@link Fleet}. It has its own queue
+ * of the received packets, its own state and its own collision avoidance evaluation. The packets
+ * are processed by a task run on the fleet executor, at most one task per vehicle runs at a time,
+ * so the state needs no locking while different vehicles are processed in parallel.
+ * 
+ * The state is published as an immutable {@link Snapshot} once per processed batch of packets, the
+ * snapshot may be read from any thread.
+ */
+public class FleetVehicle implements
+        Runnable {
+
+    /** Value of the heading in GLOBAL_POSITION_INT when the vehicle doesn't know it. */
+    private static final int UNKNOWN_HEADING = 0xFFFF;
+
+    /**
+     * Immutable state of the vehicle at one moment.
+     */
+    public static class Snapshot {
+
+        private final int mSysId;
+        private final int mType;
+        private final int mBaseMode;
+        private final int mCustomMode;
+        private final LatLng mPosition;
+        private final float mAltitude;
+        private final float mGroundspeed;
+        private final float mVerticalSpeed;
+        private final float mHeading;
+        private final LatLng mCheckpointPosition;
+        private final boolean mDangerOfCollision;
+        private final long mTime;
+
+        Snapshot(FleetVehicle vehicle) {
+            mSysId = vehicle.mSysId;
+            mType = vehicle.mType;
+            mBaseMode = vehicle.mBaseMode;
+            mCustomMode = vehicle.mCustomMode;
+            mPosition = vehicle.mPosition;
+            mAltitude = vehicle.mAltitude;
+            mGroundspeed = vehicle.mGroundspeed;
+            mVerticalSpeed = vehicle.mVerticalSpeed;
+            mHeading = vehicle.mHeading;
+            mCheckpointPosition = vehicle.mCheckpointPosition;
+            mDangerOfCollision = vehicle.mDangerOfCollision;
+            mTime = vehicle.mUpdateTime;
+        }
+
+        public int getSysId() {
+            return mSysId;
+        }
+
+        /**
+         * Returns the type of the vehicle from its heartbeat.
+         * 
+         * @return MAV_TYPE value, -1 if not known yet
+         */
+        public int getType() {
+            return mType;
+        }
+
+        public int getBaseMode() {
+            return mBaseMode;
+        }
+
+        public int getCustomMode() {
+            return mCustomMode;
+        }
+
+        /**
+         * Returns the position of the vehicle.
+         * 
+         * @return the position, null if not known yet
+         */
+        public LatLng getPosition() {
+            return mPosition;
+        }
+
+        /**
+         * @return AMSL altitude in meters
+         */
+        public float getAltitude() {
+            return mAltitude;
+        }
+
+        /**
+         * @return speed over ground in m/s
+         */
+        public float getGroundspeed() {
+            return mGroundspeed;
+        }
+
+        /**
+         * @return climb rate in m/s, positive up
+         */
+        public float getVerticalSpeed() {
+            return mVerticalSpeed;
+        }
+
+        /**
+         * @return heading in degrees
+         */
+        public float getHeading() {
+            return mHeading;
+        }
+
+        /**
+         * Returns the position checked by the collision avoidance.
+         * 
+         * @return the checkpoint, null if not checked
+         */
+        public LatLng getCheckpointPosition() {
+            return mCheckpointPosition;
+        }
+
+        public boolean inDangerOfCollision() {
+            return mDangerOfCollision;
+        }
+
+        /**
+         * @return time of the last update of the state in ms, {@link SystemClock#elapsedRealtime()}
+         */
+        public long getTime() {
+            return mTime;
+        }
+    }
+
+    /** System id of the vehicle. */
+    private final int mSysId;
+
+    /** The fleet the vehicle belongs to. */
+    private final Fleet mFleet;
+
+    /** Executor the packets are processed on. */
+    private final Executor mExecutor;
+
+    /** Packets received and not processed yet. */
+    private final MAVLinkPacketRing mPackets;
+
+    /**
+     * Number of the packets offered since the processing task last checked, nonzero while the task
+     * is queued or running.
+     */
+    private final AtomicInteger mPendingOffers = new AtomicInteger();
+
+    /** The latest published state. */
+    private volatile Snapshot mSnapshot;
+
+    // State of the vehicle, accessed by the processing task only
+
+    private int mType = -1;
+    private int mBaseMode;
+    private int mCustomMode;
+    private LatLng mPosition;
+    private float mAltitude;
+    private float mGroundspeed;
+    private float mVerticalSpeed;
+    private float mHeading;
+    private LatLng mCheckpointPosition;
+    private boolean mDangerOfCollision;
+    private long mUpdateTime;
+
+    /** Whether the position changed since the last collision check. */
+    private boolean mPositionChanged;
+
+    /**
+     * Instantiates a new {@link FleetVehicle} object.
+     * 
+     * @param sysId system id of the vehicle
+     * @param fleet the fleet the vehicle belongs to
+     * @param executor executor the packets are to be processed on
+     * @param capacity maximum number of packets waiting to be processed
+     */
+    FleetVehicle(int sysId, Fleet fleet, Executor executor, int capacity) {
+        mSysId = sysId;
+        mFleet = fleet;
+        mExecutor = executor;
+        mPackets = new MAVLinkPacketRing(capacity);
+        mSnapshot = new Snapshot(this);
+    }
+
+    /**
+     * Queue the packet to be processed. Packets may be offered by one thread at a time only. The
+     * vehicle becomes the owner of the packet.
+     * 
+     * @param packet the received packet
+     * @return false if the queue is full, the packet has been released then
+     */
+    boolean offer(MAVLinkPacket packet) {
+        if (!mPackets.offer(packet)) {
+            packet.release();
+            return false;
+        }
+        // Just the offer finding no task pending submits one
+        if (mPendingOffers.getAndIncrement() == 0)
+            mExecutor.execute(this);
+        return true;
+    }
+
+    /*
+     * (non-Javadoc) Processes the queued packets on the fleet executor.
+     * 
+     * @see java.lang.Runnable#run()
+     */
+    @Override
+    public void run() {
+        int offers = mPendingOffers.get();
+        while (true) {
+            // Process at most one ring worth of packets, then publish the state
+            for (int i = 0; i < mPackets.capacity(); i++) {
+                MAVLinkPacket packet = mPackets.poll();
+                if (packet == null)
+                    break;
+                MAVLinkMessage msg = packet.unpack();
+                packet.release();
+                if (msg != null)
+                    handleMessage(msg);
+            }
+            publish();
+            if (!mPackets.isEmpty()) {
+                // Give the other vehicles a chance under heavy load, the task stays pending
+                mExecutor.execute(this);
+                return;
+            }
+            offers = mPendingOffers.addAndGet(-offers);
+            if (offers == 0)
+                return;
+        }
+    }
+
+    /**
+     * Update the state of the vehicle by the message.
+     * 
+     * @param msg received MavLink message
+     */
+    private void handleMessage(MAVLinkMessage msg) {
+        switch (msg.msgid) {
+            case msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT:
+                msg_heartbeat heartbeat = (msg_heartbeat) msg;
+                mType = heartbeat.type & 0xFF;
+                mBaseMode = heartbeat.base_mode & 0xFF;
+                mCustomMode = heartbeat.custom_mode;
+                mUpdateTime = SystemClock.elapsedRealtime();
+                break;
+            case msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT:
+                // One message carries all the values the collision check needs, so they're
+                // consistent with each other
+                msg_global_position_int position = (msg_global_position_int) msg;
+                mPosition = new LatLng(position.lat / 1E7, position.lon / 1E7);
+                mAltitude = position.alt / 1000f;
+                mGroundspeed = (float) Math.hypot(position.vx, position.vy) / 100f;
+                mVerticalSpeed = -position.vz / 100f;
+                int heading = position.hdg & 0xFFFF;
+                if (heading != UNKNOWN_HEADING)
+                    mHeading = heading / 100f;
+                else if (position.vx != 0 || position.vy != 0) {
+                    // Course over ground from the north and east velocity
+                    double course = Math.toDegrees(Math.atan2(position.vy, position.vx));
+                    mHeading = (float) (course + 360) % 360;
+                }
+                mUpdateTime = SystemClock.elapsedRealtime();
+                mPositionChanged = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Run the collision check if the position changed and publish a new snapshot of the state.
+     */
+    private void publish() {
+        if (!mPositionChanged && mSnapshot.mTime == mUpdateTime)
+            return;
+        if (mPositionChanged) {
+            mPositionChanged = false;
+            checkForCollision();
+        }
+        mSnapshot = new Snapshot(this);
+        mFleet.getEvents().onFleetEvent(FleetEvent.FLEET_UPDATED);
+    }
+
+    /**
+     * Checks whether any obstacle is present in front of the vehicle, the same way
+     * {@link CollisionAvoidance} checks the active vehicle.
+     */
+    private void checkForCollision() {
+        CollisionAvoidance cas = CollisionAvoidance.get();
+        if (!cas.isCasEnabled()) {
+            mCheckpointPosition = null;
+            mDangerOfCollision = false;
+            return;
+        }
+        int distanceToCheckpointInS = cas.getDistanceToCheckpointInS();
+        float checkpointAltitude = mAltitude + mVerticalSpeed * distanceToCheckpointInS;
+        mCheckpointPosition =
+                SkyControlUtils.getDestination(mPosition, mHeading, distanceToCheckpointInS
+                        * mGroundspeed);
+        boolean dangerOfCollision =
+                CollisionAvoidance.checkForCollision(mPosition, mCheckpointPosition,
+                        checkpointAltitude);
+        if (dangerOfCollision && !mDangerOfCollision)
+            SkyControlUtils.log("Danger of collision of system " + mSysId
+                    + " with obstacle/terrain\n", true);
+        mDangerOfCollision = dangerOfCollision;
+    }
+
+    public int getSysId() {
+        return mSysId;
+    }
+
+    /**
+     * Returns the latest state of the vehicle. May be called from any thread.
+     * 
+     * @return the snapshot of the state
+     */
+    public Snapshot getSnapshot() {
+        return mSnapshot;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.mavlink;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import android.os.SystemClock;
+
+import com.MAVLink.Messages.MAVLinkDeduplicator;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.bocekm.skycontrol.mavlink.MavLinkPacketQueue.PacketConsumer;
+
+/**
+ * The {@link MavLinkAggregator} merges the packets received over several redundant links to the
+ * vehicle, e.g. the USB telemetry and a UDP bridge. Each link is read on its own thread by its own
+ * parser. The first copy of every frame is passed on to the consumer, the later copies arriving
+ * over the other links are dropped. The copies tell how far each link lags behind the fastest one
+ * and which frames it lost, the outgoing packets are sent over the link doing best.
+ */
+public class MavLinkAggregator {
+
+    /**
+     * Time the frames are remembered for duplicate detection in ms. Needs to be longer than the
+     * latency difference of the links and shorter than the time the vehicle takes to send 256
+     * frames.
+     */
+    private static final long DEDUP_WINDOW_MS = 500;
+
+    /** Interval of the link health evaluation in ms. */
+    private static final long HEALTH_INTERVAL_MS = 1000;
+
+    /** Link not receiving anything for this time in ms is considered dead. */
+    private static final long LINK_TIMEOUT_MS = 3000;
+
+    /** Weight of a new sample in the exponentially weighted averages of the link health. */
+    private static final float EWMA_WEIGHT = 1 / 8f;
+
+    /** Penalty of a link losing all the frames, in ms of lag it equals to. */
+    private static final float LOSS_PENALTY_MS = 1000;
+
+    /** The link in use is switched only if another link is better by this margin, in ms. */
+    private static final float SWITCH_MARGIN_MS = 50;
+
+    /**
+     * Health of one link.
+     */
+    private static class Link {
+
+        /** The connection of the link. */
+        final MavLinkConnection mConnection;
+
+        /** Frames received since the last health evaluation, copies included. */
+        int mReceived;
+
+        /** Time the last frame was received at in ms. */
+        long mLastReceiveTime;
+
+        /** Averaged lag of the frames behind their first copy in ms. */
+        float mLag;
+
+        /** Averaged ratio of the frames the link has lost. */
+        float mLoss;
+
+        /** Score of the link, lower is better. */
+        float mScore;
+
+        Link(MavLinkConnection connection, long now) {
+            mConnection = connection;
+            mLastReceiveTime = now;
+        }
+    }
+
+    /** Detects the copies of the frames. */
+    private final MAVLinkDeduplicator mDeduplicator = new MAVLinkDeduplicator(DEDUP_WINDOW_MS);
+
+    /** The links, modified rarely and iterated by the send thread. */
+    private final CopyOnWriteArrayList<Link> mLinks = new CopyOnWriteArrayList<Link>();
+
+    /** Consumer of the merged packets. */
+    private final PacketConsumer mConsumer;
+
+    /** Distinct frames received over all the links since the last health evaluation. */
+    private int mDistinctFrames;
+
+    /** Time of the last health evaluation in ms. */
+    private long mHealthTime;
+
+    /** The link the packets are sent over, null when there's none. */
+    private volatile Link mBestLink;
+
+    /**
+     * Instantiates a new {@link MavLinkAggregator} object.
+     * 
+     * @param consumer consumer of the merged packets, called outside the lock of the aggregator, so
+     *        it may be called by several link threads at once
+     */
+    public MavLinkAggregator(PacketConsumer consumer) {
+        mConsumer = consumer;
+        mHealthTime = SystemClock.elapsedRealtime();
+    }
+
+    /**
+     * Add the link to be merged. The first link added is used for sending until the health of the
+     * links is known.
+     * 
+     * @param connection the connection of the link
+     */
+    public synchronized void addLink(MavLinkConnection connection) {
+        Link link = new Link(connection, SystemClock.elapsedRealtime());
+        mLinks.add(link);
+        if (mBestLink == null)
+            mBestLink = link;
+    }
+
+    /**
+     * Remove the link, e.g. after its failure.
+     * 
+     * @param connection the connection of the link
+     * @return number of the links left
+     */
+    public synchronized int removeLink(MavLinkConnection connection) {
+        for (Link link : mLinks) {
+            if (link.mConnection == connection) {
+                mLinks.remove(link);
+                if (mBestLink == link)
+                    mBestLink = mLinks.isEmpty() ? null : mLinks.get(0);
+            }
+        }
+        return mLinks.size();
+    }
+
+    /**
+     * Returns the connections of all the links.
+     * 
+     * @return array of the connections
+     */
+    public MavLinkConnection[] getConnections() {
+        Object[] links = mLinks.toArray();
+        MavLinkConnection[] connections = new MavLinkConnection[links.length];
+        for (int i = 0; i < links.length; i++)
+            connections[i] = ((Link) links[i]).mConnection;
+        return connections;
+    }
+
+    /**
+     * Returns the connection the outgoing packets are to be sent over, the one with the lowest
+     * loss and lag.
+     * 
+     * @return the connection, null if there's no link
+     */
+    public MavLinkConnection getBestConnection() {
+        Link link = mBestLink;
+        return link != null ? link.mConnection : null;
+    }
+
+    /**
+     * Pass the packet received over the link to the consumer, unless its copy has been received
+     * over another link before. Called on the thread of the link. The consumer is called after the
+     * lock is released, so a slow consumer doesn't hold up the other links.
+     * 
+     * @param connection the connection the packet has been received on
+     * @param packet the received packet, the aggregator becomes its owner
+     */
+    public void onReceivePacket(MavLinkConnection connection, MAVLinkPacket packet) {
+        synchronized (this) {
+            Link link = findLink(connection);
+            if (link == null) {
+                packet.release();
+                return;
+            }
+            long now = SystemClock.elapsedRealtime();
+            link.mReceived++;
+            link.mLastReceiveTime = now;
+            if (mLinks.size() > 1) {
+                long lag = mDeduplicator.check(packet, now);
+                link.mLag += ((lag < 0 ? 0 : lag) - link.mLag) * EWMA_WEIGHT;
+                if (lag >= 0) {
+                    packet.release();
+                    updateHealth(now);
+                    return;
+                }
+            }
+            mDistinctFrames++;
+            updateHealth(now);
+        }
+        mConsumer.onPacket(packet);
+    }
+
+    /**
+     * Find the link of the connection.
+     * 
+     * @param connection the connection of the link
+     * @return the link, null if it's been removed
+     */
+    private Link findLink(MavLinkConnection connection) {
+        for (Link link : mLinks) {
+            if (link.mConnection == connection)
+                return link;
+        }
+        return null;
+    }
+
+    /**
+     * Evaluate the loss and score of the links once per {@link #HEALTH_INTERVAL_MS} and choose the
+     * link to send over. The loss is the ratio of the distinct frames the link hasn't delivered.
+     * 
+     * @param now current time in ms
+     */
+    private void updateHealth(long now) {
+        if (now - mHealthTime < HEALTH_INTERVAL_MS)
+            return;
+        mHealthTime = now;
+        for (Link link : mLinks) {
+            if (mDistinctFrames > 0) {
+                float loss = 1 - Math.min(1f, (float) link.mReceived / mDistinctFrames);
+                link.mLoss += (loss - link.mLoss) * EWMA_WEIGHT;
+            }
+            link.mReceived = 0;
+            if (now - link.mLastReceiveTime > LINK_TIMEOUT_MS)
+                link.mScore = Float.MAX_VALUE;
+            else
+                link.mScore = link.mLag + link.mLoss * LOSS_PENALTY_MS;
+        }
+        mDistinctFrames = 0;
+        Link best = mBestLink;
+        for (Link link : mLinks) {
+            if (best == null || link.mScore < best.mScore - SWITCH_MARGIN_MS)
+                best = link;
+        }
+        mBestLink = best;
+    }
+}
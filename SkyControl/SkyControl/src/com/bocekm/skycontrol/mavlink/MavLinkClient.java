@@ -20,32 +20,35 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.ServiceConnection;
 import android.hardware.usb.UsbManager;
-import android.os.Bundle;
 import android.os.Handler;
 import android.os.IBinder;
 import android.os.Message;
 import android.os.Messenger;
-import android.os.RemoteException;
+import android.preference.PreferenceManager;
 import android.util.Log;
 import android.widget.Toast;
 
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Messages.MAVLinkSystemFilter;
+import com.bocekm.skycontrol.PreferencesFragment;
 import com.bocekm.skycontrol.SkyControlConst;
 import com.bocekm.skycontrol.SkyControlUtils;
 import com.bocekm.skycontrol.connection.Connection;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionEvent;
-import com.hoho.android.usbserial.driver.UsbSerialDriver;
+import com.bocekm.skycontrol.fleet.Fleet;
+import com.bocekm.skycontrol.mavlink.MavLinkPacketQueue.PacketConsumer;
 import com.hoho.android.usbserial.driver.UsbSerialProber;
 
 /**
  * {@link MavLinkClient} serves as a Mavlink communication client in client-server interface, where
- * server is {@link MavLinkService}.
+ * server is {@link MavLinkService}. MavLink packets are received from the service through
+ * {@link MavLinkPacketQueue} and decoded and handled on the {@link TelemetryThread}. The packets to
+ * be sent are passed to the {@link MavLinkSendScheduler} of the service.
  */
 public class MavLinkClient {
 
-    /** New MavLink message received from vehicle through {@link MavLinkService}. */
-    public static final int MSG_RECEIVED_PACKET = 0;
     /** Indication that the Service requests to unbind itself from {@link MavLinkClient}. */
     public static final int MSG_SELF_DESTROY_SERVICE = 1;
 
@@ -57,19 +60,45 @@ public class MavLinkClient {
     private Context mParent;
 
     /**
-     * Handle to {@link Messenger} of the {@link MavLinkService}. It is used for sending messages to
-     * the service.
+     * Queue of the packets to be sent to the vehicle, obtained from the bound
+     * {@link MavLinkService}. Null while the service is not bound.
      */
-    private Messenger mServiceMessenger = null;
+    private volatile MavLinkSendScheduler mSendPackets = null;
 
     /**
      * Handle to {@link Messenger} of this {@link MavLinkClient} class. It is used to get notified
-     * about new messages, mainly MavLink packets, sent by {@link MavLinkService}.
+     * about requests of the {@link MavLinkService}.
      */
     private final Messenger mClientMessenger = new Messenger(new ClientIncomingHandler(this));
 
+    /**
+     * Queue of the packets received from the vehicle through {@link MavLinkService}, consumed on the
+     * {@link TelemetryThread}.
+     */
+    private final MavLinkPacketQueue mReceivedPackets = new MavLinkPacketQueue(
+            MavLinkPacketQueue.DEFAULT_CAPACITY, TelemetryThread.get().getHandler(),
+            new PacketConsumer() {
+                @Override
+                public void onPacket(MAVLinkPacket packet) {
+                    handleReceivedPacket(packet);
+                }
+            });
+
+    /** Pool of the packets the outgoing MavLink messages are packed into. */
+    private final MAVLinkPacketPool mPacketPool = new MAVLinkPacketPool();
+
     /** Whether the {@link MavLinkService} is bound to the {@link MavLinkClient#mParent}. */
-    private boolean mIsServiceBound;
+    private volatile boolean mIsServiceBound;
+
+    /** Drops the packets left in {@link #mReceivedPackets}, run on the {@link TelemetryThread}. */
+    private final Runnable mClearReceivedPackets = new Runnable() {
+        @Override
+        public void run() {
+            mReceivedPackets.clear();
+            Connection.get().getMavLinkSystems().clear();
+            Fleet.get().clear();
+        }
+    };
 
     /**
      * Instantiates a new {@link MavLinkClient} object.
@@ -81,15 +110,20 @@ public class MavLinkClient {
     }
 
     /**
-     * Establish a connection with the MavLink service which uses the telemetry connected via USB.
+     * Establish a connection with the MavLink service which uses the telemetry connected via USB or
+     * the network, as set by the user.
      */
     public void bindMavLinkService() {
         // Get USB manager to check whether any USB device is connected
         UsbManager manager = (UsbManager) mParent.getSystemService(Context.USB_SERVICE);
+        boolean usbConnection =
+                PreferenceManager.getDefaultSharedPreferences(mParent)
+                        .getString(PreferencesFragment.CONNECTION_TYPE_PREF_KEY,
+                                PreferencesFragment.CONNECTION_TYPE_USB)
+                        .equals(PreferencesFragment.CONNECTION_TYPE_USB);
         // Find the first available driver. It's unlikely to have more than one USB device
         // connected.
-        UsbSerialDriver sDriver = UsbSerialProber.findFirstDevice(manager);
-        if (sDriver == null) {
+        if (usbConnection && UsbSerialProber.findFirstDevice(manager) == null) {
             // When no USB device is connected there's no point in binding the MavLinkService
             SkyControlUtils.toast("No USB device found. Please (re)connect telemetry.",
                     Toast.LENGTH_SHORT);
@@ -124,7 +158,7 @@ public class MavLinkClient {
     }
 
     /**
-     * Handler of incoming messages from {@link MavLinkService}, mainly MavLink packets.
+     * Handler of incoming messages from {@link MavLinkService}.
      */
     private static class ClientIncomingHandler extends Handler {
 
@@ -156,13 +190,6 @@ public class MavLinkClient {
                 // happened as service destruction is asynchronous.
                 return;
             switch (msg.what) {
-                case MSG_RECEIVED_PACKET:
-                    Bundle b = msg.getData();
-                    MAVLinkMessage m = (MAVLinkMessage) b.getSerializable("packet");
-                    // Pass the received packet to the packet handler, which notifies listeners
-                    // about the new packet
-                    Connection.get().getMavLinkMsgHandler().handleMessage(m);
-                    break;
                 case MSG_SELF_DESTROY_SERVICE:
                     // The running service requests to be destroyed by unbinding this client from it
                     mClient.unbindMavLinkService();
@@ -184,17 +211,12 @@ public class MavLinkClient {
          */
         @Override
         public void onServiceConnected(ComponentName className, IBinder service) {
-            // We are communicating with our service through an IDL interface, so get a client-side
-            // representation of that from the raw service object.
-            mServiceMessenger = new Messenger(service);
+            // The service runs in the same process, so we get the service object itself
+            MavLinkService mavLinkService = ((MavLinkService.MavLinkBinder) service).getService();
             // Monitor the service for as long as we are connected to it.
-            try {
-                Message msg = Message.obtain(null, MavLinkService.MSG_REGISTER_CLIENT);
-                msg.replyTo = mClientMessenger;
-                mServiceMessenger.send(msg);
-                onServiceBound();
-            } catch (RemoteException e) {
-            }
+            mavLinkService.registerClient(mClientMessenger, mReceivedPackets);
+            mSendPackets = mavLinkService.getSendQueue();
+            onServiceBound();
         }
 
         /*
@@ -213,32 +235,77 @@ public class MavLinkClient {
     };
 
     /**
-     * Send MavLink packet to the vehicle.
+     * Send MavLink message to the vehicle. The message is packed right away into a packet taken
+     * from a pool, so the caller may reuse the message object for the next message.
+     * 
+     * @param mavMsg the MavLink message to be sent
+     */
+    public void sendMavMessage(MAVLinkMessage mavMsg) {
+        if (mSendPackets == null) {
+            return;
+        }
+        sendMavPacket(mavMsg.packInto(mPacketPool.acquire()));
+    }
+
+    /**
+     * Send MavLink packet to the vehicle. The packet is released by the {@link MavLinkService}
+     * once it's encoded. May be called from any thread.
      * 
      * @param packet the MavLink packet to be sent
      */
     public void sendMavPacket(MAVLinkPacket packet) {
-        if (mServiceMessenger == null) {
+        MavLinkSendScheduler sendPackets = mSendPackets;
+        if (sendPackets == null) {
+            packet.release();
             return;
         }
 
-        // Create new empty message message type MSG_SEND_DATA specified
-        Message msg = Message.obtain(null, MavLinkService.MSG_SEND_DATA);
-        Bundle data = new Bundle();
-        // Attach MavLink packet to the message
-        data.putSerializable("msg", packet);
-        msg.setData(data);
-        try {
-            // Send the message to MavLinkService which is going to pass it to the vehicle using the
-            // telemetry
-            mServiceMessenger.send(msg);
-        } catch (RemoteException e) {
-            Log.e(SkyControlConst.ERROR_TAG, "Error sending MavLink packet with ID " + packet.msgid
-                    + ", " + e.getMessage(), e);
-            SkyControlUtils
-                    .log("Error sending MavLink packet with ID " + packet.msgid + "\n", true);
-            onServiceUnbound();
+        // Pass the packet to MavLinkService which is going to send it to the vehicle using the
+        // telemetry
+        int msgid = packet.msgid;
+        if (!sendPackets.offer(packet)) {
+            Log.e(SkyControlConst.ERROR_TAG, "Error sending MavLink packet with ID " + msgid
+                    + ", send queue is full");
+            SkyControlUtils.log("Error sending MavLink packet with ID " + msgid + "\n", true);
+        }
+    }
+
+    /**
+     * Decode the packet received from the vehicle and pass the message to the message handler,
+     * which notifies listeners about the new message. Packets of the other vehicles than the active
+     * one are passed to the {@link Fleet}, packets of the other systems are only tracked, not
+     * decoded. The link messages, like the status of the telemetry radio, are decoded whichever
+     * system sends them. Called on the {@link TelemetryThread}.
+     * 
+     * @param packet the received MavLink packet
+     */
+    private void handleReceivedPacket(MAVLinkPacket packet) {
+        // It may happen that request for service disconnect was placed by MavLinkClient but it not
+        // yet happened as service destruction is asynchronous.
+        if (!isServiceBound()) {
+            packet.release();
+            return;
+        }
+        MavLinkSystems systems = Connection.get().getMavLinkSystems();
+        boolean active = systems.onPacket(packet);
+        if (active || MAVLinkSystemFilter.isLinkMessage(packet.msgid)) {
+            // The active system may have been tracked by the fleet before it took over
+            if (active)
+                Fleet.get().remove(packet.sysid);
+            MavLinkMsgHandler handler = Connection.get().getMavLinkMsgHandler();
+            if (!handler.handlePacket(packet)) {
+                MAVLinkMessage m = packet.unpack();
+                if (m != null)
+                    handler.handleMessage(m);
+            }
+        } else if (systems.getSystem(packet.sysid).isVehicle()) {
+            // Any other vehicle is processed by its own context, which takes over the packet
+            Fleet.get().onPacket(packet);
+            return;
         }
+        // The views are done and the message holds its own copy of the data, return the packet to
+        // the parser's pool
+        packet.release();
     }
 
     /**
@@ -253,6 +320,8 @@ public class MavLinkClient {
      */
     private void onServiceUnbound() {
         mIsServiceBound = false;
+        mSendPackets = null;
+        TelemetryThread.get().getHandler().post(mClearReceivedPackets);
         Connection.get().getEvents().onConnectionEvent(ConnectionEvent.SERVICE_UNBOUND);
     }
 
@@ -15,12 +15,17 @@ package com.bocekm.skycontrol.mavlink;
 
 import java.io.IOException;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 
 import android.content.Context;
 
 import com.MAVLink.Parser;
-import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkMessageRegistry;
 import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketPool;
+import com.MAVLink.Messages.MAVLinkStatsSnapshot;
+import com.MAVLink.Messages.MAVLinkSubscriptions;
+import com.MAVLink.Messages.MAVLinkSystemFilter;
 
 /**
  * The {@link MavLinkConnection} class handles received/to be sent MavLink data. It is to be
@@ -38,21 +43,25 @@ public abstract class MavLinkConnection extends Thread {
     protected abstract void openConnection() throws UnknownHostException, IOException;
 
     /**
-     * Read data block from the interface (e.g. USB device). Use the
-     * {@link MavLinkConnection#mReadData} buffer to store read data.
+     * Read the data available on the interface (e.g. USB device) and pass them to
+     * {@link MavLinkConnection#parseReadData(byte[], int)} or
+     * {@link MavLinkConnection#parseReadData(ByteBuffer)}. Shall wait for the data for a limited
+     * time only, so the connection can be closed meanwhile.
      * 
-     * @return number of bytes read.
      * @throws IOException Signals that an I/O exception while reading data has occurred.
      */
-    protected abstract int readDataBlock() throws IOException;
+    protected abstract void readData() throws IOException;
 
     /**
-     * Send data to the communication interface (USB device, TCP protocol, etc).
+     * Send data to the communication interface (USB device, TCP protocol, etc). Called with one or
+     * more whole MavLink frames, at most {@link MavLinkConnection#getMaxTransferSize()} bytes
+     * unless a single frame is longer.
      * 
-     * @param buffer buffer with the data to be sent
+     * @param buffer buffer with the data to be sent, starting at index 0
+     * @param length number of bytes from the buffer to be sent
      * @throws IOException Signals that an I/O exception has occurred while sending data.
      */
-    protected abstract void sendBuffer(byte[] buffer) throws IOException;
+    protected abstract void sendBuffer(byte[] buffer, int length) throws IOException;
 
     /**
      * Close the connection with the communication resource, i.e. release USB driver, close TCP
@@ -72,43 +81,74 @@ public abstract class MavLinkConnection extends Thread {
     public interface MavLinkConnectionListener {
 
         /**
-         * Notifies on incoming new {@link MAVLinkMessage}.
+         * Notifies on incoming new {@link MAVLinkPacket}. Called on the thread of the
+         * {@link MavLinkConnection}, the listener becomes the owner of the packet and has to
+         * release it once done with it.
          * 
-         * @param msg the received {@link MAVLinkMessage}
+         * @param connection the connection the packet has been received on
+         * @param packet the received {@link MAVLinkPacket}
          */
-        public void onReceiveMessage(MAVLinkMessage msg);
+        public void onReceivePacket(MavLinkConnection connection, MAVLinkPacket packet);
 
         /**
          * Unrecoverable error occurred on reading data from or sending data to communication
-         * interface (USB device, TCP connection, etc). The listener shall destroy itself as this
-         * class is going to die after sending this notification.
+         * interface (USB device, TCP connection, etc). The listener shall stop using the
+         * connection as it is going to die after sending this notification.
          * 
+         * @param connection the failed connection
          * @param errMsg message with details about the error
          */
-        public void onComError(String errMsg);
+        public void onComError(MavLinkConnection connection, String errMsg);
 
     }
 
     /** Registered listener to the {@link MavLinkConnection} events. */
     private MavLinkConnectionListener mListener;
 
-    /** Received MavLink packet. */
-    private MAVLinkPacket mReceivedPacket;
+    /** Receives the packets decoded from the read data block. */
+    private final Parser.FrameSink mFrameSink = new Parser.FrameSink() {
+        @Override
+        public void onFrame(MAVLinkPacket packet) {
+            // The packet is decoded by its consumer, which returns it to the parser's pool
+            mListener.onReceivePacket(MavLinkConnection.this, packet);
+        }
+    };
+
+    /** Messages the client is interested in. */
+    private static final MAVLinkSubscriptions sSubscriptions = new MAVLinkSubscriptions();
+
+    /**
+     * Messages passed to the listener, shared by all the connections. The client's messages plus
+     * the ones forwarded to other ground stations.
+     */
+    private static final MAVLinkSubscriptions sLinkSubscriptions = new MAVLinkSubscriptions();
+
+    /** Systems whose messages are passed to the listener, shared by all the connections. */
+    private static final MAVLinkSystemFilter sSystemFilter = new MAVLinkSystemFilter();
 
-    /** Parser to parse incoming MavLink packets. */
-    private static final Parser sMavLinkParser = new Parser();
+    /**
+     * Parser to parse incoming MavLink packets. Each connection has its own, so several
+     * connections may be read concurrently. Its pool holds as many packets as may be waiting for
+     * the consumer.
+     */
+    private final Parser mMavLinkParser = new Parser(new MAVLinkPacketPool(
+            MavLinkPacketQueue.DEFAULT_CAPACITY), sLinkSubscriptions, sSystemFilter);
 
-    /** Maximum possible size of the incoming MavLink packet. */
-    private static final int MAX_MAV_PACKET_SIZE_BYTES = 256;
+    /** Upper limit of the number of bytes passed to {@link #sendBuffer(byte[], int)} at once. */
+    private static final int MAX_TRANSFER_SIZE_BYTES = 512;
 
-    /** The data read by {@link MavLinkConnection#readDataBlock()}. */
-    protected byte[] mReadData = new byte[MAX_MAV_PACKET_SIZE_BYTES];
+    /**
+     * Reusable buffer the outgoing packets are encoded into. Holds the frames queued for the next
+     * transfer, with room for one more frame overflowing the transfer size.
+     */
+    private final ByteBuffer mSendBuffer = ByteBuffer.allocate(MAX_TRANSFER_SIZE_BYTES
+            + MAVLinkPacket.MAVLINK_MAX_PACKET_LEN);
 
-    /** Number of bytes read by {@link MavLinkConnection#readDataBlock()}. */
-    private int mBytesRead;
+    /** Sequence number of the next outgoing packet. */
+    private int mSendSeq;
 
     /** Indication whether we are connected to the communication interface. */
-    protected boolean mServiceConnected = true;
+    protected volatile boolean mServiceConnected = true;
 
     /**
      * Instantiates a new {@link MavLinkConnection} and registers a listener to the
@@ -126,6 +166,51 @@ public abstract class MavLinkConnection extends Thread {
         }
     }
 
+    /**
+     * Returns the set of MavLink messages the client is interested in. Messages not passed to the
+     * listener by the parsers are checked and counted but not decoded.
+     * 
+     * @return subscriptions of the client
+     */
+    public static MAVLinkSubscriptions getSubscriptions() {
+        return sSubscriptions;
+    }
+
+    /**
+     * Sets the messages the parsers of all the connections pass to the listener, the client's ones
+     * and the given ones. Needs to be called before the connections are started.
+     * 
+     * @param routedSubscriptions messages forwarded to other ground stations, may be null
+     */
+    public static void setLinkSubscriptions(MAVLinkSubscriptions routedSubscriptions) {
+        sLinkSubscriptions.clear();
+        sLinkSubscriptions.subscribe(sSubscriptions);
+        if (routedSubscriptions != null)
+            sLinkSubscriptions.subscribe(routedSubscriptions);
+    }
+
+    /**
+     * Returns the set of systems whose messages are passed to the listener by all the connections.
+     * Messages of the other systems are checked and counted by the parsers but dropped before
+     * being decoded.
+     * 
+     * @return the system filter of the MavLink parsers
+     */
+    public static MAVLinkSystemFilter getSystemFilter() {
+        return sSystemFilter;
+    }
+
+    /**
+     * Copies the current statistics of this connection, counted per message and per system, into
+     * the given snapshot. May be called from any thread without blocking the reception of the data.
+     * 
+     * @param snapshot snapshot to be filled, may be reused
+     * @return the filled snapshot
+     */
+    public MAVLinkStatsSnapshot getStats(MAVLinkStatsSnapshot snapshot) {
+        return mMavLinkParser.stats.snapshot(snapshot);
+    }
+
     /*
      * (non-Javadoc) This method is called when the Thread is started by the Service which
      * instantiated this class.
@@ -136,54 +221,134 @@ public abstract class MavLinkConnection extends Thread {
     public void run() {
         super.run();
         // Optional step of reseting the Parser statistics of MavLink communication
-        sMavLinkParser.stats.mavlinkResetStats();
+        mMavLinkParser.stats.mavlinkResetStats();
         try {
             // Initialize the communication resources
             openConnection();
 
             // Read data while the Service instantiating this class is running
             while (mServiceConnected) {
-                mBytesRead = readDataBlock();
-                parseReadData();
+                readData();
             }
 
         } catch (IOException e) {
             // Send notification to the listener (shall be Service) that fatal IO error has occurred
             // so it can destroy itself.
-            mListener.onComError(e.getMessage());
+            mListener.onComError(this, e.getMessage());
             e.printStackTrace();
+        } finally {
+            try {
+                closeConnection();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
         }
     }
 
     /**
-     * Parses incoming MavLink packet in order to get MavLink message. Notifies registered
-     * {@link MavLinkConnectionListener} listener about successfully parsed MavLink message.
+     * Parses incoming MavLink data. Notifies registered {@link MavLinkConnectionListener} listener
+     * about every successfully parsed MavLink packet.
+     * 
+     * @param data the data read from the interface
+     * @param length number of bytes read into the beginning of the data array
      */
-    private void parseReadData() {
-        if (mBytesRead < 1)
+    protected void parseReadData(byte[] data, int length) {
+        if (length < 1)
             return;
-        for (int i = 0; i < mBytesRead; i++) {
-            // Once the parser finishes going through all received bytes then it returns the parsed
-            // MavLink message. Until then it returns null.
-            mReceivedPacket = sMavLinkParser.mavlink_parse_char(mReadData[i] & 0xff);
-            if (mReceivedPacket != null) {
-                MAVLinkMessage msg = mReceivedPacket.unpack();
-                mListener.onReceiveMessage(msg);
-            }
-        }
+        // Parse the whole block at once, the parser passes every complete message to the sink
+        mMavLinkParser.parse(data, 0, length, mFrameSink);
+    }
+
+    /**
+     * Parses incoming MavLink data between the position and the limit of the buffer, which may be
+     * a direct one. Notifies registered {@link MavLinkConnectionListener} listener about every
+     * successfully parsed MavLink packet.
+     * 
+     * @param data buffer with the data read from the interface
+     */
+    protected void parseReadData(ByteBuffer data) {
+        mMavLinkParser.parse(data, mFrameSink);
     }
 
     /**
-     * Encode and send a Mavlink packet via the established MavLink connection.
+     * Returns the number of bytes worth sending to the interface in one transfer, e.g. the packet
+     * size of the USB endpoint. Queued frames are coalesced up to this size.
+     * 
+     * @return maximum size of one transfer in bytes
+     */
+    protected int getMaxTransferSize() {
+        return MAX_TRANSFER_SIZE_BYTES;
+    }
+
+    /**
+     * Encode and send a Mavlink packet via the established MavLink connection right away, together
+     * with any packets queued before.
      * 
      * @param packet {@link MAVLinkPacket} to be transmitted
      */
     public void sendPacket(MAVLinkPacket packet) {
-        byte[] buffer = packet.encodePacket();
+        queuePacket(packet);
+        flushPackets();
+    }
+
+    /**
+     * Encode a Mavlink packet to be sent in the next transfer. The packet is stamped with the
+     * sequence number of this connection and encoded into a reusable buffer, so sending allocates
+     * nothing. The frames are coalesced until the transfer size is reached, then they're sent in one
+     * transfer. Call {@link #flushPackets()} to send the rest. Packets are sent as MavLink 1 until a
+     * MavLink 2 frame is received from the vehicle, then the link switches to MavLink 2 to benefit
+     * from the payload truncation. A payload received truncated is padded back to the full length
+     * of the message for MavLink 1, a packet of a message of unknown length keeps the framing it
+     * was received with.
+     * 
+     * @param packet {@link MAVLinkPacket} to be transmitted
+     * @return number of bytes of the encoded frame
+     */
+    public int queuePacket(MAVLinkPacket packet) {
+        // Messages with extended ID exist only in MavLink 2, so does a payload of unknown length
+        boolean mavlink2Only =
+                packet.msgid > 0xFF
+                        || (packet.isMavlink2 && MAVLinkMessageRegistry
+                                .getMessageLength(packet.msgid) == 0);
+        packet.isMavlink2 = mMavLinkParser.isMavlink2Received() || mavlink2Only;
+        packet.seq = mSendSeq;
+        mSendSeq = (mSendSeq + 1) & 0xFF;
+        int maxTransferSize = Math.min(getMaxTransferSize(), MAX_TRANSFER_SIZE_BYTES);
+        int start = mSendBuffer.position();
+        int length = packet.encodeInto(mSendBuffer);
+        if (start > 0 && start + length > maxTransferSize) {
+            // The frame doesn't fit into the transfer, send the frames before it and keep the frame
+            // for the next transfer
+            transmit(start);
+            System.arraycopy(mSendBuffer.array(), start, mSendBuffer.array(), 0, length);
+            mSendBuffer.position(length);
+        }
+        if (mSendBuffer.position() >= maxTransferSize)
+            flushPackets();
+        return length;
+    }
+
+    /**
+     * Send the packets queued by {@link #queuePacket(MAVLinkPacket)} in one transfer.
+     */
+    public void flushPackets() {
+        int length = mSendBuffer.position();
+        if (length > 0) {
+            transmit(length);
+            mSendBuffer.clear();
+        }
+    }
+
+    /**
+     * Pass the beginning of the send buffer to the interface.
+     * 
+     * @param length number of bytes to be sent
+     */
+    private void transmit(int length) {
         try {
-            sendBuffer(buffer);
+            sendBuffer(mSendBuffer.array(), length);
         } catch (IOException e) {
-            mListener.onComError(e.getMessage());
+            mListener.onComError(this, e.getMessage());
             e.printStackTrace();
         }
     }
@@ -24,16 +24,19 @@ import com.bocekm.skycontrol.vehicle.Vehicle;
  */
 public class MavLinkFlightMode {
 
+	/** Message reused for every mode change, it's packed right away when sent. */
+	private static final msg_set_mode sMsg = new msg_set_mode();
+
 	/**
 	 * Change flight mode of the autopilot.
 	 *
 	 * @param mode one of the {@link ApmModes}
 	 */
 	public static void changeFlightMode(ApmModes mode) {
-		msg_set_mode msg = new msg_set_mode();
+		msg_set_mode msg = sMsg;
 		msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();
 		msg.base_mode = MAV_MODE_FLAG.MAV_MODE_FLAG_CUSTOM_MODE_ENABLED;
 		msg.custom_mode = mode.getNumber();
-		Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+		Connection.get().getMavLinkClient().sendMavMessage(msg);
 	}
 }
@@ -13,7 +13,6 @@
  */
 package com.bocekm.skycontrol.mavlink;
 
-import com.MAVLink.Messages.MAVLinkPacket;
 import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
 import com.MAVLink.Messages.enums.MAV_AUTOPILOT;
 import com.MAVLink.Messages.enums.MAV_MODE_FLAG;
@@ -27,7 +26,8 @@ import com.bocekm.skycontrol.connection.Connection;
 public class MavLinkHeartbeat {
 
     /**
-     * Heartbeat message to be packed to form a MavLink packet.
+     * Heartbeat message to be packed to form a MavLink packet. After sending into airspace, it's
+     * purpose is to check that autopilot equipped vehicle is present and is responding.
      */
     private static final msg_heartbeat sMsg = new msg_heartbeat();
     static {
@@ -38,17 +38,11 @@ public class MavLinkHeartbeat {
         sMsg.system_status = MAV_STATE.MAV_STATE_ACTIVE;
     }
 
-    /**
-     * Heartbeat MavLink packet. After sending into airspace, it's purpose is to check that
-     * autopilot equipped vehicle is present and is responding.
-     */
-    private static final MAVLinkPacket sMsgPacket = sMsg.pack();
-
     /**
      * Sends the heartbeat to the air, expecting response if any vehicle is in range.
      */
     public static void sendHeartbeat() {
-        Connection.get().getMavLinkClient().sendMavPacket(sMsgPacket);
+        Connection.get().getMavLinkClient().sendMavMessage(sMsg);
     }
 
 }
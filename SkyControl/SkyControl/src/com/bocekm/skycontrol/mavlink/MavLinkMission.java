@@ -34,14 +34,22 @@ public class MavLinkMission {
      */
     public static final int RESTART_MISSION = 0;
 
+    /** Messages reused for every request, they are packed right away when sent. */
+    private static final msg_mission_ack sAckMsg = new msg_mission_ack();
+    private static final msg_mission_request sRequestMsg = new msg_mission_request();
+    private static final msg_mission_request_list sRequestListMsg =
+            new msg_mission_request_list();
+    private static final msg_mission_count sCountMsg = new msg_mission_count();
+    private static final msg_mission_set_current sSetCurrentMsg = new msg_mission_set_current();
+
     /**
      * Send acknowledge that all mission items have been received.
      */
     public static void sendAck() {
-        msg_mission_ack msg = new msg_mission_ack();
+        msg_mission_ack msg = sAckMsg;
         msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();;
         msg.type = MAV_MISSION_RESULT.MAV_MISSION_ACCEPTED;
-        Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+        Connection.get().getMavLinkClient().sendMavMessage(msg);
     }
 
     /**
@@ -50,19 +58,19 @@ public class MavLinkMission {
      * @param seq sequence number of the requested mission item
      */
     public static void requestMissionItem(int seq) {
-        msg_mission_request msg = new msg_mission_request();
+        msg_mission_request msg = sRequestMsg;
         msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();;
         msg.seq = (short) seq;
-        Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+        Connection.get().getMavLinkClient().sendMavMessage(msg);
     }
 
     /**
      * Request a list of all vehicle mission items.
      */
     public static void requestMissionItemList() {
-        msg_mission_request_list msg = new msg_mission_request_list();
+        msg_mission_request_list msg = sRequestListMsg;
         msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();;
-        Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+        Connection.get().getMavLinkClient().sendMavMessage(msg);
     }
 
     /**
@@ -72,10 +80,10 @@ public class MavLinkMission {
      * @param count the count
      */
     public static void sendMissionItemCount(int count) {
-        msg_mission_count msg = new msg_mission_count();
+        msg_mission_count msg = sCountMsg;
         msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();;
         msg.count = (short) count;
-        Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+        Connection.get().getMavLinkClient().sendMavMessage(msg);
     }
 
     /**
@@ -87,10 +95,10 @@ public class MavLinkMission {
     public static void sendSetCurrentMissionItem(int i) {
         if(Vehicle.get().getPosition().isFakeGpsEnabled())
             Mission.get().setCurrentWpIndex(i > 0 ? i : 1);
-        msg_mission_set_current msg = new msg_mission_set_current();
+        msg_mission_set_current msg = sSetCurrentMsg;
         msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();;
         msg.seq = (short) i;
-        Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+        Connection.get().getMavLinkClient().sendMavMessage(msg);
     }
 
 }
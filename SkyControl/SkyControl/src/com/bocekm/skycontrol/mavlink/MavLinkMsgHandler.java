@@ -13,7 +13,13 @@
  */
 package com.bocekm.skycontrol.mavlink;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Message;
+
 import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkSubscriptions;
 import com.MAVLink.Messages.ardupilotmega.msg_attitude;
 import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
 import com.MAVLink.Messages.ardupilotmega.msg_gps_raw_int;
@@ -23,50 +29,145 @@ import com.MAVLink.Messages.ardupilotmega.msg_param_value;
 import com.MAVLink.Messages.ardupilotmega.msg_radio;
 import com.MAVLink.Messages.ardupilotmega.msg_statustext;
 import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+import com.MAVLink.Messages.ardupilotmega.views.AttitudeView;
+import com.MAVLink.Messages.ardupilotmega.views.GlobalPositionIntView;
 import com.bocekm.skycontrol.SkyControlUtils;
 import com.bocekm.skycontrol.connection.Connection;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionEvent;
 import com.bocekm.skycontrol.mission.Mission;
+import com.bocekm.skycontrol.mission.MissionManager;
 import com.bocekm.skycontrol.vehicle.Vehicle;
 
 /**
- * {@link MavLinkMsgHandler} manages the incoming MavLink messages.
+ * {@link MavLinkMsgHandler} manages the incoming MavLink messages. The messages are handled on the
+ * {@link TelemetryThread}, which owns the vehicle state. The most frequent ones, the attitude and
+ * the position, are read through views straight from the received packets, without unpacking
+ * them. The rest of the messages, related to the mission, link and log, are rare enough to be
+ * handed over to the UI thread.
  */
-public class MavLinkMsgHandler {
+public class MavLinkMsgHandler implements
+        Handler.Callback {
+
+    /** Handler passing the messages to {@link #handleUiMessage(MAVLinkMessage)}. */
+    private final Handler mUiHandler = new Handler(Looper.getMainLooper(), this);
+
+    /** View of the attitude packets, reused for all of them on the {@link TelemetryThread}. */
+    private final AttitudeView mAttitudeView = new AttitudeView();
+
+    /** View of the position packets, reused for all of them on the {@link TelemetryThread}. */
+    private final GlobalPositionIntView mPositionView = new GlobalPositionIntView();
+
+    /** IDs of the MavLink messages redistributed by {@link #handleMessage(MAVLinkMessage)}. */
+    private static final int[] HANDLED_MSG_IDS = {
+            msg_attitude.MAVLINK_MSG_ID_ATTITUDE,
+            msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD,
+            msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT,
+            msg_radio.MAVLINK_MSG_ID_RADIO,
+            msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT,
+            msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT,
+            msg_statustext.MAVLINK_MSG_ID_STATUSTEXT,
+            msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT,
+            msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE
+    };
+
+    /**
+     * Subscribe to the messages handled by this class and by the mission manager, so the parser
+     * doesn't decode and pass on messages nobody listens to.
+     * 
+     * @param subscriptions subscriptions of the parser
+     */
+    public void subscribeMessages(MAVLinkSubscriptions subscriptions) {
+        subscriptions.clear();
+        for (int msgId : HANDLED_MSG_IDS)
+            subscriptions.subscribe(msgId);
+        for (int msgId : MissionManager.HANDLED_MSG_IDS)
+            subscriptions.subscribe(msgId);
+    }
+
+    /**
+     * Pass the packet of a frequent message to the listeners through a view of the packet, so the
+     * message isn't unpacked into a new object. Called on the {@link TelemetryThread}.
+     * 
+     * @param packet received MavLink packet, valid only until this method returns
+     * @return true if the packet has been handled, false if it's to be unpacked and passed to
+     *         {@link #handleMessage(MAVLinkMessage)}
+     */
+    public boolean handlePacket(MAVLinkPacket packet) {
+        switch (packet.msgid) {
+            case msg_attitude.MAVLINK_MSG_ID_ATTITUDE:
+                mAttitudeView.wrap(packet);
+                Vehicle.get().getAttitude().onAttitudeReceived(mAttitudeView);
+                Vehicle.get().getHistory().onAttitudeReceived(mAttitudeView);
+                Vehicle.get().getSnapshotPublisher().onAttitudeReceived();
+                return true;
+            case msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT:
+                mPositionView.wrap(packet);
+                Vehicle.get().getPosition().onPositionReceived(mPositionView);
+                Vehicle.get().getHistory().onPositionReceived(mPositionView);
+                Vehicle.get().getSnapshotPublisher().onPositionReceived();
+                return true;
+            default:
+                return false;
+        }
+    }
 
     /**
-     * Redistribute the incoming MavLink message to appropriate listeners.
+     * Redistribute the incoming MavLink message to appropriate listeners. Add the ID of any newly
+     * handled message to {@link #HANDLED_MSG_IDS}, otherwise the message doesn't get here. Called on
+     * the {@link TelemetryThread}.
      * 
      * @param msg received MavLink message
      */
     public void handleMessage(MAVLinkMessage msg) {
-        // Check whether the message is mission related and handle it appropriately
-        if (Mission.get().getMissionMananger().handleMessage(msg))
-            return;
-
         switch (msg.msgid) {
-            case msg_attitude.MAVLINK_MSG_ID_ATTITUDE:
-                Vehicle.get().getAttitude().onAttitudeReceived((msg_attitude) msg);
-                break;
             case msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD:
                 Vehicle.get().getState().onSpeedReceived((msg_vfr_hud) msg);
                 Vehicle.get().getAltitude().onAltitudeReceived((msg_vfr_hud) msg);
                 Vehicle.get().getSpeed().onSpeedReceived((msg_vfr_hud) msg);
+                Vehicle.get().getHistory().onVfrHudReceived((msg_vfr_hud) msg);
+                Vehicle.get().getSnapshotPublisher().onSpeedReceived();
                 break;
             case msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT:
                 Vehicle.get().getHeartbeat().onHeartbeatReceived((msg_heartbeat) msg);
                 Vehicle.get().getType().onVehicleTypeReceived((msg_heartbeat) msg);
                 Vehicle.get().getState().onStateReceived((msg_heartbeat) msg);
                 break;
-            case msg_radio.MAVLINK_MSG_ID_RADIO:
-                Connection.get().getTelemetry().onTelemetryReceived((msg_radio) msg);
-                break;
-            case msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT:
-                Vehicle.get().getPosition().onPositionReceived((msg_global_position_int) msg);
-                break;
             case msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT:
                 Vehicle.get().getPosition().onGpsStateReceived((msg_gps_raw_int) msg);
                 break;
+            default:
+                // The message is a new object owned by this class, so it can be passed over
+                mUiHandler.obtainMessage(0, msg).sendToTarget();
+                break;
+        }
+    }
+
+    /*
+     * (non-Javadoc) Receives the MavLink messages passed to the UI thread.
+     * 
+     * @see android.os.Handler.Callback#handleMessage(android.os.Message)
+     */
+    @Override
+    public boolean handleMessage(Message msg) {
+        handleUiMessage((MAVLinkMessage) msg.obj);
+        return true;
+    }
+
+    /**
+     * Redistribute the MavLink message not related to the vehicle state to appropriate listeners.
+     * Called on the UI thread.
+     * 
+     * @param msg received MavLink message
+     */
+    private void handleUiMessage(MAVLinkMessage msg) {
+        // Check whether the message is mission related and handle it appropriately
+        if (Mission.get().getMissionMananger().handleMessage(msg))
+            return;
+
+        switch (msg.msgid) {
+            case msg_radio.MAVLINK_MSG_ID_RADIO:
+                Connection.get().getTelemetry().onTelemetryReceived((msg_radio) msg);
+                break;
             case msg_statustext.MAVLINK_MSG_ID_STATUSTEXT:
                 Connection.get().setStatusText(new String(((msg_statustext) msg).text));
                 Connection.get().getEvents().onConnectionEvent(ConnectionEvent.STATUS_RECEIVED);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.mavlink;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import android.os.Handler;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketRing;
+
+/**
+ * The {@link MavLinkPacketQueue} passes MavLink packets between {@link MavLinkService} and
+ * {@link MavLinkClient}, which live in the same process. Packets are handed over by reference
+ * through a lock-free {@link MAVLinkPacketRing} and processed by the consumer on the thread of the
+ * given {@link Handler}. The consumer is woken up by a single posted {@link Runnable} which then
+ * drains all the packets queued meanwhile, so a burst of packets costs one Handler message.
+ *
+ * Packets may be offered by one thread at a time only.
+ */
+public class MavLinkPacketQueue {
+
+    /** Number of packets the queue holds before dropping new ones. */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    /**
+     * The consumer of the queued packets.
+     */
+    public interface PacketConsumer {
+
+        /**
+         * Process a packet taken from the queue. The consumer becomes the owner of the packet and
+         * has to release it once done with it.
+         *
+         * @param packet the queued packet
+         */
+        public void onPacket(MAVLinkPacket packet);
+    }
+
+    /** Ring holding the queued packets. */
+    private final MAVLinkPacketRing mRing;
+
+    /** Handler of the thread the packets are consumed on. */
+    private final Handler mHandler;
+
+    /** The consumer of the packets. */
+    private final PacketConsumer mConsumer;
+
+    /** Whether {@link MavLinkPacketQueue#mDrainTask} has been posted and not started yet. */
+    private final AtomicBoolean mDrainScheduled = new AtomicBoolean();
+
+    /** Passes the queued packets to the consumer. */
+    private final Runnable mDrainTask = new Runnable() {
+        @Override
+        public void run() {
+            // Clear the flag first, so a packet offered while draining posts the task again
+            mDrainScheduled.set(false);
+            // Don't block the consumer thread for too long under heavy load, the rest of the
+            // packets is left for the next run
+            for (int i = 0; i < mRing.capacity(); i++) {
+                MAVLinkPacket packet = mRing.poll();
+                if (packet == null)
+                    return;
+                mConsumer.onPacket(packet);
+            }
+            scheduleDrain();
+        }
+    };
+
+    /**
+     * Instantiates a new {@link MavLinkPacketQueue} object.
+     *
+     * @param capacity maximum number of queued packets
+     * @param handler handler of the thread the packets are to be consumed on
+     * @param consumer the consumer of the packets
+     */
+    public MavLinkPacketQueue(int capacity, Handler handler, PacketConsumer consumer) {
+        mRing = new MAVLinkPacketRing(capacity);
+        mHandler = handler;
+        mConsumer = consumer;
+    }
+
+    /**
+     * Queue the packet for the consumer. The queue becomes the owner of the packet.
+     *
+     * @param packet the packet to be queued
+     * @return false if the queue is full, the packet has been released then
+     */
+    public boolean offer(MAVLinkPacket packet) {
+        if (!mRing.offer(packet)) {
+            packet.release();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Post the task passing the packets to the consumer, unless it's already pending.
+     */
+    private void scheduleDrain() {
+        if (!mRing.isEmpty() && mDrainScheduled.compareAndSet(false, true)) {
+            mHandler.post(mDrainTask);
+        }
+    }
+
+    /**
+     * Drop all the queued packets. Needs to be called on the consumer thread.
+     */
+    public void clear() {
+        mHandler.removeCallbacks(mDrainTask);
+        mDrainScheduled.set(false);
+        MAVLinkPacket packet;
+        while ((packet = mRing.poll()) != null) {
+            packet.release();
+        }
+    }
+}
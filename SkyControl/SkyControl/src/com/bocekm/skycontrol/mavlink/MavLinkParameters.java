@@ -22,19 +22,22 @@ import com.bocekm.skycontrol.vehicle.VehicleParameter;
  * Sets autopilot parameters.
  */
 public class MavLinkParameters {
-    
+
+    /** Message reused for every parameter, it's packed right away when sent. */
+    private static final msg_param_set sMsg = new msg_param_set();
+
     /**
      * Send parameter to autopilot to be set.
      *
      * @param parameter the parameter to be set
      */
     public static void sendParameter(VehicleParameter parameter) {
-        msg_param_set msg = new msg_param_set();
+        msg_param_set msg = sMsg;
         msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();
         msg.setParam_Id(parameter.getName());
         msg.param_type = (byte) parameter.getType();
         msg.param_value = (float) parameter.getValue();
-        Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+        Connection.get().getMavLinkClient().sendMavMessage(msg);
     }
 
 }
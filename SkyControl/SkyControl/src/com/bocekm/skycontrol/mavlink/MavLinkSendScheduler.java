@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.mavlink;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPacketRing;
+import com.MAVLink.Messages.ardupilotmega.msg_command_long;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.ardupilotmega.msg_manual_control;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_ack;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_clear_all;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_count;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_item;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_request_list;
+import com.MAVLink.Messages.ardupilotmega.msg_mission_set_current;
+import com.MAVLink.Messages.ardupilotmega.msg_rc_channels_override;
+import com.MAVLink.Messages.ardupilotmega.msg_set_mode;
+
+/**
+ * The {@link MavLinkSendScheduler} queues the MavLink packets to be sent to the vehicle and sends
+ * them in the order of their priority instead of the order they were queued in. Every packet falls
+ * into one of the {@link SendClass}es, each class has its own queue and a token bucket limiting its
+ * data rate, so e.g. a burst of mission items delays neither a mode change nor the heartbeat, and
+ * the bulk traffic leaves the half-duplex radio enough time to receive the telemetry. The packets
+ * sent in one go are coalesced by {@link MavLinkConnection} into as few transfers as possible.
+ *
+ * Packets may be offered by any thread, they're sent on the thread of the given {@link Handler}.
+ */
+public class MavLinkSendScheduler {
+
+    /**
+     * Priority classes of the outgoing packets, from the most urgent one. Rate is the sustained
+     * data rate in bytes per second, 0 for no limit, burst is the number of bytes which may be sent
+     * at once after the class has been idle.
+     */
+    public enum SendClass {
+        /** Commands overriding the vehicle control. */
+        SAFETY(0, 0),
+        /** Flight mode and current waypoint changes. */
+        MODE(0, 0),
+        /** The GCS heartbeat. */
+        HEARTBEAT(0, 0),
+        /** Mission protocol. */
+        MISSION(1024, 512),
+        /** Parameters, stream rates and any other traffic. */
+        BULK(512, 256);
+
+        /** Sustained data rate in bytes per second. */
+        private final int mRate;
+
+        /** Size of the token bucket in bytes. */
+        private final int mBurst;
+
+        SendClass(int rate, int burst) {
+            mRate = rate;
+            mBurst = burst;
+        }
+    }
+
+    /** All the {@link SendClass}es, indexed by ordinal. */
+    private static final SendClass[] CLASSES = SendClass.values();
+
+    /** Queues of the packets, one per {@link SendClass}. */
+    private final MAVLinkPacketRing[] mQueues = new MAVLinkPacketRing[CLASSES.length];
+
+    /** Bytes each {@link SendClass} may send now, negative when it overdrew its budget. */
+    private final float[] mTokens = new float[CLASSES.length];
+
+    /** Time the tokens were last refilled at, in ms. */
+    private long mRefillTime;
+
+    /** Handler of the thread the packets are sent on. */
+    private final Handler mHandler;
+
+    /** The links the packets are sent over, null while there are none. */
+    private volatile MavLinkAggregator mLinks;
+
+    /** Whether {@link MavLinkSendScheduler#mSendTask} has been posted and not started yet. */
+    private final AtomicBoolean mSendScheduled = new AtomicBoolean();
+
+    /** Sends the queued packets. */
+    private final Runnable mSendTask = new Runnable() {
+        @Override
+        public void run() {
+            mSendScheduled.set(false);
+            sendPackets();
+        }
+    };
+
+    /** Sends the queued packets once a class out of tokens gets them back. */
+    private final Runnable mThrottledSendTask = new Runnable() {
+        @Override
+        public void run() {
+            sendPackets();
+        }
+    };
+
+    /**
+     * Instantiates a new {@link MavLinkSendScheduler} object.
+     *
+     * @param capacity maximum number of queued packets of each {@link SendClass}
+     * @param handler handler of the thread the packets are to be sent on
+     */
+    public MavLinkSendScheduler(int capacity, Handler handler) {
+        for (int i = 0; i < CLASSES.length; i++) {
+            mQueues[i] = new MAVLinkPacketRing(capacity);
+            mTokens[i] = CLASSES[i].mBurst;
+        }
+        mRefillTime = SystemClock.elapsedRealtime();
+        mHandler = handler;
+    }
+
+    /**
+     * Sets the links the packets are to be sent over. Each batch of packets is sent over the link
+     * which is the healthiest at the time.
+     *
+     * @param links the links, null to keep the packets queued
+     */
+    public void setLinks(MavLinkAggregator links) {
+        mLinks = links;
+        if (links != null)
+            scheduleSend();
+    }
+
+    /**
+     * Determine the {@link SendClass} of the packet.
+     *
+     * @param packet the packet to be sent
+     * @return the class of the packet
+     */
+    public static SendClass classify(MAVLinkPacket packet) {
+        switch (packet.msgid) {
+            case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
+            case msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL:
+            case msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE:
+                return SendClass.SAFETY;
+            case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
+            case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
+                return SendClass.MODE;
+            case msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT:
+                return SendClass.HEARTBEAT;
+            case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
+            case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
+            case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST:
+            case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST:
+            case msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK:
+            case msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL:
+                return SendClass.MISSION;
+            default:
+                return SendClass.BULK;
+        }
+    }
+
+    /**
+     * Queue the packet to be sent. The scheduler becomes the owner of the packet.
+     *
+     * @param packet the packet to be sent
+     * @return false if the queue of the packet class is full, the packet has been released then
+     */
+    public synchronized boolean offer(MAVLinkPacket packet) {
+        // Synchronized as the queues accept packets from one thread at a time only
+        if (!mQueues[classify(packet).ordinal()].offer(packet)) {
+            packet.release();
+            return false;
+        }
+        scheduleSend();
+        return true;
+    }
+
+    /**
+     * Post the task sending the packets, unless it's already pending.
+     */
+    private void scheduleSend() {
+        if (mSendScheduled.compareAndSet(false, true)) {
+            mHandler.post(mSendTask);
+        }
+    }
+
+    /**
+     * Send the queued packets of the classes with tokens left, the most urgent class first. The
+     * packets are passed to the connection one by one so it can coalesce them, then the rest is
+     * flushed. If any class has run out of tokens, the sending is scheduled again for the time the
+     * class gets the tokens back.
+     */
+    private void sendPackets() {
+        MavLinkAggregator links = mLinks;
+        if (links == null)
+            return;
+        MavLinkConnection connection = links.getBestConnection();
+        if (connection == null)
+            return;
+        refillTokens();
+
+        long delay = Long.MAX_VALUE;
+        int classIndex = 0;
+        while (classIndex < CLASSES.length) {
+            SendClass sendClass = CLASSES[classIndex];
+            if (sendClass.mRate > 0 && mTokens[classIndex] <= 0) {
+                if (!mQueues[classIndex].isEmpty()) {
+                    // Time till the class gets tokens for the next packet
+                    delay = Math.min(delay,
+                            1 + (long) (-mTokens[classIndex] * 1000 / sendClass.mRate));
+                }
+                classIndex++;
+                continue;
+            }
+            MAVLinkPacket packet = mQueues[classIndex].poll();
+            if (packet == null) {
+                classIndex++;
+                continue;
+            }
+            // Charge the frame as encoded, its framing and length are decided by the connection
+            int length = connection.queuePacket(packet);
+            if (sendClass.mRate > 0)
+                mTokens[classIndex] -= length;
+            // The packet has been encoded, give it back to the client's pool
+            packet.release();
+            // A more urgent packet may have been queued meanwhile
+            classIndex = 0;
+        }
+        connection.flushPackets();
+
+        mHandler.removeCallbacks(mThrottledSendTask);
+        if (delay != Long.MAX_VALUE)
+            mHandler.postDelayed(mThrottledSendTask, delay);
+    }
+
+    /**
+     * Give the classes the tokens for the time elapsed since the last refill.
+     */
+    private void refillTokens() {
+        long now = SystemClock.elapsedRealtime();
+        long elapsed = now - mRefillTime;
+        mRefillTime = now;
+        for (int i = 0; i < CLASSES.length; i++) {
+            SendClass sendClass = CLASSES[i];
+            if (sendClass.mRate > 0) {
+                mTokens[i] =
+                        Math.min(sendClass.mBurst, mTokens[i] + sendClass.mRate * elapsed / 1000f);
+            }
+        }
+    }
+
+    /**
+     * Drop all the queued packets. Needs to be called on the thread the packets are sent on.
+     */
+    public void clear() {
+        mHandler.removeCallbacks(mSendTask);
+        mHandler.removeCallbacks(mThrottledSendTask);
+        mSendScheduled.set(false);
+        for (MAVLinkPacketRing queue : mQueues) {
+            MAVLinkPacket packet;
+            while ((packet = queue.poll()) != null) {
+                packet.release();
+            }
+        }
+    }
+}
@@ -14,45 +14,53 @@
 package com.bocekm.skycontrol.mavlink;
 
 import java.lang.ref.WeakReference;
+import java.util.List;
 
 import android.app.NotificationManager;
 import android.app.PendingIntent;
 import android.app.Service;
 import android.content.Intent;
+import android.content.SharedPreferences;
+import android.os.Binder;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
 import android.os.Message;
 import android.os.Messenger;
 import android.os.RemoteException;
+import android.preference.PreferenceManager;
 import android.support.v4.app.NotificationCompat;
+import android.util.Log;
 
-import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkSystemFilter;
 import com.bocekm.skycontrol.MainActivity;
+import com.bocekm.skycontrol.PreferencesFragment;
 import com.bocekm.skycontrol.R;
+import com.bocekm.skycontrol.SkyControlConst;
 import com.bocekm.skycontrol.SkyControlUtils;
+import com.bocekm.skycontrol.connection.MavLinkRouter;
+import com.bocekm.skycontrol.connection.MavLinkRouter.Endpoint;
+import com.bocekm.skycontrol.connection.TcpConnection;
+import com.bocekm.skycontrol.connection.UdpConnection;
 import com.bocekm.skycontrol.connection.UsbConnection;
 import com.bocekm.skycontrol.mavlink.MavLinkConnection.MavLinkConnectionListener;
+import com.bocekm.skycontrol.mavlink.MavLinkPacketQueue.PacketConsumer;
 
 /**
  * {@link MavLinkService} is a component running alongside other parts of application in the same
  * process. The service runs only as long as any client is bound to it. Once the service is unbound
- * from all clients, the system destroys it.
+ * from all clients, the system destroys it. As the client lives in the same process, MavLink
+ * packets are passed to the client by reference through {@link MavLinkPacketQueue} and from the
+ * client through {@link MavLinkSendScheduler}, which sends them on a thread of its own.
  * 
  * @see <a
- *      href="http://developer.android.com/guide/components/bound-services.html#Messenger">http://developer.android.com/guide/components/bound-services.html#Messenger</a>
+ *      href="http://developer.android.com/guide/components/bound-services.html#Binder">http://developer.android.com/guide/components/bound-services.html#Binder</a>
  */
 
 public class MavLinkService extends Service implements
         MavLinkConnectionListener {
-    /**
-     * Command to the service to register a client, receiving callbacks from the service. The
-     * Message's replyTo field must be a Messenger of the client where callbacks should be sent.
-     */
-    public static final int MSG_REGISTER_CLIENT = 0;
-    /** Command to service to send a MavLink packet bundled within the message. */
-    public static final int MSG_SEND_DATA = 1;
     /** Command to service to log the error message sent in a message bundle. */
     public static final int MSG_LOG_ERR = 2;
 
@@ -61,17 +69,65 @@ public class MavLinkService extends Service implements
     /** The Notification manager. */
     private NotificationManager mNotificationManager;
 
-    /** The MavLink connection. */
-    private MavLinkConnection mDeviceConnectionThread;
+    /** The MavLink connections of the redundant links, merged into one stream of packets. */
+    private MavLinkAggregator mLinks;
+    /** Forwards the vehicle stream to other ground stations, null if there are none. */
+    private volatile MavLinkRouter mRouter;
+    /**
+     * Passes the packets merged from all the links to the router and to the client without
+     * decoding them. Called on the MavLinkConnection threads, possibly several at once.
+     */
+    private final PacketConsumer mMergedPackets = new PacketConsumer() {
+        @Override
+        public void onPacket(MAVLinkPacket packet) {
+            MavLinkRouter router = mRouter;
+            if (router != null)
+                router.forward(packet);
+            MavLinkPacketQueue receivedPackets = mReceivedPackets;
+            // The packet may have been passed on just for the router
+            if (receivedPackets == null
+                    || !MavLinkConnection.getSubscriptions().isSubscribed(packet.msgid)) {
+                packet.release();
+                return;
+            }
+            // The packet is dropped if the client doesn't keep up, the queue takes one producer
+            synchronized (receivedPackets) {
+                receivedPackets.offer(packet);
+            }
+        }
+    };
     /** Current registered client. */
     private Messenger mClientMessenger = null;
-    /** Target we publish for client to send messages to IncomingHandler. */
-    private Messenger mServiceMessenger;
-    /** Handler of messages coming from {@link MavLinkClient}. */
+    /** Queue of the packets received from the vehicle, consumed by the registered client. */
+    private volatile MavLinkPacketQueue mReceivedPackets;
+    /** Queue of the packets to be sent to the vehicle, filled by the registered client. */
+    private MavLinkSendScheduler mSendPackets;
+    /** Thread the packets are sent on, so the UI thread doesn't wait for the interface. */
+    private HandlerThread mSendThread;
+    /** Interface we publish for client to register itself. */
+    private final IBinder mBinder = new MavLinkBinder();
+    /** Handler of messages coming from {@link MavLinkService} threads. */
     private Handler mIncomingHandler;
 
     /**
-     * Handler of incoming requests from {@link MavLinkClient}.
+     * Binder returned to the client binding this service. The client runs in the same process, so
+     * it gets the service itself.
+     */
+    public class MavLinkBinder extends Binder {
+
+        /**
+         * Gets the bound service.
+         * 
+         * @return the {@link MavLinkService}
+         */
+        public MavLinkService getService() {
+            return MavLinkService.this;
+        }
+    }
+
+    /**
+     * Handler of requests coming from the threads of {@link MavLinkService}, which need to be
+     * processed on the UI thread.
      */
     private static class ServiceIncomingHandler extends Handler {
 
@@ -99,16 +155,6 @@ public class MavLinkService extends Service implements
         public void handleMessage(Message msg) {
             MavLinkService mService = mServiceWeak.get();
             switch (msg.what) {
-                case MSG_REGISTER_CLIENT:
-                    mService.mClientMessenger = msg.replyTo;
-                    break;
-                case MSG_SEND_DATA:
-                    Bundle bData = msg.getData();
-                    MAVLinkPacket packet = (MAVLinkPacket) bData.getSerializable("msg");
-                    if (mService.mDeviceConnectionThread != null) {
-                        mService.mDeviceConnectionThread.sendPacket(packet);
-                    }
-                    break;
                 case MSG_LOG_ERR:
                     Bundle bErr = msg.getData();
                     String errText = bErr.getString("errText");
@@ -121,46 +167,48 @@ public class MavLinkService extends Service implements
     }
 
     /**
-     * When binding to the service, we return an interface to our messenger for sending messages to
-     * the service.
+     * When binding to the service, we return an interface giving the client this service.
      * 
      * @param intent the intent
      * @return the i binder
      */
     @Override
     public IBinder onBind(Intent intent) {
-        return mServiceMessenger.getBinder();
+        return mBinder;
     }
 
     /**
-     * Notify new message.
+     * Register the client receiving callbacks and MavLink packets from the service.
      * 
-     * @param m the
+     * @param clientMessenger {@link Messenger} of the client where callbacks should be sent
+     * @param receivedPackets queue the packets received from the vehicle should be passed to
      */
-    private void notifyNewMessage(MAVLinkMessage m) {
-        try {
-            if (mClientMessenger != null) {
-                Message msg = Message.obtain(null, MavLinkClient.MSG_RECEIVED_PACKET);
-                Bundle data = new Bundle();
-                data.putSerializable("packet", m);
-                msg.setData(data);
-                mClientMessenger.send(msg);
-            }
-        } catch (RemoteException e) {
-            e.printStackTrace();
-        }
+    public void registerClient(Messenger clientMessenger, MavLinkPacketQueue receivedPackets) {
+        mClientMessenger = clientMessenger;
+        mReceivedPackets = receivedPackets;
+    }
+
+    /**
+     * Gets the queue of the packets to be sent to the vehicle. The packets are sent on the send
+     * thread of the service in the order of their priority.
+     * 
+     * @return the queue of the outgoing packets
+     */
+    public MavLinkSendScheduler getSendQueue() {
+        return mSendPackets;
     }
 
     /*
-     * (non-Javadoc)
+     * (non-Javadoc) Called on the MavLinkConnection thread, the packet is merged with the ones
+     * received over the other links.
      * 
      * @see
-     * com.bocekm.skycontrol.mavlink.MavLinkConnection.MavLinkConnectionListener#onReceiveMessage
-     * (com.MAVLink.Messages.MAVLinkMessage)
+     * com.bocekm.skycontrol.mavlink.MavLinkConnection.MavLinkConnectionListener#onReceivePacket
+     * (com.bocekm.skycontrol.mavlink.MavLinkConnection, com.MAVLink.Messages.MAVLinkPacket)
      */
     @Override
-    public void onReceiveMessage(MAVLinkMessage msg) {
-        notifyNewMessage(msg);
+    public void onReceivePacket(MavLinkConnection connection, MAVLinkPacket packet) {
+        mLinks.onReceivePacket(connection, packet);
     }
 
     /*
@@ -172,9 +220,23 @@ public class MavLinkService extends Service implements
     public void onCreate() {
         super.onCreate();
 
-        // Instantiate a handler of incoming requests from MavLinkClient
+        // Instantiate a handler of requests coming from the service threads
         mIncomingHandler = new ServiceIncomingHandler(this);
-        mServiceMessenger = new Messenger(mIncomingHandler);
+        mSendThread = new HandlerThread("MavLinkSend");
+        mSendThread.start();
+        mSendPackets =
+                new MavLinkSendScheduler(MavLinkPacketQueue.DEFAULT_CAPACITY, new Handler(
+                        mSendThread.getLooper()));
+        mLinks = new MavLinkAggregator(mMergedPackets);
+
+        // Start forwarding to the other ground stations set by the user
+        List<Endpoint> endpoints =
+                MavLinkRouter.parseEndpoints(PreferenceManager.getDefaultSharedPreferences(this)
+                        .getString(PreferencesFragment.FORWARD_ENDPOINTS_PREF_KEY, ""));
+        if (!endpoints.isEmpty()) {
+            mRouter = new MavLinkRouter(endpoints, mSendPackets);
+            mRouter.start();
+        }
 
         // Create a notification in status bar while this Service is running
         showNotification();
@@ -185,11 +247,13 @@ public class MavLinkService extends Service implements
 
     /**
      * Called after the exception raised in any of the MavLinkConnection classes. Log error and
-     * initiate destruction of this Service.
+     * stop using the failed connection, initiate destruction of this Service if no other link is
+     * left.
      * 
+     * @param connection the failed connection
      * @param errMsg the error text
      */
-    public void onComError(String errMsg) {
+    public void onComError(MavLinkConnection connection, String errMsg) {
         // Prepare error message which needs to be passed to UI thread (through IncomingHandler),
         // because this method runs in separate service thread which cannot interact with UI
         Message msg = Message.obtain(null, MSG_LOG_ERR);
@@ -198,10 +262,12 @@ public class MavLinkService extends Service implements
         data.putString("errText", errText);
         msg.setData(data);
 
-        // Imitate message sent from MavLinkClient by making use of IncomingHandler just to log
-        // the error message
+        // Log the error message on UI thread by making use of IncomingHandler
         mIncomingHandler.sendMessage(msg);
 
+        connection.onCloseConnection();
+        if (mLinks.removeLink(connection) > 0)
+            return;
         // Initiate releasing the resources (e.g. USB driver) and unbinding from the client
         disconnectService();
     }
@@ -215,16 +281,101 @@ public class MavLinkService extends Service implements
     public void onDestroy() {
         // Initiate releasing the resources (e.g. USB driver) and unbinding from the client
         disconnectService();
+        if (mRouter != null) {
+            mRouter.close();
+            mRouter = null;
+        }
+        // Drop the packets not sent yet and stop the send thread
+        new Handler(mSendThread.getLooper()).post(new Runnable() {
+            @Override
+            public void run() {
+                mSendPackets.clear();
+                mSendThread.quit();
+            }
+        });
         super.onDestroy();
     }
 
     /**
-     * Starts the {@link MavLinkConnection} Thread which connects to the communication interface.
+     * Starts the {@link MavLinkConnection} Threads which connect to the communication interfaces
+     * chosen by the user, the primary one and optionally the secondary redundant one.
      */
     private void connectToDevice() {
-        mDeviceConnectionThread = new UsbConnection(this);
-        // Start the Thread
-        mDeviceConnectionThread.start();
+        SharedPreferences userPref = PreferenceManager.getDefaultSharedPreferences(this);
+        String[] connectionTypes =
+                {
+                        userPref.getString(PreferencesFragment.CONNECTION_TYPE_PREF_KEY,
+                                PreferencesFragment.CONNECTION_TYPE_USB),
+                        userPref.getString(PreferencesFragment.SECONDARY_CONNECTION_TYPE_PREF_KEY,
+                                PreferencesFragment.CONNECTION_TYPE_NONE) };
+        MavLinkRouter router = mRouter;
+        MavLinkConnection.setLinkSubscriptions(router != null ? router.getForwardedMessages()
+                : null);
+        setSystemFilter(userPref.getString(PreferencesFragment.VEHICLE_SYSIDS_PREF_KEY, ""));
+        for (String connectionType : connectionTypes) {
+            MavLinkConnection connection = createConnection(connectionType, userPref);
+            if (connection == null)
+                continue;
+            mLinks.addLink(connection);
+            // Start the Thread
+            connection.start();
+        }
+        mSendPackets.setLinks(mLinks);
+    }
+
+    /**
+     * Sets the systems whose messages are passed on by the connections, so the traffic of the
+     * other vehicles is dropped before being decoded. The link messages, like the status of the
+     * telemetry radio, are passed on from any system.
+     * 
+     * @param sysIds system ids separated by commas, empty to accept all the systems
+     */
+    private void setSystemFilter(String sysIds) {
+        MAVLinkSystemFilter filter = MavLinkConnection.getSystemFilter();
+        filter.acceptAll();
+        boolean acceptAll = true;
+        for (String sysId : sysIds.split(",")) {
+            if (sysId.trim().isEmpty())
+                continue;
+            try {
+                int id = Integer.parseInt(sysId.trim());
+                if (id < 0 || id > 0xFF) {
+                    Log.e(SkyControlConst.ERROR_TAG, "Vehicle system id out of range: " + id);
+                    continue;
+                }
+                if (acceptAll) {
+                    // The first valid id, stop accepting all the systems
+                    filter.clear();
+                    acceptAll = false;
+                }
+                filter.accept(id);
+            } catch (NumberFormatException e) {
+                Log.e(SkyControlConst.ERROR_TAG, "Invalid vehicle system id: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Creates the {@link MavLinkConnection} of the given type.
+     * 
+     * @param connectionType one of the PreferencesFragment.CONNECTION_TYPE_* values
+     * @param userPref user preferences with the network settings
+     * @return the connection, null for {@link PreferencesFragment#CONNECTION_TYPE_NONE}
+     */
+    private MavLinkConnection createConnection(String connectionType, SharedPreferences userPref) {
+        switch (connectionType) {
+            case PreferencesFragment.CONNECTION_TYPE_NONE:
+                return null;
+            case PreferencesFragment.CONNECTION_TYPE_UDP:
+                return new UdpConnection(this, PreferencesFragment.getNetworkPort(userPref));
+            case PreferencesFragment.CONNECTION_TYPE_TCP:
+                return new TcpConnection(this, userPref.getString(
+                        PreferencesFragment.NETWORK_HOST_PREF_KEY,
+                        PreferencesFragment.DEFAULT_NETWORK_HOST).trim(),
+                        PreferencesFragment.getNetworkPort(userPref));
+            default:
+                return new UsbConnection(this);
+        }
     }
 
     /**
@@ -243,10 +394,14 @@ public class MavLinkService extends Service implements
             throw new Error("Lost reference to the MavLinkClient: " + e.getMessage());
         }
 
-        // Close the MavLink connection, i.e. release the communication resources
-        if (mDeviceConnectionThread != null) {
-            mDeviceConnectionThread.onCloseConnection();
-            mDeviceConnectionThread = null;
+        // Stop passing the received packets to the client
+        mReceivedPackets = null;
+
+        // Close the MavLink connections, i.e. release the communication resources
+        mSendPackets.setLinks(null);
+        for (MavLinkConnection connection : mLinks.getConnections()) {
+            connection.onCloseConnection();
+            mLinks.removeLink(connection);
         }
         // Cancel the persistent notification.
         removeNotification();
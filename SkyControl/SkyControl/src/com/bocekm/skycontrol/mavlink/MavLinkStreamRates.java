@@ -24,6 +24,9 @@ import com.bocekm.skycontrol.vehicle.Vehicle;
  */
 public class MavLinkStreamRates {
 
+    /** Message reused for every stream request, it's packed right away when sent. */
+    private static final msg_request_data_stream sMsg = new msg_request_data_stream();
+
     /**
      * Setup data streams with rate (in Hz) of sending for each data stream.
      * 
@@ -52,7 +55,7 @@ public class MavLinkStreamRates {
      * @param rate frequency in Hz the requested data shall be sent by vehicle with
      */
     private static void requestMavlinkDataStream(int streamId, int rate) {
-        msg_request_data_stream msg = new msg_request_data_stream();
+        msg_request_data_stream msg = sMsg;
         msg.target_system = (byte) Vehicle.get().getHeartbeat().getVehicleSysId();
 
         msg.req_message_rate = (short) rate;
@@ -63,6 +66,6 @@ public class MavLinkStreamRates {
         } else {
             msg.start_stop = 0;
         }
-        Connection.get().getMavLinkClient().sendMavPacket(msg.pack());
+        Connection.get().getMavLinkClient().sendMavMessage(msg);
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.mavlink;
+
+import java.util.Arrays;
+
+import android.os.SystemClock;
+
+import com.MAVLink.Messages.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkStatsSnapshot;
+import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
+import com.MAVLink.Messages.enums.MAV_TYPE;
+import com.bocekm.skycontrol.vehicle.Vehicle;
+
+/**
+ * The {@link MavLinkSystems} demultiplexes the received packets by the system which sent them.
+ * Every system heard has its own {@link SystemState}. Just one vehicle, the active system, feeds
+ * the {@link Vehicle}; the packets of the other systems are dropped undecoded. The packets, bytes
+ * and lost packets of every system are counted by the parser of each connection before any
+ * filtering, see {@link MavLinkConnection#getStats(MAVLinkStatsSnapshot)}. The
+ * active system is the first vehicle sending a heartbeat, another vehicle takes over only after
+ * the active one has been silent for {@link #ACTIVE_SYSTEM_TIMEOUT}.
+ * 
+ * Packets are passed in on the {@link TelemetryThread}, the states may be read from any thread.
+ */
+public class MavLinkSystems {
+
+    /** Time after which another vehicle may become the active system, in ms. */
+    private static final long ACTIVE_SYSTEM_TIMEOUT = 15000;
+
+    /** Offset of the vehicle type in the heartbeat payload. */
+    private static final int HEARTBEAT_TYPE_OFFSET = 4;
+
+    /**
+     * State of one system heard on the link.
+     */
+    public static class SystemState {
+
+        /** System id. */
+        private final int mSysId;
+
+        /** Type of the system from its heartbeat, MAV_TYPE value, -1 if not known yet. */
+        private volatile int mType = -1;
+
+        /** Time of the last heartbeat in ms, 0 if none received yet. */
+        private volatile long mLastHeartbeat;
+
+        /**
+         * Instantiates a new {@link SystemState} object.
+         * 
+         * @param sysId the system id
+         */
+        SystemState(int sysId) {
+            mSysId = sysId;
+        }
+
+        public int getSysId() {
+            return mSysId;
+        }
+
+        public int getType() {
+            return mType;
+        }
+
+        public long getLastHeartbeat() {
+            return mLastHeartbeat;
+        }
+
+        /**
+         * Check whether the system is a vehicle, not a ground station.
+         * 
+         * @return true if a heartbeat of a vehicle has been received from the system
+         */
+        public boolean isVehicle() {
+            return mType >= 0 && mType != MAV_TYPE.MAV_TYPE_GCS;
+        }
+    }
+
+    /** States of the systems indexed by the system id, null for a system not heard yet. */
+    private final SystemState[] mSystems = new SystemState[256];
+
+    /** Id of the active system, -1 while there's none. */
+    private volatile int mActiveSysId = -1;
+
+    /**
+     * Note the received packet in the state of its system and decide whether it's to be decoded.
+     * Heartbeats are read in place, without decoding them.
+     * 
+     * @param packet the received packet
+     * @return true if the packet comes from the active system
+     */
+    public boolean onPacket(MAVLinkPacket packet) {
+        SystemState system = mSystems[packet.sysid];
+        if (system == null) {
+            system = new SystemState(packet.sysid);
+            mSystems[packet.sysid] = system;
+        }
+        if (packet.msgid == msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT) {
+            long now = SystemClock.elapsedRealtime();
+            system.mType = packet.payload.payload.get(HEARTBEAT_TYPE_OFFSET) & 0xFF;
+            system.mLastHeartbeat = now;
+            if (system.isVehicle() && packet.sysid != mActiveSysId) {
+                SystemState active = mActiveSysId >= 0 ? mSystems[mActiveSysId] : null;
+                if (active == null || now - active.mLastHeartbeat > ACTIVE_SYSTEM_TIMEOUT)
+                    mActiveSysId = packet.sysid;
+            }
+        }
+        return packet.sysid == mActiveSysId;
+    }
+
+    /**
+     * Returns the state of the system.
+     * 
+     * @param sysId the system id
+     * @return the state, null if the system hasn't been heard yet
+     */
+    public SystemState getSystem(int sysId) {
+        return mSystems[sysId & 0xFF];
+    }
+
+    /**
+     * Returns the id of the active system, the one feeding the {@link Vehicle}.
+     * 
+     * @return the system id, -1 while there's none
+     */
+    public int getActiveSysId() {
+        return mActiveSysId;
+    }
+
+    /**
+     * Forget all the systems. Needs to be called on the {@link TelemetryThread}.
+     */
+    public void clear() {
+        Arrays.fill(mSystems, null);
+        mActiveSysId = -1;
+    }
+}
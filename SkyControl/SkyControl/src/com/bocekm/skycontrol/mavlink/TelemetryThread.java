@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.mavlink;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+
+import com.bocekm.skycontrol.SkyControlApp;
+
+/**
+ * {@link TelemetryThread} is a singleton thread living from the start of the application till the
+ * end. The MavLink messages received from the vehicle are decoded on it, it updates the vehicle
+ * state and runs the collision avoidance, so the UI thread is not loaded by every received
+ * message. Listeners interested in the results are notified on the UI thread in batches.
+ *
+ * The thread needs to be initialized from {@link SkyControlApp} before the other singletons.
+ */
+public class TelemetryThread extends HandlerThread {
+
+    /** This {@link TelemetryThread} class instance. */
+    private static TelemetryThread sTelemetryThread;
+
+    /** Handler of the thread message queue. */
+    private final Handler mHandler;
+
+    /**
+     * Constructor of {@link TelemetryThread} class (private because it's a singleton). Starts the
+     * thread right away.
+     */
+    private TelemetryThread() {
+        super("TelemetryThread", Process.THREAD_PRIORITY_DISPLAY);
+        start();
+        mHandler = new Handler(getLooper());
+    }
+
+    /**
+     * Instantiates and starts new {@link TelemetryThread} only if it wasn't instantiated before,
+     * because it's singleton so just one instance exists per running app.
+     *
+     * @return instance of the {@link TelemetryThread} singleton
+     */
+    public static TelemetryThread init() {
+        if (sTelemetryThread == null)
+            sTelemetryThread = new TelemetryThread();
+        return sTelemetryThread;
+    }
+
+    /**
+     * Returns the only instance of {@link TelemetryThread} singleton.
+     *
+     * @return reference to {@link TelemetryThread} singleton instance
+     */
+    public static TelemetryThread get() {
+        return sTelemetryThread;
+    }
+
+    /**
+     * Returns the handler running tasks on the telemetry thread.
+     *
+     * @return handler of the telemetry thread
+     */
+    public Handler getHandler() {
+        return mHandler;
+    }
+
+    /**
+     * Check whether the caller runs on the telemetry thread.
+     *
+     * @return true if called from the telemetry thread
+     */
+    public boolean isCurrentThread() {
+        return Looper.myLooper() == getLooper();
+    }
+}
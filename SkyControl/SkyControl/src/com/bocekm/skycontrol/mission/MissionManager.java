@@ -158,6 +158,15 @@ public class MissionManager implements
         }
     }
 
+    /** IDs of the Mavlink messages processed by {@link #handleMessage(MAVLinkMessage)}. */
+    public static final int[] HANDLED_MSG_IDS = {
+            msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT,
+            msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM,
+            msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST,
+            msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK,
+            msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT
+    };
+
     /**
      * Tries to process a Mavlink message if it is a mission related one.
      * 
@@ -342,7 +351,7 @@ public class MissionManager implements
     private void sendMissionItem(int writeMissionItemSeq) {
         try {
             Connection.get().getMavLinkClient()
-                    .sendMavPacket(mMissionItemMsgs.get(writeMissionItemSeq).pack());
+                    .sendMavMessage(mMissionItemMsgs.get(writeMissionItemSeq));
         } catch (IndexOutOfBoundsException e) {
             logError("Requested mission item is out of bounds");
             return;
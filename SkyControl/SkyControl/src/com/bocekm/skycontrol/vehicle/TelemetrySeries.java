@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.vehicle;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
+
+/**
+ * The {@link TelemetrySeries} keeps the history of one telemetry channel, e.g. the altitude, in
+ * fixed-capacity rings of primitive values. Tier 0 holds the raw samples, each further tier holds
+ * the min/max/mean of the samples falling into buckets of a fixed duration, so a long history is
+ * kept in little memory and a trend of any span can be drawn from a bounded number of points. A
+ * bucket becomes readable once its duration has passed. The mean of a periodic channel, e.g. an
+ * angle, is averaged as a direction, so a bucket straddling the wrap doesn't average to the
+ * opposite direction; its min/max stay the plain extremes of the samples.
+ * 
+ * Samples are added by a single writer, the {@link TelemetryThread}, which never waits. Readers
+ * on any thread copy the entries into their own arrays, neither locking nor allocating. The
+ * writer doesn't wait for the readers either, so a reader lagging a whole ring behind the writer
+ * gets just the entries which haven't been overwritten meanwhile.
+ */
+public class TelemetrySeries {
+
+    /**
+     * One ring of entries. Times are in ms, values are stored as the raw bits of doubles. The
+     * atomic arrays give the plain long arrays ordered access: the writer fills the slot before
+     * it publishes the new count, a reader copies the slots before it checks the count again, so
+     * it can tell which of the copied slots may have been overwritten meanwhile.
+     */
+    private static class Ring {
+
+        /** Bucket duration in ms, 0 for the raw samples. */
+        final long mBucketMillis;
+
+        /** Period of the values averaged as a direction, 0 for the plain mean. */
+        final double mPeriod;
+
+        final int mMask;
+
+        final AtomicLongArray mTimes;
+
+        final AtomicLongArray mMeans;
+
+        /** Minimums of the buckets, null for the raw samples. */
+        final AtomicLongArray mMins;
+
+        /** Maximums of the buckets, null for the raw samples. */
+        final AtomicLongArray mMaxs;
+
+        /** Number of entries ever written. */
+        volatile long mCount;
+
+        /** Index of the first entry not cleared. */
+        volatile long mFirst;
+
+        // Bucket being aggregated, accessed by the writer only
+
+        long mBucketStart = -1;
+
+        double mBucketMin;
+
+        double mBucketMax;
+
+        double mBucketSum;
+
+        /** Sums of the sines and cosines of the samples of a periodic channel. */
+        double mBucketSin;
+
+        double mBucketCos;
+
+        int mBucketSamples;
+
+        Ring(int capacity, long bucketMillis, double period) {
+            int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+            mBucketMillis = bucketMillis;
+            mPeriod = period;
+            mMask = size - 1;
+            mTimes = new AtomicLongArray(size);
+            mMeans = new AtomicLongArray(size);
+            mMins = bucketMillis > 0 ? new AtomicLongArray(size) : null;
+            mMaxs = bucketMillis > 0 ? new AtomicLongArray(size) : null;
+        }
+
+        /**
+         * Append an entry, called by the writer.
+         */
+        void append(long time, double min, double max, double mean) {
+            long index = mCount;
+            int slot = (int) index & mMask;
+            mTimes.lazySet(slot, time);
+            mMeans.lazySet(slot, Double.doubleToRawLongBits(mean));
+            if (mMins != null) {
+                mMins.lazySet(slot, Double.doubleToRawLongBits(min));
+                mMaxs.lazySet(slot, Double.doubleToRawLongBits(max));
+            }
+            // Publishes the entry to the readers
+            mCount = index + 1;
+        }
+
+        /**
+         * Add the sample to the bucket being aggregated, the finished bucket is appended.
+         */
+        void aggregate(long time, double value) {
+            long bucketStart = time - time % mBucketMillis;
+            if (bucketStart != mBucketStart) {
+                if (mBucketSamples > 0)
+                    append(mBucketStart, mBucketMin, mBucketMax, bucketMean());
+                mBucketStart = bucketStart;
+                mBucketMin = value;
+                mBucketMax = value;
+                mBucketSum = 0;
+                mBucketSin = 0;
+                mBucketCos = 0;
+                mBucketSamples = 0;
+            }
+            mBucketMin = Math.min(mBucketMin, value);
+            mBucketMax = Math.max(mBucketMax, value);
+            if (mPeriod > 0) {
+                double angle = value * 2 * Math.PI / mPeriod;
+                mBucketSin += Math.sin(angle);
+                mBucketCos += Math.cos(angle);
+            } else {
+                mBucketSum += value;
+            }
+            mBucketSamples++;
+        }
+
+        /**
+         * Mean of the bucket being aggregated, the mean direction for a periodic channel.
+         */
+        double bucketMean() {
+            if (mPeriod > 0)
+                return Math.atan2(mBucketSin, mBucketCos) * mPeriod / (2 * Math.PI);
+            return mBucketSum / mBucketSamples;
+        }
+
+        /**
+         * Index of the oldest entry which is surely not being overwritten, given the count.
+         */
+        long oldestIndex(long count) {
+            // The slot of the entry at count is being written, overwriting one more entry
+            return Math.max(mFirst, count - mMask);
+        }
+    }
+
+    /** Rings of the tiers, the raw samples first. */
+    private final Ring[] mTiers;
+
+    /** Time of the latest sample in ms, -1 if there's none. */
+    private volatile long mLatestTime = -1;
+
+    /** The latest sample. */
+    private volatile double mLatestValue;
+
+    /**
+     * Instantiates a new {@link TelemetrySeries} object.
+     * 
+     * @param rawCapacity number of the raw samples kept, rounded up to a power of two
+     * @param tierCapacity number of the buckets kept by each downsampling tier, rounded up to a
+     *        power of two
+     * @param bucketMillis bucket durations of the downsampling tiers in ms, in ascending order
+     */
+    public TelemetrySeries(int rawCapacity, int tierCapacity, long... bucketMillis) {
+        this(rawCapacity, tierCapacity, bucketMillis, 0);
+    }
+
+    /**
+     * Instantiates a new {@link TelemetrySeries} object of a periodic channel, e.g. an angle. The
+     * means of the buckets are averaged as directions, they fall into the range from -period/2 to
+     * period/2.
+     * 
+     * @param rawCapacity number of the raw samples kept, rounded up to a power of two
+     * @param tierCapacity number of the buckets kept by each downsampling tier, rounded up to a
+     *        power of two
+     * @param bucketMillis bucket durations of the downsampling tiers in ms, in ascending order
+     * @param period period of the values, e.g. 2 * PI for an angle in radians, 0 for a channel
+     *        which isn't periodic
+     */
+    public TelemetrySeries(int rawCapacity, int tierCapacity, long[] bucketMillis, double period) {
+        if (period < 0)
+            throw new IllegalArgumentException("Period must not be negative");
+        mTiers = new Ring[bucketMillis.length + 1];
+        mTiers[0] = new Ring(rawCapacity, 0, 0);
+        for (int i = 0; i < bucketMillis.length; i++) {
+            if (bucketMillis[i] <= 0)
+                throw new IllegalArgumentException("Bucket duration must be positive");
+            mTiers[i + 1] = new Ring(tierCapacity, bucketMillis[i], period);
+        }
+    }
+
+    /**
+     * Add a sample. Called by the writer only, times need to be non-decreasing.
+     * 
+     * @param time time of the sample in ms
+     * @param value the sample
+     */
+    public void add(long time, double value) {
+        mTiers[0].append(time, value, value, value);
+        for (int i = 1; i < mTiers.length; i++)
+            mTiers[i].aggregate(time, value);
+        mLatestValue = value;
+        mLatestTime = time;
+    }
+
+    /**
+     * Forget all the samples. Called by the writer only.
+     */
+    public void clear() {
+        mLatestTime = -1;
+        for (Ring ring : mTiers) {
+            ring.mFirst = ring.mCount;
+            ring.mBucketStart = -1;
+            ring.mBucketSamples = 0;
+        }
+    }
+
+    /**
+     * Returns the number of tiers, the raw samples included.
+     * 
+     * @return the number of tiers
+     */
+    public int getTierCount() {
+        return mTiers.length;
+    }
+
+    /**
+     * Returns the bucket duration of the tier.
+     * 
+     * @param tier index of the tier
+     * @return bucket duration in ms, 0 for the raw samples
+     */
+    public long getBucketMillis(int tier) {
+        return mTiers[tier].mBucketMillis;
+    }
+
+    /**
+     * Returns the finest tier able to cover the time span with at most the given number of
+     * entries, e.g. to fill a trend display with one entry per pixel.
+     * 
+     * @param spanMillis the time span in ms
+     * @param maxEntries maximum number of entries
+     * @return index of the tier, the coarsest one if none is coarse enough
+     */
+    public int selectTier(long spanMillis, int maxEntries) {
+        Ring raw = mTiers[0];
+        long count = raw.mCount;
+        long oldest = raw.oldestIndex(count);
+        if (count == oldest)
+            return 0;
+        long spanStart = mLatestTime - spanMillis;
+        // The raw samples cover the span if they reach back to its start, or if none of them has
+        // been overwritten yet
+        boolean covered =
+                oldest == raw.mFirst || raw.mTimes.get((int) oldest & raw.mMask) <= spanStart;
+        // They come at an unknown rate, they're chosen if no more than maxEntries of them fall
+        // into the span
+        long index = count - maxEntries - 1;
+        if (covered
+                && (index < oldest || raw.mTimes.get((int) index & raw.mMask) < spanStart))
+            return 0;
+        for (int i = 1; i < mTiers.length; i++) {
+            if (spanMillis / mTiers[i].mBucketMillis <= maxEntries)
+                return i;
+        }
+        return mTiers.length - 1;
+    }
+
+    /**
+     * Copies the entries of the tier with the time in the range, oldest first. Any of the value
+     * arrays may be null, the raw samples have the same min, max and mean. At most as many entries
+     * are copied as fit in the shortest of the arrays given.
+     * 
+     * @param tier index of the tier
+     * @param fromTime start of the range in ms, inclusive
+     * @param toTime end of the range in ms, inclusive
+     * @param times receives times of the entries, the start for the buckets
+     * @param mins receives the minimums, may be null
+     * @param maxs receives the maximums, may be null
+     * @param means receives the means, may be null
+     * @return number of entries copied
+     */
+    public int read(int tier, long fromTime, long toTime, long[] times, double[] mins,
+            double[] maxs, double[] means) {
+        Ring ring = mTiers[tier];
+        int limit = times.length;
+        if (mins != null)
+            limit = Math.min(limit, mins.length);
+        if (maxs != null)
+            limit = Math.min(limit, maxs.length);
+        if (means != null)
+            limit = Math.min(limit, means.length);
+
+        long count = ring.mCount;
+        // Binary search of the first entry not older than the range
+        long low = ring.oldestIndex(count);
+        long high = count;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (ring.mTimes.get((int) mid & ring.mMask) < fromTime)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        long first = low;
+        int copied = 0;
+        for (long index = first; index < count && copied < limit; index++) {
+            int slot = (int) index & ring.mMask;
+            long time = ring.mTimes.get(slot);
+            if (time > toTime)
+                break;
+            times[copied] = time;
+            double mean = Double.longBitsToDouble(ring.mMeans.get(slot));
+            if (means != null)
+                means[copied] = mean;
+            if (mins != null)
+                mins[copied] =
+                        ring.mMins != null ? Double.longBitsToDouble(ring.mMins.get(slot)) : mean;
+            if (maxs != null)
+                maxs[copied] =
+                        ring.mMaxs != null ? Double.longBitsToDouble(ring.mMaxs.get(slot)) : mean;
+            copied++;
+        }
+
+        // Drop the entries the writer may have overwritten while they were being copied
+        long oldest = ring.oldestIndex(ring.mCount);
+        int overwritten = (int) Math.min(copied, Math.max(0, oldest - first));
+        if (overwritten > 0) {
+            copied -= overwritten;
+            System.arraycopy(times, overwritten, times, 0, copied);
+            if (mins != null)
+                System.arraycopy(mins, overwritten, mins, 0, copied);
+            if (maxs != null)
+                System.arraycopy(maxs, overwritten, maxs, 0, copied);
+            if (means != null)
+                System.arraycopy(means, overwritten, means, 0, copied);
+        }
+        return copied;
+    }
+
+    /**
+     * Returns the time of the latest sample.
+     * 
+     * @return time in ms, -1 if there's no sample
+     */
+    public long getLatestTime() {
+        return mLatestTime;
+    }
+
+    /**
+     * Returns the latest sample. Check {@link #getLatestTime()} first to see whether there's any.
+     * 
+     * @return the latest sample
+     */
+    public double getLatestValue() {
+        return mLatestValue;
+    }
+}
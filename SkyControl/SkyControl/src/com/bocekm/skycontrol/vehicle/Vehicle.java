@@ -53,6 +53,12 @@ public class Vehicle {
     /** The Vehicle parameters. */
     private VehicleParameters mVehicleParameters;
 
+    /** The Vehicle telemetry history. */
+    private VehicleHistory mVehicleHistory;
+
+    /** Publisher of the consistent snapshots of the Vehicle state. */
+    private VehicleSnapshotPublisher mVehicleSnapshotPublisher;
+
     /**
      * Constructor of Vehicle class (private because it's a singleton).
      */
@@ -67,6 +73,8 @@ public class Vehicle {
         mVehicleSpeed = new VehicleSpeed(mVehicleEvents);
         mVehicleAltitude = new VehicleAltitude();
         mVehicleParameters = new VehicleParameters(mVehicleEvents);
+        mVehicleHistory = new VehicleHistory();
+        mVehicleSnapshotPublisher = new VehicleSnapshotPublisher(mVehicleEvents);
     }
 
     /**
@@ -129,4 +137,21 @@ public class Vehicle {
     public VehicleParameters getVehicleParameters() {
         return mVehicleParameters;
     }
+
+    public VehicleHistory getHistory() {
+        return mVehicleHistory;
+    }
+
+    public VehicleSnapshotPublisher getSnapshotPublisher() {
+        return mVehicleSnapshotPublisher;
+    }
+
+    /**
+     * Returns the latest consistent snapshot of the vehicle state. May be called from any thread.
+     * 
+     * @return the snapshot
+     */
+    public VehicleSnapshot getSnapshot() {
+        return mVehicleSnapshotPublisher.getSnapshot();
+    }
 }
@@ -23,13 +23,15 @@ import com.bocekm.skycontrol.SkyControlApp;
 import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
 
 /**
- * Keeps the information about the connected vehicle altitude in meters.
+ * Keeps the information about the connected vehicle altitude in meters. Only the latest received
+ * value is kept, it's received along with the speed so the change is announced by
+ * {@link VehicleSpeed} as {@link VehicleEvent#SPEED_ALTITUDE}.
  */
 public class VehicleAltitude extends VehicleProperty implements
         OnSharedPreferenceChangeListener {
 
     /** The Altitude. */
-    private float mAltitude = 0.0f;
+    private volatile float mAltitude = 0.0f;
 
     /** Whether to return fake altitude. */
     private boolean mUseFakeAltitude;
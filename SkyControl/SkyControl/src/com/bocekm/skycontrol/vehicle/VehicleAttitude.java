@@ -13,23 +13,25 @@
  */
 package com.bocekm.skycontrol.vehicle;
 
-import com.MAVLink.Messages.ardupilotmega.msg_attitude;
+import com.MAVLink.Messages.ardupilotmega.views.AttitudeView;
 import com.bocekm.skycontrol.SkyControlUtils;
 import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
 
 /**
  * Keeps the information about the orientation of an vehicle's axes. All values are in radians.
+ * Only the latest received values are kept, they're written on the telemetry thread while the UI
+ * reads them once per frame on the {@link VehicleEvent#ATTITUDE} event.
  */
 public class VehicleAttitude extends VehicleProperty {
 
     /** The roll in radians. */
-    private float mRoll = 0.0f;
+    private volatile float mRoll = 0.0f;
 
     /** The pitch in radians. */
-    private float mPitch = 0.0f;
+    private volatile float mPitch = 0.0f;
 
     /** The yaw in radians. */
-    private float mYaw = 0.0f;
+    private volatile float mYaw = 0.0f;
 
     /** Instance of class handling the changes happening to the vehicle. */
     private VehicleEvents mEvents;
@@ -46,10 +48,10 @@ public class VehicleAttitude extends VehicleProperty {
     /**
      * On attitude MavLink message received. Sets attitude parameters to the local variables.
      * 
-     * @param msg attitude MavLink message
+     * @param msg view of the attitude MavLink packet
      */
-    public void onAttitudeReceived(msg_attitude msg) {
-        setRollPitchYaw(msg.roll, msg.pitch, msg.yaw);
+    public void onAttitudeReceived(AttitudeView msg) {
+        setRollPitchYaw(msg.getRoll(), msg.getPitch(), msg.getYaw());
     }
 
     /**
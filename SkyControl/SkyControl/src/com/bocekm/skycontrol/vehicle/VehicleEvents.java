@@ -13,14 +13,24 @@
  */
 package com.bocekm.skycontrol.vehicle;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.bocekm.skycontrol.EventBatcher;
+import com.bocekm.skycontrol.EventBatcher.BatchListener;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 
 /**
  * Registers listeners to the vehicle events and handles sending notification to the registered
- * listeners.
+ * listeners. Events are fired mostly on the {@link TelemetryThread} as the vehicle state gets
+ * updated there. Listeners added by {@link #addVehicleListener(VehicleListener)} are notified on
+ * the UI thread, events fired meanwhile are delivered together in one batch per display frame, so
+ * high rate events like {@link VehicleEvent#ATTITUDE} reach the UI at most once per frame.
+ * Listeners added by {@link #addTelemetryListener(VehicleListener)} are notified right away on the
+ * thread firing the event.
  */
-public class VehicleEvents {
+public class VehicleEvents implements
+        BatchListener {
 
     /**
      * Events related to changes to the connected vehicle parameters.
@@ -54,7 +64,9 @@ public class VehicleEvents {
         /** Periodic heartbeat received. */
         HEARTBEAT_PERIODIC,
         /** Heartbeat of a new vehicle received. */
-        VEHICLE_CONNECTED
+        VEHICLE_CONNECTED,
+        /** New consistent snapshot of the vehicle state published. */
+        SNAPSHOT
     }
 
     /**
@@ -77,8 +89,18 @@ public class VehicleEvents {
         public void onVehicleEvent(VehicleEvent event);
     }
 
-    /** Registered listeners to the {@link VehicleEvent}s. */
-    private List<VehicleListener> vehicleListeners = new ArrayList<VehicleListener>();
+    /** All the {@link VehicleEvent}s, indexed by ordinal. */
+    private static final VehicleEvent[] EVENTS = VehicleEvent.values();
+
+    /** Registered listeners to the {@link VehicleEvent}s, notified on the UI thread. */
+    private List<VehicleListener> vehicleListeners = new CopyOnWriteArrayList<VehicleListener>();
+
+    /** Registered listeners to the {@link VehicleEvent}s, notified on the thread firing the event. */
+    private List<VehicleListener> telemetryListeners =
+            new CopyOnWriteArrayList<VehicleListener>();
+
+    /** Passes the events fired on the background thread to the UI thread. */
+    private final EventBatcher mBatcher = new EventBatcher(this);
 
     /**
      * Adds listener to the {@link VehicleEvent}s.
@@ -102,15 +124,80 @@ public class VehicleEvents {
     }
 
     /**
-     * Calling this method results in dispatching an event to all the registered listeners.
+     * Adds listener to the {@link VehicleEvent}s which gets notified on the thread firing the
+     * event, usually the {@link TelemetryThread}. Meant for listeners which need to process every
+     * single event, the listener must not touch the UI.
+     * 
+     * @param listener object implementing the VehicleListener
+     */
+    public void addTelemetryListener(VehicleListener listener) {
+        if (listener != null && !telemetryListeners.contains(listener))
+            telemetryListeners.add(listener);
+    }
+
+    /**
+     * Removes the registered telemetry listener.
+     * 
+     * @param listener object implementing the VehicleListener to be removed from the list of
+     *        telemetry listeners
+     */
+    public void removeTelemetryListener(VehicleListener listener) {
+        if (listener != null)
+            telemetryListeners.remove(listener);
+    }
+
+    /**
+     * Calling this method results in dispatching an event to all the registered listeners. May be
+     * called from any thread.
      * 
      * @param event the event to be dispatched
      */
     public void onVehicleEvent(VehicleEvent event) {
-        if (vehicleListeners.size() > 0) {
-            for (VehicleListener listener : vehicleListeners) {
-                listener.onVehicleEvent(event);
-            }
+        for (VehicleListener listener : telemetryListeners) {
+            listener.onVehicleEvent(event);
+        }
+
+        if (EventBatcher.isMainThread()) {
+            dispatchEvent(event);
+            return;
+        }
+        // Heartbeat lost and restored cancel each other out, just the latest one is delivered
+        VehicleEvent opposite = null;
+        switch (event) {
+            case HEARTBEAT_TIMEOUT:
+                opposite = VehicleEvent.HEARTBEAT_RESTORED;
+                break;
+            case HEARTBEAT_RESTORED:
+                opposite = VehicleEvent.HEARTBEAT_TIMEOUT;
+                break;
+            default:
+                break;
+        }
+        mBatcher.add(1 << event.ordinal(), opposite != null ? 1 << opposite.ordinal() : 0);
+    }
+
+    /*
+     * (non-Javadoc) Dispatches the batch of events fired on the background thread, on the UI
+     * thread.
+     * 
+     * @see com.bocekm.skycontrol.EventBatcher.BatchListener#onEventBatch(int)
+     */
+    @Override
+    public void onEventBatch(int events) {
+        for (VehicleEvent event : EVENTS) {
+            if ((events & (1 << event.ordinal())) != 0)
+                dispatchEvent(event);
+        }
+    }
+
+    /**
+     * Dispatch the event to the listeners notified on the UI thread.
+     * 
+     * @param event the event to be dispatched
+     */
+    private void dispatchEvent(VehicleEvent event) {
+        for (VehicleListener listener : vehicleListeners) {
+            listener.onVehicleEvent(event);
         }
     }
 }
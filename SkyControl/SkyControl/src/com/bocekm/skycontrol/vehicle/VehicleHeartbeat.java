@@ -17,10 +17,13 @@ import android.os.Handler;
 
 import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
 import com.MAVLink.Messages.enums.MAV_TYPE;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
 
 /**
- * The {@link VehicleHeartbeat} handles the heartbeat messages coming from vehicle.
+ * The {@link VehicleHeartbeat} handles the heartbeat messages coming from vehicle. The heartbeat
+ * state is changed on the {@link TelemetryThread}, by the messages and by the watchdog, and read
+ * from the UI.
  */
 public class VehicleHeartbeat extends VehicleProperty {
 
@@ -43,13 +46,16 @@ public class VehicleHeartbeat extends VehicleProperty {
     private VehicleEvents mEvents;
 
     /** State of the heartbeat messaging. */
-    private HeartbeatState mHeartbeatState = HeartbeatState.NO_HEARTBEAT_YET;
+    private volatile HeartbeatState mHeartbeatState = HeartbeatState.NO_HEARTBEAT_YET;
 
     /** System id of the vehicle which sent the heartbeat message. */
-    private int mVehicleSysId = -1;
+    private volatile int mVehicleSysId = -1;
 
-    /** Watchdog timer is implemented as a delayed Handler. */
-    private final Handler mWatchdog = new Handler();
+    /**
+     * Watchdog timer is implemented as a delayed Handler. Runs on the {@link TelemetryThread} along
+     * with the heartbeat handling.
+     */
+    private final Handler mWatchdog = new Handler(TelemetryThread.get().getLooper());
 
     /** Task to be run when watchdog timer times out. */
     private final Runnable mWatchdogCallback = new Runnable() {
@@ -79,9 +85,9 @@ public class VehicleHeartbeat extends VehicleProperty {
             return;
 
         if (mVehicleSysId != msg.sysid) {
-            // Notify listeners when new vehicle gets connected.
-            // Right now the app supports just one connected vehicle so when another vehicle
-            // interferes a lot of things can get messed up.
+            // Notify listeners when new vehicle gets connected. Only the messages of the active
+            // system get here, which changes only after the previous vehicle has been lost, see
+            // MavLinkSystems.
             mVehicleSysId = msg.sysid;
             mEvents.onVehicleEvent(VehicleEvent.VEHICLE_CONNECTED);
         }
@@ -127,10 +133,20 @@ public class VehicleHeartbeat extends VehicleProperty {
         mWatchdog.postDelayed(mWatchdogCallback, timeout);
     }
 
+    /**
+     * Returns the system id of the connected vehicle. May be called from any thread.
+     * 
+     * @return the system id, -1 if no vehicle is connected
+     */
     public int getVehicleSysId() {
         return mVehicleSysId;
     }
-    
+
+    /**
+     * Returns the state of the heartbeat messaging. May be called from any thread.
+     * 
+     * @return the heartbeat state
+     */
     public HeartbeatState getHeartbeatState() {
         return mHeartbeatState;
     }
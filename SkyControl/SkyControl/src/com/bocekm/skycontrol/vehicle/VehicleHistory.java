@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.vehicle;
+
+import android.os.SystemClock;
+
+import com.MAVLink.Messages.ardupilotmega.msg_vfr_hud;
+import com.MAVLink.Messages.ardupilotmega.views.AttitudeView;
+import com.MAVLink.Messages.ardupilotmega.views.GlobalPositionIntView;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
+
+/**
+ * Keeps the history of the vehicle telemetry, one {@link TelemetrySeries} per {@link Channel}. The
+ * other vehicle properties keep only the latest values, anything needing the trend of a value
+ * reads it from here. Samples are added on the {@link TelemetryThread} as the messages arrive,
+ * timed by {@link SystemClock#elapsedRealtime()}, the history may be read from any thread.
+ */
+public class VehicleHistory extends VehicleProperty {
+
+    /**
+     * The telemetry channels with history.
+     */
+    public enum Channel {
+        /** AMSL altitude in meters. */
+        ALTITUDE,
+        /** Climb rate in m/s. */
+        VERTICAL_SPEED,
+        /** Groundspeed in m/s. */
+        GROUNDSPEED,
+        /** Airspeed in m/s. */
+        AIRSPEED,
+        /** Roll in radians. */
+        ROLL,
+        /** Pitch in radians. */
+        PITCH,
+        /** Yaw in radians, its buckets average the direction. */
+        YAW,
+        /** Latitude in degrees. */
+        LATITUDE,
+        /** Longitude in degrees. */
+        LONGITUDE
+    }
+
+    /** All the {@link Channel}s, indexed by ordinal. */
+    private static final Channel[] CHANNELS = Channel.values();
+
+    /** Number of the raw samples kept per channel, a couple of minutes at usual stream rates. */
+    private static final int RAW_CAPACITY = 1024;
+
+    /** Number of the buckets kept by each downsampling tier. */
+    private static final int TIER_CAPACITY = 512;
+
+    /** Bucket durations of the downsampling tiers in ms, the last one spans hours. */
+    private static final long[] TIER_BUCKET_MILLIS = {
+            1000, 10000, 60000
+    };
+
+    /** The series of the channels, indexed by ordinal. */
+    private final TelemetrySeries[] mSeries = new TelemetrySeries[CHANNELS.length];
+
+    /**
+     * Instantiates a new {@link VehicleHistory} object.
+     */
+    public VehicleHistory() {
+        for (int i = 0; i < mSeries.length; i++) {
+            // The yaw wraps at +-PI, averaging it plainly would turn the south into the north
+            double period = CHANNELS[i] == Channel.YAW ? 2 * Math.PI : 0;
+            mSeries[i] =
+                    new TelemetrySeries(RAW_CAPACITY, TIER_CAPACITY, TIER_BUCKET_MILLIS, period);
+        }
+    }
+
+    /**
+     * Returns the history of the channel.
+     * 
+     * @param channel the channel
+     * @return the series of the channel
+     */
+    public TelemetrySeries getSeries(Channel channel) {
+        return mSeries[channel.ordinal()];
+    }
+
+    /**
+     * Records the attitude.
+     * 
+     * @param msg view of the attitude MavLink packet
+     */
+    public void onAttitudeReceived(AttitudeView msg) {
+        long now = SystemClock.elapsedRealtime();
+        getSeries(Channel.ROLL).add(now, msg.getRoll());
+        getSeries(Channel.PITCH).add(now, msg.getPitch());
+        getSeries(Channel.YAW).add(now, msg.getYaw());
+    }
+
+    /**
+     * Records the altitude and speeds.
+     * 
+     * @param msg VFR_HUD MavLink message
+     */
+    public void onVfrHudReceived(msg_vfr_hud msg) {
+        long now = SystemClock.elapsedRealtime();
+        getSeries(Channel.ALTITUDE).add(now, msg.alt);
+        getSeries(Channel.VERTICAL_SPEED).add(now, msg.climb);
+        getSeries(Channel.GROUNDSPEED).add(now, msg.groundspeed);
+        getSeries(Channel.AIRSPEED).add(now, msg.airspeed);
+    }
+
+    /**
+     * Records the position.
+     * 
+     * @param msg view of the global position MavLink packet
+     */
+    public void onPositionReceived(GlobalPositionIntView msg) {
+        long now = SystemClock.elapsedRealtime();
+        getSeries(Channel.LATITUDE).add(now, msg.getLat() / 1E7);
+        getSeries(Channel.LONGITUDE).add(now, msg.getLon() / 1E7);
+    }
+
+    /*
+     * (non-Javadoc) Forgets the history of the disconnected vehicle, on the telemetry thread.
+     * 
+     * @see com.bocekm.skycontrol.vehicle.VehicleProperty#setDefaultValues()
+     */
+    @Override
+    protected void setDefaultValues() {
+        for (TelemetrySeries series : mSeries)
+            series.clear();
+    }
+}
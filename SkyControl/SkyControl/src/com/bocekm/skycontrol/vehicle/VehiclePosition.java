@@ -17,11 +17,12 @@ import android.content.SharedPreferences;
 import android.content.SharedPreferences.OnSharedPreferenceChangeListener;
 import android.preference.PreferenceManager;
 
-import com.MAVLink.Messages.ardupilotmega.msg_global_position_int;
 import com.MAVLink.Messages.ardupilotmega.msg_gps_raw_int;
+import com.MAVLink.Messages.ardupilotmega.views.GlobalPositionIntView;
 import com.bocekm.skycontrol.PreferencesFragment;
 import com.bocekm.skycontrol.SkyControlApp;
 import com.bocekm.skycontrol.SkyControlUtils;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 import com.bocekm.skycontrol.mission.FlightDirector.FdState;
 import com.bocekm.skycontrol.mission.Mission;
 import com.bocekm.skycontrol.mission.MissionItemList;
@@ -32,6 +33,8 @@ import com.google.android.gms.maps.model.LatLng;
 
 /**
  * Keeps the information about the global position of the connected vehicle and GPS parameters.
+ * The values are written on the {@link TelemetryThread} and kept in volatile fields, so the UI
+ * may poll the getters. The fake position is set on the UI thread.
  */
 public class VehiclePosition extends VehicleProperty implements
         OnSharedPreferenceChangeListener {
@@ -48,22 +51,22 @@ public class VehiclePosition extends VehicleProperty implements
     }
 
     /** Number of visible satellites. */
-    private int mSatCount = -1;
+    private volatile int mSatCount = -1;
 
     /** One of the values: no fix/2D fix/3D fix. */
-    private FixType mFixType = FixType.NO_FIX;
+    private volatile FixType mFixType = FixType.NO_FIX;
 
     /** The global position of the vehicle. */
-    private LatLng mPosition = null;
+    private volatile LatLng mPosition = null;
 
     /** Instance of class handling the changes happening to the vehicle. */
     private VehicleEvents mEvents;
 
     /** Whether to return fake position when asked for vehicle GPS position. */
-    private boolean mUseFakeGps;
+    private volatile boolean mUseFakeGps;
 
     /** Fake GPS position of vehicle based on last received device location. */
-    private LatLng mFakePosition = null;
+    private volatile LatLng mFakePosition = null;
 
     /**
      * Radius for which proximity to mission waypoints will be checked when fake position is
@@ -86,11 +89,12 @@ public class VehiclePosition extends VehicleProperty implements
     }
 
     /**
-     * Checks validity of global position of the vehicle.
+     * Checks validity of global position received from the vehicle. May be called from any
+     * thread.
      * 
      * @return true, if is the global position valid
      */
-    private boolean isPositionValid() {
+    public boolean isPositionValid() {
         return (mPosition != null);
     }
 
@@ -114,7 +118,8 @@ public class VehiclePosition extends VehicleProperty implements
     }
 
     /**
-     * Returns the global position of the vehicle.
+     * Returns the global position of the vehicle. May be called from any thread, the position is
+     * replaced as a whole on the {@link TelemetryThread}.
      * 
      * @return the global position. If no valid position is available, (0,0) position is returned.
      */
@@ -132,10 +137,10 @@ public class VehiclePosition extends VehicleProperty implements
      * Saves new global position. Listeners to {@link VehicleEvent} are then notified that new
      * position has been received.
      * 
-     * @param msg global position MavLink message
+     * @param msg view of the global position MavLink packet
      */
-    public void onPositionReceived(msg_global_position_int msg) {
-        setPosition(new LatLng(msg.lat / 1E7, msg.lon / 1E7));
+    public void onPositionReceived(GlobalPositionIntView msg) {
+        setPosition(new LatLng(msg.getLat() / 1E7, msg.getLon() / 1E7));
     }
 
     /**
@@ -149,7 +154,7 @@ public class VehiclePosition extends VehicleProperty implements
     }
 
     /**
-     * Gets number of visible satellites.
+     * Gets number of visible satellites. May be called from any thread.
      * 
      * @return number of visible satellites. Returns -1 if no state of GPS received from vehicle
      *         yet.
@@ -159,7 +164,7 @@ public class VehiclePosition extends VehicleProperty implements
     }
 
     /**
-     * Gets GPS fix type.
+     * Gets GPS fix type. May be called from any thread.
      * 
      * @return GPS fix type, one of the {@link FixType} enum items
      */
@@ -280,6 +285,12 @@ public class VehiclePosition extends VehicleProperty implements
         }
     }
 
+    /**
+     * Returns the fake position, updated on the {@link TelemetryThread} and set on the UI thread.
+     * May be called from any thread.
+     * 
+     * @return the fake position of the vehicle
+     */
     public LatLng getFakePosition() {
         return mFakePosition;
     }
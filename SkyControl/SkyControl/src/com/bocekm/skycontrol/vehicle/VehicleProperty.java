@@ -17,15 +17,25 @@ import com.bocekm.skycontrol.connection.Connection;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionEvent;
 import com.bocekm.skycontrol.connection.ConnectionEvents.ConnectionListener;
 import com.bocekm.skycontrol.mavlink.MavLinkService;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 
 /**
  * Vehicle property superclass which calls {@link VehicleProperty#setDefaultValues()} when
  * {@link MavLinkService} is unbound so the classes representing properties of connected vehicle can
- * set themselves to state when no vehicle is connected.
+ * set themselves to state when no vehicle is connected. The vehicle properties are updated on the
+ * {@link TelemetryThread}, so are the default values set.
  */
 public abstract class VehicleProperty implements
         ConnectionListener {
 
+    /** Sets the default values on the {@link TelemetryThread}. */
+    private final Runnable mSetDefaultValues = new Runnable() {
+        @Override
+        public void run() {
+            setDefaultValues();
+        }
+    };
+
     /**
      * {@link VehicleProperty} constructor. Registers {@link ConnectionListener} to be able to
      * receive {@link ConnectionEvent#SERVICE_UNBOUND}.
@@ -50,7 +60,7 @@ public abstract class VehicleProperty implements
     public void onConnectionEvent(ConnectionEvent event) {
         switch (event) {
             case SERVICE_UNBOUND:
-                setDefaultValues();
+                TelemetryThread.get().getHandler().post(mSetDefaultValues);
                 break;
             default:
                 break;
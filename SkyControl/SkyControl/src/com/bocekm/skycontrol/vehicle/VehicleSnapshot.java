@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.vehicle;
+
+import android.os.SystemClock;
+
+import com.bocekm.skycontrol.SkyControlUtils;
+import com.google.android.gms.maps.model.LatLng;
+
+/**
+ * Immutable state of the vehicle at the end of a batch of the received messages. The values come
+ * from different messages, each group of them comes with the time its message was received at,
+ * taken by {@link SystemClock#elapsedRealtime()}. The snapshot is published by the
+ * {@link VehicleSnapshotPublisher} and may be passed to and read from any thread.
+ */
+public class VehicleSnapshot {
+
+    /** Snapshot of the state of no vehicle. */
+    static final VehicleSnapshot EMPTY = new VehicleSnapshot(0, null, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+            0);
+
+    private final long mTime;
+    private final LatLng mPosition;
+    private final long mPositionTime;
+    private final float mAltitude;
+    private final float mVerticalSpeed;
+    private final float mGroundspeed;
+    private final float mAirspeed;
+    private final long mSpeedTime;
+    private final float mRoll;
+    private final float mPitch;
+    private final float mYaw;
+    private final long mAttitudeTime;
+    private final int mSequence;
+
+    /**
+     * Instantiates a new {@link VehicleSnapshot} object.
+     * 
+     * @param time time the snapshot was taken at in ms
+     * @param position the position, null if not known
+     * @param positionTime receive time of the position in ms
+     * @param altitude AMSL altitude in meters
+     * @param verticalSpeed climb rate in m/s
+     * @param groundspeed groundspeed in m/s
+     * @param airspeed airspeed in m/s
+     * @param speedTime receive time of the altitude and speeds in ms
+     * @param roll roll in radians
+     * @param pitch pitch in radians
+     * @param yaw yaw in radians
+     * @param attitudeTime receive time of the attitude in ms
+     * @param sequence number of the snapshot, incremented with every snapshot published
+     */
+    VehicleSnapshot(long time, LatLng position, long positionTime, float altitude,
+            float verticalSpeed, float groundspeed, float airspeed, long speedTime, float roll,
+            float pitch, float yaw, long attitudeTime, int sequence) {
+        mTime = time;
+        mPosition = position;
+        mPositionTime = positionTime;
+        mAltitude = altitude;
+        mVerticalSpeed = verticalSpeed;
+        mGroundspeed = groundspeed;
+        mAirspeed = airspeed;
+        mSpeedTime = speedTime;
+        mRoll = roll;
+        mPitch = pitch;
+        mYaw = yaw;
+        mAttitudeTime = attitudeTime;
+        mSequence = sequence;
+    }
+
+    public long getTime() {
+        return mTime;
+    }
+
+    /**
+     * Returns the position of the vehicle.
+     * 
+     * @return the position, null if not known
+     */
+    public LatLng getPosition() {
+        return mPosition;
+    }
+
+    /**
+     * Returns the time the position was received at.
+     * 
+     * @return time in ms, 0 if no position has been received
+     */
+    public long getPositionTime() {
+        return mPositionTime;
+    }
+
+    public float getAltitude() {
+        return mAltitude;
+    }
+
+    public float getVerticalSpeed() {
+        return mVerticalSpeed;
+    }
+
+    public float getGroundspeed() {
+        return mGroundspeed;
+    }
+
+    public float getAirspeed() {
+        return mAirspeed;
+    }
+
+    /**
+     * Returns the time the altitude and speeds were received at.
+     * 
+     * @return time in ms, 0 if no speed has been received
+     */
+    public long getSpeedTime() {
+        return mSpeedTime;
+    }
+
+    public float getRoll() {
+        return mRoll;
+    }
+
+    public float getPitch() {
+        return mPitch;
+    }
+
+    public float getYaw() {
+        return mYaw;
+    }
+
+    /**
+     * Gets the yaw in degrees.
+     * 
+     * @return the yaw in degrees, range <0, 360>
+     */
+    public float getYawInDegrees() {
+        float yawInDeg = (float) SkyControlUtils.radToDeg(mYaw);
+        if (yawInDeg < 0.0)
+            yawInDeg = 360 + yawInDeg;
+        return yawInDeg;
+    }
+
+    /**
+     * Returns the time the attitude was received at.
+     * 
+     * @return time in ms, 0 if no attitude has been received
+     */
+    public long getAttitudeTime() {
+        return mAttitudeTime;
+    }
+
+    /**
+     * Returns the number of the snapshot, telling apart the snapshots published one after another.
+     * 
+     * @return the sequence number
+     */
+    public int getSequence() {
+        return mSequence;
+    }
+}
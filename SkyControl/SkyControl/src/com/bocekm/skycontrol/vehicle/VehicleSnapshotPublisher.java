@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2014, Michal Bocek, All rights reserved
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.bocekm.skycontrol.vehicle;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
+import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
+
+/**
+ * Publishes the {@link VehicleSnapshot}s. The vehicle properties are updated one message at a time
+ * on the {@link TelemetryThread}, so reading them one by one may mix values of different messages,
+ * or values from before and after a message. The messages report the state change here instead, the
+ * publisher then takes the snapshot once all the messages received in one batch have been applied
+ * and publishes it by a single reference write. Readers on any thread get a coherent view without
+ * locking, {@link VehicleEvent#SNAPSHOT} tells them a new one has been published.
+ */
+public class VehicleSnapshotPublisher extends VehicleProperty {
+
+    /** Instance of class handling the changes happening to the vehicle. */
+    private VehicleEvents mEvents;
+
+    /** Handler of the {@link TelemetryThread}. */
+    private final Handler mHandler = TelemetryThread.get().getHandler();
+
+    /** The latest published snapshot. */
+    private volatile VehicleSnapshot mSnapshot = VehicleSnapshot.EMPTY;
+
+    // Accessed on the telemetry thread only
+
+    /** Receive time of the latest position in ms. */
+    private long mPositionTime;
+
+    /** Receive time of the latest altitude and speeds in ms. */
+    private long mSpeedTime;
+
+    /** Receive time of the latest attitude in ms. */
+    private long mAttitudeTime;
+
+    /** Number of the snapshots published. */
+    private int mSequence;
+
+    /** Whether {@link #mPublishTask} has been posted and not run yet. */
+    private boolean mPublishScheduled;
+
+    /**
+     * Publishes the snapshot. Posted behind the task applying the batch of messages, so it runs
+     * once the whole batch has been applied.
+     */
+    private final Runnable mPublishTask = new Runnable() {
+        @Override
+        public void run() {
+            mPublishScheduled = false;
+            publish();
+        }
+    };
+
+    /**
+     * Instantiates a new {@link VehicleSnapshotPublisher} object.
+     * 
+     * @param events instance of the {@link VehicleEvents}
+     */
+    public VehicleSnapshotPublisher(VehicleEvents events) {
+        mEvents = events;
+    }
+
+    /**
+     * Returns the latest published state of the vehicle. May be called from any thread.
+     * 
+     * @return the snapshot
+     */
+    public VehicleSnapshot getSnapshot() {
+        return mSnapshot;
+    }
+
+    /**
+     * Called once a new position has been applied to the vehicle.
+     */
+    public void onPositionReceived() {
+        mPositionTime = SystemClock.elapsedRealtime();
+        schedulePublish();
+    }
+
+    /**
+     * Called once new altitude and speeds have been applied to the vehicle.
+     */
+    public void onSpeedReceived() {
+        mSpeedTime = SystemClock.elapsedRealtime();
+        schedulePublish();
+    }
+
+    /**
+     * Called once a new attitude has been applied to the vehicle.
+     */
+    public void onAttitudeReceived() {
+        mAttitudeTime = SystemClock.elapsedRealtime();
+        schedulePublish();
+    }
+
+    /**
+     * Post the task publishing the snapshot, unless it's already pending.
+     */
+    private void schedulePublish() {
+        if (!mPublishScheduled) {
+            mPublishScheduled = true;
+            mHandler.post(mPublishTask);
+        }
+    }
+
+    /**
+     * Take the snapshot of the vehicle properties and publish it.
+     */
+    private void publish() {
+        Vehicle vehicle = Vehicle.get();
+        VehiclePosition position = vehicle.getPosition();
+        VehicleSpeed speed = vehicle.getSpeed();
+        VehicleAttitude attitude = vehicle.getAttitude();
+        mSnapshot =
+                new VehicleSnapshot(SystemClock.elapsedRealtime(), position.isFakeGpsEnabled()
+                        || position.isPositionValid() ? position.getPosition() : null,
+                        mPositionTime, vehicle.getAltitude().getAltitude(),
+                        speed.getVerticalSpeed(), speed.getGroundspeed(), speed.getAirspeed(),
+                        mSpeedTime, attitude.getRoll(), attitude.getPitch(), attitude.getYaw(),
+                        mAttitudeTime, ++mSequence);
+        mEvents.onVehicleEvent(VehicleEvent.SNAPSHOT);
+    }
+
+    /*
+     * (non-Javadoc) Publishes the empty snapshot, on the telemetry thread.
+     * 
+     * @see com.bocekm.skycontrol.vehicle.VehicleProperty#setDefaultValues()
+     */
+    @Override
+    protected void setDefaultValues() {
+        mHandler.removeCallbacks(mPublishTask);
+        mPublishScheduled = false;
+        mPositionTime = 0;
+        mSpeedTime = 0;
+        mAttitudeTime = 0;
+        mSnapshot = VehicleSnapshot.EMPTY;
+    }
+}
@@ -24,18 +24,20 @@ import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
 
 /**
  * Keeps the information about speed of the connected vehicle. All values in meters per second.
+ * Only the latest received values are kept, they're written on the telemetry thread while the UI
+ * reads them once per frame on the {@link VehicleEvent#SPEED_ALTITUDE} event.
  */
 public class VehicleSpeed extends VehicleProperty implements
         OnSharedPreferenceChangeListener {
 
     /** The vertical speed. */
-    private float mVerticalSpeed = 0;
+    private volatile float mVerticalSpeed = 0;
 
     /** The groundspeed. */
-    private float mGroundspeed = 0;
+    private volatile float mGroundspeed = 0;
 
     /** The airspeed. */
-    private float mAirspeed = 0;
+    private volatile float mAirspeed = 0;
 
     /** Instance of class handling the changes happening to the vehicle. */
     private VehicleEvents mEvents;
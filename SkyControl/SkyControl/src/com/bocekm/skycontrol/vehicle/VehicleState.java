@@ -23,33 +23,36 @@ import com.MAVLink.Messages.enums.MAV_MODE_FLAG;
 import com.MAVLink.Messages.enums.MAV_STATE;
 import com.MAVLink.Messages.enums.MAV_TYPE;
 import com.bocekm.skycontrol.SkyControlConst;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
 
 /**
  * {@link VehicleState} class manages vehicle state information like whether the vehicle is ready to
- * fly (armed)/is in motion/which flight mode it has set/etc.
+ * fly (armed)/is in motion/which flight mode it has set/etc. The state is updated on the
+ * {@link TelemetryThread} while the UI polls the getters, the flags are therefore volatile and the
+ * flight timer is guarded by the lock of this object.
  */
 public class VehicleState extends VehicleProperty {
 
     /** Indication whether the vehicle is in failsafe mode. */
-    private boolean mIsFailsafe = false;
+    private volatile boolean mIsFailsafe = false;
 
     /** Indication whether the vehicle is in armed mode. */
-    private boolean mIsArmed = false;
+    private volatile boolean mIsArmed = false;
 
     /** Indication whether the vehicle is currently flying. Based on speed > 1 m/s and armed state */
-    private boolean mIsFlying = false;
+    private volatile boolean mIsFlying = false;
 
     /** The autopilot flight mode. */
-    private ApmModes mFlightMode = ApmModes.UNKNOWN;
+    private volatile ApmModes mFlightMode = ApmModes.UNKNOWN;
 
     /** Instance of class handling the changes happening to the vehicle. */
     private VehicleEvents mEvents;
 
-    /** The flight timer start time in ms. */
+    /** The flight timer start time in ms, guarded by the lock of this object. */
     private long mStartTime = 0;
 
-    /** Elapsed flight time, since the vehicle started flying in ms. */
+    /** Elapsed flight time of the previous flights in ms, guarded by the lock of this object. */
     private long mElapsedFlightTime = 0;
 
     /**
@@ -69,15 +72,18 @@ public class VehicleState extends VehicleProperty {
      * @param isFlying indicate whether the vehicle is flying
      */
     private void setIsFlying(boolean isFlying) {
-        if (isFlying != mIsFlying) {
+        if (isFlying == mIsFlying)
+            return;
+        // The flag changes together with the timer, so the flight time read meanwhile is right
+        synchronized (this) {
             mIsFlying = isFlying;
-            mEvents.onVehicleEvent(VehicleEvent.IS_FLYING);
-            if (mIsFlying) {
+            if (isFlying) {
                 startTimer();
             } else {
                 stopTimer();
             }
         }
+        mEvents.onVehicleEvent(VehicleEvent.IS_FLYING);
     }
 
     /**
@@ -150,7 +156,7 @@ public class VehicleState extends VehicleProperty {
     /**
      * Resets flight timer.
      */
-    private void resetFlightTimer() {
+    private synchronized void resetFlightTimer() {
         mElapsedFlightTime = 0;
         mStartTime = SystemClock.elapsedRealtime();
     }
@@ -172,31 +178,51 @@ public class VehicleState extends VehicleProperty {
     }
 
     /**
-     * Returns the flight time in seconds.
+     * Returns the flight time in seconds. May be called from any thread, the timer is only read.
      * 
      * @return the flight time
      */
-    public long getFlightTime() {
+    public synchronized long getFlightTime() {
+        long elapsed = mElapsedFlightTime;
         if (mIsFlying) {
-            // Calculate delta time since last checked
-            mElapsedFlightTime += SystemClock.elapsedRealtime() - mStartTime;
-            mStartTime = SystemClock.elapsedRealtime();
+            // Add the time of the current flight
+            elapsed += SystemClock.elapsedRealtime() - mStartTime;
         }
-        return mElapsedFlightTime / 1000;
+        return elapsed / 1000;
     }
 
+    /**
+     * May be called from any thread.
+     * 
+     * @return true if the vehicle is in failsafe mode
+     */
     public boolean isFailsafe() {
         return mIsFailsafe;
     }
 
+    /**
+     * May be called from any thread.
+     * 
+     * @return true if the vehicle is armed
+     */
     public boolean isArmed() {
         return mIsArmed;
     }
 
+    /**
+     * May be called from any thread.
+     * 
+     * @return true if the vehicle is flying
+     */
     public boolean isFlying() {
         return mIsFlying;
     }
 
+    /**
+     * May be called from any thread.
+     * 
+     * @return the autopilot flight mode
+     */
     public ApmModes getMode() {
         return mFlightMode;
     }
@@ -205,9 +231,11 @@ public class VehicleState extends VehicleProperty {
     protected void setDefaultValues() {
         mIsFailsafe = false;
         mIsArmed = false;
-        mIsFlying = false;
         mFlightMode = ApmModes.UNKNOWN;
-        mStartTime = 0;
-        mElapsedFlightTime = 0;
+        synchronized (this) {
+            mIsFlying = false;
+            mStartTime = 0;
+            mElapsedFlightTime = 0;
+        }
     }
 }
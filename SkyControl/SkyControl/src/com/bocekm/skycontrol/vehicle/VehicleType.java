@@ -16,15 +16,17 @@ package com.bocekm.skycontrol.vehicle;
 import com.MAVLink.Messages.ardupilotmega.msg_heartbeat;
 import com.MAVLink.Messages.enums.MAV_TYPE;
 import com.bocekm.skycontrol.connection.Connection;
+import com.bocekm.skycontrol.mavlink.TelemetryThread;
 import com.bocekm.skycontrol.vehicle.VehicleEvents.VehicleEvent;
 
 /**
- * Keeps the information about the type of the connected vehicle.
+ * Keeps the information about the type of the connected vehicle. The type is received on the
+ * {@link TelemetryThread} and read by the UI.
  */
 public class VehicleType extends VehicleProperty {
 
     /** The type of vehicle. Default is MAV_TYPE_GENERIC. */
-    private int mType = MAV_TYPE.MAV_TYPE_GENERIC;
+    private volatile int mType = MAV_TYPE.MAV_TYPE_GENERIC;
 
     /** Instance of class handling the changes happening to the vehicle. */
     private VehicleEvents mEvents;
@@ -50,13 +52,18 @@ public class VehicleType extends VehicleProperty {
         mEvents = events;
     }
 
+    /**
+     * Returns the type of the vehicle. May be called from any thread.
+     * 
+     * @return one of the {@link MAV_TYPE} values
+     */
     public int getType() {
         return mType;
     }
 
     /**
      * Returns type of the connected vehicle in form of one of the possible vehicle software -
-     * Ardu[Plane/Copter/Rover].
+     * Ardu[Plane/Copter/Rover]. May be called from any thread.
      * 
      * @return one of the {@link VehicleTypeEnum} enum items. Returns VehicleTypeEnum.ARDUPLANE when
      *         no vehicle is connected or vehicle connected is unrecognized.
@@ -104,18 +104,18 @@ public class CdcAcmSerialDriver extends CommonUsbSerialDriver {
     }
 
     @Override
-    public int write(byte[] src, int timeoutMillis) throws IOException {
+    public int write(byte[] src, int length, int timeoutMillis) throws IOException {
         // TODO(mikey): Nearly identical to FtdiSerial write. Refactor.
         int offset = 0;
 
-        while (offset < src.length) {
+        while (offset < length) {
             final int writeLength;
             final int amtWritten;
 
             synchronized (mWriteBufferLock) {
                 final byte[] writeBuffer;
 
-                writeLength = Math.min(src.length - offset, mWriteBuffer.length);
+                writeLength = Math.min(length - offset, mWriteBuffer.length);
                 if (offset == 0) {
                     writeBuffer = src;
                 } else {
@@ -129,7 +129,7 @@ public class CdcAcmSerialDriver extends CommonUsbSerialDriver {
             }
             if (amtWritten <= 0) {
                 throw new IOException("Error writing " + writeLength
-                        + " bytes at offset " + offset + " length=" + src.length);
+                        + " bytes at offset " + offset + " length=" + length);
             }
 
             Log.d(TAG, "Wrote amt=" + amtWritten + " attempted=" + writeLength);
@@ -138,6 +138,11 @@ public class CdcAcmSerialDriver extends CommonUsbSerialDriver {
         return offset;
     }
 
+    @Override
+    public int getMaxWritePacketSize() {
+        return mWriteEndpoint != null ? mWriteEndpoint.getMaxPacketSize() : 0;
+    }
+
     @Override
     public void setParameters(int baudRate, int dataBits, int stopBits, int parity) {
         byte stopBitsByte;
@@ -104,7 +104,13 @@ abstract class CommonUsbSerialDriver implements UsbSerialDriver {
     public abstract int read(final byte[] dest, final int timeoutMillis) throws IOException;
 
     @Override
-    public abstract int write(final byte[] src, final int timeoutMillis) throws IOException;
+    public int write(final byte[] src, final int timeoutMillis) throws IOException {
+        return write(src, src.length, timeoutMillis);
+    }
+
+    @Override
+    public abstract int write(final byte[] src, final int length, final int timeoutMillis)
+            throws IOException;
 
     @Override
     public abstract void setParameters(
@@ -139,4 +145,14 @@ abstract class CommonUsbSerialDriver implements UsbSerialDriver {
         return !flushReadBuffers && !flushWriteBuffers;
     }
 
+    @Override
+    public boolean setLatencyTimer(int latencyMillis) throws IOException {
+        return false;
+    }
+
+    @Override
+    public boolean setEventChar(byte eventChar, boolean enable) throws IOException {
+        return false;
+    }
+
 }
@@ -132,17 +132,17 @@ public class Cp2102SerialDriver extends CommonUsbSerialDriver {
     }
 
     @Override
-    public int write(byte[] src, int timeoutMillis) throws IOException {
+    public int write(byte[] src, int length, int timeoutMillis) throws IOException {
         int offset = 0;
 
-        while (offset < src.length) {
+        while (offset < length) {
             final int writeLength;
             final int amtWritten;
 
             synchronized (mWriteBufferLock) {
                 final byte[] writeBuffer;
 
-                writeLength = Math.min(src.length - offset, mWriteBuffer.length);
+                writeLength = Math.min(length - offset, mWriteBuffer.length);
                 if (offset == 0) {
                     writeBuffer = src;
                 } else {
@@ -156,7 +156,7 @@ public class Cp2102SerialDriver extends CommonUsbSerialDriver {
             }
             if (amtWritten <= 0) {
                 throw new IOException("Error writing " + writeLength
-                        + " bytes at offset " + offset + " length=" + src.length);
+                        + " bytes at offset " + offset + " length=" + length);
             }
 
             Log.d(TAG, "Wrote amt=" + amtWritten + " attempted=" + writeLength);
@@ -165,6 +165,11 @@ public class Cp2102SerialDriver extends CommonUsbSerialDriver {
         return offset;
     }
 
+    @Override
+    public int getMaxWritePacketSize() {
+        return mWriteEndpoint != null ? mWriteEndpoint.getMaxPacketSize() : 0;
+    }
+
     private void setBaudRate(int baudRate) throws IOException {   
         byte[] data = new byte[] {
                 (byte) ( baudRate & 0xff),
@@ -131,6 +131,21 @@ public class FtdiSerialDriver extends CommonUsbSerialDriver {
      */
     private static final int SIO_SET_DATA_REQUEST = 4;
 
+    /**
+     * Set the event character.
+     */
+    private static final int SIO_SET_EVENT_CHAR_REQUEST = 6;
+
+    /**
+     * Set the latency timer.
+     */
+    private static final int SIO_SET_LATENCY_TIMER_REQUEST = 9;
+
+    /**
+     * Enables the character given to {@link #SIO_SET_EVENT_CHAR_REQUEST}.
+     */
+    private static final int SIO_EVENT_CHAR_ENABLE = 0x100;
+
     private static final int SIO_RESET_SIO = 0;
     private static final int SIO_RESET_PURGE_RX = 1;
     private static final int SIO_RESET_PURGE_TX = 2;
@@ -169,29 +184,28 @@ public class FtdiSerialDriver extends CommonUsbSerialDriver {
     private static final boolean ENABLE_ASYNC_READS = false;
 
     /**
-     * Filter FTDI status bytes from buffer
-     * @param src The source buffer (which contains status bytes)
-     * @param dest The destination buffer to write the status bytes into (can be src)
-     * @param totalBytesRead Number of bytes read to src
+     * Filter FTDI status bytes from buffer in place, in a single pass. Every
+     * max-packet chunk starts with the status bytes, its payload is moved
+     * right after the payload of the previous chunk.
+     * @param buffer The buffer which contains status bytes
+     * @param totalBytesRead Number of bytes read to buffer
      * @param maxPacketSize The USB endpoint max packet size
-     * @return The number of payload bytes
+     * @return The number of payload bytes, now at the start of buffer
      */
-    private final int filterStatusBytes(byte[] src, byte[] dest, int totalBytesRead, int maxPacketSize) {
-        final int packetsCount = totalBytesRead / maxPacketSize + 1;
-        for (int packetIdx = 0; packetIdx < packetsCount; ++packetIdx) {
-            final int count = (packetIdx == (packetsCount - 1))
-                    ? (totalBytesRead % maxPacketSize) - MODEM_STATUS_HEADER_LENGTH
-                    : maxPacketSize - MODEM_STATUS_HEADER_LENGTH;
+    private final int filterStatusBytes(byte[] buffer, int totalBytesRead, int maxPacketSize) {
+        int payloadBytes = 0;
+        for (int packetStart = 0; packetStart < totalBytesRead; packetStart += maxPacketSize) {
+            final int count = Math.min(maxPacketSize, totalBytesRead - packetStart)
+                    - MODEM_STATUS_HEADER_LENGTH;
             if (count > 0) {
-                System.arraycopy(src,
-                        packetIdx * maxPacketSize + MODEM_STATUS_HEADER_LENGTH,
-                        dest,
-                        packetIdx * (maxPacketSize - MODEM_STATUS_HEADER_LENGTH),
-                        count);
+                // The payload only ever moves towards the start, so copying
+                // within the buffer is safe
+                System.arraycopy(buffer, packetStart + MODEM_STATUS_HEADER_LENGTH,
+                        buffer, payloadBytes, count);
+                payloadBytes += count;
             }
         }
-
-      return totalBytesRead - (packetsCount * 2);
+        return payloadBytes;
     }
 
     /**
@@ -278,32 +292,35 @@ public class FtdiSerialDriver extends CommonUsbSerialDriver {
             final int totalBytesRead;
 
             synchronized (mReadBufferLock) {
+                // mReadBuffer is only used for maximum read size, the data
+                // are read straight into dest and stripped of the status
+                // bytes there, one bulk transfer may span many packets.
                 final int readAmt = Math.min(dest.length, mReadBuffer.length);
-                totalBytesRead = mConnection.bulkTransfer(endpoint, mReadBuffer,
+                totalBytesRead = mConnection.bulkTransfer(endpoint, dest,
                         readAmt, timeoutMillis);
 
                 if (totalBytesRead < MODEM_STATUS_HEADER_LENGTH) {
                     throw new IOException("Expected at least " + MODEM_STATUS_HEADER_LENGTH + " bytes");
                 }
-  
-                return filterStatusBytes(mReadBuffer, dest, totalBytesRead, endpoint.getMaxPacketSize());
+
+                return filterStatusBytes(dest, totalBytesRead, endpoint.getMaxPacketSize());
             }
         }
     }
 
     @Override
-    public int write(byte[] src, int timeoutMillis) throws IOException {
+    public int write(byte[] src, int length, int timeoutMillis) throws IOException {
         final UsbEndpoint endpoint = mDevice.getInterface(0).getEndpoint(1);
         int offset = 0;
 
-        while (offset < src.length) {
+        while (offset < length) {
             final int writeLength;
             final int amtWritten;
 
             synchronized (mWriteBufferLock) {
                 final byte[] writeBuffer;
 
-                writeLength = Math.min(src.length - offset, mWriteBuffer.length);
+                writeLength = Math.min(length - offset, mWriteBuffer.length);
                 if (offset == 0) {
                     writeBuffer = src;
                 } else {
@@ -318,7 +335,7 @@ public class FtdiSerialDriver extends CommonUsbSerialDriver {
 
             if (amtWritten <= 0) {
                 throw new IOException("Error writing " + writeLength
-                        + " bytes at offset " + offset + " length=" + src.length);
+                        + " bytes at offset " + offset + " length=" + length);
             }
 
             //Log.d(TAG, "Wrote amtWritten=" + amtWritten + " attempted=" + writeLength);
@@ -327,6 +344,11 @@ public class FtdiSerialDriver extends CommonUsbSerialDriver {
         return offset;
     }
 
+    @Override
+    public int getMaxWritePacketSize() {
+        return mDevice.getInterface(0).getEndpoint(1).getMaxPacketSize();
+    }
+
     private int setBaudRate(int baudRate) throws IOException {
         long[] vals = convertBaudrate(baudRate);
         long actualBaudrate = vals[0];
@@ -535,6 +557,32 @@ public class FtdiSerialDriver extends CommonUsbSerialDriver {
         return true;
     }
 
+    @Override
+    public boolean setLatencyTimer(int latencyMillis) throws IOException {
+        if (latencyMillis < 1 || latencyMillis > 255) {
+            throw new IllegalArgumentException("Bad value for latencyMillis: " + latencyMillis);
+        }
+        int result = mConnection.controlTransfer(FTDI_DEVICE_OUT_REQTYPE,
+                SIO_SET_LATENCY_TIMER_REQUEST, latencyMillis, 0 /* index */,
+                null, 0, USB_WRITE_TIMEOUT_MILLIS);
+        if (result != 0) {
+            throw new IOException("Setting latency timer failed: result=" + result);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean setEventChar(byte eventChar, boolean enable) throws IOException {
+        int value = (eventChar & 0xff) | (enable ? SIO_EVENT_CHAR_ENABLE : 0);
+        int result = mConnection.controlTransfer(FTDI_DEVICE_OUT_REQTYPE,
+                SIO_SET_EVENT_CHAR_REQUEST, value, 0 /* index */,
+                null, 0, USB_WRITE_TIMEOUT_MILLIS);
+        if (result != 0) {
+            throw new IOException("Setting event char failed: result=" + result);
+        }
+        return true;
+    }
+
     public static Map<Integer, int[]> getSupportedDevices() {
         final Map<Integer, int[]> supportedDevices = new LinkedHashMap<Integer, int[]>();
         supportedDevices.put(Integer.valueOf(UsbId.VENDOR_FTDI),
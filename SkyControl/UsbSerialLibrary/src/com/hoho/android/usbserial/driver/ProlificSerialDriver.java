@@ -344,17 +344,17 @@ public class ProlificSerialDriver extends CommonUsbSerialDriver {
     }
 
     @Override
-    public int write(byte[] src, int timeoutMillis) throws IOException {
+    public int write(byte[] src, int length, int timeoutMillis) throws IOException {
         int offset = 0;
 
-        while (offset < src.length) {
+        while (offset < length) {
             final int writeLength;
             final int amtWritten;
 
             synchronized (mWriteBufferLock) {
                 final byte[] writeBuffer;
 
-                writeLength = Math.min(src.length - offset, mWriteBuffer.length);
+                writeLength = Math.min(length - offset, mWriteBuffer.length);
                 if (offset == 0) {
                     writeBuffer = src;
                 } else {
@@ -370,7 +370,7 @@ public class ProlificSerialDriver extends CommonUsbSerialDriver {
             if (amtWritten <= 0) {
                 throw new IOException("Error writing " + writeLength
                         + " bytes at offset " + offset + " length="
-                        + src.length);
+                        + length);
             }
 
             offset += amtWritten;
@@ -378,6 +378,11 @@ public class ProlificSerialDriver extends CommonUsbSerialDriver {
         return offset;
     }
 
+    @Override
+    public int getMaxWritePacketSize() {
+        return mWriteEndpoint != null ? mWriteEndpoint.getMaxPacketSize() : 0;
+    }
+
     @Override
     public void setParameters(int baudRate, int dataBits, int stopBits,
             int parity) throws IOException {
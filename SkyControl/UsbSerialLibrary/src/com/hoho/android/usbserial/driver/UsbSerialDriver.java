@@ -115,6 +115,29 @@ public interface UsbSerialDriver {
      */
     public int write(final byte[] src, final int timeoutMillis) throws IOException;
 
+    /**
+     * Writes as many bytes as possible from the beginning of the source
+     * buffer, up to the given length. Allows writing from a buffer which is
+     * reused for data of varying length.
+     *
+     * @param src the source byte buffer
+     * @param length number of bytes from the start of the buffer to write
+     * @param timeoutMillis the timeout for writing
+     * @return the actual number of bytes written
+     * @throws IOException if an error occurred during writing
+     */
+    public int write(final byte[] src, final int length, final int timeoutMillis)
+            throws IOException;
+
+    /**
+     * Returns the maximum packet size of the bulk endpoint the data are
+     * written to. Data written at once up to this size fit in a single USB
+     * packet.
+     *
+     * @return the maximum packet size in bytes, 0 if the driver is not opened
+     */
+    public int getMaxWritePacketSize();
+
     /**
      * Sets various serial port parameters.
      *
@@ -207,4 +230,29 @@ public interface UsbSerialDriver {
      */
     public boolean purgeHwBuffers(boolean flushRX, boolean flushTX) throws IOException;
 
+    /**
+     * Sets the latency timer of the chip: received data which don't fill a
+     * USB packet are held in the chip for up to this time, waiting for more
+     * data, before they're sent to the host. A short timer lowers the latency
+     * of small messages, a long one lowers the number of USB transfers.
+     * @param latencyMillis the latency in milliseconds, 1 to 255
+     * @return {@code true} if the operation was successful, or
+     * {@code false} if the operation is not supported by the driver or device
+     * @throws IOException if an error occurred while setting the timer
+     */
+    public boolean setLatencyTimer(int latencyMillis) throws IOException;
+
+    /**
+     * Sets the event character: when the chip receives it, the data held in
+     * the chip are sent to the host right away, without waiting for the
+     * latency timer.
+     * @param eventChar the event character
+     * @param enable {@code true} to enable the event character, {@code false}
+     * to disable it
+     * @return {@code true} if the operation was successful, or
+     * {@code false} if the operation is not supported by the driver or device
+     * @throws IOException if an error occurred while setting the character
+     */
+    public boolean setEventChar(byte eventChar, boolean enable) throws IOException;
+
 }
@@ -20,34 +20,57 @@
 
 package com.hoho.android.usbserial.util;
 
-import android.hardware.usb.UsbRequest;
 import android.util.Log;
 
 import com.hoho.android.usbserial.driver.UsbSerialDriver;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class which services a {@link UsbSerialDriver} in its {@link #run()}
  * method.
  *
+ * Reading and writing are independent: {@link #run()} reads on the calling
+ * thread, while a writer thread started by it blocks until
+ * {@link #writeAsync(byte[])} queues some data. Outgoing data never waits for
+ * a read timeout. The data read is passed to the listener in one of
+ * {@link #READ_BUFFER_COUNT} preallocated buffers, which the listener gives
+ * back by {@link #releaseBuffer(byte[])}. Outgoing data is collected in one of
+ * two buffers while the other one is being written, so servicing the driver
+ * allocates nothing.
+ *
  * @author mike wakerly (opensource@hoho.com)
  */
 public class SerialInputOutputManager implements Runnable {
 
     private static final String TAG = SerialInputOutputManager.class.getSimpleName();
-    private static final boolean DEBUG = true;
+    private static final boolean DEBUG = false;
 
     private static final int READ_WAIT_MILLIS = 200;
+    private static final int WRITE_WAIT_MILLIS = 200;
     private static final int BUFSIZ = 4096;
 
+    /** Number of buffers the data read are passed to the listener in. */
+    private static final int READ_BUFFER_COUNT = 4;
+
     private final UsbSerialDriver mDriver;
 
-    private final ByteBuffer mReadBuffer = ByteBuffer.allocate(BUFSIZ);
+    /** Read buffers not held by the listener. */
+    private final BlockingQueue<byte[]> mFreeReadBuffers =
+            new ArrayBlockingQueue<byte[]>(READ_BUFFER_COUNT);
+
+    private final Object mWriteLock = new Object();
 
-    // Synchronized by 'mWriteBuffer'
-    private final ByteBuffer mWriteBuffer = ByteBuffer.allocate(BUFSIZ);
+    // Synchronized by 'mWriteLock', collects the data queued for writing
+    private ByteBuffer mWriteBuffer = ByteBuffer.allocate(BUFSIZ);
+
+    // Synchronized by 'mWriteLock', holds the data being written
+    private ByteBuffer mSendBuffer = ByteBuffer.allocate(BUFSIZ);
 
     private enum State {
         STOPPED,
@@ -61,11 +84,20 @@ public class SerialInputOutputManager implements Runnable {
     // Synchronized by 'this'
     private Listener mListener;
 
+    // Synchronized by 'this', error which stopped the writer thread
+    private Exception mWriteError;
+
     public interface Listener {
         /**
-         * Called when new incoming data is available.
+         * Called when new incoming data is available. The listener becomes
+         * the owner of the buffer and gives it back by
+         * {@link SerialInputOutputManager#releaseBuffer(byte[])} once done
+         * with the data, until then the buffer is not reused.
+         *
+         * @param data buffer holding the data
+         * @param length number of bytes read into the buffer
          */
-        public void onNewData(byte[] data);
+        public void onNewData(byte[] data, int length);
 
         /**
          * Called when {@link SerialInputOutputManager#run()} aborts due to an
@@ -87,6 +119,9 @@ public class SerialInputOutputManager implements Runnable {
     public SerialInputOutputManager(UsbSerialDriver driver, Listener listener) {
         mDriver = driver;
         mListener = listener;
+        for (int i = 0; i < READ_BUFFER_COUNT; i++) {
+            mFreeReadBuffers.add(new byte[BUFSIZ]);
+        }
     }
 
     public synchronized void setListener(Listener listener) {
@@ -97,29 +132,78 @@ public class SerialInputOutputManager implements Runnable {
         return mListener;
     }
 
+    /**
+     * Gives back a buffer passed to {@link Listener#onNewData(byte[], int)},
+     * so it can be read into again. May be called from any thread.
+     *
+     * @param buffer the buffer the listener is done with
+     */
+    public void releaseBuffer(byte[] buffer) {
+        mFreeReadBuffers.offer(buffer);
+    }
+
+    /**
+     * Queues the data for writing. While running, waits for the writer thread
+     * when more data is queued than fits in the write buffer.
+     *
+     * @param data the data to be written
+     * @throws BufferOverflowException if the data don't fit in the write
+     *             buffer while not running
+     */
     public void writeAsync(byte[] data) {
-        synchronized (mWriteBuffer) {
-            mWriteBuffer.put(data);
+        synchronized (mWriteLock) {
+            int offset = 0;
+            while (offset < data.length) {
+                if (!mWriteBuffer.hasRemaining()) {
+                    if (getState() != State.RUNNING) {
+                        throw new BufferOverflowException();
+                    }
+                    try {
+                        mWriteLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    continue;
+                }
+                int length = Math.min(data.length - offset, mWriteBuffer.remaining());
+                mWriteBuffer.put(data, offset, length);
+                offset += length;
+                mWriteLock.notifyAll();
+            }
         }
     }
 
-    public synchronized void stop() {
-        if (getState() == State.RUNNING) {
+    public void stop() {
+        synchronized (this) {
+            if (getState() != State.RUNNING) {
+                return;
+            }
             Log.i(TAG, "Stop requested");
             mState = State.STOPPING;
         }
+        wakeWriter();
     }
 
     private synchronized State getState() {
         return mState;
     }
 
+    /**
+     * Wakes the writer thread and any thread waiting in
+     * {@link #writeAsync(byte[])}, so they notice the state change.
+     */
+    private void wakeWriter() {
+        synchronized (mWriteLock) {
+            mWriteLock.notifyAll();
+        }
+    }
+
     /**
      * Continuously services the read and write buffers until {@link #stop()} is
-     * called, or until a driver exception is raised.
-     *
-     * NOTE(mikey): Uses inefficient read/write-with-timeout.
-     * TODO(mikey): Read asynchronously with {@link UsbRequest#queue(ByteBuffer, int)}
+     * called, or until a driver exception is raised. The data are read on the
+     * calling thread, written on a writer thread living as long as this method
+     * runs.
      */
     @Override
     public void run() {
@@ -128,16 +212,31 @@ public class SerialInputOutputManager implements Runnable {
                 throw new IllegalStateException("Already running.");
             }
             mState = State.RUNNING;
+            mWriteError = null;
         }
 
         Log.i(TAG, "Running ..");
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeLoop();
+            }
+        }, TAG + "-writer");
+        writer.start();
         try {
             while (true) {
                 if (getState() != State.RUNNING) {
                     Log.i(TAG, "Stopping mState=" + getState());
                     break;
                 }
-                step();
+                readStep();
+            }
+            Exception writeError;
+            synchronized (this) {
+                writeError = mWriteError;
+            }
+            if (writeError != null) {
+                throw writeError;
             }
         } catch (Exception e) {
             Log.w(TAG, "Run ending due to exception: " + e.getMessage(), e);
@@ -146,6 +245,15 @@ public class SerialInputOutputManager implements Runnable {
               listener.onRunError(e);
             }
         } finally {
+            synchronized (this) {
+                mState = State.STOPPING;
+            }
+            wakeWriter();
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
             synchronized (this) {
                 mState = State.STOPPED;
                 Log.i(TAG, "Stopped.");
@@ -153,36 +261,58 @@ public class SerialInputOutputManager implements Runnable {
         }
     }
 
-    private void step() throws IOException {
-        // Handle incoming data.
-        int len = mDriver.read(mReadBuffer.array(), READ_WAIT_MILLIS);
-        if (len > 0) {
+    private void readStep() throws IOException, InterruptedException {
+        // Wait for the listener to give a buffer back if it holds all of them
+        byte[] buffer = mFreeReadBuffers.poll(READ_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        if (buffer == null) {
+            return;
+        }
+        int len = mDriver.read(buffer, READ_WAIT_MILLIS);
+        final Listener listener = getListener();
+        if (len > 0 && listener != null) {
             if (DEBUG) Log.d(TAG, "Read data len=" + len);
-            final Listener listener = getListener();
-            if (listener != null) {
-                final byte[] data = new byte[len];
-                mReadBuffer.get(data, 0, len);
-                listener.onNewData(data);
-            }
-            mReadBuffer.clear();
+            listener.onNewData(buffer, len);
+        } else {
+            mFreeReadBuffers.offer(buffer);
         }
+    }
 
-        // Handle outgoing data.
-        byte[] outBuff = null;
-        synchronized (mWriteBuffer) {
-            if (mWriteBuffer.position() > 0) {
-                len = mWriteBuffer.position();
-                outBuff = new byte[len];
-                mWriteBuffer.rewind();
-                mWriteBuffer.get(outBuff, 0, len);
-                mWriteBuffer.clear();
+    /**
+     * Writes the queued data until stopped. Blocks while there's nothing to
+     * write, the data queued meanwhile are written in one transfer.
+     */
+    private void writeLoop() {
+        try {
+            while (true) {
+                ByteBuffer sendBuffer;
+                synchronized (mWriteLock) {
+                    while (mWriteBuffer.position() == 0 && getState() == State.RUNNING) {
+                        mWriteLock.wait();
+                    }
+                    if (getState() != State.RUNNING) {
+                        break;
+                    }
+                    // Swap the buffers, new data go to the empty one while writing
+                    sendBuffer = mWriteBuffer;
+                    mWriteBuffer = mSendBuffer;
+                    mSendBuffer = sendBuffer;
+                    mWriteLock.notifyAll();
+                }
+                if (DEBUG) {
+                    Log.d(TAG, "Writing data len=" + sendBuffer.position());
+                }
+                mDriver.write(sendBuffer.array(), sendBuffer.position(), WRITE_WAIT_MILLIS);
+                sendBuffer.clear();
             }
-        }
-        if (outBuff != null) {
-            if (DEBUG) {
-                Log.d(TAG, "Writing data len=" + len);
+        } catch (InterruptedException e) {
+            Log.w(TAG, "Writer interrupted");
+        } catch (IOException e) {
+            synchronized (this) {
+                mWriteError = e;
+                if (mState == State.RUNNING) {
+                    mState = State.STOPPING;
+                }
             }
-            mDriver.write(outBuff, READ_WAIT_MILLIS);
         }
     }
 